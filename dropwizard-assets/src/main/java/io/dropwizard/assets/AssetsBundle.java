@@ -1,14 +1,23 @@
 package io.dropwizard.assets;
 
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
 import io.dropwizard.Configuration;
 import io.dropwizard.ConfiguredBundle;
+import io.dropwizard.servlets.assets.AssetCache;
+import io.dropwizard.servlets.assets.AssetManifest;
 import io.dropwizard.servlets.assets.AssetServlet;
 import io.dropwizard.setup.Environment;
+import io.dropwizard.util.DataSize;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 
+import static com.codahale.metrics.MetricRegistry.name;
+
 /**
  * A bundle for serving static asset files from the classpath.
  */
@@ -26,6 +35,17 @@ public class AssetsBundle implements ConfiguredBundle<Configuration> {
     private final String assetsName;
     private final String defaultMediaType;
 
+    @Nullable
+    private final CaffeineSpec cacheSpec;
+
+    @Nullable
+    private final DataSize mappedFileThreshold;
+
+    private final boolean fingerprintAssets;
+
+    @Nullable
+    private AssetManifest manifest;
+
     /**
      * Creates a new AssetsBundle which serves up static assets from
      * {@code src/main/resources/assets/*} as {@code /assets/*}.
@@ -110,6 +130,85 @@ public class AssetsBundle implements ConfiguredBundle<Configuration> {
      */
     public AssetsBundle(String resourcePath, String uriPath, String indexFile, String assetsName,
                         String defaultMediaType) {
+        this(resourcePath, uriPath, indexFile, assetsName, defaultMediaType, null);
+    }
+
+    /**
+     * Creates a new AssetsBundle which will configure the application to serve the static files
+     * located in {@code src/main/resources/${resourcePath}} as {@code /${uriPath}}. If no file name is
+     * in ${uriPath}, ${indexFile} is appended before serving. For example, given a
+     * {@code resourcePath} of {@code "/assets"} and a uriPath of {@code "/js"},
+     * {@code src/main/resources/assets/example.js} would be served up from {@code /js/example.js}.
+     * <p>
+     * If a {@code cacheSpec} is given, served assets and their gzip variants are kept in memory, bounded
+     * by the {@code maximumWeight} (in bytes) and evicted according to the expiration settings of the spec,
+     * e.g. {@code maximumWeight=33554432,expireAfterAccess=1h}.
+     *
+     * @param resourcePath     the resource path (in the classpath) of the static asset files
+     * @param uriPath          the uri path for the static asset files
+     * @param indexFile        the name of the index file to use
+     * @param assetsName       the name of servlet mapping used for this assets bundle
+     * @param defaultMediaType the default media type for unknown file extensions
+     * @param cacheSpec        the {@link CaffeineSpec} of the asset cache, or null to disable caching
+     * @since 2.1
+     */
+    public AssetsBundle(String resourcePath, String uriPath, String indexFile, String assetsName,
+                        String defaultMediaType, @Nullable CaffeineSpec cacheSpec) {
+        this(resourcePath, uriPath, indexFile, assetsName, defaultMediaType, cacheSpec, null);
+    }
+
+    /**
+     * Creates a new AssetsBundle which will configure the application to serve the static files
+     * located in {@code src/main/resources/${resourcePath}} as {@code /${uriPath}}. If no file name is
+     * in ${uriPath}, ${indexFile} is appended before serving. For example, given a
+     * {@code resourcePath} of {@code "/assets"} and a uriPath of {@code "/js"},
+     * {@code src/main/resources/assets/example.js} would be served up from {@code /js/example.js}.
+     * <p>
+     * If a {@code mappedFileThreshold} is given, assets located on the file system (rather than in a jar)
+     * which are at least that large are memory-mapped and written to the connection straight from the
+     * mapped region, bypassing the asset cache.
+     *
+     * @param resourcePath        the resource path (in the classpath) of the static asset files
+     * @param uriPath             the uri path for the static asset files
+     * @param indexFile           the name of the index file to use
+     * @param assetsName          the name of servlet mapping used for this assets bundle
+     * @param defaultMediaType    the default media type for unknown file extensions
+     * @param cacheSpec           the {@link CaffeineSpec} of the asset cache, or null to disable caching
+     * @param mappedFileThreshold the minimum size of memory-mapped assets, or null to disable memory-mapping
+     * @since 2.1
+     */
+    public AssetsBundle(String resourcePath, String uriPath, String indexFile, String assetsName,
+                        String defaultMediaType, @Nullable CaffeineSpec cacheSpec,
+                        @Nullable DataSize mappedFileThreshold) {
+        this(resourcePath, uriPath, indexFile, assetsName, defaultMediaType, cacheSpec, mappedFileThreshold, false);
+    }
+
+    /**
+     * Creates a new AssetsBundle which will configure the application to serve the static files
+     * located in {@code src/main/resources/${resourcePath}} as {@code /${uriPath}}. If no file name is
+     * in ${uriPath}, ${indexFile} is appended before serving. For example, given a
+     * {@code resourcePath} of {@code "/assets"} and a uriPath of {@code "/js"},
+     * {@code src/main/resources/assets/example.js} would be served up from {@code /js/example.js}.
+     * <p>
+     * If {@code fingerprintAssets} is true, the contents of all assets are hashed when the application starts,
+     * and each asset is additionally served at a URL containing its hash, e.g. {@code /js/example.5d41402abc4b2a76.js}.
+     * These URLs are served as immutable, so clients never have to revalidate them. The mapping of asset names
+     * to fingerprinted URLs is available from {@link #getManifest()} and is served as
+     * {@code /${uriPath}/asset-manifest.json}.
+     *
+     * @param resourcePath        the resource path (in the classpath) of the static asset files
+     * @param uriPath             the uri path for the static asset files
+     * @param indexFile           the name of the index file to use
+     * @param assetsName          the name of servlet mapping used for this assets bundle
+     * @param defaultMediaType    the default media type for unknown file extensions
+     * @param cacheSpec           the {@link CaffeineSpec} of the asset cache, or null to disable caching
+     * @param mappedFileThreshold the minimum size of memory-mapped assets, or null to disable memory-mapping
+     * @param fingerprintAssets   whether to serve the assets at fingerprinted URLs
+     * @since 2.1
+     */
+    public AssetsBundle(String resourcePath, String uriPath, String indexFile, String assetsName,
+                        String defaultMediaType, @Nullable CaffeineSpec cacheSpec,
+                        @Nullable DataSize mappedFileThreshold, boolean fingerprintAssets) {
         if (!resourcePath.startsWith("/")) {
             throw new IllegalArgumentException(resourcePath + " is not an absolute path");
         }
@@ -123,13 +222,26 @@ public class AssetsBundle implements ConfiguredBundle<Configuration> {
         this.indexFile = indexFile;
         this.assetsName = assetsName;
         this.defaultMediaType = defaultMediaType;
+        this.cacheSpec = cacheSpec;
+        this.mappedFileThreshold = mappedFileThreshold;
+        this.fingerprintAssets = fingerprintAssets;
     }
 
     @Override
     public void run(Configuration configuration, Environment environment) {
+        if (fingerprintAssets) {
+            final long start = System.nanoTime();
+            try {
+                manifest = AssetManifest.build(resourcePath, uriPath);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to fingerprint the assets in " + resourcePath, e);
+            }
+            LOGGER.info("Fingerprinted {} assets of AssetBundle with name: {} in {} ms", manifest.getUrls().size(),
+                    assetsName, (System.nanoTime() - start) / 1_000_000);
+        }
         final String pathPattern = uriPath + '*';
         LOGGER.info("Registering AssetBundle with name: {} for path {}", assetsName, pathPattern);
-        environment.servlets().addServlet(assetsName, createServlet()).addMapping(pathPattern);
+        environment.servlets().addServlet(assetsName, createServlet(environment)).addMapping(pathPattern);
     }
 
     public String getResourcePath() {
@@ -151,7 +263,63 @@ public class AssetsBundle implements ConfiguredBundle<Configuration> {
         return defaultMediaType;
     }
 
+    /**
+     * @since 2.1
+     */
+    @Nullable
+    public CaffeineSpec getCacheSpec() {
+        return cacheSpec;
+    }
+
+    /**
+     * @since 2.1
+     */
+    @Nullable
+    public DataSize getMappedFileThreshold() {
+        return mappedFileThreshold;
+    }
+
+    /**
+     * @since 2.1
+     */
+    public boolean isFingerprintAssets() {
+        return fingerprintAssets;
+    }
+
+    /**
+     * Returns the manifest of the fingerprinted assets, which e.g. views can use to resolve the fingerprinted
+     * URLs of the assets they link to.
+     *
+     * @return the manifest of the fingerprinted assets, or null if the bundle doesn't fingerprint assets. The
+     * manifest is built when the bundle is {@link #run(Configuration, Environment) run}, so it's also null before
+     * @since 2.1
+     */
+    @Nullable
+    public AssetManifest getManifest() {
+        return manifest;
+    }
+
     protected AssetServlet createServlet() {
         return new AssetServlet(resourcePath, uriPath, indexFile, defaultMediaType, StandardCharsets.UTF_8);
     }
+
+    /**
+     * Creates the servlet serving the assets, backed by an {@link AssetCache} if a cache spec is configured
+     * and by memory-mapped files if a mapped file threshold is configured. If the assets are fingerprinted, the
+     * manifest has already been built when this is called.
+     * Its hit, miss and eviction metrics are published as {@code io.dropwizard.servlets.assets.AssetServlet.${assetsName}.*}.
+     *
+     * @param environment the application's {@link Environment}
+     * @return the servlet serving the assets
+     * @since 2.1
+     */
+    protected AssetServlet createServlet(Environment environment) {
+        if (cacheSpec == null && mappedFileThreshold == null && manifest == null) {
+            return createServlet();
+        }
+        final AssetCache cache = cacheSpec == null ? null
+                : new AssetCache(environment.metrics(), name(AssetServlet.class, assetsName), cacheSpec);
+        return new AssetServlet(resourcePath, uriPath, indexFile, defaultMediaType, StandardCharsets.UTF_8, cache,
+                mappedFileThreshold, manifest);
+    }
 }
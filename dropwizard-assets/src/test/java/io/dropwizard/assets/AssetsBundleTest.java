@@ -1,10 +1,14 @@
 package io.dropwizard.assets;
 
+import com.codahale.metrics.MetricRegistry;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
 import io.dropwizard.Configuration;
 import io.dropwizard.jetty.setup.ServletEnvironment;
+import io.dropwizard.servlets.assets.AssetManifest;
 import io.dropwizard.servlets.assets.AssetServlet;
 import io.dropwizard.servlets.assets.ResourceURL;
 import io.dropwizard.setup.Environment;
+import io.dropwizard.util.DataSize;
 import io.dropwizard.util.Resources;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,6 +17,7 @@ import org.mockito.ArgumentCaptor;
 import javax.servlet.ServletRegistration;
 import java.net.URL;
 
+import static java.util.Objects.requireNonNull;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyString;
@@ -142,6 +147,51 @@ class AssetsBundleTest {
         assertThat(servlet.getDefaultMediaType()).isEqualTo("text/plain");
     }
 
+    @Test
+    void hasNoAssetCacheByDefault() {
+        runBundle(new AssetsBundle());
+
+        assertThat(servlet.getCache()).isNull();
+    }
+
+    @Test
+    void canHaveAnAssetCache() {
+        final MetricRegistry metricRegistry = new MetricRegistry();
+        when(environment.metrics()).thenReturn(metricRegistry);
+
+        final CaffeineSpec cacheSpec = CaffeineSpec.parse("maximumWeight=1048576,expireAfterAccess=1h");
+        runBundle(new AssetsBundle("/assets", "/assets", "index.html", "assets", "text/plain", cacheSpec));
+
+        assertThat(servlet.getCache()).isNotNull();
+        assertThat(metricRegistry.getNames())
+                .contains("io.dropwizard.servlets.assets.AssetServlet.assets.hits",
+                        "io.dropwizard.servlets.assets.AssetServlet.assets.misses");
+    }
+
+    @Test
+    void canServeMappedFiles() {
+        runBundle(new AssetsBundle("/assets", "/assets", "index.html", "assets", "text/plain", null,
+                DataSize.megabytes(1)));
+
+        assertThat(servlet.getCache()).isNull();
+        assertThat(servlet.getMappedFileThreshold()).isEqualTo(DataSize.megabytes(1));
+    }
+
+    @Test
+    void canFingerprintAssets() {
+        final AssetsBundle bundle = new AssetsBundle("/assets", "/assets", "index.html", "assets", "text/plain", null,
+                null, true);
+        assertThat(bundle.getManifest()).isNull();
+
+        runBundle(bundle);
+
+        final AssetManifest manifest = requireNonNull(bundle.getManifest());
+        assertThat(servlet.getManifest()).isSameAs(manifest);
+        assertThat(manifest.getUrls())
+                .hasEntrySatisfying("git-turd.txt",
+                        url -> assertThat(url).matches("/assets/git-turd\\.[0-9a-f]{16}\\.txt"));
+    }
+
     private URL normalize(String path) {
         return ResourceURL.appendTrailingSlash(Resources.getResource(path));
     }
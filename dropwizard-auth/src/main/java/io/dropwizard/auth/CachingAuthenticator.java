@@ -11,10 +11,14 @@ import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 
+import javax.annotation.Nullable;
 import java.security.Principal;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -24,6 +28,13 @@ import static com.codahale.metrics.MetricRegistry.name;
 /**
  * An {@link Authenticator} decorator which uses a Caffeine cache to temporarily
  * cache credentials and their corresponding principals.
+ * <p>
+ * If the cache is configured with {@code refreshAfterWrite}, it runs in refresh-ahead
+ * mode: once a cached principal is due for a refresh, the next request for it triggers
+ * a single reload on the cache's executor, while that and all other requests keep being
+ * served the cached principal until the reload completes. A reload which doesn't yield a
+ * principal discards the cached one (unless negative results are cached), and a reload
+ * which fails keeps it. Refreshes, stale hits and load failures are published as metrics.
  *
  * @param <C> the type of credentials the authenticator can authenticate
  * @param <P> the type of principals the authenticator returns
@@ -32,6 +43,11 @@ public class CachingAuthenticator<C, P extends Principal> implements Authenticat
     private final LoadingCache<C, Optional<P>> cache;
     private final Meter cacheMisses;
     private final Timer gets;
+    private final Timer refreshes;
+    private final Meter staleHits;
+    private final Meter loadFailures;
+    private final boolean refreshAhead;
+    private final Set<C> refreshing = ConcurrentHashMap.newKeySet();
 
     /**
      * Creates a new cached authenticator.
@@ -46,6 +62,23 @@ public class CachingAuthenticator<C, P extends Principal> implements Authenticat
         this(metricRegistry, authenticator, Caffeine.from(cacheSpec), false);
     }
 
+    /**
+     * Creates a new cached authenticator which reloads principals on the given executor
+     * if the cache spec defines {@code refreshAfterWrite}.
+     *
+     * @param metricRegistry  the application's registry of metrics
+     * @param authenticator   the underlying authenticator
+     * @param cacheSpec       a {@link CaffeineSpec}
+     * @param refreshExecutor the executor on which cached principals are reloaded
+     * @since 2.1
+     */
+    public CachingAuthenticator(final MetricRegistry metricRegistry,
+                                final Authenticator<C, P> authenticator,
+                                final CaffeineSpec cacheSpec,
+                                final Executor refreshExecutor) {
+        this(metricRegistry, authenticator, Caffeine.from(cacheSpec).executor(refreshExecutor), false);
+    }
+
     /**
      * Creates a new cached authenticator.
      *
@@ -90,32 +123,23 @@ public class CachingAuthenticator<C, P extends Principal> implements Authenticat
                                 final Supplier<StatsCounter> supplier) {
         this.cacheMisses = metricRegistry.meter(name(authenticator.getClass(), "cache-misses"));
         this.gets = metricRegistry.timer(name(authenticator.getClass(), "gets"));
-        CacheLoader<C, Optional<P>> loader;
-        if (cacheNegativeResult) {
-            loader = key -> {
-                cacheMisses.mark();
-                return authenticator.authenticate(key);
-            };
-        } else {
-            loader = key -> {
-                cacheMisses.mark();
-                final Optional<P> optPrincipal = authenticator.authenticate(key);
-                if (!optPrincipal.isPresent()) {
-                    // Prevent caching of unknown credentials
-                    throw new InvalidCredentialsException();
-                }
-                return optPrincipal;
-            };
-        }
+        this.refreshes = metricRegistry.timer(name(authenticator.getClass(), "cache-refreshes"));
+        this.staleHits = metricRegistry.meter(name(authenticator.getClass(), "cache-stale-hits"));
+        this.loadFailures = metricRegistry.meter(name(authenticator.getClass(), "cache-load-failures"));
         this.cache = builder
                 .recordStats(supplier)
-                .build(loader);
+                .build(new PrincipalLoader(authenticator, cacheNegativeResult));
+        this.refreshAhead = cache.policy().refreshAfterWrite().isPresent();
     }
 
     @Override
     public Optional<P> authenticate(C credentials) throws AuthenticationException {
         try (Timer.Context context = gets.time()) {
-            return cache.get(credentials);
+            final Optional<P> principal = cache.get(credentials);
+            if (refreshAhead && refreshing.contains(credentials)) {
+                staleHits.mark();
+            }
+            return principal;
         } catch (CompletionException e) {
             final Throwable cause = e.getCause();
             if (cause instanceof InvalidCredentialsException) {
@@ -183,6 +207,64 @@ public class CachingAuthenticator<C, P extends Principal> implements Authenticat
         return cache.stats();
     }
 
+    /**
+     * Loads principals from the underlying authenticator, and reloads them asynchronously
+     * in refresh-ahead mode.
+     */
+    private class PrincipalLoader implements CacheLoader<C, Optional<P>> {
+        private final Authenticator<C, P> authenticator;
+        private final boolean cacheNegativeResult;
+
+        PrincipalLoader(Authenticator<C, P> authenticator, boolean cacheNegativeResult) {
+            this.authenticator = authenticator;
+            this.cacheNegativeResult = cacheNegativeResult;
+        }
+
+        @Override
+        public Optional<P> load(C key) throws Exception {
+            cacheMisses.mark();
+            final Optional<P> optPrincipal = authenticate(key);
+            if (!cacheNegativeResult && !optPrincipal.isPresent()) {
+                // Prevent caching of unknown credentials
+                throw new InvalidCredentialsException();
+            }
+            return optPrincipal;
+        }
+
+        @Override
+        public CompletableFuture<Optional<P>> asyncReload(C key, Optional<P> oldValue, Executor executor) {
+            refreshing.add(key);
+            final CompletableFuture<Optional<P>> reload;
+            try {
+                reload = CacheLoader.super.asyncReload(key, oldValue, executor);
+            } catch (RuntimeException e) {
+                // The executor rejected the reload, so it will never complete
+                refreshing.remove(key);
+                throw e;
+            }
+            return reload.whenComplete((principal, e) -> refreshing.remove(key));
+        }
+
+        @Override
+        @Nullable
+        public Optional<P> reload(C key, Optional<P> oldValue) throws Exception {
+            try (Timer.Context context = refreshes.time()) {
+                final Optional<P> optPrincipal = authenticate(key);
+                // Discard principals whose credentials are no longer valid
+                return cacheNegativeResult || optPrincipal.isPresent() ? optPrincipal : null;
+            }
+        }
+
+        private Optional<P> authenticate(C key) throws AuthenticationException {
+            try {
+                return authenticator.authenticate(key);
+            } catch (AuthenticationException | RuntimeException e) {
+                loadFailures.mark();
+                throw e;
+            }
+        }
+    }
+
     /**
      * Exception thrown by {@link CacheLoader#load(Object)} when the authenticator returns {@link Optional#empty()}.
      * This is used to prevent caching of invalid credentials.
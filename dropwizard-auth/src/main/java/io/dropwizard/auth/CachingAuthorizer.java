@@ -4,6 +4,7 @@ import com.codahale.metrics.Meter;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
 import com.codahale.metrics.caffeine.MetricsStatsCounter;
+import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.CaffeineSpec;
 import com.github.benmanes.caffeine.cache.LoadingCache;
@@ -16,7 +17,10 @@ import javax.annotation.Nullable;
 import javax.ws.rs.container.ContainerRequestContext;
 import java.security.Principal;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -29,6 +33,11 @@ import static com.codahale.metrics.MetricRegistry.name;
  * <p>
  * Cache entries include both inclusion and exclusion of a principal
  * within a given role.
+ * <p>
+ * If the cache is configured with {@code refreshAfterWrite}, it runs in
+ * refresh-ahead mode: stale role associations keep being served while a
+ * single reload per entry runs on the cache's executor. A reload which
+ * fails keeps the stale association.
  *
  * @param <P> the type of principals on which the authorizer operates
  */
@@ -36,6 +45,11 @@ public class CachingAuthorizer<P extends Principal> implements Authorizer<P> {
     private final Authorizer<P> underlying;
     private final Meter cacheMisses;
     private final Timer getsTimer;
+    private final Timer refreshes;
+    private final Meter staleHits;
+    private final Meter loadFailures;
+    private final boolean refreshAhead;
+    private final Set<AuthorizationContext<P>> refreshing = ConcurrentHashMap.newKeySet();
 
     // A cache which maps (principal, role, uriInfo) to boolean
     // authorization states.
@@ -65,6 +79,24 @@ public class CachingAuthorizer<P extends Principal> implements Authorizer<P> {
         this(metricRegistry, authorizer, Caffeine.from(cacheSpec));
     }
 
+    /**
+     * Creates a new cached authorizer which reloads role associations on the
+     * given executor if the cache spec defines {@code refreshAfterWrite}.
+     *
+     * @param metricRegistry  the application's registry of metrics
+     * @param authorizer      the underlying authorizer
+     * @param cacheSpec       {@link CaffeineSpec}
+     * @param refreshExecutor the executor on which role associations are reloaded
+     * @since 2.1
+     */
+    public CachingAuthorizer(
+        final MetricRegistry metricRegistry,
+        final Authorizer<P> authorizer,
+        final CaffeineSpec cacheSpec,
+        final Executor refreshExecutor) {
+        this(metricRegistry, authorizer, Caffeine.from(cacheSpec).executor(refreshExecutor));
+    }
+
     /**
      * Creates a new cached authorizer.
      *
@@ -96,12 +128,13 @@ public class CachingAuthorizer<P extends Principal> implements Authorizer<P> {
         this.underlying = authorizer;
         this.cacheMisses = metricRegistry.meter(name(authorizer.getClass(), "cache-misses"));
         this.getsTimer = metricRegistry.timer(name(authorizer.getClass(), "gets"));
+        this.refreshes = metricRegistry.timer(name(authorizer.getClass(), "cache-refreshes"));
+        this.staleHits = metricRegistry.meter(name(authorizer.getClass(), "cache-stale-hits"));
+        this.loadFailures = metricRegistry.meter(name(authorizer.getClass(), "cache-load-failures"));
         this.cache = builder
                 .recordStats(supplier)
-                .build(key -> {
-                    cacheMisses.mark();
-                    return underlying.authorize(key.getPrincipal(), key.getRole(), key.getRequestContext());
-                });
+                .build(new RoleLoader());
+        this.refreshAhead = cache.policy().refreshAfterWrite().isPresent();
     }
 
     @Override
@@ -113,7 +146,11 @@ public class CachingAuthorizer<P extends Principal> implements Authorizer<P> {
     public boolean authorize(P principal, String role, @Nullable ContainerRequestContext requestContext) {
         try (Timer.Context context = getsTimer.time()) {
             final AuthorizationContext<P> cacheKey = getAuthorizationContext(principal, role, requestContext);
-            return Boolean.TRUE.equals(cache.get(cacheKey));
+            final Boolean authorized = cache.get(cacheKey);
+            if (refreshAhead && refreshing.contains(cacheKey)) {
+                staleHits.mark();
+            }
+            return Boolean.TRUE.equals(authorized);
         } catch (CompletionException e) {
             Throwable cause = e.getCause();
             if (cause instanceof RuntimeException) {
@@ -207,4 +244,46 @@ public class CachingAuthorizer<P extends Principal> implements Authorizer<P> {
     public CacheStats stats() {
         return cache.stats();
     }
+
+    /**
+     * Loads role associations from the underlying authorizer, and reloads
+     * them asynchronously in refresh-ahead mode.
+     */
+    private class RoleLoader implements CacheLoader<AuthorizationContext<P>, Boolean> {
+        @Override
+        public Boolean load(AuthorizationContext<P> key) {
+            cacheMisses.mark();
+            return authorize(key);
+        }
+
+        @Override
+        public CompletableFuture<Boolean> asyncReload(AuthorizationContext<P> key, Boolean oldValue, Executor executor) {
+            refreshing.add(key);
+            final CompletableFuture<Boolean> reload;
+            try {
+                reload = CacheLoader.super.asyncReload(key, oldValue, executor);
+            } catch (RuntimeException e) {
+                // The executor rejected the reload, so it will never complete
+                refreshing.remove(key);
+                throw e;
+            }
+            return reload.whenComplete((authorized, e) -> refreshing.remove(key));
+        }
+
+        @Override
+        public Boolean reload(AuthorizationContext<P> key, Boolean oldValue) {
+            try (Timer.Context context = refreshes.time()) {
+                return authorize(key);
+            }
+        }
+
+        private boolean authorize(AuthorizationContext<P> key) {
+            try {
+                return underlying.authorize(key.getPrincipal(), key.getRole(), key.getRequestContext());
+            } catch (RuntimeException e) {
+                loadFailures.mark();
+                throw e;
+            }
+        }
+    }
 }
@@ -9,12 +9,18 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.security.Principal;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -129,4 +135,100 @@ class CachingAuthenticatorTest {
         verify(underlying).authenticate("credentials");
         assertThat(cached.size()).isEqualTo(1);
     }
+
+    @Test
+    void servesStalePrincipalsWhileRefreshing() throws Exception {
+        final AtomicLong ticker = new AtomicLong();
+        final List<Runnable> refreshes = new ArrayList<>();
+        final MetricRegistry metricRegistry = new MetricRegistry();
+        cached = new CachingAuthenticator<>(metricRegistry, underlying, Caffeine.newBuilder()
+                .refreshAfterWrite(1, TimeUnit.MINUTES)
+                .ticker(ticker::get)
+                .executor(refreshes::add));
+
+        cached.authenticate("credentials");
+        ticker.addAndGet(TimeUnit.MINUTES.toNanos(2));
+        when(underlying.authenticate(anyString())).thenReturn(Optional.of(new PrincipalImpl("refreshed")));
+
+        assertThat(cached.authenticate("credentials")).contains(new PrincipalImpl("principal"));
+        assertThat(cached.authenticate("credentials")).contains(new PrincipalImpl("principal"));
+        verify(underlying, times(1)).authenticate("credentials");
+
+        // Only a single reload runs for all stale hits
+        new ArrayList<>(refreshes).forEach(Runnable::run);
+
+        assertThat(cached.authenticate("credentials")).contains(new PrincipalImpl("refreshed"));
+        verify(underlying, times(2)).authenticate("credentials");
+        assertThat(metricRegistry.meter(MetricRegistry.name(underlying.getClass(), "cache-misses")).getCount()).isEqualTo(1);
+        assertThat(metricRegistry.meter(MetricRegistry.name(underlying.getClass(), "cache-stale-hits")).getCount()).isEqualTo(2);
+        assertThat(metricRegistry.timer(MetricRegistry.name(underlying.getClass(), "cache-refreshes")).getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsStalePrincipalsIfRefreshFails() throws Exception {
+        final AtomicLong ticker = new AtomicLong();
+        final MetricRegistry metricRegistry = new MetricRegistry();
+        cached = new CachingAuthenticator<>(metricRegistry, underlying, Caffeine.newBuilder()
+                .refreshAfterWrite(1, TimeUnit.MINUTES)
+                .ticker(ticker::get)
+                .executor(Runnable::run));
+
+        cached.authenticate("credentials");
+        ticker.addAndGet(TimeUnit.MINUTES.toNanos(2));
+        when(underlying.authenticate(anyString())).thenThrow(new AuthenticationException("Auth failed"));
+
+        assertThat(cached.authenticate("credentials")).contains(new PrincipalImpl("principal"));
+        assertThat(cached.size()).isEqualTo(1);
+        assertThat(metricRegistry.meter(MetricRegistry.name(underlying.getClass(), "cache-load-failures")).getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotCountStaleHitsWhenTheRefreshIsRejected() throws Exception {
+        final AtomicLong ticker = new AtomicLong();
+        final MetricRegistry metricRegistry = new MetricRegistry();
+        cached = new CachingAuthenticator<>(metricRegistry, underlying, Caffeine.newBuilder()
+                .refreshAfterWrite(1, TimeUnit.MINUTES)
+                .ticker(ticker::get)
+                .executor(command -> {
+                    throw new RejectedExecutionException();
+                }));
+
+        cached.authenticate("credentials");
+        ticker.addAndGet(TimeUnit.MINUTES.toNanos(2));
+
+        assertThat(cached.authenticate("credentials")).contains(new PrincipalImpl("principal"));
+        assertThat(cached.authenticate("credentials")).contains(new PrincipalImpl("principal"));
+        assertThat(metricRegistry.meter(MetricRegistry.name(underlying.getClass(), "cache-stale-hits")).getCount()).isZero();
+    }
+
+    @Test
+    void discardsPrincipalsWhoseCredentialsBecameInvalid() throws Exception {
+        final AtomicLong ticker = new AtomicLong();
+        cached = new CachingAuthenticator<>(new MetricRegistry(), underlying, Caffeine.newBuilder()
+                .refreshAfterWrite(1, TimeUnit.MINUTES)
+                .ticker(ticker::get)
+                .executor(Runnable::run));
+
+        cached.authenticate("credentials");
+        ticker.addAndGet(TimeUnit.MINUTES.toNanos(2));
+        when(underlying.authenticate(anyString())).thenReturn(Optional.empty());
+
+        cached.authenticate("credentials");
+
+        assertThat(cached.size()).isZero();
+        assertThat(cached.authenticate("credentials")).isEmpty();
+    }
+
+    @Test
+    void doesNotRefreshWithoutRefreshAfterWrite() throws Exception {
+        final MetricRegistry metricRegistry = new MetricRegistry();
+        cached = new CachingAuthenticator<>(metricRegistry, underlying, Caffeine.newBuilder().executor(Runnable::run));
+
+        cached.authenticate("credentials");
+        cached.authenticate("credentials");
+
+        verify(underlying, times(1)).authenticate("credentials");
+        verify(underlying, never()).authenticate("other");
+        assertThat(metricRegistry.timer(MetricRegistry.name(underlying.getClass(), "cache-refreshes")).getCount()).isZero();
+    }
 }
@@ -1,6 +1,7 @@
 package io.dropwizard.auth;
 
 import com.codahale.metrics.MetricRegistry;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.CaffeineSpec;
 import io.dropwizard.util.Sets;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,6 +10,11 @@ import org.mockito.InOrder;
 
 import javax.ws.rs.container.ContainerRequestContext;
 import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
@@ -143,4 +149,67 @@ class CachingAuthorizerTest {
             .isThrownBy(() -> cached.authorize(principal, role, requestContext))
             .isSameAs(e);
     }
+
+    @Test
+    void servesStaleRoleAssociationsWhileRefreshing() {
+        final AtomicLong ticker = new AtomicLong();
+        final List<Runnable> refreshes = new ArrayList<>();
+        final MetricRegistry metricRegistry = new MetricRegistry();
+        final CachingAuthorizer<Principal> refreshing = new CachingAuthorizer<>(metricRegistry, underlying, Caffeine.newBuilder()
+            .refreshAfterWrite(1, TimeUnit.MINUTES)
+            .ticker(ticker::get)
+            .executor(refreshes::add));
+
+        assertThat(refreshing.authorize(principal, role, requestContext)).isTrue();
+        ticker.addAndGet(TimeUnit.MINUTES.toNanos(2));
+        when(underlying.authorize(principal, role, requestContext)).thenReturn(false);
+
+        assertThat(refreshing.authorize(principal, role, requestContext)).isTrue();
+        assertThat(refreshing.authorize(principal, role, requestContext)).isTrue();
+
+        // Only a single reload runs for all stale hits
+        new ArrayList<>(refreshes).forEach(Runnable::run);
+
+        assertThat(refreshing.authorize(principal, role, requestContext)).isFalse();
+        verify(underlying, times(2)).authorize(principal, role, requestContext);
+        assertThat(metricRegistry.meter(MetricRegistry.name(underlying.getClass(), "cache-stale-hits")).getCount()).isEqualTo(2);
+        assertThat(metricRegistry.timer(MetricRegistry.name(underlying.getClass(), "cache-refreshes")).getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsStaleRoleAssociationsIfRefreshFails() {
+        final AtomicLong ticker = new AtomicLong();
+        final MetricRegistry metricRegistry = new MetricRegistry();
+        final CachingAuthorizer<Principal> refreshing = new CachingAuthorizer<>(metricRegistry, underlying, Caffeine.newBuilder()
+            .refreshAfterWrite(1, TimeUnit.MINUTES)
+            .ticker(ticker::get)
+            .executor(Runnable::run));
+
+        refreshing.authorize(principal, role, requestContext);
+        ticker.addAndGet(TimeUnit.MINUTES.toNanos(2));
+        when(underlying.authorize(principal, role, requestContext)).thenThrow(new IllegalStateException());
+
+        assertThat(refreshing.authorize(principal, role, requestContext)).isTrue();
+        assertThat(refreshing.size()).isEqualTo(1);
+        assertThat(metricRegistry.meter(MetricRegistry.name(underlying.getClass(), "cache-load-failures")).getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotCountStaleHitsWhenTheRefreshIsRejected() {
+        final AtomicLong ticker = new AtomicLong();
+        final MetricRegistry metricRegistry = new MetricRegistry();
+        final CachingAuthorizer<Principal> refreshing = new CachingAuthorizer<>(metricRegistry, underlying, Caffeine.newBuilder()
+            .refreshAfterWrite(1, TimeUnit.MINUTES)
+            .ticker(ticker::get)
+            .executor(command -> {
+                throw new RejectedExecutionException();
+            }));
+
+        refreshing.authorize(principal, role, requestContext);
+        ticker.addAndGet(TimeUnit.MINUTES.toNanos(2));
+
+        assertThat(refreshing.authorize(principal, role, requestContext)).isTrue();
+        assertThat(refreshing.authorize(principal, role, requestContext)).isTrue();
+        assertThat(metricRegistry.meter(MetricRegistry.name(underlying.getClass(), "cache-stale-hits")).getCount()).isZero();
+    }
 }
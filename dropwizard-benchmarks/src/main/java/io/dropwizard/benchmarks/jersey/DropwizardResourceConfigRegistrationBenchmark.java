@@ -0,0 +1,69 @@
+package io.dropwizard.benchmarks.jersey;
+
+import io.dropwizard.jersey.DropwizardResourceConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Measures how long it takes to register a number of component instances, like resources or health checks, with a
+ * {@link DropwizardResourceConfig}, complementing the {@link DropwizardResourceConfigBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class DropwizardResourceConfigRegistrationBenchmark {
+
+    // Jersey warns about each repeated registration of the same component type
+    private static final Logger JERSEY_LOGGER = Logger.getLogger("org.glassfish.jersey");
+
+    @Param({"10", "100", "1000"})
+    private int components;
+
+    @Setup
+    public void setUp() {
+        JERSEY_LOGGER.setLevel(Level.OFF);
+    }
+
+    @Benchmark
+    public DropwizardResourceConfig register() {
+        final DropwizardResourceConfig resourceConfig = DropwizardResourceConfig.forTesting();
+        for (int i = 0; i < components; i++) {
+            resourceConfig.register(new Component(i));
+        }
+        return resourceConfig;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(DropwizardResourceConfigRegistrationBenchmark.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .measurementIterations(5)
+                .build())
+                .run();
+    }
+
+    public static class Component {
+        private final int id;
+
+        Component(int id) {
+            this.id = id;
+        }
+
+        public int getId() {
+            return id;
+        }
+    }
+}
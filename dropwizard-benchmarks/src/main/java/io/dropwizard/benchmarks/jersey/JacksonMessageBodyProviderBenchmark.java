@@ -0,0 +1,103 @@
+package io.dropwizard.benchmarks.jersey;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.jaxrs.json.JacksonJaxbJsonProvider;
+import io.dropwizard.jackson.Jackson;
+import io.dropwizard.jersey.jackson.JacksonMessageBodyProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a request/response round-trip of typical DTOs through Dropwizard's {@link JacksonMessageBodyProvider},
+ * which reuses its readers and writers per entity type, with the plain {@link JacksonJaxbJsonProvider}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JacksonMessageBodyProviderBenchmark {
+    private static final Annotation[] NONE = new Annotation[0];
+    private static final Type PEOPLE = new TypeReference<List<Person>>() {
+    }.getType();
+
+    public static class Person {
+        public String name = "";
+        public int age;
+        public List<String> tags = new ArrayList<>();
+    }
+
+    @Param({"1", "100"})
+    public int size;
+
+    private final ObjectMapper mapper = Jackson.newObjectMapper();
+    private final JacksonMessageBodyProvider dropwizardProvider = new JacksonMessageBodyProvider(mapper);
+    private final JacksonJaxbJsonProvider jaxbProvider =
+        new JacksonJaxbJsonProvider(mapper, JacksonJaxbJsonProvider.DEFAULT_ANNOTATIONS);
+
+    private List<Person> people = new ArrayList<>();
+    private byte[] json = new byte[0];
+
+    @Setup
+    public void setUp() throws IOException {
+        people = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final Person person = new Person();
+            person.name = "person-" + i;
+            person.age = i;
+            person.tags = Arrays.asList("a", "b", "c");
+            people.add(person);
+        }
+        json = mapper.writeValueAsBytes(people);
+    }
+
+    @Benchmark
+    public Object dropwizardRoundTrip() throws IOException {
+        return roundTrip(dropwizardProvider);
+    }
+
+    @Benchmark
+    public Object jacksonJaxbRoundTrip() throws IOException {
+        return roundTrip(jaxbProvider);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object roundTrip(JacksonJaxbJsonProvider provider) throws IOException {
+        final Object request = provider.readFrom((Class<Object>) (Class<?>) List.class, PEOPLE, NONE,
+            MediaType.APPLICATION_JSON_TYPE, new MultivaluedHashMap<>(), new ByteArrayInputStream(json));
+
+        final ByteArrayOutputStream response = new ByteArrayOutputStream(json.length);
+        provider.writeTo(request, ArrayList.class, PEOPLE, NONE, MediaType.APPLICATION_JSON_TYPE,
+            new MultivaluedHashMap<>(), response);
+        return response;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(JacksonMessageBodyProviderBenchmark.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .measurementIterations(5)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,88 @@
+package io.dropwizard.benchmarks.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.pattern.RootCauseFirstThrowableProxyConverter;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import io.dropwizard.jackson.Jackson;
+import io.dropwizard.logging.json.EventAttribute;
+import io.dropwizard.logging.json.layout.EventJsonLayout;
+import io.dropwizard.logging.json.layout.JsonFormatter;
+import io.dropwizard.logging.json.layout.TimestampFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares formatting JSON log events as strings with encoding them straight to bytes. Run it with the GC profiler
+ * (as {@link #main(String[])} does) to compare the normalized allocation rates ({@code gc.alloc.rate.norm}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class JsonLayoutBenchmark {
+
+    @Param({"false", "true"})
+    public boolean flattenMdc = false;
+
+    private EventJsonLayout layout;
+    private LoggingEvent event;
+
+    @Setup
+    public void setUp() {
+        final LoggerContext context = new LoggerContext();
+        layout = new EventJsonLayout(new JsonFormatter(Jackson.newObjectMapper(), false, true),
+            new TimestampFormatter(null, ZoneId.systemDefault()), new RootCauseFirstThrowableProxyConverter(),
+            EnumSet.of(EventAttribute.TIMESTAMP, EventAttribute.LEVEL, EventAttribute.THREAD_NAME,
+                EventAttribute.LOGGER_NAME, EventAttribute.MESSAGE, EventAttribute.MDC, EventAttribute.EXCEPTION),
+            Collections.emptyMap(), Collections.singletonMap("service", "benchmark"), Collections.emptySet(),
+            flattenMdc);
+        layout.setContext(context);
+        layout.start();
+
+        final Map<String, String> mdc = new HashMap<>();
+        mdc.put("requestId", "5d41402abc4b2a76b9719d911017c592");
+        mdc.put("userId", "42");
+        event = new LoggingEvent(JsonLayoutBenchmark.class.getName(), context.getLogger(JsonLayoutBenchmark.class),
+            Level.INFO, "Processed request {} in {} ms", null, new Object[]{"GET /users/42", 17});
+        event.setMDCPropertyMap(mdc);
+    }
+
+    @Benchmark
+    public byte[] layoutAsString() {
+        final String json = layout.doLayout(event);
+        return json == null ? new byte[0] : json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return layout.encode(event);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(JsonLayoutBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .forks(1)
+                .warmupIterations(5)
+                .measurementIterations(5)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,66 @@
+package io.dropwizard.benchmarks.logging;
+
+import io.dropwizard.logging.TimestampFormatCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares formatting the timestamps of events logged in quick succession from scratch with formatting them through
+ * a {@link TimestampFormatCache}. Every invocation formats the next millisecond.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class TimestampFormatBenchmark {
+
+    private final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZ")
+        .withZone(ZoneId.of("Europe/Berlin"));
+    private final TimestampFormatCache cache = new TimestampFormatCache(formatter);
+    private final StringBuilder builder = new StringBuilder();
+
+    private long timestamp;
+
+    @Setup
+    public void setUp() {
+        timestamp = System.currentTimeMillis();
+    }
+
+    @Benchmark
+    public String formatter() {
+        return formatter.format(Instant.ofEpochMilli(timestamp++));
+    }
+
+    @Benchmark
+    public String cache() {
+        return cache.format(timestamp++);
+    }
+
+    @Benchmark
+    public int cacheFormatTo() {
+        builder.setLength(0);
+        cache.formatTo(timestamp++, builder);
+        return builder.length();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(TimestampFormatBenchmark.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .measurementIterations(5)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,125 @@
+package io.dropwizard.benchmarks.servlets;
+
+import io.dropwizard.servlets.assets.AssetServlet;
+import io.dropwizard.util.DataSize;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.servlet.ServletContextHandler;
+import org.eclipse.jetty.servlet.ServletHolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares serving assets copied onto the heap with serving them straight from memory-mapped files.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class AssetServletBenchmark {
+
+    @Param({"64KiB", "4MiB", "32MiB"})
+    public String assetSize = "4MiB";
+
+    private final byte[] buffer = new byte[64 * 1024];
+    private final Server server = new Server();
+
+    private Path assetsDirectory;
+    private URL heapUrl;
+    private URL mappedUrl;
+
+    @Setup
+    public void setUp() throws Exception {
+        assetsDirectory = Files.createTempDirectory("assets");
+        final byte[] asset = new byte[(int) DataSize.parse(assetSize).toBytes()];
+        new Random(42).nextBytes(asset);
+        Files.write(assetsDirectory.resolve("asset.bin"), asset);
+
+        final ServerConnector connector = new ServerConnector(server);
+        server.addConnector(connector);
+        final ServletContextHandler handler = new ServletContextHandler();
+        handler.addServlet(new ServletHolder(new FileSystemAssetServlet("/heap", null)), "/heap/*");
+        handler.addServlet(new ServletHolder(new FileSystemAssetServlet("/mapped", DataSize.bytes(0))), "/mapped/*");
+        server.setHandler(handler);
+        server.start();
+
+        heapUrl = new URL("http", "localhost", connector.getLocalPort(), "/heap/asset.bin");
+        mappedUrl = new URL("http", "localhost", connector.getLocalPort(), "/mapped/asset.bin");
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        server.stop();
+        Files.delete(assetsDirectory.resolve("asset.bin"));
+        Files.delete(assetsDirectory);
+    }
+
+    @Benchmark
+    public long heapCopy() throws IOException {
+        return fetch(heapUrl);
+    }
+
+    @Benchmark
+    public long mappedTransfer() throws IOException {
+        return fetch(mappedUrl);
+    }
+
+    private long fetch(URL url) throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        long read = 0;
+        try (InputStream input = connection.getInputStream()) {
+            int n;
+            while ((n = input.read(buffer)) != -1) {
+                read += n;
+            }
+        }
+        return read;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(AssetServletBenchmark.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .measurementIterations(5)
+                .build())
+                .run();
+    }
+
+    private class FileSystemAssetServlet extends AssetServlet {
+        private static final long serialVersionUID = 1L;
+
+        FileSystemAssetServlet(String uriPath, DataSize mappedFileThreshold) {
+            super("/", uriPath, null, null, StandardCharsets.UTF_8, null, mappedFileThreshold);
+        }
+
+        @Override
+        protected URL getResourceUrl(String absoluteRequestedResourcePath) {
+            try {
+                return assetsDirectory.resolve(absoluteRequestedResourcePath).toUri().toURL();
+            } catch (MalformedURLException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package io.dropwizard.client;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.codahale.metrics.httpclient.HttpClientMetricNameStrategy;
+import io.dropwizard.util.Strings;
+import org.apache.http.message.BasicHttpRequest;
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.client.api.Response;
+import org.eclipse.jetty.client.api.Result;
+import org.eclipse.jetty.client.util.BufferingResponseListener;
+import org.eclipse.jetty.client.util.BytesContentProvider;
+import org.eclipse.jetty.client.util.InputStreamResponseListener;
+import org.eclipse.jetty.client.util.OutputStreamContentProvider;
+import org.eclipse.jetty.http.HttpField;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpHeaderValue;
+import org.eclipse.jetty.util.Jetty;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.ClientRequest;
+import org.glassfish.jersey.client.ClientResponse;
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.message.internal.Statuses;
+
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.core.HttpHeaders;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dropwizard Jetty Connector.
+ * <p>
+ * A Jersey {@link Connector} that uses Jetty's non-blocking {@link HttpClient} as an HTTP transport implementation.
+ * In contrast to the {@link DropwizardApacheConnector}, an asynchronous request doesn't tie up a thread while it's
+ * waiting for the response: the response is buffered (up to {@code maxBufferedResponseSize}) and handed to Jersey
+ * when it's complete. Synchronous requests stream the response as usual.
+ * </p>
+ * <p>
+ * The requests are timed like the ones of the Apache HttpClient built by {@link HttpClientBuilder}, with the
+ * timers and the failure meters named by the client's {@link HttpClientMetricNameStrategy}.
+ * </p>
+ * <p>
+ * The {@link ClientProperties#READ_TIMEOUT} and {@link ClientProperties#FOLLOW_REDIRECTS} properties override the
+ * configuration of a request. The connect timeout can't be changed per request.
+ * </p>
+ *
+ * @since 2.1
+ */
+public class DropwizardJettyConnector implements Connector {
+    private static final int BUFFER_INITIAL_SIZE = 512;
+
+    /**
+     * Actual HTTP client
+     */
+    private final HttpClient client;
+    private final MetricRegistry metricRegistry;
+    private final HttpClientMetricNameStrategy metricNameStrategy;
+    private final String name;
+    private final long timeout;
+    private final boolean closeConnections;
+    private final boolean gzipEnabled;
+    private final boolean chunkedEncodingEnabled;
+    private final int maxBufferedResponseSize;
+    private final boolean stopClient;
+
+    /**
+     * Creates a connector, which doesn't stop the client when it's closed.
+     *
+     * @param client             a started Jetty client
+     * @param metricRegistry     the registry of the request timers
+     * @param metricNameStrategy the strategy which names the request timers
+     * @param name               the name of the client
+     * @param configuration      the configuration of the client
+     */
+    public DropwizardJettyConnector(HttpClient client, MetricRegistry metricRegistry,
+                                    HttpClientMetricNameStrategy metricNameStrategy, String name,
+                                    JerseyClientConfiguration configuration) {
+        this(client, metricRegistry, metricNameStrategy, name, configuration, false);
+    }
+
+    /**
+     * @param client             a started Jetty client
+     * @param metricRegistry     the registry of the request timers
+     * @param metricNameStrategy the strategy which names the request timers
+     * @param name               the name of the client
+     * @param configuration      the configuration of the client
+     * @param stopClient         whether the client is stopped when the connector is closed, because it isn't managed
+     *                           by an environment
+     */
+    public DropwizardJettyConnector(HttpClient client, MetricRegistry metricRegistry,
+                                    HttpClientMetricNameStrategy metricNameStrategy, String name,
+                                    JerseyClientConfiguration configuration, boolean stopClient) {
+        this.client = client;
+        this.stopClient = stopClient;
+        this.metricRegistry = metricRegistry;
+        this.metricNameStrategy = metricNameStrategy;
+        this.name = name;
+        this.timeout = configuration.getTimeout().toMilliseconds();
+        // HTTP/2 connections are multiplexed, and always kept alive
+        this.closeConnections = configuration.getKeepAlive().toMilliseconds() == 0
+            && configuration.getConnector() != JerseyClientConfiguration.ConnectorType.HTTP2;
+        this.gzipEnabled = configuration.isGzipEnabled();
+        this.chunkedEncodingEnabled = configuration.isChunkedEncodingEnabled();
+        this.maxBufferedResponseSize = (int) configuration.getMaxBufferedResponseSize().toBytes();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ClientResponse apply(ClientRequest jerseyRequest) {
+        try {
+            final Request jettyRequest = buildJettyRequest(jerseyRequest);
+            final InputStreamResponseListener listener = new InputStreamResponseListener();
+            if (jerseyRequest.hasEntity() && chunkedEncodingEnabled) {
+                final OutputStreamContentProvider content = new OutputStreamContentProvider();
+                jettyRequest.content(content);
+                jerseyRequest.setStreamProvider(contentLength -> {
+                    // the headers are final when the entity starts to be written
+                    send(addHeaders(jerseyRequest, jettyRequest), listener);
+                    return content.getOutputStream();
+                });
+                jerseyRequest.writeEntity();
+            } else {
+                setBufferedEntity(jerseyRequest, jettyRequest);
+                send(addHeaders(jerseyRequest, jettyRequest), listener);
+            }
+
+            // the request fails on its own if the connect or idle timeout is exceeded
+            final Response jettyResponse = listener.get(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+            return buildJerseyResponse(jerseyRequest, jettyResponse, listener.getInputStream());
+        } catch (ExecutionException e) {
+            throw new ProcessingException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProcessingException(e);
+        } catch (ProcessingException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ProcessingException(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The request is sent without blocking, and the callback is called by a thread of the Jetty client when the
+     * response is complete.
+     * </p>
+     */
+    @Override
+    public Future<?> apply(final ClientRequest jerseyRequest, final AsyncConnectorCallback callback) {
+        final CompletableFuture<ClientResponse> future = new CompletableFuture<>();
+        final Request jettyRequest;
+        try {
+            jettyRequest = buildJettyRequest(jerseyRequest);
+            setBufferedEntity(jerseyRequest, jettyRequest);
+            addHeaders(jerseyRequest, jettyRequest);
+        } catch (Exception e) {
+            callback.failure(e);
+            future.completeExceptionally(e);
+            return future;
+        }
+
+        send(jettyRequest, new BufferingResponseListener(maxBufferedResponseSize) {
+            @Override
+            public void onComplete(Result result) {
+                if (result.isFailed()) {
+                    callback.failure(result.getFailure());
+                    future.completeExceptionally(result.getFailure());
+                    return;
+                }
+                try {
+                    final ClientResponse jerseyResponse = buildJerseyResponse(jerseyRequest, result.getResponse(),
+                        getContentAsInputStream());
+                    callback.response(jerseyResponse);
+                    future.complete(jerseyResponse);
+                } catch (Exception e) {
+                    callback.failure(e);
+                    future.completeExceptionally(e);
+                }
+            }
+        });
+        future.whenComplete((response, failure) -> {
+            if (future.isCancelled()) {
+                jettyRequest.abort(new CancellationException());
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Build a new Jetty {@link Request} from Jersey's {@link ClientRequest}
+     * <p>
+     * Convert a method and URI, and override the timeout and redirects if necessary
+     * </p>
+     *
+     * @param jerseyRequest representation of an HTTP request in Jersey
+     * @return a new {@link Request} without headers and content
+     */
+    private Request buildJettyRequest(ClientRequest jerseyRequest) {
+        final Request jettyRequest = client.newRequest(jerseyRequest.getUri())
+            .method(jerseyRequest.getMethod());
+
+        final Integer readTimeout = jerseyRequest.resolveProperty(ClientProperties.READ_TIMEOUT, Integer.class);
+        jettyRequest.idleTimeout(readTimeout != null ? readTimeout : timeout, TimeUnit.MILLISECONDS);
+
+        final Boolean followRedirects = jerseyRequest.resolveProperty(ClientProperties.FOLLOW_REDIRECTS, Boolean.class);
+        if (followRedirects != null) {
+            jettyRequest.followRedirects(followRedirects);
+        }
+        return jettyRequest;
+    }
+
+    /**
+     * Copies the headers of the Jersey request, which may be changed until its entity is written, to the Jetty request.
+     */
+    private Request addHeaders(ClientRequest jerseyRequest, Request jettyRequest) {
+        for (String headerName : jerseyRequest.getHeaders().keySet()) {
+            jettyRequest.header(headerName, jerseyRequest.getHeaderString(headerName));
+        }
+        if (gzipEnabled && !jerseyRequest.getHeaders().containsKey(HttpHeaders.ACCEPT_ENCODING)) {
+            jettyRequest.header(HttpHeader.ACCEPT_ENCODING, "gzip");
+        }
+        if (closeConnections) {
+            jettyRequest.header(HttpHeader.CONNECTION, HttpHeaderValue.CLOSE.asString());
+        }
+        return jettyRequest;
+    }
+
+    /**
+     * Writes the entity of the Jersey request, if it has one, into a buffer which is sent as the content of the
+     * Jetty request.
+     */
+    private static void setBufferedEntity(ClientRequest jerseyRequest, Request jettyRequest) {
+        if (!jerseyRequest.hasEntity()) {
+            return;
+        }
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream(BUFFER_INITIAL_SIZE);
+        jerseyRequest.setStreamProvider(contentLength -> stream);
+        try {
+            jerseyRequest.writeEntity();
+        } catch (IOException e) {
+            throw new ProcessingException("Unable to buffer the entity of the request", e);
+        }
+        jettyRequest.content(new BytesContentProvider(stream.toByteArray()));
+    }
+
+    /**
+     * Sends the request, and times it until the response is complete.
+     */
+    private void send(Request jettyRequest, Response.CompleteListener listener) {
+        final BasicHttpRequest request = new BasicHttpRequest(jettyRequest.getMethod(),
+            jettyRequest.getURI().toString());
+        final Timer.Context context = metricRegistry.timer(metricNameStrategy.getNameFor(name, request)).time();
+        jettyRequest.onComplete(result -> {
+            context.stop();
+            final Throwable failure = result.getFailure();
+            if (failure instanceof Exception) {
+                metricRegistry.meter(metricNameStrategy.getNameFor(name, (Exception) failure)).mark();
+            }
+        });
+        jettyRequest.send(listener);
+    }
+
+    private static ClientResponse buildJerseyResponse(ClientRequest jerseyRequest, Response jettyResponse,
+                                                      InputStream entityStream) {
+        final ClientResponse jerseyResponse = new ClientResponse(Statuses.from(jettyResponse.getStatus(),
+            Strings.nullToEmpty(jettyResponse.getReason())), jerseyRequest);
+        for (HttpField field : jettyResponse.getHeaders()) {
+            jerseyResponse.getHeaders().computeIfAbsent(field.getName(), k -> new ArrayList<>())
+                .add(field.getValue());
+        }
+        jerseyResponse.setEntityStream(entityStream);
+        return jerseyResponse;
+    }
+
+    HttpClient getHttpClient() {
+        return client;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return "Jetty-HttpClient/" + Jetty.VERSION;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        // A client which is managed by the Dropwizard environment is stopped with it
+        if (stopClient) {
+            try {
+                client.stop();
+            } catch (Exception e) {
+                throw new ProcessingException("Unable to stop the HTTP client " + name, e);
+            }
+        }
+    }
+}
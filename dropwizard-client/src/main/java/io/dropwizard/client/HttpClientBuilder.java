@@ -5,6 +5,8 @@ import com.codahale.metrics.httpclient.HttpClientMetricNameStrategies;
 import com.codahale.metrics.httpclient.HttpClientMetricNameStrategy;
 import com.codahale.metrics.httpclient.InstrumentedHttpClientConnectionManager;
 import com.codahale.metrics.httpclient.InstrumentedHttpRequestExecutor;
+import io.dropwizard.client.cache.CacheConfiguration;
+import io.dropwizard.client.cache.CachingHttpClient;
 import io.dropwizard.client.proxy.AuthConfiguration;
 import io.dropwizard.client.proxy.NonProxyListProxyRoutePlanner;
 import io.dropwizard.client.proxy.ProxyConfiguration;
@@ -58,6 +60,7 @@ import java.util.List;
  * <li>Disables stale connection checks by default</li>
  * <li>Disables Nagle's algorithm</li>
  * <li>Disables cookie management by default</li>
+ * <li>Caches responses in process if a {@link CacheConfiguration} is configured</li>
  * </ul>
  * </p>
  */
@@ -305,6 +308,25 @@ public class HttpClientBuilder {
                 createConnectionManager(createConfiguredRegistry(), name), name);
     }
 
+    /**
+     * For internal use only, used in {@link io.dropwizard.client.JerseyClientBuilder}
+     * to create an instance of {@link io.dropwizard.client.DropwizardJettyConnector}.
+     * The Jetty client is started, and stopped with the environment if there is one, or when the connector is closed.
+     *
+     * @param name          the name of the client
+     * @param configuration the configuration of the Jersey client
+     * @return a {@link io.dropwizard.client.DropwizardJettyConnector}
+     */
+    DropwizardJettyConnector buildJettyConnector(String name, JerseyClientConfiguration configuration) {
+        final org.eclipse.jetty.client.HttpClient client =
+                new JettyClientFactory(configuration, metricRegistry, verifier, createUserAgent(name)).build(name);
+        if (environment != null) {
+            environment.lifecycle().manage(client);
+        }
+        return new DropwizardJettyConnector(client, metricRegistry, metricNameStrategy, name, configuration,
+                environment == null);
+    }
+
     /**
      * Creates a {@link org.apache.http.protocol.HttpRequestExecutor}.
      *
@@ -459,6 +481,11 @@ public class HttpClientBuilder {
 
         customizeBuilder(builder);
 
+        final CacheConfiguration cache = configuration.getCacheConfiguration();
+        if (cache != null) {
+            return new ConfiguredCloseableHttpClient(
+                new CachingHttpClient(builder.build(), cache, metricRegistry, name), requestConfig);
+        }
         return new ConfiguredCloseableHttpClient(builder.build(), requestConfig);
     }
 
@@ -1,6 +1,7 @@
 package io.dropwizard.client;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.client.cache.CacheConfiguration;
 import io.dropwizard.client.proxy.ProxyConfiguration;
 import io.dropwizard.client.ssl.TlsConfiguration;
 import io.dropwizard.util.Duration;
@@ -67,6 +68,10 @@ public class HttpClientConfiguration {
     @Nullable
     private TlsConfiguration tlsConfiguration;
 
+    @Valid
+    @Nullable
+    private CacheConfiguration cacheConfiguration;
+
     @JsonProperty
     public void setKeepAlive(Duration keepAlive) {
         this.keepAlive = keepAlive;
@@ -209,4 +214,21 @@ public class HttpClientConfiguration {
     public void setTlsConfiguration(TlsConfiguration tlsConfiguration) {
         this.tlsConfiguration = tlsConfiguration;
     }
+
+    /**
+     * @since 2.1
+     */
+    @JsonProperty("cache")
+    @Nullable
+    public CacheConfiguration getCacheConfiguration() {
+        return cacheConfiguration;
+    }
+
+    /**
+     * @since 2.1
+     */
+    @JsonProperty("cache")
+    public void setCacheConfiguration(@Nullable CacheConfiguration cacheConfiguration) {
+        this.cacheConfiguration = cacheConfiguration;
+    }
 }
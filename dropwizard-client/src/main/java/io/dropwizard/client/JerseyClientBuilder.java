@@ -42,7 +42,7 @@ import static java.util.Objects.requireNonNull;
  * <p>
  * Among other things,
  * <ul>
- * <li>Backed by Apache HttpClient</li>
+ * <li>Backed by Apache HttpClient, or by the non-blocking Jetty HttpClient if configured</li>
  * <li>Disables stale connection checks</li>
  * <li>Disables Nagle's algorithm</li>
  * <li>Disables cookie management by default</li>
@@ -413,7 +413,10 @@ public class JerseyClientBuilder {
 
         config.register(new DropwizardExecutorProvider(threadPool));
 
-        if (connectorProvider == null) {
+        if (connectorProvider == null && configuration.getConnector() != JerseyClientConfiguration.ConnectorType.APACHE) {
+            final DropwizardJettyConnector jettyConnector = apacheHttpClientBuilder.buildJettyConnector(name, configuration);
+            config.connectorProvider((client, runtimeConfig) -> jettyConnector);
+        } else if (connectorProvider == null) {
             final ConfiguredCloseableHttpClient apacheHttpClient =
                     apacheHttpClientBuilder.buildWithDefaultRequestConfiguration(name);
             config.connectorProvider((client, runtimeConfig) -> createDropwizardApacheConnector(apacheHttpClient));
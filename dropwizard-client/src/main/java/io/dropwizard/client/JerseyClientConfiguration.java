@@ -2,10 +2,14 @@ package io.dropwizard.client;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.util.DataSize;
+import io.dropwizard.validation.MaxDataSize;
+import io.dropwizard.validation.MinDataSize;
 import io.dropwizard.validation.ValidationMethod;
 
 import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
 
 /**
  * The configuration class used by {@link JerseyClientBuilder}. Extends
@@ -33,6 +37,20 @@ public class JerseyClientConfiguration extends HttpClientConfiguration {
 
     private boolean chunkedEncodingEnabled = true;
 
+    @NotNull
+    private ConnectorType connector = ConnectorType.APACHE;
+
+    @Min(1)
+    private int maxConcurrentStreams = 1024;
+
+    @NotNull
+    @MinDataSize(1)
+    @MaxDataSize(Integer.MAX_VALUE)
+    private DataSize maxBufferedResponseSize = DataSize.mebibytes(2);
+
+    @Min(1)
+    private int maxQueuedRequestsPerRoute = 1024;
+
     @JsonProperty
     public int getMinThreads() {
         return minThreads;
@@ -93,6 +111,70 @@ public class JerseyClientConfiguration extends HttpClientConfiguration {
         this.workQueueSize = workQueueSize;
     }
 
+    /**
+     * @since 2.1
+     */
+    @JsonProperty
+    public ConnectorType getConnector() {
+        return connector;
+    }
+
+    /**
+     * @since 2.1
+     */
+    @JsonProperty
+    public void setConnector(ConnectorType connector) {
+        this.connector = connector;
+    }
+
+    /**
+     * @since 2.1
+     */
+    @JsonProperty
+    public int getMaxConcurrentStreams() {
+        return maxConcurrentStreams;
+    }
+
+    /**
+     * @since 2.1
+     */
+    @JsonProperty
+    public void setMaxConcurrentStreams(int maxConcurrentStreams) {
+        this.maxConcurrentStreams = maxConcurrentStreams;
+    }
+
+    /**
+     * @since 2.1
+     */
+    @JsonProperty
+    public DataSize getMaxBufferedResponseSize() {
+        return maxBufferedResponseSize;
+    }
+
+    /**
+     * @since 2.1
+     */
+    @JsonProperty
+    public void setMaxBufferedResponseSize(DataSize maxBufferedResponseSize) {
+        this.maxBufferedResponseSize = maxBufferedResponseSize;
+    }
+
+    /**
+     * @since 2.1
+     */
+    @JsonProperty
+    public int getMaxQueuedRequestsPerRoute() {
+        return maxQueuedRequestsPerRoute;
+    }
+
+    /**
+     * @since 2.1
+     */
+    @JsonProperty
+    public void setMaxQueuedRequestsPerRoute(int maxQueuedRequestsPerRoute) {
+        this.maxQueuedRequestsPerRoute = maxQueuedRequestsPerRoute;
+    }
+
     @JsonIgnore
     @ValidationMethod(message = ".minThreads must be less than or equal to maxThreads")
     public boolean isThreadPoolSizedCorrectly() {
@@ -104,4 +186,27 @@ public class JerseyClientConfiguration extends HttpClientConfiguration {
     public boolean isCompressionConfigurationValid() {
         return !gzipEnabledForRequests || gzipEnabled;
     }
+
+    /**
+     * The HTTP client which executes the requests of a Jersey client.
+     *
+     * @since 2.1
+     */
+    public enum ConnectorType {
+        /**
+         * The Apache HttpClient, which blocks a thread of the client's pool for every asynchronous request.
+         */
+        APACHE,
+
+        /**
+         * The non-blocking Jetty HttpClient, which doesn't tie up a thread while an asynchronous request is waiting
+         * for the response.
+         */
+        JETTY,
+
+        /**
+         * The non-blocking Jetty HttpClient, which multiplexes the requests to a server over HTTP/2 connections.
+         */
+        HTTP2
+    }
 }
@@ -0,0 +1,283 @@
+package io.dropwizard.client;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.client.proxy.AuthConfiguration;
+import io.dropwizard.client.proxy.ProxyConfiguration;
+import io.dropwizard.client.ssl.TlsConfiguration;
+import org.eclipse.jetty.client.AbstractConnectionPool;
+import org.eclipse.jetty.client.AbstractHttpClientTransport;
+import org.eclipse.jetty.client.ConnectionPool;
+import org.eclipse.jetty.client.DuplexConnectionPool;
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.HttpProxy;
+import org.eclipse.jetty.client.MultiplexConnectionPool;
+import org.eclipse.jetty.client.Origin;
+import org.eclipse.jetty.client.api.Connection;
+import org.eclipse.jetty.client.http.HttpClientTransportOverHTTP;
+import org.eclipse.jetty.client.util.BasicAuthentication;
+import org.eclipse.jetty.http.HttpField;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http2.client.HTTP2Client;
+import org.eclipse.jetty.http2.client.http.HttpClientTransportOverHTTP2;
+import org.eclipse.jetty.util.HttpCookieStore;
+import org.eclipse.jetty.util.Pool;
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+import org.eclipse.jetty.util.component.LifeCycle;
+import org.eclipse.jetty.util.ssl.SslContextFactory;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.eclipse.jetty.util.thread.ScheduledExecutorScheduler;
+
+import javax.annotation.Nullable;
+import javax.net.ssl.HostnameVerifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToIntFunction;
+import java.util.regex.Pattern;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * Creates a Jetty {@link HttpClient} from a {@link JerseyClientConfiguration}, for the
+ * {@link DropwizardJettyConnector}.
+ * <p>
+ * The timeouts, the maximum number of connections, cookies, the user agent, TLS and the proxy are configured like the
+ * Apache HttpClient created by {@link HttpClientBuilder}. Jetty doesn't limit the connections of all routes, so
+ * {@code maxConnections} caps the connections of each route, like {@code maxConnectionsPerRoute}. At most
+ * {@code maxQueuedRequestsPerRoute} requests wait for a connection of a route, further requests fail. Connections are
+ * kept alive for {@code keepAlive}, or closed after every HTTP/1.1 request if it is zero.
+ * </p>
+ * <p>
+ * With the {@link JerseyClientConfiguration.ConnectorType#HTTP2} connector, requests are multiplexed over HTTP/2
+ * connections: negotiated with ALPN for {@code https} URIs (h2), and with prior knowledge for {@code http} URIs (h2c).
+ * The number of concurrent streams per connection is the lower of {@code maxConcurrentStreams} and the limit of
+ * the server.
+ * </p>
+ * <p>
+ * The number of connections of all routes are published as the {@code connections}, {@code active-connections},
+ * {@code idle-connections} and {@code pending-connections} gauges of {@link HttpClient}. If clients share a name,
+ * the gauges are those of the first client, until it is stopped.
+ * </p>
+ */
+class JettyClientFactory {
+    private static final Pattern WILDCARD = Pattern.compile("\\*");
+    private static final String REGEX_WILDCARD = ".*";
+
+    private final JerseyClientConfiguration configuration;
+    private final MetricRegistry metricRegistry;
+
+    @Nullable
+    private final HostnameVerifier verifier;
+
+    private final String userAgent;
+
+    JettyClientFactory(JerseyClientConfiguration configuration, MetricRegistry metricRegistry,
+                       @Nullable HostnameVerifier verifier, String userAgent) {
+        this.configuration = configuration;
+        this.metricRegistry = metricRegistry;
+        this.verifier = verifier;
+        this.userAgent = userAgent;
+    }
+
+    /**
+     * Creates and starts the client.
+     *
+     * @param name the name of the client, which prefixes the names of its threads
+     * @return a started {@link HttpClient}
+     */
+    HttpClient build(String name) {
+        final Set<AbstractConnectionPool> connectionPools = ConcurrentHashMap.newKeySet();
+        final HttpClient client = new HttpClient(createTransport(connectionPools), createSslContextFactory());
+
+        final QueuedThreadPool threadPool = new QueuedThreadPool();
+        threadPool.setName("jetty-client-" + name);
+        threadPool.setDaemon(true);
+        client.setExecutor(threadPool);
+        client.setScheduler(new ScheduledExecutorScheduler("jetty-client-" + name + "-scheduler", true));
+
+        final long keepAlive = configuration.getKeepAlive().toMilliseconds();
+        client.setConnectTimeout(configuration.getConnectionTimeout().toMilliseconds());
+        client.setIdleTimeout(keepAlive == 0 ? configuration.getTimeout().toMilliseconds() : keepAlive);
+        client.setMaxConnectionsPerDestination(getMaxConnectionsPerRoute());
+        client.setMaxRequestsQueuedPerDestination(configuration.getMaxQueuedRequestsPerRoute());
+        client.setUserAgentField(new HttpField(HttpHeader.USER_AGENT, userAgent));
+        if (!configuration.isCookiesEnabled()) {
+            client.setCookieStore(new HttpCookieStore.Empty());
+        }
+
+        final ProxyConfiguration proxy = configuration.getProxyConfiguration();
+        if (proxy != null) {
+            final boolean secure = "https".equalsIgnoreCase(proxy.getScheme());
+            final int port = proxy.getPort() < 0 ? (secure ? 443 : 80) : proxy.getPort();
+            final HttpProxy httpProxy = new NonProxyListHttpProxy(new Origin.Address(proxy.getHost(), port), secure,
+                proxy.getNonProxyHosts());
+            client.getProxyConfiguration().getProxies().add(httpProxy);
+            final AuthConfiguration auth = proxy.getAuth();
+            if (auth != null) {
+                final String authScheme = auth.getAuthScheme();
+                if (authScheme != null && !AuthConfiguration.BASIC_AUTH_SCHEME.equalsIgnoreCase(authScheme)) {
+                    throw new IllegalArgumentException("The Jetty connector only supports the "
+                        + AuthConfiguration.BASIC_AUTH_SCHEME + " proxy authentication scheme, not " + authScheme);
+                }
+                client.getAuthenticationStore().addAuthenticationResult(new BasicAuthentication.BasicResult(
+                    httpProxy.getURI(), HttpHeader.PROXY_AUTHORIZATION, auth.getUsername(), auth.getPassword()));
+            }
+        }
+
+        try {
+            client.start();
+        } catch (Exception e) {
+            throw new IllegalStateException("Unable to start the HTTP client " + name, e);
+        }
+        // the client adds its decoders when it's started, but responses are decoded by Jersey's GZipDecoder
+        client.getContentDecoderFactories().clear();
+        registerMetrics(client, name, connectionPools);
+        return client;
+    }
+
+    private AbstractHttpClientTransport createTransport(Set<AbstractConnectionPool> connectionPools) {
+        final int maxConnectionsPerRoute = getMaxConnectionsPerRoute();
+        if (configuration.getConnector() == JerseyClientConfiguration.ConnectorType.HTTP2) {
+            final int maxConcurrentStreams = configuration.getMaxConcurrentStreams();
+            final HttpClientTransportOverHTTP2 transport = new HttpClientTransportOverHTTP2(new HTTP2Client());
+            transport.setUseALPN(true);
+            transport.setConnectionPoolFactory(destination -> register(connectionPools,
+                new MultiplexConnectionPool(destination,
+                    new StreamLimitingPool(maxConnectionsPerRoute, maxConcurrentStreams), destination,
+                    maxConcurrentStreams)));
+            return transport;
+        }
+        final HttpClientTransportOverHTTP transport = new HttpClientTransportOverHTTP();
+        transport.setConnectionPoolFactory(destination -> register(connectionPools,
+            new DuplexConnectionPool(destination, maxConnectionsPerRoute, destination)));
+        return transport;
+    }
+
+    private int getMaxConnectionsPerRoute() {
+        return Math.min(configuration.getMaxConnectionsPerRoute(), configuration.getMaxConnections());
+    }
+
+    private static AbstractConnectionPool register(Set<AbstractConnectionPool> connectionPools,
+                                                   AbstractConnectionPool connectionPool) {
+        connectionPools.add(connectionPool);
+        return connectionPool;
+    }
+
+    private void registerMetrics(HttpClient client, String name, Set<AbstractConnectionPool> connectionPools) {
+        final Map<String, Gauge<Integer>> gauges = new HashMap<>();
+        gauges.put(name(HttpClient.class, name, "connections"),
+            () -> sum(connectionPools, AbstractConnectionPool::getConnectionCount));
+        gauges.put(name(HttpClient.class, name, "active-connections"),
+            () -> sum(connectionPools, AbstractConnectionPool::getActiveConnectionCount));
+        gauges.put(name(HttpClient.class, name, "idle-connections"),
+            () -> sum(connectionPools, AbstractConnectionPool::getIdleConnectionCount));
+        gauges.put(name(HttpClient.class, name, "pending-connections"),
+            () -> sum(connectionPools, AbstractConnectionPool::getPendingConnectionCount));
+        // another client with the same name keeps its gauges, which are only removed by the client which added them
+        gauges.forEach((gaugeName, gauge) -> metricRegistry.gauge(gaugeName, () -> gauge));
+        client.addLifeCycleListener(new AbstractLifeCycle.AbstractLifeCycleListener() {
+            @Override
+            public void lifeCycleStopped(LifeCycle event) {
+                metricRegistry.removeMatching((metricName, metric) -> gauges.get(metricName) == metric);
+            }
+        });
+    }
+
+    private static int sum(Set<AbstractConnectionPool> connectionPools,
+                           ToIntFunction<AbstractConnectionPool> count) {
+        int sum = 0;
+        for (Iterator<AbstractConnectionPool> iterator = connectionPools.iterator(); iterator.hasNext(); ) {
+            final AbstractConnectionPool connectionPool = iterator.next();
+            if (connectionPool.isClosed()) {
+                // the destination of the pool has been removed
+                iterator.remove();
+            } else {
+                sum += count.applyAsInt(connectionPool);
+            }
+        }
+        return sum;
+    }
+
+    private SslContextFactory.Client createSslContextFactory() {
+        final SslContextFactory.Client sslContextFactory = new SslContextFactory.Client();
+        final TlsConfiguration tls = configuration.getTlsConfiguration();
+        if (tls != null) {
+            sslContextFactory.setSslContext(new DropwizardSSLConnectionSocketFactory(tls, verifier).buildSslContext());
+            final List<String> supportedProtocols = tls.getSupportedProtocols();
+            if (supportedProtocols != null) {
+                sslContextFactory.setIncludeProtocols(supportedProtocols.toArray(new String[0]));
+            }
+            final List<String> supportedCiphers = tls.getSupportedCiphers();
+            if (supportedCiphers != null) {
+                sslContextFactory.setIncludeCipherSuites(supportedCiphers.toArray(new String[0]));
+            }
+            if (!tls.isVerifyHostname()) {
+                sslContextFactory.setEndpointIdentificationAlgorithm(null);
+                return sslContextFactory;
+            }
+        }
+        if (verifier != null) {
+            sslContextFactory.setHostnameVerifier(verifier);
+        }
+        return sslContextFactory;
+    }
+
+    /**
+     * A {@link HttpProxy} which isn't used for the hosts which match one of the wildcard patterns of
+     * {@link ProxyConfiguration#getNonProxyHosts()}, like {@link io.dropwizard.client.proxy.NonProxyListProxyRoutePlanner}.
+     */
+    private static class NonProxyListHttpProxy extends HttpProxy {
+        private final List<Pattern> nonProxyHostPatterns;
+
+        private NonProxyListHttpProxy(Origin.Address address, boolean secure, @Nullable List<String> nonProxyHosts) {
+            super(address, secure);
+            if (nonProxyHosts == null) {
+                this.nonProxyHostPatterns = Collections.emptyList();
+            } else {
+                final List<Pattern> patterns = new ArrayList<>(nonProxyHosts.size());
+                for (String nonProxyHost : nonProxyHosts) {
+                    patterns.add(Pattern.compile(WILDCARD.matcher(nonProxyHost).replaceAll(REGEX_WILDCARD)));
+                }
+                this.nonProxyHostPatterns = Collections.unmodifiableList(patterns);
+            }
+        }
+
+        @Override
+        public boolean matches(Origin origin) {
+            for (Pattern nonProxyHostPattern : nonProxyHostPatterns) {
+                if (nonProxyHostPattern.matcher(origin.getAddress().getHost()).matches()) {
+                    return false;
+                }
+            }
+            return super.matches(origin);
+        }
+    }
+
+    /**
+     * A {@link Pool} of connections which doesn't multiplex more than {@code maxConcurrentStreams} requests over a
+     * connection, even if the server allows more.
+     */
+    private static class StreamLimitingPool extends Pool<Connection> {
+        private final int maxConcurrentStreams;
+
+        private StreamLimitingPool(int maxConnections, int maxConcurrentStreams) {
+            super(Pool.StrategyType.FIRST, maxConnections, false);
+            this.maxConcurrentStreams = maxConcurrentStreams;
+        }
+
+        @Override
+        protected int getMaxMultiplex(Connection connection) {
+            // HTTP/2 connections report the limit of the server, which overrides the limit of the pool
+            final int maxMultiplex = connection instanceof ConnectionPool.Multiplexable
+                ? ((ConnectionPool.Multiplexable) connection).getMaxMultiplex()
+                : super.getMaxMultiplex(connection);
+            return maxMultiplex > 0 ? Math.min(maxMultiplex, maxConcurrentStreams) : 1;
+        }
+    }
+}
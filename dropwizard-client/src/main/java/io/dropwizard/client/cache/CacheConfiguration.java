@@ -0,0 +1,114 @@
+package io.dropwizard.client.cache;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.util.DataSize;
+import io.dropwizard.validation.MaxDataSize;
+import io.dropwizard.validation.MinDataSize;
+import io.dropwizard.validation.ValidationMethod;
+
+import javax.annotation.Nullable;
+import javax.validation.constraints.NotNull;
+import java.io.File;
+
+/**
+ * Configuration of the in-process response cache of an HTTP client
+ * <p/>
+ * <b>Configuration Parameters:</b>
+ * <table>
+ *     <tr>
+ *         <td>Name</td>
+ *         <td>Default</td>
+ *         <td>Description</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code maxMemorySize}</td>
+ *         <td>32 mebibytes</td>
+ *         <td>The maximum size of the responses cached in memory.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code maxEntrySize}</td>
+ *         <td>1 mebibyte</td>
+ *         <td>The maximum size of a cached response. Larger responses are not cached.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code diskDirectory}</td>
+ *         <td>(none)</td>
+ *         <td>
+ *             The directory in which the responses evicted from memory are stored. If it's not set, evicted
+ *             responses are discarded.
+ *         </td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code maxDiskSize}</td>
+ *         <td>256 mebibytes</td>
+ *         <td>The maximum size of the responses stored in {@code diskDirectory}.</td>
+ *     </tr>
+ * </table>
+ *
+ * @since 2.1
+ */
+public class CacheConfiguration {
+    @NotNull
+    @MinDataSize(1)
+    private DataSize maxMemorySize = DataSize.mebibytes(32);
+
+    @NotNull
+    @MinDataSize(1)
+    @MaxDataSize(Integer.MAX_VALUE)
+    private DataSize maxEntrySize = DataSize.mebibytes(1);
+
+    @Nullable
+    private File diskDirectory;
+
+    @NotNull
+    @MinDataSize(1)
+    private DataSize maxDiskSize = DataSize.mebibytes(256);
+
+    @JsonProperty
+    public DataSize getMaxMemorySize() {
+        return maxMemorySize;
+    }
+
+    @JsonProperty
+    public void setMaxMemorySize(DataSize maxMemorySize) {
+        this.maxMemorySize = maxMemorySize;
+    }
+
+    @JsonProperty
+    public DataSize getMaxEntrySize() {
+        return maxEntrySize;
+    }
+
+    @JsonProperty
+    public void setMaxEntrySize(DataSize maxEntrySize) {
+        this.maxEntrySize = maxEntrySize;
+    }
+
+    @JsonProperty
+    @Nullable
+    public File getDiskDirectory() {
+        return diskDirectory;
+    }
+
+    @JsonProperty
+    public void setDiskDirectory(@Nullable File diskDirectory) {
+        this.diskDirectory = diskDirectory;
+    }
+
+    @JsonProperty
+    public DataSize getMaxDiskSize() {
+        return maxDiskSize;
+    }
+
+    @JsonProperty
+    public void setMaxDiskSize(DataSize maxDiskSize) {
+        this.maxDiskSize = maxDiskSize;
+    }
+
+    @JsonIgnore
+    @ValidationMethod(message = ".maxEntrySize must be less than or equal to maxMemorySize")
+    public boolean isEntrySizeValid() {
+        return maxEntrySize.toBytes() <= maxMemorySize.toBytes();
+    }
+}
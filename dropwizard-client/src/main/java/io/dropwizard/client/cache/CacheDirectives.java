@@ -0,0 +1,127 @@
+package io.dropwizard.client.cache;
+
+import org.apache.http.Header;
+import org.apache.http.HeaderElement;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpMessage;
+
+import javax.annotation.Nullable;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code Cache-Control} directives of a request or a response which are relevant to a {@link CachingHttpClient}.
+ */
+final class CacheDirectives {
+    private static final String NO_CACHE = "no-cache";
+
+    private final boolean noStore;
+    private final boolean noCache;
+    private final long maxAge;
+    private final boolean shareable;
+    private final boolean privateOnly;
+
+    private CacheDirectives(boolean noStore, boolean noCache, long maxAge, boolean shareable, boolean privateOnly) {
+        this.noStore = noStore;
+        this.noCache = noCache;
+        this.maxAge = maxAge;
+        this.shareable = shareable;
+        this.privateOnly = privateOnly;
+    }
+
+    /**
+     * Parses the {@code Cache-Control} headers of a message, and the {@code Pragma: no-cache} header if there are none.
+     */
+    static CacheDirectives of(HttpMessage message) {
+        return of(message.getHeaders(HttpHeaders.CACHE_CONTROL), message.getHeaders(HttpHeaders.PRAGMA));
+    }
+
+    /**
+     * Parses {@code Cache-Control} headers, and the {@code Pragma: no-cache} header if there are none.
+     */
+    static CacheDirectives of(Header[] cacheControlHeaders, Header[] pragmaHeaders) {
+        boolean noStore = false;
+        boolean noCache = false;
+        long maxAge = -1;
+        boolean shareable = false;
+        boolean privateOnly = false;
+        for (Header header : cacheControlHeaders) {
+            for (HeaderElement element : header.getElements()) {
+                switch (element.getName().toLowerCase(Locale.ROOT)) {
+                    case "no-store":
+                        noStore = true;
+                        break;
+                    case NO_CACHE:
+                        noCache = true;
+                        break;
+                    case "max-age":
+                        maxAge = parseSeconds(element.getValue());
+                        break;
+                    case "public":
+                    case "s-maxage":
+                    case "must-revalidate":
+                        shareable = true;
+                        break;
+                    case "private":
+                        privateOnly = true;
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+        if (cacheControlHeaders.length == 0) {
+            for (Header header : pragmaHeaders) {
+                noCache |= NO_CACHE.equalsIgnoreCase(header.getValue());
+            }
+        }
+        return new CacheDirectives(noStore, noCache, maxAge, shareable, privateOnly);
+    }
+
+    /**
+     * Parses a number of seconds, like the value of a {@code max-age} directive or an {@code Age} header.
+     *
+     * @return the number of milliseconds, or zero if the value is invalid
+     */
+    static long parseSeconds(@Nullable String value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return TimeUnit.SECONDS.toMillis(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    boolean isNoStore() {
+        return noStore;
+    }
+
+    boolean isNoCache() {
+        return noCache;
+    }
+
+    /**
+     * @return the {@code max-age} in milliseconds, or -1 if there is none
+     */
+    long getMaxAge() {
+        return maxAge;
+    }
+
+    /**
+     * @return whether a response to a request with credentials may be cached, because it has a {@code public}, an
+     * {@code s-maxage} or a {@code must-revalidate} directive
+     */
+    boolean isShareable() {
+        return shareable;
+    }
+
+    /**
+     * @return whether the response has a {@code private} directive, so it's intended for a single user and must not
+     * be stored by a shared cache
+     */
+    boolean isPrivate() {
+        return privateOnly;
+    }
+}
@@ -0,0 +1,240 @@
+package io.dropwizard.client.cache;
+
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpStatus;
+import org.apache.http.ProtocolVersion;
+import org.apache.http.StatusLine;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.utils.DateUtils;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.message.BasicHeader;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.message.BasicStatusLine;
+
+import javax.annotation.Nullable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A cached response, with its freshness computed as described in
+ * <a href="https://tools.ietf.org/html/rfc7234#section-4.2">RFC 7234, section 4.2</a>.
+ */
+final class CacheEntry {
+    /**
+     * The headers which describe the message, or the connection, rather than the cached content, and the cookies
+     * which were set for the user of the request. A {@code Content-Encoding} header is kept, because it's removed by
+     * the client if it decodes the content.
+     */
+    private static final List<String> UNCACHED_HEADERS = Arrays.asList("connection", "keep-alive",
+        "transfer-encoding", "te", "trailer", "upgrade", "content-length", "set-cookie", "set-cookie2");
+
+    private static final int OVERHEAD = 128;
+
+    private final long requestTime;
+    private final long responseTime;
+    private final StatusLine statusLine;
+    private final Header[] headers;
+    private final byte[] body;
+    private final long freshnessLifetime;
+    private final long initialAge;
+
+    CacheEntry(long requestTime, long responseTime, StatusLine statusLine, Header[] headers, byte[] body) {
+        this.requestTime = requestTime;
+        this.responseTime = responseTime;
+        this.statusLine = statusLine;
+        this.headers = cachedHeaders(headers);
+        this.body = body;
+
+        final long dateValue = parseDate(getHeader(HttpHeaders.DATE), responseTime);
+        this.freshnessLifetime = freshnessLifetime(dateValue);
+        final long apparentAge = Math.max(0, responseTime - dateValue);
+        final long correctedAgeValue = CacheDirectives.parseSeconds(getHeader(HttpHeaders.AGE))
+            + (responseTime - requestTime);
+        this.initialAge = Math.max(apparentAge, correctedAgeValue);
+    }
+
+    private long freshnessLifetime(long dateValue) {
+        final CacheDirectives directives = CacheDirectives.of(findHeaders(HttpHeaders.CACHE_CONTROL),
+            findHeaders(HttpHeaders.PRAGMA));
+        if (directives.isNoCache()) {
+            return 0;
+        }
+        if (directives.getMaxAge() >= 0) {
+            return directives.getMaxAge();
+        }
+        return Math.max(0, parseDate(getHeader(HttpHeaders.EXPIRES), dateValue) - dateValue);
+    }
+
+    long getCurrentAge(long now) {
+        return initialAge + Math.max(0, now - responseTime);
+    }
+
+    /**
+     * @param now    the current time
+     * @param maxAge the {@code max-age} of the request, or -1 if it doesn't have one
+     * @return whether the response can be used without revalidation
+     */
+    boolean isFresh(long now, long maxAge) {
+        final long currentAge = getCurrentAge(now);
+        return currentAge < freshnessLifetime && (maxAge < 0 || currentAge <= maxAge);
+    }
+
+    @Nullable
+    String getHeader(String name) {
+        return findHeader(headers, name);
+    }
+
+    /**
+     * @return the lower case names of the request headers which are listed in the {@code Vary} headers
+     */
+    List<String> getVaryHeaderNames() {
+        final List<String> names = new ArrayList<>();
+        for (Header header : findHeaders(HttpHeaders.VARY)) {
+            for (String name : header.getValue().split(",")) {
+                final String trimmed = name.trim().toLowerCase(Locale.ROOT);
+                if (!trimmed.isEmpty() && !names.contains(trimmed)) {
+                    names.add(trimmed);
+                }
+            }
+        }
+        return names;
+    }
+
+    /**
+     * @return whether the response can be revalidated with a conditional request
+     */
+    boolean hasValidator() {
+        return getHeader(HttpHeaders.ETAG) != null || getHeader(HttpHeaders.LAST_MODIFIED) != null;
+    }
+
+    /**
+     * @return the approximate number of bytes used by the entry
+     */
+    long size() {
+        long size = OVERHEAD + body.length;
+        for (Header header : headers) {
+            size += 2L * (header.getName().length() + header.getValue().length());
+        }
+        return size;
+    }
+
+    /**
+     * Updates the entry with the headers of a {@code 304 Not Modified} response, which revalidated it.
+     */
+    CacheEntry revalidated(long requestTime, long responseTime, Header[] notModifiedHeaders) {
+        final List<Header> merged = new ArrayList<>(headers.length + notModifiedHeaders.length);
+        for (Header header : headers) {
+            // the age of the entry is based on the time it was revalidated
+            if (findHeader(notModifiedHeaders, header.getName()) == null
+                && !HttpHeaders.AGE.equalsIgnoreCase(header.getName())) {
+                merged.add(header);
+            }
+        }
+        merged.addAll(Arrays.asList(notModifiedHeaders));
+        return new CacheEntry(requestTime, responseTime, statusLine, merged.toArray(new Header[0]), body);
+    }
+
+    /**
+     * Creates a new response from the entry, with an {@code Age} header.
+     */
+    CloseableHttpResponse toResponse(long now) {
+        final CachedHttpResponse response = new CachedHttpResponse(statusLine);
+        response.setHeaders(headers);
+        response.setHeader(HttpHeaders.AGE, Long.toString(TimeUnit.MILLISECONDS.toSeconds(getCurrentAge(now))));
+        if (statusLine.getStatusCode() != HttpStatus.SC_NO_CONTENT) {
+            final ByteArrayEntity entity = new ByteArrayEntity(body);
+            entity.setContentType(getHeader(HttpHeaders.CONTENT_TYPE));
+            response.setEntity(entity);
+        }
+        return response;
+    }
+
+    void writeTo(DataOutputStream output) throws IOException {
+        output.writeLong(requestTime);
+        output.writeLong(responseTime);
+        final ProtocolVersion protocolVersion = statusLine.getProtocolVersion();
+        output.writeUTF(protocolVersion.getProtocol());
+        output.writeInt(protocolVersion.getMajor());
+        output.writeInt(protocolVersion.getMinor());
+        output.writeInt(statusLine.getStatusCode());
+        output.writeUTF(statusLine.getReasonPhrase() == null ? "" : statusLine.getReasonPhrase());
+        output.writeInt(headers.length);
+        for (Header header : headers) {
+            output.writeUTF(header.getName());
+            output.writeUTF(header.getValue());
+        }
+        output.writeInt(body.length);
+        output.write(body);
+    }
+
+    static CacheEntry readFrom(DataInputStream input) throws IOException {
+        final long requestTime = input.readLong();
+        final long responseTime = input.readLong();
+        final ProtocolVersion protocolVersion = new ProtocolVersion(input.readUTF(), input.readInt(), input.readInt());
+        final StatusLine statusLine = new BasicStatusLine(protocolVersion, input.readInt(), input.readUTF());
+        final Header[] headers = new Header[input.readInt()];
+        for (int i = 0; i < headers.length; i++) {
+            headers[i] = new BasicHeader(input.readUTF(), input.readUTF());
+        }
+        final byte[] body = new byte[input.readInt()];
+        input.readFully(body);
+        return new CacheEntry(requestTime, responseTime, statusLine, headers, body);
+    }
+
+    private static Header[] cachedHeaders(Header[] headers) {
+        final List<Header> cached = new ArrayList<>(headers.length);
+        for (Header header : headers) {
+            if (!UNCACHED_HEADERS.contains(header.getName().toLowerCase(Locale.ROOT))) {
+                cached.add(header);
+            }
+        }
+        return cached.toArray(new Header[0]);
+    }
+
+    private Header[] findHeaders(String name) {
+        final List<Header> found = new ArrayList<>(1);
+        for (Header header : headers) {
+            if (header.getName().equalsIgnoreCase(name)) {
+                found.add(header);
+            }
+        }
+        return found.toArray(new Header[0]);
+    }
+
+    @Nullable
+    private static String findHeader(Header[] headers, String name) {
+        for (Header header : headers) {
+            if (header.getName().equalsIgnoreCase(name)) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static long parseDate(@Nullable String value, long defaultValue) {
+        final Date date = value == null ? null : DateUtils.parseDate(value);
+        return date == null ? defaultValue : date.getTime();
+    }
+
+    /**
+     * A response which doesn't hold a connection.
+     */
+    private static class CachedHttpResponse extends BasicHttpResponse implements CloseableHttpResponse {
+        private CachedHttpResponse(StatusLine statusLine) {
+            super(statusLine);
+        }
+
+        @Override
+        public void close() {
+            // there is nothing to release
+        }
+    }
+}
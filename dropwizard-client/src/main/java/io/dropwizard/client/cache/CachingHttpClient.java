@@ -0,0 +1,367 @@
+package io.dropwizard.client.cache;
+
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpHead;
+import org.apache.http.client.methods.HttpOptions;
+import org.apache.http.client.methods.HttpTrace;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.cookie.SM;
+import org.apache.http.entity.BasicHttpEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.BasicHttpContext;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpCoreContext;
+import org.apache.http.util.EntityUtils;
+
+import javax.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * A {@link CloseableHttpClient} which caches the responses of another client in process, as a shared cache
+ * described by <a href="https://tools.ietf.org/html/rfc7234">RFC 7234</a>, since it serves the requests of any user of
+ * the client.
+ * <p>
+ * Responses to {@code GET} requests are cached if they have a {@code max-age}, an {@code Expires}, an {@code ETag}
+ * or a {@code Last-Modified} header, and are not larger than {@link CacheConfiguration#getMaxEntrySize()}. A
+ * cached response is served while it's fresh, and revalidated with a conditional request, with an
+ * {@code If-None-Match} or an {@code If-Modified-Since} header, when it's stale. The {@code Vary} header of a
+ * response selects the request headers which must match to serve it. Responses with a {@code private} directive are
+ * never cached. Responses to requests with credentials, an {@code Authorization} header or cookies, are only cached
+ * if they have a {@code public}, an {@code s-maxage} or a {@code must-revalidate} directive. The cookies set by a
+ * response are only passed to the caller of the request, and never cached.
+ * </p>
+ * <p>
+ * The {@code no-store}, {@code no-cache} and {@code max-age} directives of requests are honoured, conditional and
+ * range requests are passed through, and successful unsafe requests invalidate the responses cached for their URI.
+ * </p>
+ * <p>
+ * The requests are counted by the {@code cache-hits}, {@code cache-misses} and {@code cache-revalidations} meters of
+ * {@link HttpClient}.
+ * </p>
+ *
+ * @since 2.1
+ */
+public class CachingHttpClient extends CloseableHttpClient {
+    private static final Set<Integer> CACHEABLE_STATUS_CODES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+        HttpStatus.SC_OK, HttpStatus.SC_NON_AUTHORITATIVE_INFORMATION, HttpStatus.SC_NO_CONTENT,
+        HttpStatus.SC_MULTIPLE_CHOICES, HttpStatus.SC_MOVED_PERMANENTLY, HttpStatus.SC_NOT_FOUND, HttpStatus.SC_GONE)));
+
+    private static final List<String> SAFE_METHODS = Arrays.asList(HttpGet.METHOD_NAME, HttpHead.METHOD_NAME,
+        HttpOptions.METHOD_NAME, HttpTrace.METHOD_NAME);
+
+    private static final List<String> CONDITIONAL_HEADERS = Arrays.asList(HttpHeaders.IF_NONE_MATCH,
+        HttpHeaders.IF_MODIFIED_SINCE, HttpHeaders.IF_MATCH, HttpHeaders.IF_UNMODIFIED_SINCE, HttpHeaders.IF_RANGE,
+        HttpHeaders.RANGE);
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final CloseableHttpClient client;
+    private final ResponseCache cache;
+    private final long maxEntrySize;
+    private final Clock clock;
+    private final Meter hits;
+    private final Meter misses;
+    private final Meter revalidations;
+
+    /**
+     * @param client         the client which executes the requests
+     * @param configuration  the configuration of the cache
+     * @param metricRegistry the registry of the meters
+     * @param name           the name of the client
+     */
+    public CachingHttpClient(CloseableHttpClient client, CacheConfiguration configuration,
+                             MetricRegistry metricRegistry, String name) {
+        this(client, configuration, metricRegistry, name, Clock.defaultClock());
+    }
+
+    CachingHttpClient(CloseableHttpClient client, CacheConfiguration configuration, MetricRegistry metricRegistry,
+                      String name, Clock clock) {
+        this.client = client;
+        this.cache = new ResponseCache(configuration.getMaxMemorySize().toBytes(),
+            createDiskStore(configuration, name));
+        this.maxEntrySize = configuration.getMaxEntrySize().toBytes();
+        this.clock = clock;
+        this.hits = metricRegistry.meter(name(HttpClient.class, name, "cache-hits"));
+        this.misses = metricRegistry.meter(name(HttpClient.class, name, "cache-misses"));
+        this.revalidations = metricRegistry.meter(name(HttpClient.class, name, "cache-revalidations"));
+    }
+
+    @Nullable
+    private static DiskStore createDiskStore(CacheConfiguration configuration, String name) {
+        final File diskDirectory = configuration.getDiskDirectory();
+        if (diskDirectory == null) {
+            return null;
+        }
+        try {
+            final Path directory = Files.createDirectories(diskDirectory.toPath());
+            // every client owns a directory, which is deleted when it's closed
+            return new DiskStore(Files.createTempDirectory(directory, name + "-"),
+                configuration.getMaxDiskSize().toBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to create a cache directory in " + diskDirectory, e);
+        }
+    }
+
+    @Override
+    protected CloseableHttpResponse doExecute(@Nullable HttpHost target, HttpRequest request,
+                                              @Nullable HttpContext context) throws IOException {
+        final String method = request.getRequestLine().getMethod();
+        final String uri = uriOf(target, request);
+        if (!HttpGet.METHOD_NAME.equals(method)) {
+            final CloseableHttpResponse response = client.execute(target, request, context);
+            final int status = response.getStatusLine().getStatusCode();
+            if (!SAFE_METHODS.contains(method) && status >= HttpStatus.SC_OK && status < HttpStatus.SC_BAD_REQUEST) {
+                cache.invalidate(uri);
+            }
+            return response;
+        }
+
+        final CacheDirectives directives = CacheDirectives.of(request);
+        if (directives.isNoStore() || isConditional(request)) {
+            misses.mark();
+            return client.execute(target, request, context);
+        }
+
+        final CacheEntry entry = cache.get(uri, request);
+        final long now = clock.getTime();
+        if (entry == null) {
+            misses.mark();
+            return fetch(target, request, context, uri);
+        }
+        if (!directives.isNoCache() && entry.isFresh(now, directives.getMaxAge())) {
+            hits.mark();
+            return entry.toResponse(now);
+        }
+        if (!entry.hasValidator()) {
+            misses.mark();
+            return fetch(target, request, context, uri);
+        }
+        revalidations.mark();
+        return revalidate(target, request, context, uri, entry);
+    }
+
+    private CloseableHttpResponse fetch(@Nullable HttpHost target, HttpRequest request, @Nullable HttpContext context,
+                                        String uri) throws IOException {
+        // the context tells which request was sent, after the client added the cookies of its cookie store
+        final HttpContext fetchContext = context == null ? new BasicHttpContext() : context;
+        final long requestTime = clock.getTime();
+        final CloseableHttpResponse response = client.execute(target, request, fetchContext);
+        return store(uri, request, response, requestTime, clock.getTime(), hasCredentials(request, fetchContext));
+    }
+
+    private CloseableHttpResponse revalidate(@Nullable HttpHost target, HttpRequest request,
+                                             @Nullable HttpContext context, String uri,
+                                             CacheEntry entry) throws IOException {
+        // a copy keeps the request configuration, unlike a wrapper
+        final RequestBuilder conditional = RequestBuilder.copy(request);
+        final String etag = entry.getHeader(HttpHeaders.ETAG);
+        if (etag != null) {
+            conditional.setHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        }
+        final String lastModified = entry.getHeader(HttpHeaders.LAST_MODIFIED);
+        if (lastModified != null) {
+            conditional.setHeader(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+        }
+
+        final HttpContext revalidationContext = context == null ? new BasicHttpContext() : context;
+        final long requestTime = clock.getTime();
+        final CloseableHttpResponse response = client.execute(target, conditional.build(), revalidationContext);
+        final long responseTime = clock.getTime();
+        if (response.getStatusLine().getStatusCode() != HttpStatus.SC_NOT_MODIFIED) {
+            return store(uri, request, response, requestTime, responseTime,
+                hasCredentials(request, revalidationContext));
+        }
+        try {
+            EntityUtils.consume(response.getEntity());
+        } finally {
+            response.close();
+        }
+        final CacheEntry revalidated = entry.revalidated(requestTime, responseTime, response.getAllHeaders());
+        cache.put(uri, request, revalidated);
+        return withCookies(revalidated.toResponse(responseTime), response);
+    }
+
+    /**
+     * Caches the response if it's cacheable, and returns a response which can be read by the caller.
+     */
+    private CloseableHttpResponse store(String uri, HttpRequest request, CloseableHttpResponse response,
+                                        long requestTime, long responseTime, boolean credentials) throws IOException {
+        if (!isCacheable(response, credentials)) {
+            return response;
+        }
+
+        final HttpEntity entity = response.getEntity();
+        final byte[] body;
+        if (entity == null) {
+            body = new byte[0];
+        } else if (entity.getContentLength() > maxEntrySize) {
+            return response;
+        } else {
+            final ByteArrayOutputStream buffer = new ByteArrayOutputStream(
+                (int) Math.min(BUFFER_SIZE, Math.max(entity.getContentLength(), 0)));
+            final InputStream content = entity.getContent();
+            try {
+                final byte[] chunk = new byte[BUFFER_SIZE];
+                while (buffer.size() <= maxEntrySize) {
+                    final int read = content.read(chunk, 0, (int) Math.min(chunk.length, maxEntrySize + 1 - buffer.size()));
+                    if (read < 0) {
+                        break;
+                    }
+                    buffer.write(chunk, 0, read);
+                }
+            } catch (IOException e) {
+                response.close();
+                throw e;
+            }
+            if (buffer.size() > maxEntrySize) {
+                // the response is too large to be cached, so the caller reads the rest of it
+                response.setEntity(prepend(buffer.toByteArray(), content, entity));
+                return response;
+            }
+            body = buffer.toByteArray();
+        }
+        response.close();
+
+        final CacheEntry entry = new CacheEntry(requestTime, responseTime, response.getStatusLine(),
+            response.getAllHeaders(), body);
+        cache.put(uri, request, entry);
+        return withCookies(entry.toResponse(responseTime), response);
+    }
+
+    /**
+     * Adds the cookies which the server set for the user of the request to the response served to it, as they
+     * aren't cached.
+     */
+    private static CloseableHttpResponse withCookies(CloseableHttpResponse cached, HttpResponse response) {
+        for (Header header : response.getHeaders(SM.SET_COOKIE)) {
+            cached.addHeader(header);
+        }
+        for (Header header : response.getHeaders(SM.SET_COOKIE2)) {
+            cached.addHeader(header);
+        }
+        return cached;
+    }
+
+    private static boolean isCacheable(CloseableHttpResponse response, boolean credentials) {
+        if (!CACHEABLE_STATUS_CODES.contains(response.getStatusLine().getStatusCode())) {
+            return false;
+        }
+        final CacheDirectives directives = CacheDirectives.of(response);
+        // the client might send the requests of several users, so it's shared like a proxy (RFC 7234, section 3.2)
+        if (directives.isNoStore() || directives.isPrivate()) {
+            return false;
+        }
+        if (credentials && !directives.isShareable()) {
+            return false;
+        }
+        for (Header vary : response.getHeaders(HttpHeaders.VARY)) {
+            if (vary.getValue().trim().equals("*")) {
+                return false;
+            }
+        }
+        return directives.getMaxAge() >= 0
+            || response.containsHeader(HttpHeaders.EXPIRES)
+            || response.containsHeader(HttpHeaders.ETAG)
+            || response.containsHeader(HttpHeaders.LAST_MODIFIED);
+    }
+
+    /**
+     * Returns whether the request carries credentials, an {@code Authorization} header or cookies, including the
+     * cookies which the client added to the sent request from its cookie store.
+     */
+    private static boolean hasCredentials(HttpRequest request, HttpContext context) {
+        final HttpRequest sent = HttpCoreContext.adapt(context).getRequest();
+        return hasCredentials(request) || (sent != null && hasCredentials(sent));
+    }
+
+    private static boolean hasCredentials(HttpRequest request) {
+        return request.containsHeader(HttpHeaders.AUTHORIZATION) || request.containsHeader(SM.COOKIE);
+    }
+
+    private static boolean isConditional(HttpRequest request) {
+        for (String header : CONDITIONAL_HEADERS) {
+            if (request.containsHeader(header)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static HttpEntity prepend(byte[] prefix, InputStream content, HttpEntity entity) {
+        final BasicHttpEntity prepended = new BasicHttpEntity();
+        prepended.setContent(new SequenceInputStream(new ByteArrayInputStream(prefix), content));
+        prepended.setContentLength(entity.getContentLength());
+        prepended.setContentType(entity.getContentType());
+        prepended.setContentEncoding(entity.getContentEncoding());
+        prepended.setChunked(entity.isChunked());
+        return prepended;
+    }
+
+    private static String uriOf(@Nullable HttpHost target, HttpRequest request) {
+        if (request instanceof HttpUriRequest) {
+            final URI uri = ((HttpUriRequest) request).getURI();
+            if (uri.isAbsolute()) {
+                return uri.toASCIIString();
+            }
+        }
+        final String uri = request.getRequestLine().getUri();
+        return target == null || !uri.startsWith("/") ? uri : target.toURI() + uri;
+    }
+
+    /**
+     * Closes the client, and removes the cached responses.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            client.close();
+        } finally {
+            cache.clear();
+        }
+    }
+
+    @Override
+    @Deprecated
+    @SuppressWarnings("deprecation")
+    public HttpParams getParams() {
+        return client.getParams();
+    }
+
+    @Override
+    @Deprecated
+    @SuppressWarnings("deprecation")
+    public ClientConnectionManager getConnectionManager() {
+        return client.getConnectionManager();
+    }
+}
@@ -0,0 +1,162 @@
+package io.dropwizard.client.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stores the cache entries evicted from memory in the files of a directory, which is owned by the store. The least
+ * recently used entries are deleted when the files exceed the maximum size.
+ * <p>
+ * The files are written and read without holding the lock of the store, so an entry may not be found while it's
+ * being written.
+ * </p>
+ */
+final class DiskStore {
+    private static final Logger log = LoggerFactory.getLogger(DiskStore.class);
+
+    private final Path directory;
+    private final long maxSize;
+    private final LinkedHashMap<String, StoredFile> files = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+    private long nextId;
+
+    DiskStore(Path directory, long maxSize) {
+        this.directory = directory;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Writes an entry, which replaces any entry stored with the same key.
+     *
+     * @return the keys of the entries which have been deleted to make room for the new entry
+     */
+    List<String> write(String key, CacheEntry entry) {
+        final Path file;
+        synchronized (this) {
+            file = directory.resolve(nextId++ + ".entry");
+        }
+
+        final long fileSize;
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            entry.writeTo(output);
+            fileSize = output.size();
+        } catch (IOException e) {
+            log.warn("Unable to write a cached response to {}", file, e);
+            delete(file);
+            return Collections.emptyList();
+        }
+
+        final List<Path> deleted = new ArrayList<>();
+        final List<String> evicted = new ArrayList<>();
+        synchronized (this) {
+            final StoredFile previous = files.put(key, new StoredFile(file, fileSize));
+            if (previous != null) {
+                size -= previous.size;
+                deleted.add(previous.file);
+            }
+            size += fileSize;
+            for (Iterator<Map.Entry<String, StoredFile>> iterator = files.entrySet().iterator();
+                 size > maxSize && iterator.hasNext(); ) {
+                final Map.Entry<String, StoredFile> eldest = iterator.next();
+                iterator.remove();
+                size -= eldest.getValue().size;
+                deleted.add(eldest.getValue().file);
+                evicted.add(eldest.getKey());
+            }
+        }
+        deleted.forEach(DiskStore::delete);
+        return evicted;
+    }
+
+    /**
+     * Reads and removes an entry.
+     *
+     * @return the entry, or {@code null} if there is none, or it can't be read
+     */
+    @Nullable
+    CacheEntry take(String key) {
+        final StoredFile storedFile;
+        synchronized (this) {
+            storedFile = files.remove(key);
+            if (storedFile == null) {
+                return null;
+            }
+            size -= storedFile.size;
+        }
+
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(
+            Files.newInputStream(storedFile.file)))) {
+            return CacheEntry.readFrom(input);
+        } catch (IOException e) {
+            log.warn("Unable to read a cached response from {}", storedFile.file, e);
+            return null;
+        } finally {
+            delete(storedFile.file);
+        }
+    }
+
+    void remove(String key) {
+        final StoredFile storedFile;
+        synchronized (this) {
+            storedFile = files.remove(key);
+            if (storedFile == null) {
+                return;
+            }
+            size -= storedFile.size;
+        }
+        delete(storedFile.file);
+    }
+
+    synchronized long getSize() {
+        return size;
+    }
+
+    /**
+     * Deletes the entries and the directory.
+     */
+    void clear() {
+        final List<StoredFile> storedFiles;
+        synchronized (this) {
+            storedFiles = new ArrayList<>(files.values());
+            files.clear();
+            size = 0;
+        }
+        for (StoredFile storedFile : storedFiles) {
+            delete(storedFile.file);
+        }
+        delete(directory);
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Unable to delete {}", file, e);
+        }
+    }
+
+    private static class StoredFile {
+        private final Path file;
+        private final long size;
+
+        private StoredFile(Path file, long size) {
+            this.file = file;
+            this.size = size;
+        }
+    }
+}
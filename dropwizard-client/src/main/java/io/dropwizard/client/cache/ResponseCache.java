@@ -0,0 +1,237 @@
+package io.dropwizard.client.cache;
+
+import org.apache.http.Header;
+import org.apache.http.HttpRequest;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The responses cached by a {@link CachingHttpClient}, keyed by their URI and the values of the request headers
+ * which are named by their {@code Vary} header.
+ * <p>
+ * The least recently used entries are evicted when the entries in memory exceed the maximum size, and moved to the
+ * {@link DiskStore} if there is one. An entry which is found on disk is moved back to memory.
+ * </p>
+ */
+final class ResponseCache {
+    private final long maxMemorySize;
+
+    @Nullable
+    private final DiskStore diskStore;
+
+    private final LinkedHashMap<String, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Variants> variantsByUri = new HashMap<>();
+    private long memorySize;
+
+    ResponseCache(long maxMemorySize, @Nullable DiskStore diskStore) {
+        this.maxMemorySize = maxMemorySize;
+        this.diskStore = diskStore;
+    }
+
+    /**
+     * @return the entry which was cached for the URI and the headers of the request, or {@code null} if there is none
+     */
+    @Nullable
+    CacheEntry get(String uri, HttpRequest request) {
+        final String key;
+        synchronized (this) {
+            final Variants variants = variantsByUri.get(uri);
+            if (variants == null) {
+                return null;
+            }
+            key = variants.keyFor(uri, request);
+            final CacheEntry entry = entries.get(key);
+            if (entry != null || diskStore == null) {
+                return entry;
+            }
+        }
+
+        final CacheEntry entry = diskStore.take(key);
+        if (entry != null) {
+            final List<Map.Entry<String, CacheEntry>> evicted;
+            synchronized (this) {
+                final Variants variants = variantsByUri.get(uri);
+                // the entry might have been invalidated while it was read
+                if (variants == null || !variants.keys.contains(key)) {
+                    return null;
+                }
+                evicted = store(key, entry);
+            }
+            spill(evicted);
+        }
+        return entry;
+    }
+
+    /**
+     * Caches the response to a request, which replaces the response cached for the same URI and request headers.
+     */
+    void put(String uri, HttpRequest request, CacheEntry entry) {
+        final List<String> varyHeaderNames = entry.getVaryHeaderNames();
+        final String key;
+        final List<Map.Entry<String, CacheEntry>> evicted;
+        synchronized (this) {
+            Variants variants = variantsByUri.get(uri);
+            if (variants == null || !variants.headerNames.equals(varyHeaderNames)) {
+                // the entries cached with other headers are still removed when the URI is invalidated
+                variants = new Variants(varyHeaderNames, variants == null ? new HashSet<>() : variants.keys);
+                variantsByUri.put(uri, variants);
+            }
+            key = variants.keyFor(uri, request);
+            variants.keys.add(key);
+            evicted = store(key, entry);
+        }
+        if (diskStore != null) {
+            diskStore.remove(key);
+        }
+        spill(evicted);
+    }
+
+    /**
+     * Removes the responses cached for a URI.
+     */
+    void invalidate(String uri) {
+        final Variants variants;
+        synchronized (this) {
+            variants = variantsByUri.remove(uri);
+            if (variants == null) {
+                return;
+            }
+            for (String key : variants.keys) {
+                final CacheEntry entry = entries.remove(key);
+                if (entry != null) {
+                    memorySize -= entry.size();
+                }
+            }
+        }
+        if (diskStore != null) {
+            for (String key : variants.keys) {
+                diskStore.remove(key);
+            }
+        }
+    }
+
+    synchronized long getMemorySize() {
+        return memorySize;
+    }
+
+    /**
+     * Removes all the responses, and deletes the directory of the disk store.
+     */
+    void clear() {
+        synchronized (this) {
+            entries.clear();
+            variantsByUri.clear();
+            memorySize = 0;
+        }
+        if (diskStore != null) {
+            diskStore.clear();
+        }
+    }
+
+    /**
+     * Stores an entry in memory, and evicts the least recently used entries if the memory is exceeded.
+     *
+     * @return the evicted entries
+     */
+    private List<Map.Entry<String, CacheEntry>> store(String key, CacheEntry entry) {
+        final CacheEntry previous = entries.put(key, entry);
+        if (previous != null) {
+            memorySize -= previous.size();
+        }
+        memorySize += entry.size();
+
+        if (memorySize <= maxMemorySize) {
+            return Collections.emptyList();
+        }
+        final List<Map.Entry<String, CacheEntry>> evicted = new ArrayList<>();
+        for (Iterator<Map.Entry<String, CacheEntry>> iterator = entries.entrySet().iterator();
+             memorySize > maxMemorySize && iterator.hasNext(); ) {
+            final Map.Entry<String, CacheEntry> eldest = iterator.next();
+            iterator.remove();
+            memorySize -= eldest.getValue().size();
+            evicted.add(eldest);
+        }
+        if (diskStore == null) {
+            for (Map.Entry<String, CacheEntry> eldest : evicted) {
+                forget(eldest.getKey());
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Moves the evicted entries to disk, if there is a disk store.
+     */
+    private void spill(List<Map.Entry<String, CacheEntry>> evicted) {
+        if (diskStore == null || evicted.isEmpty()) {
+            return;
+        }
+        final List<String> deleted = new ArrayList<>();
+        for (Map.Entry<String, CacheEntry> entry : evicted) {
+            deleted.addAll(diskStore.write(entry.getKey(), entry.getValue()));
+        }
+        if (!deleted.isEmpty()) {
+            synchronized (this) {
+                deleted.forEach(this::forget);
+            }
+        }
+    }
+
+    /**
+     * Removes the key of an entry which is no longer cached from the variants of its URI.
+     */
+    private void forget(String key) {
+        if (entries.containsKey(key)) {
+            return;
+        }
+        final String uri = Variants.uriOf(key);
+        final Variants variants = variantsByUri.get(uri);
+        if (variants != null) {
+            variants.keys.remove(key);
+            if (variants.keys.isEmpty()) {
+                variantsByUri.remove(uri);
+            }
+        }
+    }
+
+    /**
+     * The names of the headers which select the response cached for a URI, and the keys of the cached responses.
+     */
+    private static class Variants {
+        private final List<String> headerNames;
+        private final Set<String> keys;
+
+        private Variants(List<String> headerNames, Set<String> keys) {
+            this.headerNames = headerNames;
+            this.keys = keys;
+        }
+
+        private String keyFor(String uri, HttpRequest request) {
+            if (headerNames.isEmpty()) {
+                return uri;
+            }
+            final StringBuilder key = new StringBuilder(uri);
+            for (String headerName : headerNames) {
+                key.append('\n').append(headerName).append(':');
+                for (Header header : request.getHeaders(headerName)) {
+                    key.append(header.getValue()).append(',');
+                }
+            }
+            return key.toString();
+        }
+
+        private static String uriOf(String key) {
+            final int end = key.indexOf('\n');
+            return end < 0 ? key : key.substring(0, end);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package io.dropwizard.client;
+
+import com.codahale.metrics.Gauge;
+import io.dropwizard.Application;
+import io.dropwizard.Configuration;
+import io.dropwizard.client.ssl.TlsConfiguration;
+import io.dropwizard.setup.Environment;
+import io.dropwizard.testing.ConfigOverride;
+import io.dropwizard.testing.ResourceHelpers;
+import io.dropwizard.testing.junit5.DropwizardAppExtension;
+import io.dropwizard.testing.junit5.DropwizardExtensionsSupport;
+import io.dropwizard.util.Duration;
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.http.HttpVersion;
+import org.eclipse.jetty.util.component.LifeCycle;
+import org.glassfish.jersey.client.JerseyClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.codahale.metrics.MetricRegistry.name;
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(DropwizardExtensionsSupport.class)
+class DropwizardJettyConnectorHttp2Test {
+
+    private static final int SLEEP_TIME_IN_MILLIS = 200;
+
+    private static final DropwizardAppExtension<Configuration> APP_RULE = new DropwizardAppExtension<>(
+            TestApplication.class,
+            ResourceHelpers.resourceFilePath("yaml/dropwizardJettyConnectorHttp2Test.yml"),
+            "http2",
+            ConfigOverride.config("http2", "server.applicationConnectors[1].keyStorePath",
+                ResourceHelpers.resourceFilePath("stores/server/keycert.p12")));
+
+    private final JerseyClientConfiguration clientConfiguration = new JerseyClientConfiguration();
+    private final Environment environment = new Environment("test-dropwizard-jetty-connector-http2");
+
+    @BeforeEach
+    void setup() {
+        final TlsConfiguration tlsConfiguration = new TlsConfiguration();
+        tlsConfiguration.setTrustStorePath(new File(ResourceHelpers.resourceFilePath("stores/server/ca_truststore.ts")));
+        tlsConfiguration.setTrustStorePassword("password");
+        tlsConfiguration.setVerifyHostname(false);
+
+        clientConfiguration.setConnector(JerseyClientConfiguration.ConnectorType.HTTP2);
+        clientConfiguration.setTlsConfiguration(tlsConfiguration);
+        clientConfiguration.setTimeout(Duration.seconds(5));
+        clientConfiguration.setConnectionTimeout(Duration.seconds(2));
+        clientConfiguration.setMaxConnectionsPerRoute(4);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (LifeCycle lifeCycle : environment.lifecycle().getManagedObjects()) {
+            lifeCycle.stop();
+        }
+        assertThat(environment.metrics().getGauges()).isEmpty();
+    }
+
+    @Test
+    void uses_the_http2_transport() throws Exception {
+        final HttpClient client = new JettyClientFactory(clientConfiguration, environment.metrics(), null, "test")
+            .build("test");
+        try {
+            assertThat(client.GET(h2cUri("/hello")).getVersion()).isEqualTo(HttpVersion.HTTP_2);
+            assertThat(client.GET(h2Uri("/hello")).getVersion()).isEqualTo(HttpVersion.HTTP_2);
+        } finally {
+            client.stop();
+        }
+    }
+
+    @Test
+    void sends_requests_over_h2c() throws Exception {
+        assertThat(setupClient().target(h2cUri("/hello")).request().get(String.class)).isEqualTo("hello");
+    }
+
+    @Test
+    void sends_requests_over_h2() throws Exception {
+        assertThat(setupClient().target(h2Uri("/hello")).request().get(String.class)).isEqualTo("hello");
+    }
+
+    @Test
+    void multiplexes_concurrent_requests_over_one_connection() throws Exception {
+        assertThat(sendConcurrently(setupClient(), h2cUri("/long_running"), 8)).containsOnly("success");
+
+        assertThat(gauge("connections").getValue()).isEqualTo(1);
+        assertThat(gauge("idle-connections").getValue()).isEqualTo(1);
+        assertThat(gauge("active-connections").getValue()).isZero();
+        assertThat(gauge("pending-connections").getValue()).isZero();
+    }
+
+    @Test
+    void opens_more_connections_if_the_streams_of_a_connection_are_exhausted() throws Exception {
+        clientConfiguration.setMaxConcurrentStreams(2);
+        assertThat(sendConcurrently(setupClient(), h2cUri("/long_running"), 8)).containsOnly("success");
+
+        assertThat(gauge("connections").getValue()).isEqualTo(4);
+    }
+
+    @Test
+    void keeps_the_gauges_of_clients_with_the_same_name() throws Exception {
+        final JettyClientFactory factory = new JettyClientFactory(clientConfiguration, environment.metrics(), null,
+            "test");
+        final HttpClient client = factory.build("test");
+        final Gauge<Integer> connections = gauge("connections");
+        final HttpClient otherClient = factory.build("test");
+        try {
+            assertThat(otherClient.GET(h2cUri("/hello")).getVersion()).isEqualTo(HttpVersion.HTTP_2);
+            assertThat(gauge("connections")).isSameAs(connections);
+
+            otherClient.stop();
+            assertThat(gauge("connections")).isSameAs(connections);
+        } finally {
+            client.stop();
+        }
+        assertThat(environment.metrics().getGauges()).isEmpty();
+    }
+
+    private List<String> sendConcurrently(JerseyClient client, String uri, int requests) throws Exception {
+        final List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            futures.add(client.target(uri).request().async().get(String.class));
+        }
+        final List<String> responses = new ArrayList<>();
+        for (Future<String> future : futures) {
+            responses.add(future.get(5, TimeUnit.SECONDS));
+        }
+        return responses;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Gauge<Integer> gauge(String name) {
+        return requireNonNull(environment.metrics().getGauges().get(name(HttpClient.class, "test", name)));
+    }
+
+    private static String h2cUri(String path) {
+        return "http://localhost:" + APP_RULE.getPort(0) + path;
+    }
+
+    private static String h2Uri(String path) {
+        return "https://localhost:" + APP_RULE.getPort(1) + path;
+    }
+
+    private JerseyClient setupClient() throws Exception {
+        final JerseyClient client = (JerseyClient) new JerseyClientBuilder(environment)
+                .using(clientConfiguration)
+                .build("test");
+        for (LifeCycle lifeCycle : environment.lifecycle().getManagedObjects()) {
+            lifeCycle.start();
+        }
+        return client;
+    }
+
+    @Path("/")
+    public static class TestResource {
+
+        @GET
+        @Path("/hello")
+        public String hello() {
+            return "hello";
+        }
+
+        @GET
+        @Path("/long_running")
+        public String getWithSleep() throws InterruptedException {
+            TimeUnit.MILLISECONDS.sleep(SLEEP_TIME_IN_MILLIS);
+            return "success";
+        }
+    }
+
+    public static class TestApplication extends Application<Configuration> {
+        @Override
+        public void run(Configuration configuration, Environment environment) {
+            environment.jersey().register(TestResource.class);
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package io.dropwizard.client;
+
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.Application;
+import io.dropwizard.Configuration;
+import io.dropwizard.jackson.Jackson;
+import io.dropwizard.setup.Environment;
+import io.dropwizard.testing.ResourceHelpers;
+import io.dropwizard.testing.junit5.DropwizardAppExtension;
+import io.dropwizard.testing.junit5.DropwizardExtensionsSupport;
+import io.dropwizard.util.DataSize;
+import io.dropwizard.util.Duration;
+import io.dropwizard.util.Strings;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.HttpClient;
+import org.eclipse.jetty.util.component.LifeCycle;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.JerseyClient;
+import org.glassfish.jersey.client.spi.Connector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.Invocation;
+import javax.ws.rs.core.Response;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.codahale.metrics.MetricRegistry.name;
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@ExtendWith(DropwizardExtensionsSupport.class)
+class DropwizardJettyConnectorTest {
+
+    private static final int SLEEP_TIME_IN_MILLIS = 1000;
+    private static final int DEFAULT_TIMEOUT_IN_MILLIS = 500;
+
+    private static final DropwizardAppExtension<Configuration> APP_RULE = new DropwizardAppExtension<>(
+            TestApplication.class,
+            ResourceHelpers.resourceFilePath("yaml/dropwizardJettyConnectorTest.yml"));
+
+    private final URI testUri = URI.create("http://localhost:" + APP_RULE.getLocalPort());
+
+    private final JerseyClientConfiguration clientConfiguration = new JerseyClientConfiguration();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private JerseyClient client;
+    private Environment environment;
+
+    @BeforeEach
+    void setup() throws Exception {
+        clientConfiguration.setConnector(JerseyClientConfiguration.ConnectorType.JETTY);
+        clientConfiguration.setTimeout(Duration.milliseconds(DEFAULT_TIMEOUT_IN_MILLIS));
+        clientConfiguration.setMinThreads(1);
+        clientConfiguration.setMaxThreads(1);
+        clientConfiguration.setMaxBufferedResponseSize(DataSize.kibibytes(64));
+        setupClient();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        executor.shutdownNow();
+        for (LifeCycle lifeCycle : environment.lifecycle().getManagedObjects()) {
+            lifeCycle.stop();
+        }
+        assertThat(client.isClosed()).isTrue();
+    }
+
+    @Test
+    void uses_the_jetty_connector() {
+        assertThat(client.target(testUri + "/hello").request().get(String.class)).isEqualTo("hello");
+        assertThat(client.getConfiguration().getConnector()).isInstanceOf(DropwizardJettyConnector.class);
+    }
+
+    @Test
+    void when_no_read_timeout_override_then_client_request_times_out() {
+        Invocation.Builder request = client.target(testUri + "/long_running").request();
+        assertThatExceptionOfType(ProcessingException.class)
+            .isThrownBy(request::get)
+            .withCauseInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    void when_read_timeout_override_created_then_client_requests_completes_successfully() {
+        assertThat(client.target(testUri + "/long_running")
+                .property(ClientProperties.READ_TIMEOUT, SLEEP_TIME_IN_MILLIS * 2)
+                .request()
+                .get()
+                .getStatus())
+            .isEqualTo(200);
+    }
+
+    @Test
+    void when_no_override_then_redirected_request_successfully_redirected() {
+        assertThat(client.target(testUri + "/redirect")
+                        .request()
+                        .get(String.class)
+        ).isEqualTo("redirected");
+    }
+
+    @Test
+    void when_configuration_overridden_to_disallow_redirects_temporary_redirect_status_returned() {
+        assertThat(client.target(testUri + "/redirect")
+                        .property(ClientProperties.FOLLOW_REDIRECTS, false)
+                        .request()
+                        .get(Response.class)
+                        .getStatus()
+        ).isEqualTo(HttpStatus.SC_TEMPORARY_REDIRECT);
+    }
+
+    @Test
+    void sends_chunked_entities() {
+        final String entity = Strings.repeat("chunked", 1000);
+        assertThat(client.target(testUri + "/echo").request().post(Entity.text(entity), String.class))
+            .isEqualTo(entity);
+    }
+
+    @Test
+    void sends_buffered_entities() throws Exception {
+        tearDown();
+        clientConfiguration.setChunkedEncodingEnabled(false);
+        clientConfiguration.setGzipEnabledForRequests(false);
+        setupClient();
+
+        assertThat(client.target(testUri + "/echo").request().post(Entity.text("buffered"), String.class))
+            .isEqualTo("buffered");
+    }
+
+    @Test
+    void asynchronous_requests_do_not_wait_for_a_thread_of_the_pool() throws Exception {
+        final List<Future<String>> responses = new ArrayList<>();
+        final long start = System.nanoTime();
+        for (int i = 0; i < 4; i++) {
+            responses.add(client.target(testUri + "/long_running")
+                .property(ClientProperties.READ_TIMEOUT, SLEEP_TIME_IN_MILLIS * 2)
+                .request()
+                .async()
+                .get(String.class));
+        }
+        for (Future<String> response : responses) {
+            assertThat(response.get(5, TimeUnit.SECONDS)).isEqualTo("success");
+        }
+
+        // with a blocking connector, the single thread of the pool would run the requests one after another
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(SLEEP_TIME_IN_MILLIS * 3L);
+    }
+
+    @Test
+    void asynchronous_requests_read_compressed_responses() throws Exception {
+        assertThat(client.target(testUri + "/large").queryParam("size", 10_000).request().async().get(String.class)
+            .get(5, TimeUnit.SECONDS))
+            .hasSize(10_000);
+    }
+
+    @Test
+    void asynchronous_requests_fail_if_the_response_is_too_large_to_buffer() {
+        final Future<String> response = client.target(testUri + "/large").queryParam("size", 1_000_000)
+            .request().header("Accept-Encoding", "identity").async().get(String.class);
+        assertThatExceptionOfType(ExecutionException.class)
+            .isThrownBy(() -> response.get(5, TimeUnit.SECONDS))
+            .withRootCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void times_the_requests() throws Exception {
+        client.target(testUri + "/hello").request().get(String.class);
+        client.target(testUri + "/hello").request().async().get(String.class).get(5, TimeUnit.SECONDS);
+
+        assertThat(environment.metrics().timer(name(HttpClient.class, "test", "get-requests")).getCount())
+            .isEqualTo(2);
+    }
+
+    @Test
+    void maps_the_connection_limits_of_the_configuration() {
+        clientConfiguration.setMaxConnections(16);
+        clientConfiguration.setMaxConnectionsPerRoute(32);
+        clientConfiguration.setMaxQueuedRequestsPerRoute(8);
+        final JerseyClient otherClient = buildClientWithoutEnvironment();
+        try {
+            assertThat(otherClient.target(testUri + "/hello").request().get(String.class)).isEqualTo("hello");
+            final org.eclipse.jetty.client.HttpClient jettyClient = jettyClient(otherClient);
+            assertThat(jettyClient.getMaxConnectionsPerDestination()).isEqualTo(16);
+            assertThat(jettyClient.getMaxRequestsQueuedPerDestination()).isEqualTo(8);
+        } finally {
+            otherClient.close();
+        }
+    }
+
+    @Test
+    void stops_the_jetty_client_without_an_environment() {
+        final JerseyClient otherClient = buildClientWithoutEnvironment();
+        assertThat(otherClient.target(testUri + "/hello").request().get(String.class)).isEqualTo("hello");
+        final org.eclipse.jetty.client.HttpClient jettyClient = jettyClient(otherClient);
+        assertThat(jettyClient.isRunning()).isTrue();
+
+        otherClient.close();
+        assertThat(jettyClient.isStopped()).isTrue();
+    }
+
+    @Test
+    void does_not_stop_the_jetty_client_of_an_environment() {
+        assertThat(client.target(testUri + "/hello").request().get(String.class)).isEqualTo("hello");
+        final org.eclipse.jetty.client.HttpClient jettyClient = jettyClient(client);
+
+        client.close();
+        assertThat(jettyClient.isRunning()).isTrue();
+    }
+
+    private JerseyClient buildClientWithoutEnvironment() {
+        return (JerseyClient) new JerseyClientBuilder(new MetricRegistry())
+                .using(clientConfiguration)
+                .using(executor, Jackson.newObjectMapper())
+                .build("other");
+    }
+
+    private static org.eclipse.jetty.client.HttpClient jettyClient(JerseyClient client) {
+        final Connector connector = requireNonNull(client.getConfiguration().getConnector());
+        assertThat(connector).isInstanceOf(DropwizardJettyConnector.class);
+        return ((DropwizardJettyConnector) connector).getHttpClient();
+    }
+
+    private void setupClient() throws Exception {
+        environment = new Environment("test-dropwizard-jetty-connector");
+        client = (JerseyClient) new JerseyClientBuilder(environment)
+                .using(clientConfiguration)
+                .build("test");
+        for (LifeCycle lifeCycle : environment.lifecycle().getManagedObjects()) {
+            lifeCycle.start();
+        }
+    }
+
+    @Path("/")
+    public static class TestResource {
+
+        @GET
+        @Path("/hello")
+        public String hello() {
+            return "hello";
+        }
+
+        @GET
+        @Path("/long_running")
+        public String getWithSleep() throws InterruptedException {
+            TimeUnit.MILLISECONDS.sleep(SLEEP_TIME_IN_MILLIS);
+            return "success";
+        }
+
+        @GET
+        @Path("/large")
+        public String large(@QueryParam("size") int size) {
+            return Strings.repeat("a", size);
+        }
+
+        @POST
+        @Path("/echo")
+        public String echo(String entity) {
+            return entity;
+        }
+
+        @GET
+        @Path("redirect")
+        public Response getWithRedirect() {
+            return Response.temporaryRedirect(URI.create("/redirected")).build();
+        }
+
+        @GET
+        @Path("redirected")
+        public String redirectedGet() {
+            return "redirected";
+        }
+    }
+
+    public static class TestApplication extends Application<Configuration> {
+        @Override
+        public void run(Configuration configuration, Environment environment) {
+            environment.jersey().register(TestResource.class);
+        }
+    }
+}
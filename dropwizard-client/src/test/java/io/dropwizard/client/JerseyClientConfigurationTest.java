@@ -3,6 +3,7 @@ package io.dropwizard.client;
 import io.dropwizard.configuration.YamlConfigurationFactory;
 import io.dropwizard.jackson.Jackson;
 import io.dropwizard.jersey.validation.Validators;
+import io.dropwizard.util.DataSize;
 import io.dropwizard.util.Resources;
 import org.junit.jupiter.api.Test;
 
@@ -23,5 +24,14 @@ class JerseyClientConfigurationTest {
         assertThat(configuration.isGzipEnabled()).isFalse();
         assertThat(configuration.isGzipEnabledForRequests()).isFalse();
         assertThat(configuration.isChunkedEncodingEnabled()).isFalse();
+        assertThat(configuration.getConnector()).isEqualTo(JerseyClientConfiguration.ConnectorType.HTTP2);
+        assertThat(configuration.getMaxBufferedResponseSize()).isEqualTo(DataSize.mebibytes(1));
+        assertThat(configuration.getMaxConcurrentStreams()).isEqualTo(256);
+        assertThat(configuration.getMaxQueuedRequestsPerRoute()).isEqualTo(512);
+        assertThat(configuration.getCacheConfiguration()).satisfies(cache -> {
+            assertThat(cache.getMaxMemorySize()).isEqualTo(DataSize.mebibytes(64));
+            assertThat(cache.getMaxEntrySize()).isEqualTo(DataSize.mebibytes(2));
+            assertThat(cache.getDiskDirectory()).isNull();
+        });
     }
 }
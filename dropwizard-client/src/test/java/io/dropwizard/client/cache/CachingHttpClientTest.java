@@ -0,0 +1,415 @@
+package io.dropwizard.client.cache;
+
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.Application;
+import io.dropwizard.Configuration;
+import io.dropwizard.client.JerseyClientBuilder;
+import io.dropwizard.client.JerseyClientConfiguration;
+import io.dropwizard.setup.Environment;
+import io.dropwizard.testing.ResourceHelpers;
+import io.dropwizard.testing.junit5.DropwizardAppExtension;
+import io.dropwizard.testing.junit5.DropwizardExtensionsSupport;
+import io.dropwizard.util.DataSize;
+import io.dropwizard.util.Strings;
+import org.apache.http.HttpHeaders;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.cookie.SM;
+import org.apache.http.impl.client.BasicCookieStore;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.cookie.BasicClientCookie;
+import org.apache.http.util.EntityUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.codahale.metrics.MetricRegistry.name;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(DropwizardExtensionsSupport.class)
+class CachingHttpClientTest {
+    private static final AtomicInteger REQUESTS = new AtomicInteger();
+    private static final AtomicInteger NOT_MODIFIED = new AtomicInteger();
+
+    private static final DropwizardAppExtension<Configuration> APP_RULE = new DropwizardAppExtension<>(
+            TestApplication.class,
+            ResourceHelpers.resourceFilePath("yaml/cachingHttpClientTest.yml"));
+
+    private final AtomicLong time = new AtomicLong(System.currentTimeMillis());
+    private final Clock clock = new Clock() {
+        @Override
+        public long getTick() {
+            return TimeUnit.MILLISECONDS.toNanos(time.get());
+        }
+
+        @Override
+        public long getTime() {
+            return time.get();
+        }
+    };
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+    private final CacheConfiguration configuration = new CacheConfiguration();
+    private CachingHttpClient client = createClient();
+
+    @BeforeEach
+    void setUp() {
+        REQUESTS.set(0);
+        NOT_MODIFIED.set(0);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        client.close();
+    }
+
+    @Test
+    void servesFreshResponsesFromTheCache() throws Exception {
+        assertThat(get("/max-age")).isEqualTo("1");
+        assertThat(get("/max-age")).isEqualTo("1");
+        assertThat(REQUESTS).hasValue(1);
+        assertThat(metricRegistry.meter(name(HttpClient.class, "test", "cache-misses")).getCount()).isEqualTo(1);
+        assertThat(metricRegistry.meter(name(HttpClient.class, "test", "cache-hits")).getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void addsTheAgeToCachedResponses() throws Exception {
+        get("/max-age");
+        time.addAndGet(TimeUnit.SECONDS.toMillis(10));
+
+        try (CloseableHttpResponse response = client.execute(new HttpGet(uri("/max-age")))) {
+            assertThat(Long.parseLong(response.getFirstHeader(HttpHeaders.AGE).getValue())).isBetween(10L, 11L);
+            assertThat(EntityUtils.toString(response.getEntity())).isEqualTo("1");
+        }
+    }
+
+    @Test
+    void fetchesExpiredResponsesWithoutValidatorsAgain() throws Exception {
+        get("/max-age");
+        time.addAndGet(TimeUnit.SECONDS.toMillis(61));
+
+        assertThat(get("/max-age")).isEqualTo("2");
+        assertThat(metricRegistry.meter(name(HttpClient.class, "test", "cache-misses")).getCount()).isEqualTo(2);
+    }
+
+    @Test
+    void revalidatesStaleResponsesWithTheirETag() throws Exception {
+        assertThat(get("/etag")).isEqualTo("etag");
+        assertThat(get("/etag")).isEqualTo("etag");
+        assertThat(get("/etag")).isEqualTo("etag");
+
+        assertThat(REQUESTS).hasValue(3);
+        assertThat(NOT_MODIFIED).hasValue(2);
+        assertThat(metricRegistry.meter(name(HttpClient.class, "test", "cache-revalidations")).getCount())
+            .isEqualTo(2);
+    }
+
+    @Test
+    void fetchesResponsesAgainWhenTheRequestHasNoCache() throws Exception {
+        get("/max-age");
+        final HttpGet request = new HttpGet(uri("/max-age"));
+        request.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+
+        assertThat(execute(request)).isEqualTo("2");
+        assertThat(get("/max-age")).isEqualTo("2");
+    }
+
+    @Test
+    void doesNotCacheResponsesWithNoStore() throws Exception {
+        assertThat(get("/no-store")).isEqualTo("1");
+        assertThat(get("/no-store")).isEqualTo("2");
+    }
+
+    @Test
+    void bypassesTheCacheForRequestsWithNoStore() throws Exception {
+        get("/max-age");
+        final HttpGet request = new HttpGet(uri("/max-age"));
+        request.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+
+        assertThat(execute(request)).isEqualTo("2");
+        assertThat(get("/max-age")).isEqualTo("1");
+    }
+
+    @Test
+    void selectsTheResponsesByTheirVaryHeaders() throws Exception {
+        assertThat(get("/vary", "en")).isEqualTo("en 1");
+        assertThat(get("/vary", "fr")).isEqualTo("fr 2");
+        assertThat(get("/vary", "en")).isEqualTo("en 1");
+        assertThat(get("/vary", "fr")).isEqualTo("fr 2");
+        assertThat(REQUESTS).hasValue(2);
+    }
+
+    @Test
+    void doesNotShareTheResponsesToRequestsWithCredentials() throws Exception {
+        assertThat(getAs("/authorized", "alice")).isEqualTo("alice 1");
+        assertThat(getAs("/authorized", "bob")).isEqualTo("bob 2");
+        assertThat(getAs("/authorized", "alice")).isEqualTo("alice 3");
+        assertThat(metricRegistry.meter(name(HttpClient.class, "test", "cache-hits")).getCount()).isZero();
+    }
+
+    @Test
+    void cachesPublicResponsesToRequestsWithCredentials() throws Exception {
+        assertThat(getAs("/authorized/public", "alice")).isEqualTo("alice 1");
+        assertThat(getAs("/authorized/public", "bob")).isEqualTo("alice 1");
+        assertThat(REQUESTS).hasValue(1);
+    }
+
+    @Test
+    void doesNotCachePrivateResponses() throws Exception {
+        assertThat(get("/private")).isEqualTo("1");
+        assertThat(get("/private")).isEqualTo("2");
+    }
+
+    @Test
+    void doesNotShareTheResponsesToRequestsWithCookies() throws Exception {
+        final HttpGet request = new HttpGet(uri("/max-age"));
+        request.setHeader(SM.COOKIE, "session=alice");
+
+        assertThat(execute(request)).isEqualTo("1");
+        assertThat(get("/max-age")).isEqualTo("2");
+        assertThat(get("/max-age")).isEqualTo("2");
+    }
+
+    @Test
+    void doesNotShareTheResponsesToRequestsWithCookiesOfTheCookieStore() throws Exception {
+        final BasicCookieStore cookieStore = new BasicCookieStore();
+        final BasicClientCookie cookie = new BasicClientCookie("session", "alice");
+        cookie.setDomain("localhost");
+        cookie.setPath("/");
+        cookieStore.addCookie(cookie);
+        client.close();
+        client = new CachingHttpClient(HttpClients.custom().setDefaultCookieStore(cookieStore).build(), configuration,
+            metricRegistry, "test", clock);
+
+        assertThat(get("/max-age")).isEqualTo("1");
+        assertThat(get("/max-age")).isEqualTo("2");
+    }
+
+    @Test
+    void passesTheCookiesToTheCallerWithoutCachingThem() throws Exception {
+        try (CloseableHttpResponse response = client.execute(new HttpGet(uri("/set-cookie")))) {
+            assertThat(response.getFirstHeader(SM.SET_COOKIE).getValue()).isEqualTo("session=1");
+            assertThat(EntityUtils.toString(response.getEntity())).isEqualTo("1");
+        }
+        try (CloseableHttpResponse response = client.execute(new HttpGet(uri("/set-cookie")))) {
+            assertThat(response.getHeaders(SM.SET_COOKIE)).isEmpty();
+            assertThat(EntityUtils.toString(response.getEntity())).isEqualTo("1");
+        }
+        assertThat(REQUESTS).hasValue(1);
+    }
+
+    @Test
+    void invalidatesTheResponsesAfterUnsafeRequests() throws Exception {
+        get("/vary", "en");
+        get("/vary", "fr");
+        execute(new HttpPost(uri("/vary")));
+
+        assertThat(get("/vary", "en")).isEqualTo("en 4");
+        assertThat(get("/vary", "fr")).isEqualTo("fr 5");
+    }
+
+    @Test
+    void doesNotCacheResponsesLargerThanTheMaximumEntrySize() throws Exception {
+        configuration.setMaxEntrySize(DataSize.bytes(100));
+        client.close();
+        client = createClient();
+
+        assertThat(get("/large?size=1000")).isEqualTo(Strings.repeat("a", 1000));
+        assertThat(get("/large?size=1000")).isEqualTo(Strings.repeat("a", 1000));
+        assertThat(get("/large?size=100")).isEqualTo(Strings.repeat("a", 100));
+        assertThat(get("/large?size=100")).isEqualTo(Strings.repeat("a", 100));
+        assertThat(REQUESTS).hasValue(3);
+    }
+
+    @Test
+    void streamsResponsesOfUnknownLengthLargerThanTheMaximumEntrySize() throws Exception {
+        configuration.setMaxEntrySize(DataSize.bytes(100));
+        client.close();
+        client = createClient();
+
+        assertThat(get("/stream?size=100000")).isEqualTo(Strings.repeat("a", 100000));
+        assertThat(get("/stream?size=100000")).isEqualTo(Strings.repeat("a", 100000));
+        assertThat(REQUESTS).hasValue(2);
+    }
+
+    @Test
+    void cachesTheResponsesOfJerseyClients() throws Exception {
+        final JerseyClientConfiguration clientConfiguration = new JerseyClientConfiguration();
+        clientConfiguration.setCacheConfiguration(configuration);
+        final Environment environment = new Environment("test-caching-http-client");
+        final Client jerseyClient = new JerseyClientBuilder(environment).using(clientConfiguration).build("jersey");
+        try {
+            assertThat(jerseyClient.target(uri("/max-age")).request().get(String.class)).isEqualTo("1");
+            assertThat(jerseyClient.target(uri("/max-age")).request().get(String.class)).isEqualTo("1");
+            assertThat(environment.metrics().meter(name(HttpClient.class, "jersey", "cache-hits")).getCount())
+                .isEqualTo(1);
+        } finally {
+            jerseyClient.close();
+        }
+    }
+
+    private CachingHttpClient createClient() {
+        return new CachingHttpClient(HttpClients.createDefault(), configuration, metricRegistry, "test", clock);
+    }
+
+    private String get(String path) throws IOException {
+        return execute(new HttpGet(uri(path)));
+    }
+
+    private String get(String path, String language) throws IOException {
+        final HttpGet request = new HttpGet(uri(path));
+        request.setHeader(HttpHeaders.ACCEPT_LANGUAGE, language);
+        return execute(request);
+    }
+
+    private String getAs(String path, String user) throws IOException {
+        final HttpGet request = new HttpGet(uri(path));
+        request.setHeader(HttpHeaders.AUTHORIZATION, "Bearer " + user);
+        return execute(request);
+    }
+
+    private String execute(HttpUriRequest request) throws IOException {
+        try (CloseableHttpResponse response = client.execute(request)) {
+            return response.getEntity() == null ? "" : EntityUtils.toString(response.getEntity());
+        }
+    }
+
+    private static String uri(String path) {
+        return "http://localhost:" + APP_RULE.getLocalPort() + path;
+    }
+
+    @Path("/")
+    public static class TestResource {
+        private static final EntityTag ETAG = new EntityTag("v1");
+
+        @GET
+        @Path("/max-age")
+        public Response maxAge() {
+            return Response.ok(Integer.toString(REQUESTS.incrementAndGet()))
+                .header(HttpHeaders.CACHE_CONTROL, "max-age=60")
+                .build();
+        }
+
+        @GET
+        @Path("/etag")
+        public Response etag(@HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) {
+            REQUESTS.incrementAndGet();
+            if (ETAG.toString().equals(ifNoneMatch)) {
+                NOT_MODIFIED.incrementAndGet();
+                return Response.notModified(ETAG).header(HttpHeaders.CACHE_CONTROL, "no-cache").build();
+            }
+            return Response.ok("etag").tag(ETAG).header(HttpHeaders.CACHE_CONTROL, "no-cache").build();
+        }
+
+        @GET
+        @Path("/no-store")
+        public Response noStore() {
+            return Response.ok(Integer.toString(REQUESTS.incrementAndGet()))
+                .header(HttpHeaders.CACHE_CONTROL, "no-store, max-age=60")
+                .build();
+        }
+
+        @GET
+        @Path("/vary")
+        public Response vary(@HeaderParam(HttpHeaders.ACCEPT_LANGUAGE) String language) {
+            return Response.ok(language + " " + REQUESTS.incrementAndGet())
+                .header(HttpHeaders.CACHE_CONTROL, "max-age=60")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_LANGUAGE)
+                .build();
+        }
+
+        @GET
+        @Path("/authorized")
+        public Response authorized(@HeaderParam(HttpHeaders.AUTHORIZATION) String authorization) {
+            return Response.ok(user(authorization) + " " + REQUESTS.incrementAndGet())
+                .header(HttpHeaders.CACHE_CONTROL, "max-age=60")
+                .build();
+        }
+
+        @GET
+        @Path("/authorized/public")
+        public Response authorizedPublic(@HeaderParam(HttpHeaders.AUTHORIZATION) String authorization) {
+            return Response.ok(user(authorization) + " " + REQUESTS.incrementAndGet())
+                .header(HttpHeaders.CACHE_CONTROL, "public, max-age=60")
+                .build();
+        }
+
+        @GET
+        @Path("/private")
+        public Response privateResponse() {
+            return Response.ok(Integer.toString(REQUESTS.incrementAndGet()))
+                .header(HttpHeaders.CACHE_CONTROL, "private, max-age=60")
+                .build();
+        }
+
+        @GET
+        @Path("/set-cookie")
+        public Response setCookie() {
+            final int request = REQUESTS.incrementAndGet();
+            return Response.ok(Integer.toString(request))
+                .header(HttpHeaders.CACHE_CONTROL, "max-age=60")
+                .header(SM.SET_COOKIE, "session=" + request)
+                .build();
+        }
+
+        private static String user(String authorization) {
+            return authorization.substring("Bearer ".length());
+        }
+
+        @POST
+        @Path("/vary")
+        public Response update() {
+            REQUESTS.incrementAndGet();
+            return Response.noContent().build();
+        }
+
+        @GET
+        @Path("/large")
+        public Response large(@QueryParam("size") int size) {
+            REQUESTS.incrementAndGet();
+            return Response.ok(Strings.repeat("a", size))
+                .header(HttpHeaders.CACHE_CONTROL, "max-age=60")
+                .build();
+        }
+    }
+
+    @Path("/stream")
+    public static class StreamingResource {
+        @GET
+        public Response stream(@QueryParam("size") int size) {
+            REQUESTS.incrementAndGet();
+            final StreamingOutput output = stream -> {
+                for (int i = 0; i < size; i++) {
+                    stream.write('a');
+                }
+            };
+            return Response.ok(output).header(HttpHeaders.CACHE_CONTROL, "max-age=60").build();
+        }
+    }
+
+    public static class TestApplication extends Application<Configuration> {
+        @Override
+        public void run(Configuration configuration, Environment environment) {
+            environment.jersey().register(TestResource.class);
+            environment.jersey().register(StreamingResource.class);
+        }
+    }
+}
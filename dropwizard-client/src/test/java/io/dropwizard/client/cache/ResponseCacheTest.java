@@ -0,0 +1,116 @@
+package io.dropwizard.client.cache;
+
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.message.BasicHeader;
+import org.apache.http.message.BasicStatusLine;
+import org.apache.http.util.EntityUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheTest {
+    private static final long NOW = System.currentTimeMillis();
+
+    @Test
+    void evictsTheLeastRecentlyUsedEntries() {
+        final CacheEntry entry = entry("a");
+        final ResponseCache cache = new ResponseCache(entry.size() * 2, null);
+        final HttpGet request = new HttpGet("/");
+
+        cache.put("/1", request, entry);
+        cache.put("/2", request, entry("b"));
+        assertThat(cache.get("/1", request)).isSameAs(entry);
+        cache.put("/3", request, entry("c"));
+
+        assertThat(cache.get("/1", request)).isSameAs(entry);
+        assertThat(cache.get("/2", request)).isNull();
+        assertThat(cache.get("/3", request)).isNotNull();
+        assertThat(cache.getMemorySize()).isEqualTo(entry.size() * 2);
+    }
+
+    @Test
+    void movesEvictedEntriesToDisk(@TempDir Path tempDir) throws Exception {
+        final CacheEntry entry = entry("a");
+        final Path directory = Files.createDirectory(tempDir.resolve("cache"));
+        final DiskStore diskStore = new DiskStore(directory, 1024 * 1024);
+        final ResponseCache cache = new ResponseCache(entry.size(), diskStore);
+        final HttpGet request = new HttpGet("/");
+
+        cache.put("/1", request, entry);
+        cache.put("/2", request, entry("b"));
+        assertThat(diskStore.getSize()).isPositive();
+
+        final CacheEntry fromDisk = requireNonNull(cache.get("/1", request));
+        assertThat(EntityUtils.toString(fromDisk.toResponse(NOW).getEntity())).isEqualTo("a");
+        assertThat(fromDisk.getHeader(HttpHeaders.ETAG)).isEqualTo("\"a\"");
+        assertThat(fromDisk.isFresh(NOW, -1)).isTrue();
+        assertThat(cache.get("/2", request)).isNotNull();
+
+        cache.clear();
+        assertThat(directory).doesNotExist();
+    }
+
+    @Test
+    void deletesTheLeastRecentlyUsedEntriesFromDisk(@TempDir Path tempDir) throws Exception {
+        final CacheEntry entry = entry("a");
+        final ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+        entry.writeTo(new DataOutputStream(serialized));
+        // there is room for one entry on disk
+        final DiskStore diskStore = new DiskStore(tempDir, serialized.size());
+        final ResponseCache cache = new ResponseCache(entry.size(), diskStore);
+        final HttpGet request = new HttpGet("/");
+
+        cache.put("/1", request, entry);
+        cache.put("/2", request, entry("b"));
+        cache.put("/3", request, entry("c"));
+
+        assertThat(cache.get("/1", request)).isNull();
+        assertThat(cache.get("/2", request)).isNotNull();
+        assertThat(cache.get("/3", request)).isNotNull();
+    }
+
+    @Test
+    void keysTheEntriesByTheirVaryHeaders() {
+        final ResponseCache cache = new ResponseCache(1024 * 1024, null);
+        final CacheEntry english = entry("en", new BasicHeader(HttpHeaders.VARY, "Accept-Language"));
+        final CacheEntry french = entry("fr", new BasicHeader(HttpHeaders.VARY, "Accept-Language"));
+
+        cache.put("/", request("en"), english);
+        cache.put("/", request("fr"), french);
+
+        assertThat(cache.get("/", request("en"))).isSameAs(english);
+        assertThat(cache.get("/", request("fr"))).isSameAs(french);
+        assertThat(cache.get("/", request("de"))).isNull();
+
+        cache.invalidate("/");
+        assertThat(cache.get("/", request("en"))).isNull();
+        assertThat(cache.get("/", request("fr"))).isNull();
+        assertThat(cache.getMemorySize()).isZero();
+    }
+
+    private static HttpGet request(String language) {
+        final HttpGet request = new HttpGet("/");
+        request.setHeader(HttpHeaders.ACCEPT_LANGUAGE, language);
+        return request;
+    }
+
+    private static CacheEntry entry(String body, Header... headers) {
+        final Header[] allHeaders = new Header[headers.length + 2];
+        allHeaders[0] = new BasicHeader(HttpHeaders.CACHE_CONTROL, "max-age=60");
+        allHeaders[1] = new BasicHeader(HttpHeaders.ETAG, "\"" + body + "\"");
+        System.arraycopy(headers, 0, allHeaders, 2, headers.length);
+        return new CacheEntry(NOW, NOW, new BasicStatusLine(HttpVersion.HTTP_1_1, 200, "OK"), allHeaders,
+            body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -7,6 +7,7 @@ import io.dropwizard.configuration.ConfigurationFactory;
 import io.dropwizard.configuration.ConfigurationFactoryFactory;
 import io.dropwizard.configuration.ConfigurationSourceProvider;
 import io.dropwizard.setup.Bootstrap;
+import io.dropwizard.setup.StartupTimeline;
 import io.dropwizard.util.Generics;
 import net.sourceforge.argparse4j.inf.Argument;
 import net.sourceforge.argparse4j.inf.Namespace;
@@ -82,17 +83,22 @@ public abstract class ConfiguredCommand<T extends Configuration> extends Command
     @SuppressWarnings("unchecked")
     public void run(Bootstrap<?> wildcardBootstrap, Namespace namespace) throws Exception {
         final Bootstrap<T> bootstrap = (Bootstrap<T>) wildcardBootstrap;
-        configuration = parseConfiguration(bootstrap.getConfigurationFactoryFactory(),
-                                           bootstrap.getConfigurationSourceProvider(),
-                                           bootstrap.getValidatorFactory().getValidator(),
-                                           namespace.getString("file"),
-                                           getConfigurationClass(),
-                                           bootstrap.getObjectMapper());
+        final StartupTimeline timeline = bootstrap.getStartupTimeline();
+        try (StartupTimeline.Phase ignored = timeline.start("configuration")) {
+            configuration = parseConfiguration(bootstrap.getConfigurationFactoryFactory(),
+                                               bootstrap.getConfigurationSourceProvider(),
+                                               bootstrap.getValidatorFactory().getValidator(),
+                                               namespace.getString("file"),
+                                               getConfigurationClass(),
+                                               bootstrap.getObjectMapper());
+        }
 
         try {
             if (configuration != null) {
-                configuration.getLoggingFactory().configure(bootstrap.getMetricRegistry(),
-                                                            bootstrap.getApplication().getName());
+                try (StartupTimeline.Phase ignored = timeline.start("logging")) {
+                    configuration.getLoggingFactory().configure(bootstrap.getMetricRegistry(),
+                                                                bootstrap.getApplication().getName());
+                }
             }
 
             run(bootstrap, namespace, configuration);
@@ -4,6 +4,7 @@ import io.dropwizard.Application;
 import io.dropwizard.Configuration;
 import io.dropwizard.setup.Bootstrap;
 import io.dropwizard.setup.Environment;
+import io.dropwizard.setup.StartupTimeline;
 import net.sourceforge.argparse4j.inf.Namespace;
 
 import javax.annotation.Nullable;
@@ -42,29 +43,50 @@ public abstract class EnvironmentCommand<T extends Configuration> extends Config
         return environment;
     }
 
+    /**
+     * Returns the timeline of the startup of the application or {@code null} if the environment hasn't been
+     * constructed yet.
+     *
+     * @return the timeline of the startup of the application, or {@code null} if the environment hasn't been
+     * constructed yet
+     * @since 2.1
+     */
+    @Nullable
+    public StartupTimeline getStartupTimeline() {
+        return environment == null ? null : environment.getStartupTimeline();
+    }
+
     @SuppressWarnings("NullAway")
     @Override
     protected void run(Bootstrap<T> bootstrap, Namespace namespace, T configuration) throws Exception {
-        this.environment = new Environment(bootstrap.getApplication().getName(),
-                                           bootstrap.getObjectMapper(),
-                                           bootstrap.getValidatorFactory(),
-                                           bootstrap.getMetricRegistry(),
-                                           bootstrap.getClassLoader(),
-                                           bootstrap.getHealthCheckRegistry(),
-                                           configuration);
-        configuration.getMetricsFactory().configure(environment.lifecycle(),
-                                                    bootstrap.getMetricRegistry());
-        configuration.getServerFactory().configure(environment);
-        configuration.getHealthFactory().ifPresent(health -> health.configure(
-                environment.lifecycle(),
-                environment.servlets(),
-                environment.jersey(),
-                environment.health(),
-                environment.getObjectMapper(),
-                application.getName()));
+        final StartupTimeline timeline = bootstrap.getStartupTimeline();
+        try (StartupTimeline.Phase ignored = timeline.start("environment")) {
+            this.environment = new Environment(bootstrap.getApplication().getName(),
+                                               bootstrap.getObjectMapper(),
+                                               bootstrap.getValidatorFactory(),
+                                               bootstrap.getMetricRegistry(),
+                                               bootstrap.getClassLoader(),
+                                               bootstrap.getHealthCheckRegistry(),
+                                               configuration,
+                                               timeline);
+            configuration.getMetricsFactory().configure(environment.lifecycle(),
+                                                        bootstrap.getMetricRegistry());
+            configuration.getServerFactory().configure(environment);
+            configuration.getHealthFactory().ifPresent(health -> health.configure(
+                    environment.lifecycle(),
+                    environment.servlets(),
+                    environment.jersey(),
+                    environment.health(),
+                    environment.getObjectMapper(),
+                    application.getName()));
+        }
 
-        bootstrap.run(configuration, environment);
-        application.run(configuration, environment);
+        try (StartupTimeline.Phase ignored = timeline.start("bundles")) {
+            bootstrap.run(configuration, environment);
+        }
+        try (StartupTimeline.Phase ignored = timeline.start("application")) {
+            application.run(configuration, environment);
+        }
         run(environment, namespace, configuration);
     }
 
@@ -2,14 +2,22 @@ package io.dropwizard.cli;
 
 import io.dropwizard.Application;
 import io.dropwizard.Configuration;
+import io.dropwizard.lifecycle.JettyManaged;
 import io.dropwizard.setup.Environment;
+import io.dropwizard.setup.StartupTimeline;
 import net.sourceforge.argparse4j.inf.Namespace;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.NetworkConnector;
 import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.handler.ContextHandler;
 import org.eclipse.jetty.util.component.AbstractLifeCycle;
 import org.eclipse.jetty.util.component.LifeCycle;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Runs a application as an HTTP server.
  *
@@ -46,12 +54,24 @@ public class ServerCommand<T extends Configuration> extends EnvironmentCommand<T
 
     @Override
     protected void run(Environment environment, Namespace namespace, T configuration) throws Exception {
-        final Server server = configuration.getServerFactory().build(environment);
+        final StartupTimeline timeline = environment.getStartupTimeline();
+        final Server server;
+        try (StartupTimeline.Phase ignored = timeline.start("server build")) {
+            server = configuration.getServerFactory().build(environment);
+        }
+        final StartupTimeline.Phase serverStart = timeline.start("server start");
         try {
             server.addLifeCycleListener(new LifeCycleListener());
+            recordStartup(serverStart, server, environment);
             cleanupAsynchronously();
             server.start();
+            serverStart.close();
+            timeline.finish();
+            LOGGER.info("Started in {} ms, startup timeline = {}",
+                TimeUnit.NANOSECONDS.toMillis(timeline.getRoot().getDurationNanos()),
+                String.format(Locale.ROOT, "%n%n%s", timeline.format()));
         } catch (Exception e) {
+            serverStart.close();
             LOGGER.error("Unable to start server, shutting down", e);
             try {
                 server.stop();
@@ -67,6 +87,39 @@ public class ServerCommand<T extends Configuration> extends EnvironmentCommand<T
         }
     }
 
+    /**
+     * Records the start of the managed objects, contexts and connectors of the server as phases of the startup.
+     */
+    private static void recordStartup(StartupTimeline.Phase serverStart, Server server, Environment environment) {
+        for (LifeCycle bean : server.getBeans(LifeCycle.class)) {
+            if (!(bean instanceof Handler)) {
+                bean.addLifeCycleListener(serverStart.listener(describe(bean)));
+            }
+        }
+        for (Handler handler : server.getChildHandlersByClass(ContextHandler.class)) {
+            final String name;
+            if (handler == environment.getApplicationContext()) {
+                name = "application context";
+            } else if (handler == environment.getAdminContext()) {
+                name = "admin context";
+            } else {
+                name = "context " + ((ContextHandler) handler).getContextPath();
+            }
+            handler.addLifeCycleListener(serverStart.listener(name));
+        }
+    }
+
+    private static String describe(LifeCycle bean) {
+        if (bean instanceof JettyManaged) {
+            return "managed " + ((JettyManaged) bean).getManaged().getClass().getName();
+        }
+        if (bean instanceof NetworkConnector) {
+            final NetworkConnector connector = (NetworkConnector) bean;
+            return "connector " + connector.getName() + " " + connector.getHost() + ":" + connector.getPort();
+        }
+        return bean.getClass().getName();
+    }
+
     private class LifeCycleListener extends AbstractLifeCycle.AbstractLifeCycleListener {
         @Override
         public void lifeCycleStopped(LifeCycle event) {
@@ -14,9 +14,12 @@ import io.dropwizard.jersey.filter.AllowedMethodsFilter;
 import io.dropwizard.jersey.jackson.JacksonFeature;
 import io.dropwizard.jersey.setup.JerseyEnvironment;
 import io.dropwizard.jersey.validation.HibernateValidationBinder;
+import io.dropwizard.jetty.ConcurrencyLimitHandlerFactory;
 import io.dropwizard.jetty.GzipHandlerFactory;
 import io.dropwizard.jetty.MutableServletContextHandler;
+import io.dropwizard.jetty.RequestLanesHandlerFactory;
 import io.dropwizard.jetty.ServerPushFilterFactory;
+import io.dropwizard.jetty.VirtualThreadPool;
 import io.dropwizard.lifecycle.setup.LifecycleEnvironment;
 import io.dropwizard.request.logging.LogbackAccessRequestLogFactory;
 import io.dropwizard.request.logging.RequestLogFactory;
@@ -24,6 +27,7 @@ import io.dropwizard.servlets.ThreadNameFilter;
 import io.dropwizard.setup.AdminEnvironment;
 import io.dropwizard.setup.ExceptionMapperBinder;
 import io.dropwizard.util.Duration;
+import io.dropwizard.util.VirtualThreads;
 import io.dropwizard.validation.MinDuration;
 import io.dropwizard.validation.ValidationMethod;
 import org.eclipse.jetty.server.Handler;
@@ -35,6 +39,8 @@ import org.eclipse.jetty.servlet.ServletHolder;
 import org.eclipse.jetty.setuid.RLimit;
 import org.eclipse.jetty.setuid.SetUIDListener;
 import org.eclipse.jetty.util.BlockingArrayQueue;
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+import org.eclipse.jetty.util.component.LifeCycle;
 import org.eclipse.jetty.util.thread.ThreadPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -78,6 +84,16 @@ import java.util.stream.Collectors;
  *         <td>The {@link GzipHandlerFactory GZIP} configuration.</td>
  *     </tr>
  *     <tr>
+ *         <td>{@code concurrencyLimit}</td>
+ *         <td></td>
+ *         <td>The {@link ConcurrencyLimitHandlerFactory concurrency limit} configuration.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code requestLanes}</td>
+ *         <td></td>
+ *         <td>The {@link RequestLanesHandlerFactory request lanes} configuration.</td>
+ *     </tr>
+ *     <tr>
  *         <td>{@code serverPush}</td>
  *         <td></td>
  *         <td>The {@link ServerPushFilterFactory} configuration.</td>
@@ -175,6 +191,15 @@ import java.util.stream.Collectors;
  *         </td>
  *     </tr>
  *     <tr>
+ *         <td>{@code logEndpoints}</td>
+ *         <td>true</td>
+ *         <td>
+ *            Whether or not the endpoints of the Jersey resources should be logged once the server is started.
+ *            They are still listed by the {@code /endpoints} route of the admin interface, if enabled by
+ *            {@code admin.endpointsEnabled}.
+ *         </td>
+ *     </tr>
+ *     <tr>
  *         <td>{@code shutdownGracePeriod}</td>
  *         <td>30 seconds</td>
  *         <td>
@@ -219,6 +244,15 @@ import java.util.stream.Collectors;
  *           Whether or not to dump jetty diagnostics before stop.
  *         </td>
  *     </tr>
+ *     <tr>
+ *         <td>{@code enableVirtualThreads}</td>
+ *         <td>false</td>
+ *         <td>
+ *           Whether or not to run requests on virtual threads instead of a thread pool, if the runtime supports them.
+ *           {@code minThreads}, {@code maxThreads}, {@code maxQueuedRequests} and {@code idleThreadTimeout} don't
+ *           apply to virtual threads.
+ *         </td>
+ *     </tr>
  * </table>
  *
  * @see DefaultServerFactory
@@ -235,6 +269,14 @@ public abstract class AbstractServerFactory implements ServerFactory {
     @NotNull
     private GzipHandlerFactory gzip = new GzipHandlerFactory();
 
+    @Valid
+    @NotNull
+    private ConcurrencyLimitHandlerFactory concurrencyLimit = new ConcurrencyLimitHandlerFactory();
+
+    @Valid
+    @NotNull
+    private RequestLanesHandlerFactory requestLanes = new RequestLanesHandlerFactory();
+
     @Valid
     @NotNull
     private ServerPushFilterFactory serverPush = new ServerPushFilterFactory();
@@ -280,6 +322,8 @@ public abstract class AbstractServerFactory implements ServerFactory {
 
     private Boolean detailedJsonProcessingExceptionMapper = Boolean.FALSE;
 
+    private boolean logEndpoints = true;
+
     private Duration shutdownGracePeriod = Duration.seconds(30);
 
     @NotNull
@@ -293,6 +337,8 @@ public abstract class AbstractServerFactory implements ServerFactory {
 
     private boolean dumpBeforeStop = false;
 
+    private boolean enableVirtualThreads = false;
+
     @JsonIgnore
     @ValidationMethod(message = "must have a smaller minThreads than maxThreads")
     public boolean isThreadPoolSizedCorrectly() {
@@ -323,6 +369,38 @@ public abstract class AbstractServerFactory implements ServerFactory {
         this.gzip = gzip;
     }
 
+    /**
+     * @since 2.1
+     */
+    @JsonProperty("concurrencyLimit")
+    public ConcurrencyLimitHandlerFactory getConcurrencyLimit() {
+        return concurrencyLimit;
+    }
+
+    /**
+     * @since 2.1
+     */
+    @JsonProperty("concurrencyLimit")
+    public void setConcurrencyLimit(ConcurrencyLimitHandlerFactory concurrencyLimit) {
+        this.concurrencyLimit = concurrencyLimit;
+    }
+
+    /**
+     * @since 2.1
+     */
+    @JsonProperty("requestLanes")
+    public RequestLanesHandlerFactory getRequestLanes() {
+        return requestLanes;
+    }
+
+    /**
+     * @since 2.1
+     */
+    @JsonProperty("requestLanes")
+    public void setRequestLanes(RequestLanesHandlerFactory requestLanes) {
+        this.requestLanes = requestLanes;
+    }
+
     @JsonProperty("serverPush")
     public ServerPushFilterFactory getServerPush() {
         return serverPush;
@@ -479,6 +557,22 @@ public abstract class AbstractServerFactory implements ServerFactory {
         this.detailedJsonProcessingExceptionMapper = detailedJsonProcessingExceptionMapper;
     }
 
+    /**
+     * @since 2.1
+     */
+    @JsonProperty
+    public boolean isLogEndpoints() {
+        return logEndpoints;
+    }
+
+    /**
+     * @since 2.1
+     */
+    @JsonProperty
+    public void setLogEndpoints(boolean logEndpoints) {
+        this.logEndpoints = logEndpoints;
+    }
+
     @JsonProperty
     public Duration getShutdownGracePeriod() {
         return shutdownGracePeriod;
@@ -551,6 +645,32 @@ public abstract class AbstractServerFactory implements ServerFactory {
         this.dumpBeforeStop = dumpBeforeStop;
     }
 
+    /**
+     * @since 2.1
+     */
+    @JsonProperty
+    public boolean isEnableVirtualThreads() {
+        return enableVirtualThreads;
+    }
+
+    /**
+     * @since 2.1
+     */
+    @JsonProperty
+    public void setEnableVirtualThreads(boolean enableVirtualThreads) {
+        this.enableVirtualThreads = enableVirtualThreads;
+    }
+
+    /**
+     * Returns whether requests are run on virtual threads, which requires both {@code enableVirtualThreads} and a
+     * runtime which supports them.
+     *
+     * @since 2.1
+     */
+    protected boolean isUsingVirtualThreads() {
+        return enableVirtualThreads && VirtualThreads.isSupported();
+    }
+
     protected Handler createAdminServlet(Server server,
                                          MutableServletContextHandler handler,
                                          MetricRegistry metrics,
@@ -600,15 +720,33 @@ public abstract class AbstractServerFactory implements ServerFactory {
             if (registerDefaultExceptionMappers == null || registerDefaultExceptionMappers) {
                 jersey.register(new ExceptionMapperBinder(detailedJsonProcessingExceptionMapper));
             }
+            jersey.getResourceConfig().setLogEndpoints(logEndpoints);
+            if (logEndpoints) {
+                // logged on the thread which starts the server, once the background computation is done
+                server.addLifeCycleListener(new AbstractLifeCycle.AbstractLifeCycleListener() {
+                    @Override
+                    public void lifeCycleStarted(LifeCycle event) {
+                        jersey.getResourceConfig().logEndpointsInfo();
+                    }
+                });
+            }
             handler.addServlet(new ServletHolder("jersey", jerseyContainer), jersey.getUrlPattern());
         }
         final InstrumentedHandler instrumented = new InstrumentedHandler(metricRegistry);
         instrumented.setServer(server);
-        instrumented.setHandler(handler);
+        final Handler scheduled = requestLanes.isEnabled() ? requestLanes.build(handler, metricRegistry) : handler;
+        instrumented.setHandler(concurrencyLimit.isEnabled()
+            ? concurrencyLimit.build(scheduled, metricRegistry) : scheduled);
         return instrumented;
     }
 
     protected ThreadPool createThreadPool(MetricRegistry metricRegistry) {
+        if (isUsingVirtualThreads()) {
+            return new VirtualThreadPool(metricRegistry, "dw");
+        } else if (enableVirtualThreads) {
+            LOGGER.warn("Virtual threads aren't supported by Java {}, falling back to a thread pool",
+                System.getProperty("java.specification.version"));
+        }
         final BlockingQueue<Runnable> queue = new BlockingArrayQueue<>(minThreads, maxThreads, maxQueuedRequests);
         final InstrumentedQueuedThreadPool threadPool =
                 new InstrumentedQueuedThreadPool(metricRegistry, maxThreads, minThreads,
@@ -7,6 +7,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import io.dropwizard.jetty.ConnectorFactory;
 import io.dropwizard.jetty.HttpConnectorFactory;
 import io.dropwizard.jetty.RoutingHandler;
+import io.dropwizard.jetty.VirtualThreadPool;
 import io.dropwizard.setup.Environment;
 import org.eclipse.jetty.server.Connector;
 import org.eclipse.jetty.server.Handler;
@@ -213,8 +214,15 @@ public class DefaultServerFactory extends AbstractServerFactory {
     private List<Connector> buildAdminConnectors(MetricRegistry metricRegistry, Server server) {
         // threadpool is shared between all the connectors, so it should be managed by the server instead of the
         // individual connectors
-        final QueuedThreadPool threadPool = new InstrumentedQueuedThreadPool(metricRegistry, adminMaxThreads, adminMinThreads);
-        threadPool.setName("dw-admin");
+        final ThreadPool threadPool;
+        if (isUsingVirtualThreads()) {
+            threadPool = new VirtualThreadPool(metricRegistry, "dw-admin");
+        } else {
+            final QueuedThreadPool queuedThreadPool = new InstrumentedQueuedThreadPool(metricRegistry, adminMaxThreads,
+                adminMinThreads);
+            queuedThreadPool.setName("dw-admin");
+            threadPool = queuedThreadPool;
+        }
         server.addBean(threadPool);
 
         final List<Connector> connectors = new ArrayList<>();
@@ -9,10 +9,14 @@ import io.dropwizard.servlets.tasks.GarbageCollectionTask;
 import io.dropwizard.servlets.tasks.LogConfigurationTask;
 import io.dropwizard.servlets.tasks.Task;
 import io.dropwizard.servlets.tasks.TaskServlet;
+import org.eclipse.jetty.servlet.ServletHandler;
 import org.eclipse.jetty.util.component.AbstractLifeCycle;
 import org.eclipse.jetty.util.component.LifeCycle;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+
+import javax.servlet.Servlet;
+
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -21,6 +25,7 @@ import static java.util.Objects.requireNonNull;
 public class AdminEnvironment extends ServletEnvironment {
     private static final Logger LOGGER = LoggerFactory.getLogger(AdminEnvironment.class);
 
+    private final MutableServletContextHandler handler;
     private final HealthCheckRegistry healthChecks;
     private final TaskServlet tasks;
     private final boolean healthCheckServletEnabled;
@@ -36,6 +41,7 @@ public class AdminEnvironment extends ServletEnvironment {
                             MetricRegistry metricRegistry,
                             AdminFactory adminFactory) {
         super(handler);
+        this.handler = handler;
         this.healthChecks = healthChecks;
         this.healthChecks.register("deadlocks", new ThreadDeadlockHealthCheck());
         this.tasks = new TaskServlet(metricRegistry, adminFactory.getTasks());
@@ -52,6 +58,29 @@ public class AdminEnvironment extends ServletEnvironment {
         });
     }
 
+    /**
+     * Adds a servlet of Dropwizard once the admin interface starts, unless the application registered a servlet with
+     * the same name or mapped to the same path, which takes precedence.
+     *
+     * @param name    the name of the servlet
+     * @param servlet the servlet
+     * @param path    the path of the servlet
+     */
+    void addDefaultServlet(String name, Servlet servlet, String path) {
+        handler.addLifeCycleListener(new AbstractLifeCycle.AbstractLifeCycleListener() {
+            @Override
+            public void lifeCycleStarting(LifeCycle event) {
+                final ServletHandler servletHandler = handler.getServletHandler();
+                if (servletHandler.getServlet(name) != null || servletHandler.getServletMapping(path) != null) {
+                    LOGGER.warn("Not registering the {} servlet, because a servlet is already named {} or mapped to {}",
+                        name, name, path);
+                    return;
+                }
+                addServlet(name, servlet).addMapping(path);
+            }
+        });
+    }
+
     /**
      * Adds the given task to the set of tasks exposed via the admin interface.
      *
@@ -21,6 +21,10 @@ public class AdminFactory {
     @NotNull
     private TaskConfiguration tasks = new TaskConfiguration();
 
+    private boolean endpointsEnabled = false;
+
+    private boolean startupTimelineEnabled = false;
+
     @JsonProperty("healthChecks")
     public HealthCheckConfiguration getHealthChecks() {
         return healthChecks;
@@ -41,11 +45,50 @@ public class AdminFactory {
         this.tasks = tasks;
     }
 
+    /**
+     * @since 2.1
+     */
+    @JsonProperty("endpointsEnabled")
+    public boolean isEndpointsEnabled() {
+        return endpointsEnabled;
+    }
+
+    /**
+     * Sets whether the endpoints of the Jersey resources are listed by the {@code /endpoints} servlet of the admin
+     * interface.
+     *
+     * @since 2.1
+     */
+    @JsonProperty("endpointsEnabled")
+    public void setEndpointsEnabled(boolean endpointsEnabled) {
+        this.endpointsEnabled = endpointsEnabled;
+    }
+
+    /**
+     * @since 2.1
+     */
+    @JsonProperty("startupTimelineEnabled")
+    public boolean isStartupTimelineEnabled() {
+        return startupTimelineEnabled;
+    }
+
+    /**
+     * Sets whether the {@link StartupTimeline} is published by the {@code /startup} servlet of the admin interface.
+     *
+     * @since 2.1
+     */
+    @JsonProperty("startupTimelineEnabled")
+    public void setStartupTimelineEnabled(boolean startupTimelineEnabled) {
+        this.startupTimelineEnabled = startupTimelineEnabled;
+    }
+
     @Override
     public String toString() {
         return new StringJoiner(", ", AdminFactory.class.getSimpleName() + "[", "]")
                 .add("healthChecks=" + healthChecks)
                 .add("tasks=" + tasks)
+                .add("endpointsEnabled=" + endpointsEnabled)
+                .add("startupTimelineEnabled=" + startupTimelineEnabled)
                 .toString();
     }
 }
@@ -41,6 +41,7 @@ public class Bootstrap<T extends Configuration> {
     private final Application<T> application;
     private final List<ConfiguredBundle<? super T>> configuredBundles;
     private final List<Command> commands;
+    private final StartupTimeline startupTimeline;
 
     private ObjectMapper objectMapper;
     private MetricRegistry metricRegistry;
@@ -70,6 +71,7 @@ public class Bootstrap<T extends Configuration> {
         this.classLoader = Thread.currentThread().getContextClassLoader();
         this.configurationFactoryFactory = new DefaultConfigurationFactoryFactory<>();
         this.healthCheckRegistry = new HealthCheckRegistry();
+        this.startupTimeline = new StartupTimeline();
     }
 
     /**
@@ -147,7 +149,9 @@ public class Bootstrap<T extends Configuration> {
      * @param bundle a {@link ConfiguredBundle}
      */
     public void addBundle(ConfiguredBundle<? super T> bundle) {
-        bundle.initialize(this);
+        try (StartupTimeline.Phase ignored = startupTimeline.start("initialize " + bundle.getClass().getName())) {
+            bundle.initialize(this);
+        }
         configuredBundles.add(bundle);
     }
 
@@ -196,7 +200,9 @@ public class Bootstrap<T extends Configuration> {
      */
     public void run(T configuration, Environment environment) throws Exception {
         for (ConfiguredBundle<? super T> bundle : configuredBundles) {
-            bundle.run(configuration, environment);
+            try (StartupTimeline.Phase ignored = startupTimeline.start("run " + bundle.getClass().getName())) {
+                bundle.run(configuration, environment);
+            }
         }
     }
 
@@ -252,4 +258,13 @@ public class Bootstrap<T extends Configuration> {
     public void setHealthCheckRegistry(HealthCheckRegistry healthCheckRegistry) {
         this.healthCheckRegistry = healthCheckRegistry;
     }
+
+    /**
+     * Returns the timeline of the startup of the application, which starts when the bootstrap is created.
+     *
+     * @since 2.1
+     */
+    public StartupTimeline getStartupTimeline() {
+        return startupTimeline;
+    }
 }
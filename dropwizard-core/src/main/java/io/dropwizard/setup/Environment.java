@@ -9,6 +9,7 @@ import io.dropwizard.Configuration;
 import io.dropwizard.health.HealthEnvironment;
 import io.dropwizard.jackson.Jackson;
 import io.dropwizard.jersey.DropwizardResourceConfig;
+import io.dropwizard.jersey.EndpointsServlet;
 import io.dropwizard.jersey.setup.JerseyContainerHolder;
 import io.dropwizard.jersey.setup.JerseyEnvironment;
 import io.dropwizard.jersey.setup.JerseyServletContainer;
@@ -55,6 +56,8 @@ public class Environment {
 
     private final ExecutorService healthCheckExecutorService;
 
+    private final StartupTimeline startupTimeline;
+
     /**
      * Creates a new environment.
      *
@@ -68,7 +71,28 @@ public class Environment {
                        @Nullable ClassLoader classLoader,
                        HealthCheckRegistry healthCheckRegistry,
                        Configuration configuration) {
+        this(name, objectMapper, validatorFactory, metricRegistry, classLoader, healthCheckRegistry, configuration,
+            new StartupTimeline());
+    }
+
+    /**
+     * Creates a new environment.
+     *
+     * @param name            the name of the application
+     * @param objectMapper    the {@link ObjectMapper} for the application
+     * @param startupTimeline the timeline of the startup of the application, shown on the admin interface
+     * @since 2.1
+     */
+    public Environment(String name,
+                       ObjectMapper objectMapper,
+                       ValidatorFactory validatorFactory,
+                       MetricRegistry metricRegistry,
+                       @Nullable ClassLoader classLoader,
+                       HealthCheckRegistry healthCheckRegistry,
+                       Configuration configuration,
+                       StartupTimeline startupTimeline) {
         this.name = name;
+        this.startupTimeline = startupTimeline;
         this.objectMapper = objectMapper;
         this.metricRegistry = metricRegistry;
         this.healthCheckRegistry = healthCheckRegistry;
@@ -93,6 +117,14 @@ public class Environment {
 
         this.jerseyServletContainer = new JerseyContainerHolder(new JerseyServletContainer(jerseyConfig));
 
+        if (adminFactory.isEndpointsEnabled()) {
+            adminEnvironment.addDefaultServlet("endpoints", new EndpointsServlet(jerseyConfig), "/endpoints");
+        }
+        if (adminFactory.isStartupTimelineEnabled()) {
+            adminEnvironment.addDefaultServlet("startup", new StartupTimelineServlet(startupTimeline, objectMapper),
+                "/startup");
+        }
+
         final JerseyEnvironment jerseyEnvironment = new JerseyEnvironment(jerseyServletContainer, jerseyConfig);
         jerseyEnvironment.register(new InjectValidatorFeature(validatorFactory));
         this.jerseyEnvironment = jerseyEnvironment;
@@ -218,6 +250,15 @@ public class Environment {
         return healthCheckRegistry;
     }
 
+    /**
+     * Returns the timeline of the startup of the application.
+     *
+     * @since 2.1
+     */
+    public StartupTimeline getStartupTimeline() {
+        return startupTimeline;
+    }
+
     /*
     * Internal Accessors
     */
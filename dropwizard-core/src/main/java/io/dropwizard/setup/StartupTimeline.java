@@ -0,0 +1,281 @@
+package io.dropwizard.setup;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+import org.eclipse.jetty.util.component.LifeCycle;
+
+import javax.annotation.Nullable;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A hierarchical timeline of the phases of the startup of a Dropwizard application: the initialization of the
+ * {@link Bootstrap} and of its bundles, the parsing of the configuration, the configuration of the
+ * {@link Environment}, the run of the bundles and of the application, and the start of the server, of its
+ * managed objects, contexts and connectors.
+ * <p/>
+ * Every phase records its wall time, and the memory allocated by the thread which ran it, when the JVM supports
+ * measuring it. The timeline is logged once the server is started, and can be published on the {@code /startup} admin
+ * endpoint, as text or as JSON, with {@link AdminFactory#setStartupTimelineEnabled(boolean)}.
+ * <p/>
+ * Phases are started with {@link #start(String)} and nested within the innermost phase started with it on the same
+ * thread, or within the root phase, or with {@link Phase#child(String)} within a given phase:
+ * <pre>{@code
+ * try (StartupTimeline.Phase ignored = bootstrap.getStartupTimeline().start("warm caches")) {
+ *     ...
+ * }
+ * }</pre>
+ *
+ * @since 2.1
+ */
+public class StartupTimeline {
+    private static final String ROOT = "startup";
+
+    private final Phase root;
+    private final long jvmUptimeMillis;
+    private final Map<Long, Deque<Phase>> running = new HashMap<>();
+
+    /**
+     * Creates a timeline, whose root phase starts now.
+     */
+    public StartupTimeline() {
+        this.jvmUptimeMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        this.root = new Phase(this, ROOT, System.nanoTime());
+    }
+
+    /**
+     * Starts a phase within the innermost running phase started with this method on the current thread, or within
+     * the root phase if there's none.
+     *
+     * @param name the name of the phase
+     * @return the phase, to be closed when it's done
+     */
+    public synchronized Phase start(String name) {
+        final Deque<Phase> phases = running.computeIfAbsent(Thread.currentThread().getId(), id -> new ArrayDeque<>());
+        final Phase parent = phases.isEmpty() ? root : phases.peek();
+        final Phase phase = parent.child(name);
+        phases.push(phase);
+        return phase;
+    }
+
+    /**
+     * Ends the root phase, once the application is started.
+     */
+    public void finish() {
+        root.close();
+    }
+
+    /**
+     * @return the root phase, which contains all the other phases
+     */
+    @JsonProperty
+    public Phase getRoot() {
+        return root;
+    }
+
+    /**
+     * @return the uptime of the JVM when the timeline was created, i.e. the time spent before the application ran
+     */
+    @JsonProperty
+    public long getJvmUptimeMillis() {
+        return jvmUptimeMillis;
+    }
+
+    /**
+     * @return the phases of the timeline, one per line, with their wall time and allocated memory
+     */
+    public String format() {
+        final StringBuilder builder = new StringBuilder(1024);
+        builder.append(String.format(Locale.ROOT, "    %11s %10s  %s%n", "time", "allocated", "phase"));
+        builder.append(String.format(Locale.ROOT, "    %11s %10s  %s%n", jvmUptimeMillis + " ms", "-", "jvm"));
+        format(builder, root, 0);
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+
+    private static void format(StringBuilder builder, Phase phase, int depth) {
+        final long durationNanos = phase.getDurationNanos();
+        final String duration = durationNanos < 0 ? "running"
+            : TimeUnit.NANOSECONDS.toMillis(durationNanos) + " ms";
+        builder.append(String.format(Locale.ROOT, "    %11s %10s  ", duration, formatBytes(phase.getAllocatedBytes())));
+        for (int i = 0; i < depth; i++) {
+            builder.append("  ");
+        }
+        builder.append(phase.getName()).append(String.format(Locale.ROOT, "%n"));
+        for (Phase child : phase.getChildren()) {
+            format(builder, child, depth + 1);
+        }
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes < 0) {
+            return "-";
+        }
+        if (bytes < 1024 * 1024) {
+            return String.format(Locale.ROOT, "%.1f KiB", bytes / 1024.0);
+        }
+        return String.format(Locale.ROOT, "%.1f MiB", bytes / (1024.0 * 1024.0));
+    }
+
+    private synchronized void closed(Phase phase) {
+        // the phase was started on the thread it was created on
+        final Deque<Phase> phases = running.get(phase.threadId);
+        if (phases != null && phases.removeFirstOccurrence(phase) && phases.isEmpty()) {
+            running.remove(phase.threadId);
+        }
+    }
+
+    private static long allocatedBytes(long threadId) {
+        final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            final com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+            if (allocations.isThreadAllocatedMemorySupported() && allocations.isThreadAllocatedMemoryEnabled()) {
+                return allocations.getThreadAllocatedBytes(threadId);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * A phase of the startup, and the phases it contains.
+     */
+    @JsonPropertyOrder({"name", "offsetNanos", "durationNanos", "allocatedBytes", "children"})
+    public static class Phase implements AutoCloseable {
+        private final StartupTimeline timeline;
+        private final String name;
+        private final long startNanos;
+        private final long threadId;
+        private final long startAllocatedBytes;
+        private final List<Phase> children = new CopyOnWriteArrayList<>();
+
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile long durationNanos = -1;
+        private volatile long allocatedBytes = -1;
+
+        private Phase(StartupTimeline timeline, String name, long startNanos) {
+            this.timeline = timeline;
+            this.name = name;
+            this.startNanos = startNanos;
+            this.threadId = Thread.currentThread().getId();
+            this.startAllocatedBytes = allocatedBytes(threadId);
+        }
+
+        /**
+         * Starts a phase within this phase. Unlike {@link StartupTimeline#start(String)}, the phase doesn't
+         * contain the phases started after it, so it can run on another thread.
+         *
+         * @param name the name of the phase
+         * @return the phase, to be closed when it's done
+         */
+        public Phase child(String name) {
+            final Phase child = new Phase(timeline, name, System.nanoTime());
+            children.add(child);
+            return child;
+        }
+
+        /**
+         * Returns a listener which records the start of a Jetty {@link LifeCycle} as a phase within this phase.
+         *
+         * @param name the name of the phase
+         * @return a listener to add to the life cycle before it's started
+         */
+        public LifeCycle.Listener listener(String name) {
+            return new AbstractLifeCycle.AbstractLifeCycleListener() {
+                @Nullable
+                private Phase starting;
+
+                @Override
+                public void lifeCycleStarting(LifeCycle event) {
+                    starting = child(name);
+                }
+
+                @Override
+                public void lifeCycleStarted(LifeCycle event) {
+                    end();
+                }
+
+                @Override
+                public void lifeCycleFailure(LifeCycle event, Throwable cause) {
+                    end();
+                }
+
+                private void end() {
+                    if (starting != null) {
+                        starting.close();
+                        starting = null;
+                    }
+                }
+            };
+        }
+
+        /**
+         * Ends this phase. Ending a phase more than once has no effect.
+         */
+        @Override
+        public void close() {
+            final long allocated = Thread.currentThread().getId() == threadId && startAllocatedBytes >= 0
+                ? allocatedBytes(threadId) - startAllocatedBytes : -1;
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            // the allocated memory is set first, so it's known once the phase is done
+            allocatedBytes = allocated;
+            durationNanos = System.nanoTime() - startNanos;
+            timeline.closed(this);
+        }
+
+        @JsonProperty
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return the time from the start of the timeline to the start of this phase
+         */
+        @JsonProperty
+        public long getOffsetNanos() {
+            return startNanos - timeline.root.startNanos;
+        }
+
+        /**
+         * @return the wall time of this phase, or {@code -1} if it's still running
+         */
+        @JsonProperty
+        public long getDurationNanos() {
+            return durationNanos;
+        }
+
+        /**
+         * @return the memory allocated by the thread which ran this phase, or {@code -1} if it's unknown
+         */
+        @JsonProperty
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        @JsonProperty
+        public List<Phase> getChildren() {
+            return new ArrayList<>(children);
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
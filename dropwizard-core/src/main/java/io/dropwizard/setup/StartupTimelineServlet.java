@@ -0,0 +1,34 @@
+package io.dropwizard.setup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.dropwizard.servlets.TextOrJsonServlet;
+
+import java.io.IOException;
+
+/**
+ * A servlet which shows the {@link StartupTimeline} of the application, as plain text or, if the request has the
+ * {@code format=json} parameter or accepts {@code application/json}, as JSON.
+ *
+ * @since 2.1
+ */
+public class StartupTimelineServlet extends TextOrJsonServlet {
+    private static final long serialVersionUID = 1L;
+
+    private final transient StartupTimeline timeline;
+    private final transient ObjectMapper objectMapper;
+
+    public StartupTimelineServlet(StartupTimeline timeline, ObjectMapper objectMapper) {
+        this.timeline = timeline;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected String getText() {
+        return timeline.format();
+    }
+
+    @Override
+    protected byte[] getJson() throws IOException {
+        return objectMapper.writeValueAsBytes(timeline);
+    }
+}
@@ -8,6 +8,7 @@ import io.dropwizard.logging.LoggingFactory;
 import io.dropwizard.server.ServerFactory;
 import io.dropwizard.setup.Bootstrap;
 import io.dropwizard.setup.Environment;
+import io.dropwizard.setup.StartupTimeline;
 import io.dropwizard.util.JarLocation;
 import net.sourceforge.argparse4j.inf.Argument;
 import net.sourceforge.argparse4j.inf.Namespace;
@@ -56,6 +57,7 @@ class InheritedServerCommandTest {
     void setUp() throws Exception {
         when(serverFactory.build(environment)).thenReturn(server);
         when(configuration.getServerFactory()).thenReturn(serverFactory);
+        when(environment.getStartupTimeline()).thenReturn(new StartupTimeline());
     }
 
     @AfterEach
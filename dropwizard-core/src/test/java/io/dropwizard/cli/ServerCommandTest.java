@@ -2,8 +2,11 @@ package io.dropwizard.cli;
 
 import io.dropwizard.Application;
 import io.dropwizard.Configuration;
+import io.dropwizard.lifecycle.JettyManaged;
+import io.dropwizard.lifecycle.Managed;
 import io.dropwizard.server.ServerFactory;
 import io.dropwizard.setup.Environment;
+import io.dropwizard.setup.StartupTimeline;
 import net.sourceforge.argparse4j.inf.Namespace;
 import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.util.component.AbstractLifeCycle;
@@ -39,6 +42,7 @@ class ServerCommandTest {
     };
 
     private final Environment environment = mock(Environment.class);
+    private final StartupTimeline timeline = new StartupTimeline();
     private final Namespace namespace = mock(Namespace.class);
     private final ServerFactory serverFactory = mock(ServerFactory.class);
     private final Configuration configuration = mock(Configuration.class);
@@ -48,6 +52,7 @@ class ServerCommandTest {
     void setUp() throws Exception {
         when(serverFactory.build(environment)).thenReturn(server);
         when(configuration.getServerFactory()).thenReturn(serverFactory);
+        when(environment.getStartupTimeline()).thenReturn(timeline);
     }
 
     @AfterEach
@@ -81,6 +86,31 @@ class ServerCommandTest {
                 .isTrue();
     }
 
+    @Test
+    void recordsTheStartOfTheServerInTheStartupTimeline() throws Exception {
+        server.addBean(new JettyManaged(new Managed() {
+            @Override
+            public void start() {
+            }
+
+            @Override
+            public void stop() {
+            }
+        }));
+
+        command.run(environment, namespace, configuration);
+
+        final StartupTimeline.Phase root = timeline.getRoot();
+        assertThat(root.getDurationNanos()).isNotNegative();
+        assertThat(root.getChildren())
+            .extracting(StartupTimeline.Phase::getName)
+            .containsExactly("server build", "server start");
+        assertThat(root.getChildren().get(1).getChildren())
+            .extracting(StartupTimeline.Phase::getName)
+            .anyMatch(name -> name.startsWith("managed io.dropwizard.cli.ServerCommandTest"))
+            .anyMatch(name -> name.startsWith("connector "));
+    }
+
     @Test
     void stopsAServerIfThereIsAnErrorStartingIt() {
         this.throwException = true;
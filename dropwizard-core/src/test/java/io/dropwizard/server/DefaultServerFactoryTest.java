@@ -7,20 +7,28 @@ import io.dropwizard.configuration.ConfigurationException;
 import io.dropwizard.configuration.YamlConfigurationFactory;
 import io.dropwizard.jackson.DiscoverableSubtypeResolver;
 import io.dropwizard.jackson.Jackson;
+import io.dropwizard.jetty.ConcurrencyLimitHandler;
+import io.dropwizard.jetty.ConcurrencyLimitHandlerFactory;
 import io.dropwizard.jetty.HttpConnectorFactory;
+import io.dropwizard.jetty.RequestLanesHandler;
+import io.dropwizard.jetty.RequestLanesHandlerFactory;
 import io.dropwizard.jetty.ServerPushFilterFactory;
+import io.dropwizard.jetty.VirtualThreadPool;
 import io.dropwizard.logging.ConsoleAppenderFactory;
 import io.dropwizard.logging.FileAppenderFactory;
 import io.dropwizard.logging.SyslogAppenderFactory;
 import io.dropwizard.setup.Environment;
 import io.dropwizard.setup.ExceptionMapperBinder;
 import io.dropwizard.util.CharStreams;
+import io.dropwizard.util.Duration;
 import io.dropwizard.util.Resources;
+import io.dropwizard.util.VirtualThreads;
 import io.dropwizard.validation.BaseValidator;
 import org.eclipse.jetty.server.AbstractNetworkConnector;
 import org.eclipse.jetty.server.Connector;
 import org.eclipse.jetty.server.NetworkConnector;
 import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -69,6 +77,58 @@ class DefaultServerFactoryTest {
                 .isFalse();
     }
 
+    @Test
+    void loadsConcurrencyLimitConfig() throws Exception {
+        final ConcurrencyLimitHandlerFactory concurrencyLimit = http.getConcurrencyLimit();
+        assertThat(concurrencyLimit.isEnabled()).isTrue();
+        assertThat(concurrencyLimit.getAlgorithm()).isEqualTo(ConcurrencyLimitHandlerFactory.Algorithm.AIMD);
+        assertThat(concurrencyLimit.getInitialLimit()).isEqualTo(50);
+        assertThat(concurrencyLimit.getMaxLimit()).isEqualTo(500);
+    }
+
+    @Test
+    void loadsRequestLanesConfig() throws Exception {
+        final RequestLanesHandlerFactory requestLanes = http.getRequestLanes();
+        assertThat(requestLanes.isEnabled()).isTrue();
+        assertThat(requestLanes.getMaxConcurrentRequests()).isEqualTo(80);
+        assertThat(requestLanes.getLanes()).containsOnlyKeys("critical", "bulk");
+        assertThat(requestLanes.getLanes()).extractingByKey("critical")
+            .satisfies(lane -> {
+                assertThat(lane.getPaths()).containsExactly("/app/lookup");
+                assertThat(lane.getWeight()).isEqualTo(4);
+                assertThat(lane.getMaxConcurrentRequests()).isEqualTo(100);
+            });
+        assertThat(requestLanes.getLanes()).extractingByKey("bulk")
+            .satisfies(lane -> {
+                assertThat(lane.getPaths()).containsExactly("/app/export", "/app/import");
+                assertThat(lane.getWeight()).isEqualTo(1);
+                assertThat(lane.getMaxConcurrentRequests()).isEqualTo(10);
+                assertThat(lane.getMaxQueueTime()).isEqualTo(Duration.minutes(1));
+            });
+    }
+
+    @Test
+    void limitsTheConcurrencyOfTheApplication() throws Exception {
+        final Server server = http.build(environment);
+        assertThat(server.getChildHandlerByClass(ConcurrencyLimitHandler.class))
+            .isNotNull()
+            .extracting(handler -> handler.getHandler())
+            .isInstanceOf(RequestLanesHandler.class);
+        assertThat(server.getChildHandlerByClass(RequestLanesHandler.class))
+            .isNotNull()
+            .extracting(handler -> handler.getHandler())
+            .isSameAs(environment.getApplicationContext());
+    }
+
+    @Test
+    void disablesLoggingOfTheEndpoints() throws Exception {
+        assertThat(http.isLogEndpoints()).isFalse();
+
+        http.build(environment);
+        assertThat(environment.jersey().getResourceConfig().isLogEndpoints()).isFalse();
+    }
+
+
     @Test
     void loadsServerPushConfig() throws Exception {
         final ServerPushFilterFactory serverPush = http.getServerPush();
@@ -148,6 +208,23 @@ class DefaultServerFactoryTest {
         assertThat(http.build(environment).isDumpBeforeStop()).isTrue();
     }
 
+    @Test
+    void runsRequestsOnVirtualThreadsIfSupported() throws Exception {
+        assertThat(http.isEnableVirtualThreads()).isFalse();
+        http.setEnableVirtualThreads(true);
+
+        final Server server = http.build(environment);
+
+        if (VirtualThreads.isSupported()) {
+            assertThat(server.getThreadPool()).isInstanceOf(VirtualThreadPool.class);
+            assertThat(server.getBeans(VirtualThreadPool.class)).extracting(VirtualThreadPool::getName)
+                .containsExactlyInAnyOrder("dw", "dw-admin");
+        } else {
+            assertThat(server.getThreadPool()).isInstanceOf(QueuedThreadPool.class);
+            assertThat(server.getBeans(VirtualThreadPool.class)).isEmpty();
+        }
+    }
+
     @Test
     void defaultsDetailedJsonProcessingExceptionToFalse() {
         http.build(environment);
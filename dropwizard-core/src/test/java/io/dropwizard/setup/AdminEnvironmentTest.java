@@ -9,6 +9,7 @@ import org.eclipse.jetty.server.Server;
 import org.junit.jupiter.api.Test;
 
 import javax.servlet.ServletRegistration;
+import javax.servlet.http.HttpServlet;
 import java.io.PrintWriter;
 import java.util.List;
 import java.util.Map;
@@ -44,4 +45,39 @@ class AdminEnvironmentTest {
         assertThat(registration.getMappings())
                 .containsOnly("/tasks/*");
     }
+
+    @Test
+    void addsDefaultServletsOnStart() throws Exception {
+        final HttpServlet servlet = new HttpServlet() { };
+        env.addDefaultServlet("default", servlet, "/default");
+        assertThat(handler.getServletHandler().getServlet("default")).isNull();
+
+        handler.setServer(new Server());
+        handler.start();
+
+        assertThat(handler.getServletHandler().getServletMapping("/default"))
+            .isNotNull()
+            .extracting(mapping -> mapping.getServletName())
+            .isEqualTo("default");
+    }
+
+    @Test
+    void doesNotOverrideServletsOfTheApplication() throws Exception {
+        final HttpServlet servlet = new HttpServlet() { };
+        final HttpServlet applicationServlet = new HttpServlet() { };
+        env.addDefaultServlet("default", servlet, "/default");
+        env.addDefaultServlet("other", servlet, "/other");
+        env.addServlet("default", applicationServlet).addMapping("/application");
+        env.addServlet("application", applicationServlet).addMapping("/other");
+
+        handler.setServer(new Server());
+        handler.start();
+
+        assertThat(handler.getServletHandler().getServletMapping("/default")).isNull();
+        assertThat(handler.getServletHandler().getServlet("other")).isNull();
+        assertThat(handler.getServletHandler().getServletMapping("/other"))
+            .isNotNull()
+            .extracting(mapping -> mapping.getServletName())
+            .isEqualTo("application");
+    }
 }
@@ -7,6 +7,7 @@ import com.codahale.metrics.health.HealthCheckRegistry;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.dropwizard.Application;
 import io.dropwizard.Configuration;
+import io.dropwizard.ConfiguredBundle;
 import io.dropwizard.configuration.DefaultConfigurationFactoryFactory;
 import io.dropwizard.configuration.FileConfigurationSourceProvider;
 import io.dropwizard.jackson.Jackson;
@@ -127,4 +128,14 @@ class BootstrapTest {
         assertThat(bootstrap.getHealthCheckRegistry()).isSameAs(healthCheckRegistry);
     }
 
+    @Test
+    void recordsTheBundlesInTheStartupTimeline() throws Exception {
+        final ConfiguredBundle<Configuration> bundle = new ConfiguredBundle<Configuration>() { };
+        bootstrap.addBundle(bundle);
+        bootstrap.run(new Configuration(), new Environment("test"));
+
+        assertThat(bootstrap.getStartupTimeline().getRoot().getChildren())
+            .extracting(StartupTimeline.Phase::getName)
+            .containsExactly("initialize " + bundle.getClass().getName(), "run " + bundle.getClass().getName());
+    }
 }
@@ -0,0 +1,70 @@
+package io.dropwizard.setup;
+
+import io.dropwizard.jackson.Jackson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StartupTimelineServletTest {
+    private final StartupTimeline timeline = new StartupTimeline();
+    private final StartupTimelineServlet servlet = new StartupTimelineServlet(timeline, Jackson.newObjectMapper());
+    private final HttpServletRequest request = mock(HttpServletRequest.class);
+    private final HttpServletResponse response = mock(HttpServletResponse.class);
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        timeline.start("bootstrap").close();
+        timeline.finish();
+
+        when(request.getMethod()).thenReturn("GET");
+        when(response.getOutputStream()).thenReturn(new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+
+            @Override
+            public void write(int b) {
+                output.write(b);
+            }
+        });
+    }
+
+    @Test
+    void showsTheTimelineAsText() throws Exception {
+        servlet.service(request, response);
+
+        verify(response).setContentType("text/plain");
+        assertThat(new String(output.toByteArray(), StandardCharsets.UTF_8))
+            .isEqualTo(timeline.format())
+            .contains("bootstrap");
+    }
+
+    @Test
+    void showsTheTimelineAsJsonIfRequested() throws Exception {
+        when(request.getParameter("format")).thenReturn("json");
+
+        servlet.service(request, response);
+
+        verify(response).setContentType("application/json");
+        assertThat(new String(output.toByteArray(), StandardCharsets.UTF_8))
+            .startsWith("{\"root\":{\"name\":\"startup\"")
+            .contains("\"name\":\"bootstrap\"");
+    }
+}
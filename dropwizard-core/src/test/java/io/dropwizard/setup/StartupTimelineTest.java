@@ -0,0 +1,158 @@
+package io.dropwizard.setup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.dropwizard.jackson.Jackson;
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class StartupTimelineTest {
+    private final StartupTimeline timeline = new StartupTimeline();
+
+    @Test
+    void nestsThePhasesStartedWithinRunningPhases() {
+        try (StartupTimeline.Phase ignored = timeline.start("bootstrap")) {
+            timeline.start("initialize").close();
+            timeline.start("register metrics").close();
+        }
+        timeline.start("configuration").close();
+        timeline.finish();
+
+        final StartupTimeline.Phase root = timeline.getRoot();
+        assertThat(root.getName()).isEqualTo("startup");
+        assertThat(root.getDurationNanos()).isNotNegative();
+        assertThat(root.getChildren()).extracting(StartupTimeline.Phase::getName)
+            .containsExactly("bootstrap", "configuration");
+        assertThat(root.getChildren().get(0).getChildren()).extracting(StartupTimeline.Phase::getName)
+            .containsExactly("initialize", "register metrics");
+        assertThat(root.getChildren().get(1).getOffsetNanos())
+            .isGreaterThanOrEqualTo(root.getChildren().get(0).getOffsetNanos());
+    }
+
+    @Test
+    void nestsThePhasesStartedOnOtherThreadsWithinTheRoot() throws Exception {
+        final StartupTimeline.Phase bootstrap = timeline.start("bootstrap");
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch closed = new CountDownLatch(1);
+        final Thread other = new Thread(() -> {
+            try (StartupTimeline.Phase ignored = timeline.start("warm caches")) {
+                timeline.start("load").close();
+                started.countDown();
+                closed.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        other.start();
+        started.await();
+        timeline.start("initialize").close();
+        closed.countDown();
+        other.join();
+        bootstrap.close();
+
+        final StartupTimeline.Phase root = timeline.getRoot();
+        assertThat(root.getChildren()).extracting(StartupTimeline.Phase::getName)
+            .containsExactly("bootstrap", "warm caches");
+        assertThat(root.getChildren().get(0).getChildren()).extracting(StartupTimeline.Phase::getName)
+            .containsExactly("initialize");
+        assertThat(root.getChildren().get(1).getChildren()).extracting(StartupTimeline.Phase::getName)
+            .containsExactly("load");
+    }
+
+    @Test
+    void endsAPhaseOnceWhenItIsClosedConcurrently() throws Exception {
+        final StartupTimeline.Phase phase = timeline.start("concurrent");
+        final CountDownLatch closing = new CountDownLatch(1);
+        final Thread other = new Thread(() -> {
+            try {
+                closing.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            phase.close();
+        });
+        other.start();
+        closing.countDown();
+        phase.close();
+        other.join();
+
+        final long duration = phase.getDurationNanos();
+        assertThat(duration).isNotNegative();
+        Thread.sleep(5);
+        phase.close();
+        assertThat(phase.getDurationNanos()).isEqualTo(duration);
+    }
+
+    @Test
+    void measuresTheAllocatedMemory() {
+        final StartupTimeline.Phase phase = timeline.start("allocate");
+        final byte[][] allocations = new byte[16][];
+        for (int i = 0; i < allocations.length; i++) {
+            allocations[i] = new byte[1024 * 1024];
+        }
+        phase.close();
+
+        assertThat(allocations.length).isEqualTo(16);
+        assertThat(phase.getAllocatedBytes()).satisfiesAnyOf(
+            bytes -> assertThat(bytes).isGreaterThanOrEqualTo(16L * 1024 * 1024),
+            bytes -> assertThat(bytes).isEqualTo(-1));
+    }
+
+    @Test
+    void recordsTheStartOfLifeCycles() throws Exception {
+        final StartupTimeline.Phase serverStart = timeline.start("server start");
+        final AbstractLifeCycle started = new AbstractLifeCycle() { };
+        final AbstractLifeCycle failing = new AbstractLifeCycle() {
+            @Override
+            protected void doStart() throws Exception {
+                throw new IOException("unable to start");
+            }
+        };
+        started.addLifeCycleListener(serverStart.listener("started"));
+        failing.addLifeCycleListener(serverStart.listener("failing"));
+
+        started.start();
+        assertThatExceptionOfType(IOException.class).isThrownBy(failing::start);
+        serverStart.close();
+
+        assertThat(serverStart.getChildren())
+            .extracting(StartupTimeline.Phase::getName)
+            .containsExactly("started", "failing");
+        assertThat(serverStart.getChildren())
+            .allSatisfy(phase -> assertThat(phase.getDurationNanos()).isNotNegative());
+    }
+
+    @Test
+    void formatsThePhases() {
+        timeline.start("bootstrap").close();
+        final StartupTimeline.Phase running = timeline.start("server start");
+        timeline.start("application context");
+
+        assertThat(timeline.format())
+            .contains("time", "allocated", "phase", "jvm")
+            .containsPattern("running .*  startup\\R")
+            .containsPattern(" ms .*    bootstrap\\R")
+            .containsPattern("running .*    server start\\R")
+            .containsPattern("running .*      application context\\R");
+        running.close();
+    }
+
+    @Test
+    void serializesToJson() throws Exception {
+        timeline.start("bootstrap").close();
+        timeline.finish();
+
+        final JsonNode json = Jackson.newObjectMapper().valueToTree(timeline);
+        assertThat(json.get("jvmUptimeMillis").asLong()).isNotNegative();
+        assertThat(json.at("/root/name").asText()).isEqualTo("startup");
+        assertThat(json.at("/root/children/0/name").asText()).isEqualTo("bootstrap");
+        assertThat(json.at("/root/children/0/durationNanos").asLong()).isNotNegative();
+        assertThat(json.at("/root/children/0").has("allocatedBytes")).isTrue();
+        assertThat(json.at("/root/children/0").has("offsetNanos")).isTrue();
+    }
+}
@@ -1,9 +1,11 @@
 package io.dropwizard.health;
 
+import com.codahale.metrics.InstrumentedExecutorService;
 import com.codahale.metrics.InstrumentedScheduledExecutorService;
 import com.codahale.metrics.InstrumentedThreadFactory;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.health.HealthCheckRegistry;
+import com.codahale.metrics.health.HealthCheckRegistryListener;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -20,9 +22,12 @@ import io.dropwizard.lifecycle.setup.LifecycleEnvironment;
 import io.dropwizard.util.Duration;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
+import javax.annotation.Nullable;
 import javax.validation.Valid;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Size;
 import org.slf4j.Logger;
@@ -46,6 +51,11 @@ public class DefaultHealthFactory implements HealthFactory {
     @JsonProperty
     private boolean initialOverallState = true;
 
+    @Nullable
+    @Min(1)
+    @JsonProperty
+    private Integer maxConcurrentChecks = null;
+
     @JsonProperty
     private boolean delayedShutdownHandlerEnabled = false;
 
@@ -91,6 +101,25 @@ public class DefaultHealthFactory implements HealthFactory {
         this.initialOverallState = initialOverallState;
     }
 
+    /**
+     * Returns the maximum number of health checks which run at the same time, or {@code null} to run all configured
+     * health checks concurrently.
+     *
+     * @return the maximum number of concurrently running health checks
+     * @since 2.1
+     */
+    @Nullable
+    public Integer getMaxConcurrentChecks() {
+        return maxConcurrentChecks;
+    }
+
+    /**
+     * @since 2.1
+     */
+    public void setMaxConcurrentChecks(@Nullable Integer maxConcurrentChecks) {
+        this.maxConcurrentChecks = maxConcurrentChecks;
+    }
+
     public boolean isDelayedShutdownHandlerEnabled() {
         return delayedShutdownHandlerEnabled;
     }
@@ -154,10 +183,15 @@ public class DefaultHealthFactory implements HealthFactory {
         final String fullName = DEFAULT_BASE_NAME + "-" + name;
         final List<HealthCheckConfiguration> healthCheckConfigs = getHealthCheckConfigurations();
 
-        // setup schedules for configured health checks
+        // setup schedules for configured health checks, which run concurrently on a bounded pool
+        final ThreadFactory threadFactory = createThreadFactoryForHealthChecks(metrics, fullName);
         final ScheduledExecutorService scheduledHealthCheckExecutor = createScheduledExecutorForHealthChecks(
-                healthCheckConfigs.size(), metrics, lifecycle, fullName);
-        final HealthCheckScheduler scheduler = new HealthCheckScheduler(scheduledHealthCheckExecutor);
+                metrics, lifecycle, fullName, threadFactory);
+        final int checkThreads = Math.max(1, maxConcurrentChecks == null ? healthCheckConfigs.size() : maxConcurrentChecks);
+        final ExecutorService healthCheckExecutor = createExecutorForHealthChecks(checkThreads, metrics, lifecycle,
+                fullName, threadFactory);
+        final HealthCheckScheduler scheduler = new HealthCheckScheduler(scheduledHealthCheckExecutor,
+                healthCheckExecutor);
         // configure health manager to receive registered health state listeners from HealthEnvironment (via reference)
         final HealthCheckManager healthCheckManager = new HealthCheckManager(healthCheckConfigs, scheduler, metrics,
                 shutdownWaitPeriod, initialOverallState, health.healthStateListeners());
@@ -168,9 +202,16 @@ public class DefaultHealthFactory implements HealthFactory {
                 healthCheckManager, mapper);
         healthResponderFactory.configure(fullName, healthCheckUrlPaths, responseProvider, health, jersey, servlets,
                 mapper);
+        if (responseProvider instanceof HealthStateListener) {
+            health.addHealthStateListener((HealthStateListener) responseProvider);
+        }
 
         // register listener for HealthCheckRegistry and setup validator to ensure correct config
         healthChecks.addListener(healthCheckManager);
+        if (responseProvider instanceof HealthCheckRegistryListener) {
+            // registered after the manager, so the views already contain added health checks once it's notified
+            healthChecks.addListener((HealthCheckRegistryListener) responseProvider);
+        }
         lifecycle.manage(new HealthCheckConfigValidator(healthCheckConfigs, healthChecks));
 
         // register shutdown handler with Jetty
@@ -187,25 +228,42 @@ public class DefaultHealthFactory implements HealthFactory {
         LOGGER.debug("Configured ongoing health check monitoring for healthChecks: {}", getHealthChecks());
     }
 
-    private ScheduledExecutorService createScheduledExecutorForHealthChecks(
-            final int numberOfScheduledHealthChecks,
-            final MetricRegistry metrics,
-            final LifecycleEnvironment lifecycle,
-            final String fullName) {
+    private ThreadFactory createThreadFactoryForHealthChecks(final MetricRegistry metrics, final String fullName) {
         final ThreadFactory threadFactory = new ThreadFactoryBuilder()
                 .setNameFormat(fullName + "-%d")
                 .setDaemon(true)
                 .setUncaughtExceptionHandler((t, e) -> LOGGER.error("Thread={} died due to uncaught exception", t, e))
                 .build();
 
-        final InstrumentedThreadFactory instrumentedThreadFactory =
-                new InstrumentedThreadFactory(threadFactory, metrics);
+        return new InstrumentedThreadFactory(threadFactory, metrics);
+    }
 
+    private ScheduledExecutorService createScheduledExecutorForHealthChecks(
+            final MetricRegistry metrics,
+            final LifecycleEnvironment lifecycle,
+            final String fullName,
+            final ThreadFactory threadFactory) {
+        // only triggers and times out health checks, so a single thread suffices
         final ScheduledExecutorService scheduledExecutorService =
-                lifecycle.scheduledExecutorService(fullName + "-scheduled-executor", instrumentedThreadFactory)
-                        .threads(numberOfScheduledHealthChecks)
+                lifecycle.scheduledExecutorService(fullName + "-scheduled-executor", threadFactory)
+                        .threads(1)
                         .build();
 
         return new InstrumentedScheduledExecutorService(scheduledExecutorService, metrics);
     }
+
+    private ExecutorService createExecutorForHealthChecks(
+            final int threads,
+            final MetricRegistry metrics,
+            final LifecycleEnvironment lifecycle,
+            final String fullName,
+            final ThreadFactory threadFactory) {
+        final ExecutorService executorService =
+                lifecycle.executorService(fullName + "-executor", threadFactory)
+                        .minThreads(threads)
+                        .maxThreads(threads)
+                        .build();
+
+        return new InstrumentedExecutorService(executorService, metrics);
+    }
 }
@@ -3,6 +3,7 @@ package io.dropwizard.health;
 import com.codahale.metrics.Counter;
 import com.codahale.metrics.Gauge;
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import com.codahale.metrics.health.HealthCheck;
 import com.codahale.metrics.health.HealthCheckRegistryListener;
 import io.dropwizard.util.Duration;
@@ -93,8 +94,10 @@ class HealthCheckManager implements HealthCheckRegistryListener, HealthStatusChe
         final Counter healthyCheckCounter = metrics.counter(MetricRegistry.name("health", name, "healthy"));
         final Counter unhealthyCheckCounter = metrics.counter(MetricRegistry.name("health", name, "unhealthy"));
 
+        final Timer latencyTimer = metrics.timer(MetricRegistry.name("health", name, "latency"));
+
         final ScheduledHealthCheck check = new ScheduledHealthCheck(name, type, critical, healthCheck, schedule, state,
-            healthyCheckCounter, unhealthyCheckCounter);
+            healthyCheckCounter, unhealthyCheckCounter, latencyTimer);
         checks.put(name, check);
 
         // handle initial state of 'false' to ensure counts line up
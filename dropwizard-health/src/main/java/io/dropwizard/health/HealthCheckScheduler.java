@@ -1,23 +1,49 @@
 package io.dropwizard.health;
 
+import com.codahale.metrics.health.HealthCheck;
 import io.dropwizard.util.Duration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 class HealthCheckScheduler {
     private static final Logger LOGGER = LoggerFactory.getLogger(HealthCheckScheduler.class);
 
     private final ScheduledExecutorService executorService;
+    @Nullable
+    private final Executor checkExecutor;
     private final Map<String, ScheduledFuture<?>> futures = new ConcurrentHashMap<>();
+    private final Set<String> runningChecks = ConcurrentHashMap.newKeySet();
 
     public HealthCheckScheduler(final ScheduledExecutorService executorService) {
+        this(executorService, null);
+    }
+
+    /**
+     * Creates a scheduler which only triggers checks on the given {@link ScheduledExecutorService}, and runs them
+     * concurrently on the given executor instead. Checks which exceed the timeout of their {@link Schedule} are
+     * interrupted and counted as failed attempts right away, but aren't run again until they return.
+     *
+     * @param executorService the executor on which checks are scheduled and timed out
+     * @param checkExecutor   the executor on which checks are run, or {@code null} to run them on the
+     *                        {@code executorService} without enforcing timeouts
+     * @since 2.1
+     */
+    public HealthCheckScheduler(final ScheduledExecutorService executorService, @Nullable final Executor checkExecutor) {
         this.executorService = executorService;
+        this.checkExecutor = checkExecutor;
     }
 
     void scheduleInitial(final ScheduledHealthCheck check) {
@@ -45,7 +71,9 @@ class HealthCheckScheduler {
     }
 
     private void schedule(final ScheduledHealthCheck check, final Duration initialDelay, final Duration delay) {
-        final ScheduledFuture<?> taskFuture = executorService.scheduleWithFixedDelay(check,
+        final Executor executor = checkExecutor;
+        final Runnable task = executor == null ? check : () -> submit(check, executor);
+        final ScheduledFuture<?> taskFuture = executorService.scheduleWithFixedDelay(task,
             initialDelay.toMilliseconds(), delay.toMilliseconds(), TimeUnit.MILLISECONDS);
         futures.put(check.getName(), taskFuture);
         LOGGER.debug("Scheduled check: check={}", check);
@@ -59,4 +87,85 @@ class HealthCheckScheduler {
             LOGGER.debug("Unscheduled check: name={}", name);
         }
     }
+
+    private void submit(final ScheduledHealthCheck check, final Executor executor) {
+        if (!runningChecks.add(check.getName())) {
+            LOGGER.debug("Skipping check which is still running: name={}", check.getName());
+            return;
+        }
+
+        try {
+            executor.execute(new Execution(check));
+        } catch (final RejectedExecutionException e) {
+            runningChecks.remove(check.getName());
+            LOGGER.warn("Unable to run check: name={}", check.getName(), e);
+        }
+    }
+
+    /**
+     * A single run of a health check, whose result is recorded either once the check completes or once it
+     * times out, whichever happens first. The check isn't run again before this run returns.
+     */
+    private class Execution implements Runnable {
+        private final ScheduledHealthCheck check;
+        private final FutureTask<HealthCheck.Result> task;
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        Execution(final ScheduledHealthCheck check) {
+            this.check = check;
+            this.task = new FutureTask<>(check::execute);
+        }
+
+        @Override
+        public void run() {
+            final long start = System.nanoTime();
+            final Duration timeout = check.getSchedule().getTimeout();
+            try {
+                final ScheduledFuture<?> timeoutFuture = timeout == null ? null : executorService.schedule(
+                    () -> timeOut(timeout), timeout.toMilliseconds(), TimeUnit.MILLISECONDS);
+
+                task.run();
+
+                if (timeoutFuture != null) {
+                    timeoutFuture.cancel(false);
+                }
+                if (task.isCancelled()) {
+                    // clear the interrupt which was meant for the timed out check
+                    Thread.interrupted();
+                }
+                if (complete()) {
+                    check.handleResult(getResult(), System.nanoTime() - start);
+                }
+            } finally {
+                // a check which ignores the interrupt of its timeout keeps running, so it's only run again once
+                // it returns, instead of filling the executor with stuck copies of it
+                runningChecks.remove(check.getName());
+            }
+        }
+
+        private HealthCheck.Result getResult() {
+            try {
+                return task.get();
+            } catch (final ExecutionException e) {
+                LOGGER.warn("Check for name={} failed exceptionally", check.getName(), e.getCause());
+                return HealthCheck.Result.unhealthy(e.getCause());
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return HealthCheck.Result.unhealthy(e);
+            }
+        }
+
+        private void timeOut(final Duration timeout) {
+            if (complete()) {
+                LOGGER.warn("Check for name={} timed out after {}", check.getName(), timeout);
+                task.cancel(true);
+                check.handleResult(HealthCheck.Result.unhealthy("Timed out after %s", timeout),
+                    timeout.toNanoseconds());
+            }
+        }
+
+        private boolean complete() {
+            return completed.compareAndSet(false, true);
+        }
+    }
 }
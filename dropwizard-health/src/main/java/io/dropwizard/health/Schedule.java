@@ -30,6 +30,10 @@ public class Schedule {
     @JsonProperty
     private int successAttempts = 2;
 
+    @Nullable
+    @JsonProperty
+    private Duration timeout = null;
+
     public Duration getInitialDelay() {
         // default to checkInterval value
         return initialDelay == null ? getCheckInterval() : initialDelay;
@@ -71,6 +75,25 @@ public class Schedule {
         this.successAttempts = successAttempts;
     }
 
+    /**
+     * Returns the time after which a running check is interrupted and counted as a failed attempt, or {@code null}
+     * if checks may run indefinitely.
+     *
+     * @return the timeout of a single check
+     * @since 2.1
+     */
+    @Nullable
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * @since 2.1
+     */
+    public void setTimeout(@Nullable final Duration timeout) {
+        this.timeout = timeout;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) return true;
@@ -80,11 +103,12 @@ public class Schedule {
             successAttempts == schedule.successAttempts &&
             Objects.equals(initialDelay, schedule.initialDelay) &&
             Objects.equals(checkInterval, schedule.checkInterval) &&
-            Objects.equals(downtimeInterval, schedule.downtimeInterval);
+            Objects.equals(downtimeInterval, schedule.downtimeInterval) &&
+            Objects.equals(timeout, schedule.timeout);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(initialDelay, checkInterval, downtimeInterval, failureAttempts, successAttempts);
+        return Objects.hash(initialDelay, checkInterval, downtimeInterval, failureAttempts, successAttempts, timeout);
     }
 }
@@ -1,11 +1,13 @@
 package io.dropwizard.health;
 
 import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
 import com.codahale.metrics.health.HealthCheck;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 class ScheduledHealthCheck implements Runnable {
     private static final Logger LOGGER = LoggerFactory.getLogger(ScheduledHealthCheck.class);
@@ -18,6 +20,7 @@ class ScheduledHealthCheck implements Runnable {
     private final State state;
     private final Counter healthyCheckCounter;
     private final Counter unhealthyCheckCounter;
+    private final Timer latencyTimer;
 
     ScheduledHealthCheck(final String name,
                          final HealthCheckType type,
@@ -27,6 +30,19 @@ class ScheduledHealthCheck implements Runnable {
                          final State state,
                          final Counter healthyCheckCounter,
                          final Counter unhealthyCheckCounter) {
+        this(name, type, critical, healthCheck, schedule, state, healthyCheckCounter, unhealthyCheckCounter,
+            new Timer());
+    }
+
+    ScheduledHealthCheck(final String name,
+                         final HealthCheckType type,
+                         final boolean critical,
+                         final HealthCheck healthCheck,
+                         final Schedule schedule,
+                         final State state,
+                         final Counter healthyCheckCounter,
+                         final Counter unhealthyCheckCounter,
+                         final Timer latencyTimer) {
         this.name = Objects.requireNonNull(name);
         this.type = type;
         this.critical = critical;
@@ -35,6 +51,7 @@ class ScheduledHealthCheck implements Runnable {
         this.state = Objects.requireNonNull(state);
         this.healthyCheckCounter = Objects.requireNonNull(healthyCheckCounter);
         this.unhealthyCheckCounter = Objects.requireNonNull(unhealthyCheckCounter);
+        this.latencyTimer = Objects.requireNonNull(latencyTimer);
     }
 
     public String getName() {
@@ -59,15 +76,30 @@ class ScheduledHealthCheck implements Runnable {
 
     @Override
     public void run() {
+        final long start = System.nanoTime();
+        final HealthCheck.Result result = execute();
+        handleResult(result, System.nanoTime() - start);
+    }
+
+    /**
+     * Executes the underlying health check without recording its result.
+     */
+    HealthCheck.Result execute() {
         LOGGER.trace("executing health check: name={}", name);
 
-        HealthCheck.Result result;
         try {
-            result = healthCheck.execute();
+            return healthCheck.execute();
         } catch (final Exception e) {
             LOGGER.warn("Check for name={} failed exceptionally", name, e);
-            result = HealthCheck.Result.unhealthy(e);
+            return HealthCheck.Result.unhealthy(e);
         }
+    }
+
+    /**
+     * Records the result of an execution of the underlying health check, which took the given number of nanoseconds.
+     */
+    void handleResult(final HealthCheck.Result result, final long durationNanos) {
+        latencyTimer.update(durationNanos, TimeUnit.NANOSECONDS);
 
         if (result.isHealthy()) {
             LOGGER.trace("health check result: name={} result=success", name);
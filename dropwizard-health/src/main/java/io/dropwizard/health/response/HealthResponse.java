@@ -1,6 +1,8 @@
 package io.dropwizard.health.response;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 
 public final class HealthResponse {
@@ -10,13 +12,33 @@ public final class HealthResponse {
     @Nonnull
     private final String contentType;
     private final int status;
+    @Nullable
+    private final String eTag;
+    @Nullable
+    private final byte[] body;
 
     public HealthResponse(boolean healthy, @Nonnull final String message, @Nonnull final String contentType,
                           int status) {
+        this(healthy, message, contentType, status, null);
+    }
+
+    /**
+     * @param eTag the entity tag of the response, which allows clients to revalidate it with {@code If-None-Match}
+     * @since 2.1
+     */
+    public HealthResponse(boolean healthy, @Nonnull final String message, @Nonnull final String contentType,
+                          int status, @Nullable final String eTag) {
+        this(healthy, message, null, contentType, status, eTag);
+    }
+
+    HealthResponse(boolean healthy, @Nonnull final String message, @Nullable final byte[] body,
+                   @Nonnull final String contentType, int status, @Nullable final String eTag) {
         this.healthy = healthy;
         this.message = Objects.requireNonNull(message);
+        this.body = body;
         this.contentType = Objects.requireNonNull(contentType);
         this.status = status;
+        this.eTag = eTag;
     }
 
     public boolean isHealthy() {
@@ -37,17 +59,33 @@ public final class HealthResponse {
         return status;
     }
 
+    /**
+     * @since 2.1
+     */
+    @Nullable
+    public String getETag() {
+        return eTag;
+    }
+
+    /**
+     * Returns the UTF-8 encoded message, which must not be modified.
+     */
+    byte[] getBody() {
+        return body != null ? body : message.getBytes(StandardCharsets.UTF_8);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof HealthResponse)) return false;
         HealthResponse that = (HealthResponse) o;
-        return healthy == that.healthy && status == that.status && message.equals(that.message) && contentType.equals(that.contentType);
+        return healthy == that.healthy && status == that.status && message.equals(that.message) && contentType.equals(that.contentType)
+            && Objects.equals(eTag, that.eTag);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(healthy, message, contentType, status);
+        return Objects.hash(healthy, message, contentType, status, eTag);
     }
 
     @Override
@@ -57,6 +95,7 @@ public final class HealthResponse {
             ", message='" + message + '\'' +
             ", contentType='" + contentType + '\'' +
             ", status=" + status +
+            ", eTag=" + eTag +
             '}';
     }
 }
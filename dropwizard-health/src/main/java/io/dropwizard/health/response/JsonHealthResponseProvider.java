@@ -1,8 +1,11 @@
 package io.dropwizard.health.response;
 
+import com.codahale.metrics.health.HealthCheck;
+import com.codahale.metrics.health.HealthCheckRegistryListener;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableList;
 import io.dropwizard.health.HealthStateAggregator;
+import io.dropwizard.health.HealthStateListener;
 import io.dropwizard.health.HealthStateView;
 import io.dropwizard.health.HealthStatusChecker;
 import org.slf4j.Logger;
@@ -10,21 +13,38 @@ import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
 import javax.ws.rs.core.MediaType;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
+import java.util.zip.CRC32;
 
-public class JsonHealthResponseProvider implements HealthResponseProvider {
+/**
+ * A {@link HealthResponseProvider} which responds with the {@link HealthStateView}s of the requested health checks
+ * as JSON.
+ * <p>
+ * The serialized views are kept as immutable snapshots per set of requested names, which are only rebuilt once the
+ * state of a health check changed or a health check was added or removed. Healthy responses carry an entity tag of
+ * their snapshot, so clients can revalidate them with {@code If-None-Match}.
+ */
+public class JsonHealthResponseProvider implements HealthResponseProvider, HealthStateListener,
+    HealthCheckRegistryListener {
     public static final String CHECK_TYPE_QUERY_PARAM = "type";
     public static final String NAME_QUERY_PARAM = "name";
     public static final String ALL_VALUE = "all";
     private static final Logger LOGGER = LoggerFactory.getLogger(JsonHealthResponseProvider.class);
     private static final String MEDIA_TYPE = MediaType.APPLICATION_JSON;
+    // bounds the number of snapshots for arbitrary combinations of requested names
+    private static final int MAX_SNAPSHOTS = 64;
 
     @Nonnull
     private final HealthStatusChecker healthStatusChecker;
@@ -32,6 +52,8 @@ public class JsonHealthResponseProvider implements HealthResponseProvider {
     private final HealthStateAggregator healthStateAggregator;
     @Nonnull
     private final ObjectMapper mapper;
+    // replaced as a whole on invalidation, so snapshots which are built concurrently end up in the discarded map
+    private volatile ConcurrentMap<List<String>, Snapshot> snapshots = new ConcurrentHashMap<>();
 
     public JsonHealthResponseProvider(@Nonnull final HealthStatusChecker healthStatusChecker,
                                       @Nonnull final HealthStateAggregator healthStateAggregator,
@@ -49,15 +71,7 @@ public class JsonHealthResponseProvider implements HealthResponseProvider {
             .findFirst()
             .orElse(null);
 
-        final Collection<HealthStateView> views = getViews(queryParams);
-
-        final String responseBody;
-        try {
-            responseBody = mapper.writeValueAsString(views);
-        } catch (final Exception e) {
-            LOGGER.error("Failed to serialize health state views: {}", views, e);
-            throw new RuntimeException(e);
-        }
+        final Snapshot snapshot = getSnapshot(getNamesFromQueryParams(queryParams));
         final boolean healthy = healthStatusChecker.isHealthy(type);
 
         final int status;
@@ -69,7 +83,61 @@ public class JsonHealthResponseProvider implements HealthResponseProvider {
             status = 503;
         }
 
-        return new HealthResponse(healthy, responseBody, MEDIA_TYPE, status);
+        return new HealthResponse(healthy, snapshot.message, snapshot.body, MEDIA_TYPE, status,
+            healthy ? snapshot.eTag : null);
+    }
+
+    @Override
+    public void onHealthyCheck(final String healthCheckName) {
+        // only state changes affect the views
+    }
+
+    @Override
+    public void onUnhealthyCheck(final String healthCheckName) {
+        // only state changes affect the views
+    }
+
+    @Override
+    public void onStateChanged(final String healthCheckName, final boolean healthy) {
+        invalidateSnapshots();
+    }
+
+    @Override
+    public void onHealthCheckAdded(final String name, final HealthCheck healthCheck) {
+        invalidateSnapshots();
+    }
+
+    @Override
+    public void onHealthCheckRemoved(final String name, final HealthCheck healthCheck) {
+        invalidateSnapshots();
+    }
+
+    private void invalidateSnapshots() {
+        snapshots = new ConcurrentHashMap<>();
+    }
+
+    private Snapshot getSnapshot(final Set<String> names) {
+        final ConcurrentMap<List<String>, Snapshot> currentSnapshots = snapshots;
+        final List<String> key = new ArrayList<>(names);
+        final Snapshot snapshot = currentSnapshots.get(key);
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        final Collection<HealthStateView> views = getViews(names);
+        final String responseBody;
+        try {
+            responseBody = mapper.writeValueAsString(views);
+        } catch (final Exception e) {
+            LOGGER.error("Failed to serialize health state views: {}", views, e);
+            throw new RuntimeException(e);
+        }
+
+        final Snapshot newSnapshot = new Snapshot(responseBody);
+        if (currentSnapshots.size() < MAX_SNAPSHOTS) {
+            currentSnapshots.putIfAbsent(key, newSnapshot);
+        }
+        return newSnapshot;
     }
 
     private Set<String> getNamesFromQueryParams(final Map<String, Collection<String>> queryParams) {
@@ -81,9 +149,7 @@ public class JsonHealthResponseProvider implements HealthResponseProvider {
             .collect(Collectors.toCollection(LinkedHashSet::new));
     }
 
-    private Collection<HealthStateView> getViews(final Map<String, Collection<String>> queryParams) {
-        final Set<String> names = getNamesFromQueryParams(queryParams);
-
+    private Collection<HealthStateView> getViews(final Set<String> names) {
         final Collection<HealthStateView> views;
         if (shouldReturnAllViews(names)) {
             views = healthStateAggregator.healthStateViews();
@@ -104,4 +170,18 @@ public class JsonHealthResponseProvider implements HealthResponseProvider {
     private boolean shouldReturnAllViews(final Set<String> names) {
         return names.contains(ALL_VALUE);
     }
+
+    private static final class Snapshot {
+        private final String message;
+        private final byte[] body;
+        private final String eTag;
+
+        Snapshot(final String message) {
+            this.message = message;
+            this.body = message.getBytes(StandardCharsets.UTF_8);
+            final CRC32 crc32 = new CRC32();
+            crc32.update(body);
+            this.eTag = '"' + Long.toHexString(crc32.getValue()) + '"';
+        }
+    }
 }
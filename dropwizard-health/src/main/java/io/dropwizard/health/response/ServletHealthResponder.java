@@ -5,6 +5,7 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.ws.rs.core.HttpHeaders;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Map;
@@ -40,10 +41,34 @@ public class ServletHealthResponder extends HttpServlet {
 
         final HealthResponse healthResponse = healthResponseProvider.healthResponse(queryParameters);
 
-        response.setContentType(healthResponse.getContentType());
+        final String eTag = healthResponse.getETag();
+        if (eTag != null) {
+            response.setHeader(HttpHeaders.ETAG, eTag);
+            if (healthResponse.isHealthy() && isNotModified(request, eTag)) {
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+        }
 
-        response.getWriter()
-            .write(healthResponse.getMessage());
+        final byte[] body = healthResponse.getBody();
         response.setStatus(healthResponse.getStatus());
+        response.setContentType(healthResponse.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static boolean isNotModified(final HttpServletRequest request, final String eTag) {
+        final String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            final String trimmed = tag.trim();
+            if (trimmed.equals("*") || trimmed.equals(eTag) || trimmed.equals("W/" + eTag)) {
+                return true;
+            }
+        }
+        return false;
     }
 }
@@ -28,6 +28,7 @@ class DefaultHealthFactoryTest {
         assertThat(healthFactory.isDelayedShutdownHandlerEnabled()).isTrue();
         assertThat(healthFactory.isEnabled()).isTrue();
         assertThat(healthFactory.isInitialOverallState()).isTrue();
+        assertThat(healthFactory.getMaxConcurrentChecks()).isEqualTo(2);
         assertThat(healthFactory.getShutdownWaitPeriod().toMilliseconds()).isEqualTo(1L);
         assertThat(healthFactory.getHealthCheckUrlPaths()).isEqualTo(ImmutableList.of("/health-check"));
 
@@ -48,6 +49,7 @@ class DefaultHealthFactoryTest {
             assertThat(healthCheckConfig.getSchedule().getDowntimeInterval().toSeconds()).isEqualTo(30L);
             assertThat(healthCheckConfig.getSchedule().getFailureAttempts()).isEqualTo(3);
             assertThat(healthCheckConfig.getSchedule().getSuccessAttempts()).isEqualTo(2);
+            assertThat(healthCheckConfig.getSchedule().getTimeout()).isNull();
         });
     }
 }
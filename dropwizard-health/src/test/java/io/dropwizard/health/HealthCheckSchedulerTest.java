@@ -1,19 +1,29 @@
 package io.dropwizard.health;
 
+import com.codahale.metrics.health.HealthCheck;
+import io.dropwizard.util.Duration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.mockito.AdditionalMatchers.or;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -175,4 +185,132 @@ class HealthCheckSchedulerTest {
         assertThatCode(() -> scheduler.unschedule(name))
             .doesNotThrowAnyException();
     }
+
+    @Test
+    void shouldRunChecksOnCheckExecutor() {
+        final List<Runnable> pending = new ArrayList<>();
+        final HealthCheckScheduler concurrentScheduler = new HealthCheckScheduler(executor, pending::add);
+        final ScheduledHealthCheck check = mock(ScheduledHealthCheck.class);
+        when(check.getName()).thenReturn("test");
+        when(check.getSchedule()).thenReturn(new Schedule());
+        when(check.execute()).thenReturn(HealthCheck.Result.healthy());
+
+        when(executor.scheduleWithFixedDelay(any(), anyLong(), anyLong(), eq(TimeUnit.MILLISECONDS)))
+            .thenAnswer(invocation -> mock(ScheduledFuture.class));
+
+        concurrentScheduler.schedule(check, true);
+
+        final ArgumentCaptor<Runnable> trigger = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).scheduleWithFixedDelay(trigger.capture(), anyLong(), anyLong(), eq(TimeUnit.MILLISECONDS));
+
+        trigger.getValue().run();
+        // a check which is still running isn't run again
+        trigger.getValue().run();
+        assertThat(pending).hasSize(1);
+        verify(check, never()).execute();
+
+        pending.get(0).run();
+        verify(check).execute();
+        verify(check).handleResult(argThat(HealthCheck.Result::isHealthy), anyLong());
+
+        trigger.getValue().run();
+        assertThat(pending).hasSize(2);
+    }
+
+    @Test
+    void shouldFailChecksWhichTimeOut() {
+        final Schedule schedule = new Schedule();
+        schedule.setTimeout(Duration.milliseconds(100));
+        final HealthCheckScheduler concurrentScheduler = new HealthCheckScheduler(executor, Runnable::run);
+        final ScheduledHealthCheck check = mock(ScheduledHealthCheck.class);
+        when(check.getName()).thenReturn("test");
+        when(check.getSchedule()).thenReturn(schedule);
+
+        final ArgumentCaptor<Runnable> timeout = ArgumentCaptor.forClass(Runnable.class);
+        when(executor.schedule(timeout.capture(), eq(100L), eq(TimeUnit.MILLISECONDS)))
+            .thenAnswer(invocation -> mock(ScheduledFuture.class));
+        // the timeout fires while the check is still running
+        when(check.execute()).thenAnswer(invocation -> {
+            timeout.getValue().run();
+            return HealthCheck.Result.healthy();
+        });
+
+        when(executor.scheduleWithFixedDelay(any(), anyLong(), anyLong(), eq(TimeUnit.MILLISECONDS)))
+            .thenAnswer(invocation -> mock(ScheduledFuture.class));
+
+        concurrentScheduler.schedule(check, true);
+
+        final ArgumentCaptor<Runnable> trigger = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).scheduleWithFixedDelay(trigger.capture(), anyLong(), anyLong(), eq(TimeUnit.MILLISECONDS));
+        trigger.getValue().run();
+
+        verify(check).handleResult(argThat(result -> !result.isHealthy() &&
+            "Timed out after 100 milliseconds".equals(result.getMessage())), eq(Duration.milliseconds(100).toNanoseconds()));
+        verify(check, never()).handleResult(argThat(HealthCheck.Result::isHealthy), anyLong());
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+
+        // a check which timed out can run again
+        trigger.getValue().run();
+        verify(check, times(2)).execute();
+    }
+
+    @Test
+    void shouldNotRunChecksAgainWhichIgnoreTheInterruptOfTheirTimeout() {
+        final Schedule schedule = new Schedule();
+        schedule.setTimeout(Duration.milliseconds(100));
+        final HealthCheckScheduler concurrentScheduler = new HealthCheckScheduler(executor, Runnable::run);
+        final ScheduledHealthCheck check = mock(ScheduledHealthCheck.class);
+        when(check.getName()).thenReturn("test");
+        when(check.getSchedule()).thenReturn(schedule);
+
+        final ArgumentCaptor<Runnable> timeout = ArgumentCaptor.forClass(Runnable.class);
+        when(executor.schedule(timeout.capture(), eq(100L), eq(TimeUnit.MILLISECONDS)))
+            .thenAnswer(invocation -> mock(ScheduledFuture.class));
+        when(executor.scheduleWithFixedDelay(any(), anyLong(), anyLong(), eq(TimeUnit.MILLISECONDS)))
+            .thenAnswer(invocation -> mock(ScheduledFuture.class));
+
+        concurrentScheduler.schedule(check, true);
+
+        final ArgumentCaptor<Runnable> trigger = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).scheduleWithFixedDelay(trigger.capture(), anyLong(), anyLong(), eq(TimeUnit.MILLISECONDS));
+
+        // the check times out, ignores the interrupt, and is still running when it's triggered again
+        when(check.execute()).thenAnswer(invocation -> {
+            timeout.getValue().run();
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+            trigger.getValue().run();
+            return HealthCheck.Result.healthy();
+        });
+        trigger.getValue().run();
+
+        verify(check).execute();
+        verify(check).handleResult(argThat(result -> !result.isHealthy() &&
+            "Timed out after 100 milliseconds".equals(result.getMessage())), anyLong());
+        verify(check, never()).handleResult(argThat(HealthCheck.Result::isHealthy), anyLong());
+
+        // once it returns, it's run again
+        trigger.getValue().run();
+        verify(check, times(2)).execute();
+    }
+
+    @Test
+    void shouldFailChecksWhichThrowErrors() {
+        final HealthCheckScheduler concurrentScheduler = new HealthCheckScheduler(executor, Runnable::run);
+        final ScheduledHealthCheck check = mock(ScheduledHealthCheck.class);
+        when(check.getName()).thenReturn("test");
+        when(check.getSchedule()).thenReturn(new Schedule());
+        when(check.execute()).thenThrow(new AssertionError("boom"));
+
+        when(executor.scheduleWithFixedDelay(any(), anyLong(), anyLong(), eq(TimeUnit.MILLISECONDS)))
+            .thenAnswer(invocation -> mock(ScheduledFuture.class));
+
+        concurrentScheduler.schedule(check, true);
+
+        final ArgumentCaptor<Runnable> trigger = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).scheduleWithFixedDelay(trigger.capture(), anyLong(), anyLong(), eq(TimeUnit.MILLISECONDS));
+        trigger.getValue().run();
+
+        verify(check).handleResult(argThat(result -> !result.isHealthy() && "boom".equals(result.getMessage())),
+            anyLong());
+    }
 }
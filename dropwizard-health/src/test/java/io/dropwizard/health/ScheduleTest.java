@@ -5,6 +5,7 @@ import com.google.common.io.Resources;
 import io.dropwizard.configuration.YamlConfigurationFactory;
 import io.dropwizard.jackson.Jackson;
 import io.dropwizard.jersey.validation.Validators;
+import io.dropwizard.util.Duration;
 import org.junit.jupiter.api.Test;
 
 import javax.validation.Validator;
@@ -27,5 +28,6 @@ class ScheduleTest {
         assertThat(schedule.getDowntimeInterval().toSeconds()).isEqualTo(25L);
         assertThat(schedule.getFailureAttempts()).isEqualTo(2);
         assertThat(schedule.getSuccessAttempts()).isEqualTo(1);
+        assertThat(schedule.getTimeout()).isEqualTo(Duration.seconds(1));
     }
 }
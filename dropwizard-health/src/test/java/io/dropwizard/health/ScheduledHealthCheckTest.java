@@ -2,12 +2,15 @@ package io.dropwizard.health;
 
 import com.codahale.metrics.Counter;
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import com.codahale.metrics.health.HealthCheck;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.concurrent.TimeUnit;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 
@@ -73,4 +76,27 @@ class ScheduledHealthCheckTest {
         assertThat(healthyCounter.getCount()).isZero();
         assertThat(unhealthyCounter.getCount()).isEqualTo(1L);
     }
+
+    @Test
+    void checkShouldRecordLatency() {
+        when(schedule.getSuccessAttempts()).thenReturn(1);
+        when(schedule.getFailureAttempts()).thenReturn(1);
+
+        final String name = "test";
+        final Counter healthyCounter = metrics.counter("test.healthy");
+        final Counter unhealthyCounter = metrics.counter("test.unhealthy");
+        final Timer latencyTimer = metrics.timer("test.latency");
+        final State state = new State(name, schedule.getFailureAttempts(), schedule.getSuccessAttempts(), true, LISTENER);
+        final ScheduledHealthCheck scheduledHealthCheck = new ScheduledHealthCheck(name, HealthCheckType.READY, true,
+            healthCheck, schedule, state, healthyCounter, unhealthyCounter, latencyTimer);
+        when(healthCheck.execute()).thenReturn(HealthCheck.Result.healthy());
+
+        scheduledHealthCheck.run();
+        scheduledHealthCheck.handleResult(HealthCheck.Result.unhealthy("timed out"), TimeUnit.SECONDS.toNanos(1));
+
+        assertThat(latencyTimer.getCount()).isEqualTo(2L);
+        assertThat(latencyTimer.getSnapshot().getMax()).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+        assertThat(healthyCounter.getCount()).isEqualTo(1L);
+        assertThat(unhealthyCounter.getCount()).isEqualTo(1L);
+    }
 }
@@ -1,5 +1,6 @@
 package io.dropwizard.health.response;
 
+import com.codahale.metrics.health.HealthCheck;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Charsets;
@@ -29,6 +30,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
@@ -131,6 +134,61 @@ class JsonHealthResponseProviderTest {
         verifyNoInteractions(healthStatusChecker);
     }
 
+    @Test
+    void shouldReuseSnapshotUntilStateChanges() {
+        // given
+        final HealthStateView view = new HealthStateView("foo", true, HealthCheckType.READY, true);
+        final HealthStateView unhealthyView = new HealthStateView("foo", false, HealthCheckType.READY, true);
+        final Map<String, Collection<String>> queryParams = Collections.singletonMap(
+            JsonHealthResponseProvider.NAME_QUERY_PARAM, Collections.singleton(view.getName()));
+
+        // when
+        when(healthStateAggregator.healthStateView(view.getName())).thenReturn(Optional.of(view));
+        when(healthStatusChecker.isHealthy(isNull())).thenReturn(true);
+        final HealthResponse first = jsonHealthResponseProvider.healthResponse(queryParams);
+        final HealthResponse second = jsonHealthResponseProvider.healthResponse(queryParams);
+
+        when(healthStateAggregator.healthStateView(view.getName())).thenReturn(Optional.of(unhealthyView));
+        when(healthStatusChecker.isHealthy(isNull())).thenReturn(false);
+        final HealthResponse stale = jsonHealthResponseProvider.healthResponse(queryParams);
+        jsonHealthResponseProvider.onStateChanged(view.getName(), false);
+        final HealthResponse refreshed = jsonHealthResponseProvider.healthResponse(queryParams);
+
+        // then
+        verify(healthStateAggregator, times(2)).healthStateView(view.getName());
+        assertThat(second).isEqualTo(first);
+        assertThat(first.getETag()).isNotNull();
+        assertThat(first.getBody()).isSameAs(second.getBody());
+        assertThat(stale.getMessage()).isEqualTo(first.getMessage());
+        assertThat(stale.getETag()).isNull();
+        assertThat(refreshed.isHealthy()).isFalse();
+        assertThat(refreshed.getStatus()).isEqualTo(503);
+        assertThat(refreshed.getETag()).isNull();
+        assertThat(refreshed.getMessage()).isNotEqualTo(first.getMessage()).contains("\"healthy\":false");
+    }
+
+    @Test
+    void shouldRebuildSnapshotWhenHealthCheckIsAdded() {
+        // given
+        final HealthStateView view = new HealthStateView("foo", true, HealthCheckType.READY, true);
+        final Map<String, Collection<String>> queryParams = Collections.singletonMap(
+            JsonHealthResponseProvider.NAME_QUERY_PARAM, Collections.singleton(JsonHealthResponseProvider.ALL_VALUE));
+
+        // when
+        when(healthStateAggregator.healthStateViews()).thenReturn(Collections.emptyList());
+        when(healthStatusChecker.isHealthy(isNull())).thenReturn(true);
+        final HealthResponse before = jsonHealthResponseProvider.healthResponse(queryParams);
+
+        when(healthStateAggregator.healthStateViews()).thenReturn(Collections.singletonList(view));
+        jsonHealthResponseProvider.onHealthCheckAdded(view.getName(), mock(HealthCheck.class));
+        final HealthResponse after = jsonHealthResponseProvider.healthResponse(queryParams);
+
+        // then
+        assertThat(before.getMessage()).isEqualToIgnoringWhitespace("[]");
+        assertThat(after.getMessage()).isEqualToIgnoringWhitespace(fixture("json/single-healthy-response.json"));
+        assertThat(after.getETag()).isNotNull().isNotEqualTo(before.getETag());
+    }
+
     // Duplicated from dropwizard-testing due to circular deps
     private String fixture(final String filename) {
         final URL resource = Resources.getResource(filename);
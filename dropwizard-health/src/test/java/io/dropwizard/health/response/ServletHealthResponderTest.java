@@ -140,6 +140,51 @@ class ServletHealthResponderTest {
             .isEqualTo(NO_STORE);
     }
 
+    @Test
+    void shouldReturnNotModifiedForMatchingETag() throws Exception {
+        // given
+        final ServletHealthResponder servletHealthResponder = new ServletHealthResponder(healthResponseProvider, true,
+            "no-store");
+        final HealthResponse success = new HealthResponse(true, "healthy", MediaType.TEXT_PLAIN, Response.SC_OK,
+            "\"abc\"");
+
+        // when
+        when(healthResponseProvider.healthResponse(Collections.emptyMap())).thenReturn(success);
+        servletTester.addServlet(new ServletHolder(servletHealthResponder), HEALTH_CHECK_URI);
+        servletTester.start();
+        final HttpTester.Response fullResponse = executeRequest(request);
+        request.setHeader(HttpHeader.IF_NONE_MATCH.asString(), "\"xyz\", \"abc\"");
+        final HttpTester.Response notModifiedResponse = executeRequest(request);
+
+        // then
+        assertThat(fullResponse.getStatus()).isEqualTo(Response.SC_OK);
+        assertThat(fullResponse.get(HttpHeader.ETAG)).isEqualTo("\"abc\"");
+        assertThat(fullResponse.getContent()).isEqualTo("healthy");
+        assertThat(notModifiedResponse.getStatus()).isEqualTo(Response.SC_NOT_MODIFIED);
+        assertThat(notModifiedResponse.get(HttpHeader.ETAG)).isEqualTo("\"abc\"");
+        assertThat(notModifiedResponse.getContent()).isEmpty();
+    }
+
+    @Test
+    void shouldNotReturnNotModifiedWhenUnhealthy() throws Exception {
+        // given
+        final ServletHealthResponder servletHealthResponder = new ServletHealthResponder(healthResponseProvider, true,
+            "no-store");
+        final HealthResponse fail = new HealthResponse(false, "unhealthy", MediaType.TEXT_PLAIN,
+            Response.SC_SERVICE_UNAVAILABLE, "\"abc\"");
+
+        // when
+        when(healthResponseProvider.healthResponse(Collections.emptyMap())).thenReturn(fail);
+        servletTester.addServlet(new ServletHolder(servletHealthResponder), HEALTH_CHECK_URI);
+        servletTester.start();
+        request.setHeader(HttpHeader.IF_NONE_MATCH.asString(), "\"abc\"");
+        final HttpTester.Response response = executeRequest(request);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(Response.SC_SERVICE_UNAVAILABLE);
+        assertThat(response.getContent()).isEqualTo("unhealthy");
+    }
+
     private HttpTester.Response executeRequest(HttpTester.Request request) throws Exception {
         return HttpTester.parseResponse(servletTester.getResponses(request.generate()));
     }
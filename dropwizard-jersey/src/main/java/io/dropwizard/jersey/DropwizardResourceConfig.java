@@ -5,15 +5,13 @@ import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.jersey2.InstrumentedResourceMethodApplicationListener;
 import com.fasterxml.classmate.ResolvedType;
 import com.fasterxml.classmate.TypeResolver;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.dropwizard.jersey.caching.CacheControlledResponseFeature;
 import io.dropwizard.jersey.params.AbstractParamConverterProvider;
 import io.dropwizard.jersey.sessions.SessionFactoryProvider;
 import io.dropwizard.jersey.validation.FuzzyEnumParamConverterProvider;
-import io.dropwizard.util.JavaVersion;
 import io.dropwizard.util.Strings;
-import javassist.ClassPool;
-import javassist.CtClass;
-import javassist.LoaderClassPath;
 import org.glassfish.jersey.internal.inject.AbstractBinder;
 import org.glassfish.jersey.internal.inject.Providers;
 import org.glassfish.jersey.server.ResourceConfig;
@@ -30,17 +28,21 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.Nullable;
 import javax.validation.constraints.NotNull;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
-import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
 
@@ -48,12 +50,15 @@ public class DropwizardResourceConfig extends ResourceConfig {
     private static final Logger LOGGER = LoggerFactory.getLogger(DropwizardResourceConfig.class);
     private static final String NEWLINE = String.format("%n");
     private static final TypeResolver TYPE_RESOLVER = new TypeResolver();
+    private static final ObjectMapper MAPPER = new ObjectMapper();
 
     private static final Pattern PATH_DIRTY_SLASHES = Pattern.compile("\\s*/\\s*/+\\s*");
 
     private String urlPattern = "/*";
     private String contextPath = "/";
+    private boolean logEndpoints = true;
     private final ComponentLoggingListener loggingListener = new ComponentLoggingListener(this);
+    private final InstanceBinder instanceBinder = new InstanceBinder();
 
     public DropwizardResourceConfig() {
         this(null);
@@ -113,6 +118,7 @@ public class DropwizardResourceConfig extends ResourceConfig {
 
     public void setUrlPattern(String urlPattern) {
         this.urlPattern = urlPattern;
+        loggingListener.reset();
     }
 
     /**
@@ -124,13 +130,59 @@ public class DropwizardResourceConfig extends ResourceConfig {
 
     public void setContextPath(String contextPath) {
         this.contextPath = contextPath;
+        loggingListener.reset();
     }
 
     /**
+     * @since 2.1
+     */
+    public boolean isLogEndpoints() {
+        return logEndpoints;
+    }
+
+    /**
+     * Sets whether the endpoints are logged by {@link #logEndpointsInfo()}. The endpoints are then computed in the
+     * background once the application has been initialized, otherwise only when they are first requested.
+     *
+     * @since 2.1
+     */
+    public void setLogEndpoints(boolean logEndpoints) {
+        this.logEndpoints = logEndpoints;
+    }
+
+    /**
+     * Returns a table of the endpoints of the resources. The table is computed once and cached until the resource
+     * model or the paths change.
+     *
      * @since 2.0
      */
     public String getEndpointsInfo() {
-        return loggingListener.getEndpointsInfo();
+        return loggingListener.getEndpoints().join().info;
+    }
+
+    /**
+     * Logs the table of the endpoints of the resources on the calling thread, if enabled by
+     * {@link #setLogEndpoints(boolean)}, and waits for it to be computed if needed.
+     *
+     * @since 2.1
+     */
+    @SuppressWarnings("Slf4jFormatShouldBeConst")
+    public void logEndpointsInfo() {
+        if (logEndpoints) {
+            try {
+                LOGGER.info(getEndpointsInfo());
+            } catch (RuntimeException e) {
+                LOGGER.warn("Unable to compute the endpoints", e);
+            }
+        }
+    }
+
+    /**
+     * Returns the endpoints of the resources as a JSON array of objects with the {@code method}, {@code path} and
+     * {@code resource} of each endpoint.
+     */
+    byte[] getEndpointsJson() {
+        return loggingListener.getEndpoints().join().json;
     }
 
     /**
@@ -157,25 +209,13 @@ public class DropwizardResourceConfig extends ResourceConfig {
             // If Jersey supports this component's class (including Binders), register directly
             return super.register(object);
         } else {
-            // Else register a binder that binds the instance to its class type
-            try {
-                // Need to create a new subclass dynamically here because Jersey
-                // doesn't add new bindings for the same class
-                final ClassPool pool = ClassPool.getDefault();
-                pool.insertClassPath(new LoaderClassPath(this.getClass().getClassLoader()));
-                final CtClass cc = pool.makeClass(SpecificBinder.class.getName() + UUID.randomUUID());
-                cc.setSuperclass(pool.get(SpecificBinder.class.getName()));
-                final Object binderProxy;
-                if (JavaVersion.isJava8()) {
-                    binderProxy = cc.toClass().getConstructor(Object.class, Class.class).newInstance(object, clazz);
-                } else {
-                    binderProxy = cc.toClass(SpecificBinder.class).getConstructor(Object.class, Class.class).newInstance(object, clazz);
-                }
-                super.register(binderProxy);
-                return super.register(clazz);
-            } catch (Exception e) {
-                throw new RuntimeException(e);
+            // Else bind the instance to its class type. Jersey doesn't register several binders of the same class,
+            // so all instances are bound by a single binder.
+            if (instanceBinder.isEmpty()) {
+                super.register(instanceBinder);
             }
+            instanceBinder.add(object, clazz);
+            return super.register(clazz);
         }
     }
 
@@ -185,7 +225,9 @@ public class DropwizardResourceConfig extends ResourceConfig {
 
     /**
      * @since 2.0
+     * @deprecated instances are bound to their types by a single binder of the {@link DropwizardResourceConfig}
      */
+    @Deprecated
     public static class SpecificBinder extends AbstractBinder {
         private Object object;
         private Class<?> clazz;
@@ -201,21 +243,64 @@ public class DropwizardResourceConfig extends ResourceConfig {
         }
     }
 
+    /**
+     * Binds the registered instances, which are neither providers nor binders, to their types.
+     */
+    private static class InstanceBinder extends AbstractBinder {
+        private final List<Object> instances = new ArrayList<>();
+        private final List<Class<?>> types = new ArrayList<>();
+
+        void add(Object instance, Class<?> type) {
+            instances.add(instance);
+            types.add(type);
+        }
+
+        boolean isEmpty() {
+            return instances.isEmpty();
+        }
+
+        @Override
+        protected void configure() {
+            for (int i = 0; i < instances.size(); i++) {
+                final Object object = instances.get(i);
+                final Class<?> clazz = types.get(i);
+                bind(object).to(clazz);
+            }
+        }
+    }
+
     private static class EndpointLogLine {
+        @Nullable
         private final String httpMethod;
         private final String basePath;
         private final Class<?> klass;
 
-        EndpointLogLine(String httpMethod, String basePath, Class<?> klass) {
+        EndpointLogLine(@Nullable String httpMethod, String basePath, Class<?> klass) {
             this.basePath = basePath;
             this.klass = klass;
             this.httpMethod = httpMethod;
         }
 
+        String getMethod() {
+            return httpMethod == null ? "UNKNOWN" : httpMethod;
+        }
+
         @Override
         public String toString() {
-            final String method = httpMethod == null ? "UNKNOWN" : httpMethod;
-            return String.format("    %-7s %s (%s)", method, basePath, klass.getCanonicalName());
+            return String.format("    %-7s %s (%s)", getMethod(), basePath, klass.getCanonicalName());
+        }
+    }
+
+    /**
+     * The rendered endpoints of a resource model.
+     */
+    private static class Endpoints {
+        private final String info;
+        private final byte[] json;
+
+        Endpoints(String info, byte[] json) {
+            this.info = info;
+            this.json = json;
         }
     }
 
@@ -232,32 +317,66 @@ public class DropwizardResourceConfig extends ResourceConfig {
 
     private static class ComponentLoggingListener implements ApplicationEventListener {
         private final DropwizardResourceConfig config;
-        private List<Resource> resources = Collections.emptyList();
-        private Set<Class<?>> providers = Collections.emptySet();
+        private volatile List<Resource> resources = Collections.emptyList();
+        private volatile Set<Class<?>> providers = Collections.emptySet();
+        @Nullable
+        private volatile CompletableFuture<Endpoints> endpoints;
 
         ComponentLoggingListener(DropwizardResourceConfig config) {
             this.config = config;
         }
 
         @Override
-        @SuppressWarnings("Slf4jFormatShouldBeConst")
         public void onEvent(ApplicationEvent event) {
             if (event.getType() == ApplicationEvent.Type.INITIALIZATION_APP_FINISHED) {
-                resources = event.getResourceModel().getResources();
-                providers = event.getProviders();
+                update(event.getResourceModel().getResources(), event.getProviders());
 
-                final String resourceClasses = resources.stream()
-                        .map(x -> x.getClass().getCanonicalName())
-                        .collect(Collectors.joining(", "));
+                if (LOGGER.isDebugEnabled()) {
+                    final String resourceClasses = resources.stream()
+                            .map(x -> x.getClass().getCanonicalName())
+                            .collect(Collectors.joining(", "));
 
-                final String providerClasses = providers.stream()
-                        .map(Class::getCanonicalName)
-                        .collect(Collectors.joining(", "));
+                    final String providerClasses = providers.stream()
+                            .map(Class::getCanonicalName)
+                            .collect(Collectors.joining(", "));
 
-                LOGGER.debug("resources = {}", resourceClasses);
-                LOGGER.debug("providers = {}", providerClasses);
-                LOGGER.info(getEndpointsInfo());
+                    LOGGER.debug("resources = {}", resourceClasses);
+                    LOGGER.debug("providers = {}", providerClasses);
+                }
+
+                if (config.isLogEndpoints()) {
+                    // Walking the resource model is slow for large applications, so it's done off the startup
+                    // thread, until the endpoints are logged
+                    getEndpoints();
+                }
+            }
+        }
+
+        private synchronized void update(List<Resource> resources, Set<Class<?>> providers) {
+            this.resources = resources;
+            this.providers = providers;
+            endpoints = null;
+        }
+
+        synchronized void reset() {
+            endpoints = null;
+        }
+
+        CompletableFuture<Endpoints> getEndpoints() {
+            CompletableFuture<Endpoints> current = endpoints;
+            if (current == null) {
+                synchronized (this) {
+                    current = endpoints;
+                    if (current == null) {
+                        final List<Resource> currentResources = resources;
+                        final Set<Class<?>> currentProviders = providers;
+                        current = CompletableFuture.supplyAsync(() ->
+                                computeEndpoints(currentResources, currentProviders));
+                        endpoints = current;
+                    }
+                }
             }
+            return current;
         }
 
         private List<EndpointLogLine> logMethodLines(Resource resource, String contextPath) {
@@ -335,9 +454,8 @@ public class DropwizardResourceConfig extends ResourceConfig {
             return resourceLines;
         }
 
-        String getEndpointsInfo() {
+        private Endpoints computeEndpoints(List<Resource> resources, Set<Class<?>> providers) {
             final StringBuilder msg = new StringBuilder(1024);
-            final Set<EndpointLogLine> endpointLogLines = new TreeSet<>(new EndpointComparator());
             final String contextPath = config.getContextPath();
             final String normalizedContextPath = contextPath.isEmpty() || contextPath.equals("/") ? "" :
                     contextPath.startsWith("/") ? contextPath : "/" + contextPath;
@@ -350,27 +468,34 @@ public class DropwizardResourceConfig extends ResourceConfig {
             msg.append("The following paths were found for the configured resources:");
             msg.append(NEWLINE).append(NEWLINE);
 
-            for (Resource resource : resources) {
-                endpointLogLines.addAll(logResourceLines(resource, path));
-            }
-
-            final List<EndpointLogLine> providerLines = providers.stream()
-                    .map(Resource::from)
-                    .filter(Objects::nonNull)
+            final Set<EndpointLogLine> endpointLogLines = Stream.concat(
+                    resources.parallelStream(),
+                    providers.parallelStream()
+                            .map(Resource::from)
+                            .filter(Objects::nonNull))
                     .flatMap(res -> logResourceLines(res, path).stream())
-                    .collect(Collectors.toList());
-
-            endpointLogLines.addAll(providerLines);
+                    .collect(Collectors.toCollection(() -> new TreeSet<>(new EndpointComparator())));
 
+            final List<Map<String, String>> jsonLines = new ArrayList<>(endpointLogLines.size());
             if (!endpointLogLines.isEmpty()) {
                 for (EndpointLogLine line : endpointLogLines) {
                     msg.append(line).append(NEWLINE);
+
+                    final Map<String, String> jsonLine = new LinkedHashMap<>();
+                    jsonLine.put("method", line.getMethod());
+                    jsonLine.put("path", line.basePath);
+                    jsonLine.put("resource", line.klass.getCanonicalName());
+                    jsonLines.add(jsonLine);
                 }
             } else {
                 msg.append("    NONE").append(NEWLINE);
             }
 
-            return msg.toString();
+            try {
+                return new Endpoints(msg.toString(), MAPPER.writeValueAsBytes(jsonLines));
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
         }
 
         @Override
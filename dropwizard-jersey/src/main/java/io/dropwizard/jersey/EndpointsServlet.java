@@ -0,0 +1,31 @@
+package io.dropwizard.jersey;
+
+import io.dropwizard.servlets.TextOrJsonServlet;
+
+/**
+ * A servlet which lists the endpoints of the resources of a {@link DropwizardResourceConfig}, as plain text or, if
+ * the request has the {@code format=json} parameter or accepts {@code application/json}, as a JSON array.
+ * <p>
+ * The listing is computed once and cached by the {@link DropwizardResourceConfig}.
+ *
+ * @since 2.1
+ */
+public class EndpointsServlet extends TextOrJsonServlet {
+    private static final long serialVersionUID = 1L;
+
+    private final transient DropwizardResourceConfig config;
+
+    public EndpointsServlet(DropwizardResourceConfig config) {
+        this.config = config;
+    }
+
+    @Override
+    protected String getText() {
+        return config.getEndpointsInfo();
+    }
+
+    @Override
+    protected byte[] getJson() {
+        return config.getEndpointsJson();
+    }
+}
@@ -0,0 +1,75 @@
+package io.dropwizard.jersey.jackson;
+
+import org.glassfish.jersey.server.model.Invocable;
+import org.glassfish.jersey.server.model.Parameter;
+import org.glassfish.jersey.server.model.Resource;
+import org.glassfish.jersey.server.model.ResourceMethod;
+import org.glassfish.jersey.server.monitoring.ApplicationEvent;
+import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.glassfish.jersey.server.monitoring.RequestEventListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import javax.ws.rs.core.MediaType;
+import java.lang.reflect.Type;
+
+/**
+ * Creates the readers and writers of the entity types of all resource methods when the application has been
+ * initialized, so that the first requests don't pay for looking up the Jackson serializers and deserializers.
+ */
+class JacksonEntityTypesListener implements ApplicationEventListener {
+    private static final Logger LOGGER = LoggerFactory.getLogger(JacksonEntityTypesListener.class);
+
+    private final JacksonMessageBodyProvider provider;
+
+    JacksonEntityTypesListener(JacksonMessageBodyProvider provider) {
+        this.provider = provider;
+    }
+
+    @Override
+    public void onEvent(ApplicationEvent event) {
+        if (event.getType() == ApplicationEvent.Type.INITIALIZATION_APP_FINISHED) {
+            for (Resource resource : event.getResourceModel().getResources()) {
+                prepare(resource);
+            }
+        }
+    }
+
+    private void prepare(Resource resource) {
+        for (Resource child : resource.getChildResources()) {
+            prepare(child);
+        }
+        for (ResourceMethod method : resource.getResourceMethods()) {
+            final Invocable invocable = method.getInvocable();
+            try {
+                for (Parameter parameter : invocable.getParameters()) {
+                    if (parameter.getSource() == Parameter.Source.ENTITY && provider.isReadable(parameter.getRawType(),
+                        parameter.getType(), parameter.getAnnotations(), MediaType.APPLICATION_JSON_TYPE)) {
+                        provider.readerFor(parameter.getType());
+                    }
+                }
+                prepareWriter(invocable.getRawResponseType(), invocable.getResponseType());
+            } catch (RuntimeException e) {
+                // the type is resolved again when it's used, and any error is reported then
+                LOGGER.debug("Unable to prepare the entity types of {}", invocable.getHandlingMethod(), e);
+            }
+        }
+    }
+
+    private void prepareWriter(Class<?> rawType, Type type) {
+        if (rawType != void.class && rawType != Void.class
+            && provider.isWriteable(rawType, type, null, MediaType.APPLICATION_JSON_TYPE)) {
+            provider.writerFor(type);
+            // the serializer of the declared type is also used for values of exactly that type
+            provider.getObjectMapper().writerFor(rawType);
+        }
+    }
+
+    @Override
+    @Nullable
+    public RequestEventListener onRequest(RequestEvent requestEvent) {
+        return null;
+    }
+}
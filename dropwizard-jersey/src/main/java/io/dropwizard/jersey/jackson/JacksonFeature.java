@@ -2,6 +2,7 @@ package io.dropwizard.jersey.jackson;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import javax.ws.rs.RuntimeType;
 import javax.ws.rs.core.Feature;
 import javax.ws.rs.core.FeatureContext;
 import javax.ws.rs.ext.MessageBodyReader;
@@ -21,7 +22,11 @@ public class JacksonFeature implements Feature {
 
     @Override
     public boolean configure(FeatureContext context) {
-        context.register(new JacksonMessageBodyProvider(mapper), MessageBodyReader.class, MessageBodyWriter.class);
+        final JacksonMessageBodyProvider provider = new JacksonMessageBodyProvider(mapper);
+        context.register(provider, MessageBodyReader.class, MessageBodyWriter.class);
+        if (context.getConfiguration().getRuntimeType() == RuntimeType.SERVER) {
+            context.register(new JacksonEntityTypesListener(provider));
+        }
         return true;
     }
 }
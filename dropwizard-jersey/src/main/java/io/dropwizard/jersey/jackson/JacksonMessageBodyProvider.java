@@ -1,22 +1,75 @@
 package io.dropwizard.jersey.jackson;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import com.fasterxml.jackson.annotation.JsonView;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.JSONPObject;
+import com.fasterxml.jackson.databind.util.JSONWrappedObject;
+import com.fasterxml.jackson.jaxrs.cfg.JaxRSFeature;
+import com.fasterxml.jackson.jaxrs.cfg.ObjectReaderInjector;
+import com.fasterxml.jackson.jaxrs.cfg.ObjectWriterInjector;
+import com.fasterxml.jackson.jaxrs.cfg.ObjectWriterModifier;
 import com.fasterxml.jackson.jaxrs.json.JacksonJaxbJsonProvider;
+import com.fasterxml.jackson.jaxrs.json.JsonEndpointConfig;
 
 import javax.annotation.Nullable;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
 
 /**
  * A Jersey provider which enables using Jackson to parse request entities into objects and generate
  * response entities from objects.
  * <p/>
  * (Essentially, extends {@link JacksonJaxbJsonProvider} with support for {@link JsonIgnoreType}.)
+ * <p/>
+ * {@link Iterator} and {@link Stream} response entities are written as JSON arrays element by element, and a
+ * {@link MappingIterator} request entity reads the elements of a JSON array one at a time, so large collections
+ * don't have to fit in memory.
+ * <p/>
+ * Entities which aren't customized by Jackson annotations on the resource method are read and written by an
+ * {@link ObjectReader} or {@link ObjectWriter} which is created once per entity type, instead of being resolved for
+ * every request. The readers of the entity parameters of resource methods are created at startup.
  */
 public class JacksonMessageBodyProvider extends JacksonJaxbJsonProvider {
+    /**
+     * The number of streamed elements after which the written output is flushed to the client.
+     */
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private static final ClassValue<Boolean> PROVIDABLE = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            final JsonIgnoreType ignore = type.getAnnotation(JsonIgnoreType.class);
+            return (ignore == null) || !ignore.value();
+        }
+    };
+
+    /**
+     * The maximum number of cached readers and writers each. Entities of further types are handled without caching.
+     */
+    private static final int MAX_CACHED_TYPES = 1024;
+
     private final ObjectMapper mapper;
+    private final ConcurrentMap<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Type, ObjectWriter> writers = new ConcurrentHashMap<>();
 
     public JacksonMessageBodyProvider(ObjectMapper mapper) {
         this.mapper = mapper;
@@ -40,8 +93,203 @@ public class JacksonMessageBodyProvider extends JacksonJaxbJsonProvider {
     }
 
     private boolean isProvidable(Class<?> type) {
-        final JsonIgnoreType ignore = type.getAnnotation(JsonIgnoreType.class);
-        return (ignore == null) || !ignore.value();
+        return PROVIDABLE.get(type);
+    }
+
+    @Override
+    @Nullable
+    public Object readFrom(Class<Object> type,
+                           Type genericType,
+                           Annotation[] annotations,
+                           MediaType mediaType,
+                           MultivaluedMap<String, String> httpHeaders,
+                           InputStream entityStream) throws IOException {
+        if (MappingIterator.class.isAssignableFrom(type)) {
+            final ObjectMapper objectMapper = locateMapper(type, mediaType);
+            final JavaType elementType = elementType(objectMapper.getTypeFactory(), genericType, MappingIterator.class);
+            return objectMapper.readerFor(elementType).readValues(entityStream);
+        }
+        if (JsonParser.class.isAssignableFrom(type) || !isCacheable(annotations) || _defaultReadView != null
+            || ObjectReaderInjector.get() != null || locateMapper(type, mediaType) != mapper) {
+            return super.readFrom(type, genericType, annotations, mediaType, httpHeaders, entityStream);
+        }
+
+        final ObjectReader reader = readerFor(genericType == null ? type : genericType);
+        final JsonParser parser = _createParser(reader, entityStream);
+        if (parser == null || parser.nextToken() == null) {
+            if (JaxRSFeature.ALLOW_EMPTY_INPUT.enabledIn(_jaxRSFeatures)) {
+                return null;
+            }
+            throw _createNoContentException();
+        }
+        return reader.readValue(parser);
+    }
+
+    @Override
+    public void writeTo(Object value,
+                        Class<?> type,
+                        Type genericType,
+                        Annotation[] annotations,
+                        MediaType mediaType,
+                        MultivaluedMap<String, Object> httpHeaders,
+                        OutputStream entityStream) throws IOException {
+        if (value instanceof Stream) {
+            try (Stream<?> stream = (Stream<?>) value) {
+                writeElements(value, stream.iterator(), type, genericType, Stream.class, annotations, mediaType,
+                    httpHeaders, entityStream);
+            }
+        } else if (value instanceof Iterator) {
+            writeElements(value, (Iterator<?>) value, type, genericType, Iterator.class, annotations, mediaType,
+                httpHeaders, entityStream);
+        } else if (!isCacheable(annotations) || _defaultWriteView != null || _jsonpFunctionName != null
+            || isEnabled(JaxRSFeature.ADD_NO_SNIFF_HEADER) || ObjectWriterInjector.get() != null
+            || locateMapper(type, mediaType) != mapper) {
+            super.writeTo(value, type, genericType, annotations, mediaType, httpHeaders, entityStream);
+        } else {
+            final ObjectWriter writer = writerFor(value == null ? null : genericType);
+            try (JsonGenerator generator = _createGenerator(writer, entityStream,
+                findEncoding(mediaType, httpHeaders))) {
+                if (writer.isEnabled(SerializationFeature.INDENT_OUTPUT)) {
+                    generator.useDefaultPrettyPrinter();
+                }
+                writer.writeValue(generator, value);
+            }
+        }
+    }
+
+    /**
+     * Returns whether the entity is handled the same regardless of the annotations, i.e. if none of them is a
+     * Jackson annotation like {@link JsonView}, which customizes the reader or writer of the entity.
+     */
+    private static boolean isCacheable(@Nullable Annotation[] annotations) {
+        if (annotations != null) {
+            for (Annotation annotation : annotations) {
+                if (annotation.annotationType().getName().startsWith("com.fasterxml.jackson.")) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    ObjectReader readerFor(Type type) {
+        final ObjectReader cached = readers.get(type);
+        if (cached != null) {
+            return cached;
+        }
+        final ObjectReader reader = mapper.readerFor(mapper.constructType(type));
+        if (readers.size() < MAX_CACHED_TYPES) {
+            readers.putIfAbsent(type, reader);
+        }
+        return reader;
+    }
+
+    boolean hasCachedReader(Type type) {
+        return readers.containsKey(type);
+    }
+
+    boolean hasCachedWriter(@Nullable Type genericType) {
+        return writers.containsKey(genericType == null ? Object.class : genericType);
+    }
+
+    int getCachedWriterCount() {
+        return writers.size();
+    }
+
+    /**
+     * Returns the writer of entities of the given generic type. Unlike {@link JacksonJaxbJsonProvider}, the root type
+     * of generic types isn't specialized to the runtime class of the entity, so the writer only depends on the
+     * declared type, and the writers prepared for the resource methods are used for all of their entities.
+     */
+    ObjectWriter writerFor(@Nullable Type genericType) {
+        final Type key = genericType == null ? Object.class : genericType;
+        final ObjectWriter cached = writers.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        ObjectWriter writer = mapper.writer();
+        // like JacksonJaxbJsonProvider, only force the root type of generic types, to keep polymorphic values intact
+        if (!(key instanceof Class)) {
+            final JavaType rootType = mapper.constructType(key);
+            if (rootType.getRawClass() != Object.class) {
+                writer = writer.forType(rootType);
+            }
+        }
+        if (writers.size() < MAX_CACHED_TYPES) {
+            writers.putIfAbsent(key, writer);
+        }
+        return writer;
+    }
+
+    /**
+     * Writes the elements as a JSON array, like {@link JacksonJaxbJsonProvider} writes a collection: with the view,
+     * the features and the JSONP wrapping of the endpoint, the polymorphic type handling of the element type and the
+     * {@link ObjectWriterModifier} of the request, if any.
+     */
+    private void writeElements(Object value,
+                               Iterator<?> elements,
+                               Class<?> type,
+                               @Nullable Type genericType,
+                               Class<?> container,
+                               @Nullable Annotation[] annotations,
+                               MediaType mediaType,
+                               MultivaluedMap<String, Object> httpHeaders,
+                               OutputStream entityStream) throws IOException {
+        final JsonEndpointConfig endpoint = _endpointForWriting(value, type, genericType, annotations, mediaType,
+            httpHeaders);
+        _modifyHeaders(value, type, genericType, annotations, httpHeaders, endpoint);
+        ObjectWriter writer = endpoint.getWriter().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        final JavaType elementType = elementType(writer.getTypeFactory(), genericType, container);
+        if (elementType.getRawClass() != Object.class) {
+            writer = writer.forType(elementType);
+        }
+
+        try (JsonGenerator generator = _createGenerator(writer, entityStream, findEncoding(mediaType, httpHeaders))) {
+            if (writer.isEnabled(SerializationFeature.INDENT_OUTPUT)) {
+                generator.useDefaultPrettyPrinter();
+            }
+            final ObjectWriterModifier modifier = ObjectWriterInjector.getAndClear();
+            if (modifier != null) {
+                writer = modifier.modify(endpoint, httpHeaders, value, writer, generator);
+            }
+
+            final Object wrapped = endpoint.modifyBeforeWrite(value);
+            if (wrapped instanceof JSONPObject) {
+                generator.writeRaw(((JSONPObject) wrapped).getFunction() + "(");
+            } else if (wrapped instanceof JSONWrappedObject) {
+                writeRaw(generator, ((JSONWrappedObject) wrapped).getPrefix());
+            }
+            try (SequenceWriter sequence = writer.writeValuesAsArray(generator)) {
+                int count = 0;
+                while (elements.hasNext()) {
+                    sequence.write(elements.next());
+                    if (++count % FLUSH_INTERVAL == 0) {
+                        sequence.flush();
+                    }
+                }
+            }
+            if (wrapped instanceof JSONPObject) {
+                generator.writeRaw(")");
+            } else if (wrapped instanceof JSONWrappedObject) {
+                writeRaw(generator, ((JSONWrappedObject) wrapped).getSuffix());
+            }
+        }
+    }
+
+    private static void writeRaw(JsonGenerator generator, @Nullable String text) throws IOException {
+        if (text != null) {
+            generator.writeRaw(text);
+        }
+    }
+
+    private static JavaType elementType(TypeFactory typeFactory, @Nullable Type genericType, Class<?> container) {
+        if (genericType != null) {
+            final JavaType[] parameters = typeFactory.constructType(genericType).findTypeParameters(container);
+            if (parameters.length == 1) {
+                return parameters[0];
+            }
+        }
+        return typeFactory.constructType(Object.class);
     }
 
     public ObjectMapper getObjectMapper() {
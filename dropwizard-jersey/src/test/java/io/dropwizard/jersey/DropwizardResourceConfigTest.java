@@ -233,6 +233,21 @@ class DropwizardResourceConfigTest {
         assertThat(rc.getEndpointsInfo()).contains(expectedLog);
     }
 
+    @Test
+    void bindsRegisteredInstancesToTheirTypesWithASingleBinder() {
+        final long binders = rc.getSingletons().stream().filter(AbstractBinder.class::isInstance).count();
+
+        rc.register(ResourceWithInjectedDependency.class);
+        rc.register(new Dependency());
+        rc.register(new TestResource());
+
+        assertThat(rc.getSingletons()).filteredOn(AbstractBinder.class::isInstance).hasSize((int) binders + 1);
+
+        runJersey();
+        assertThat(jerseyTest.target("/another").request().get(String.class)).isEqualTo("A");
+        assertThat(jerseyTest.target("/dummy").request().get(String.class)).isEqualTo("bar");
+    }
+
     @Test
     void logsEndpointsContextPathUrlPattern() {
         rc.setContextPath("/context");
@@ -302,6 +317,31 @@ class DropwizardResourceConfigTest {
                 .contains("GET     /relative/child2 (io.dropwizard.jersey.DropwizardResourceConfigTest.TestRelativePathResource)");
     }
 
+    @Test
+    void logsTheEndpointsOnTheCallingThread() {
+        rc.register(TestResource.class);
+
+        runJersey();
+        rc.logEndpointsInfo();
+        assertThat(rc.getEndpointsInfo())
+            .contains("GET     /dummy (io.dropwizard.jersey.DropwizardResourceConfigTest.TestResource)");
+    }
+
+    @Test
+    void cachesEndpointsUntilThePathsChange() {
+        rc.setLogEndpoints(false);
+        rc.register(TestResource.class);
+
+        runJersey();
+        final String endpointsInfo = rc.getEndpointsInfo();
+        assertThat(rc.getEndpointsInfo()).isSameAs(endpointsInfo);
+
+        rc.setContextPath("/context");
+        assertThat(rc.getEndpointsInfo())
+            .isNotSameAs(endpointsInfo)
+            .contains("GET     /context/dummy (io.dropwizard.jersey.DropwizardResourceConfigTest.TestResource)");
+    }
+
     @Path("/dummy")
     public static class TestResource {
         @GET
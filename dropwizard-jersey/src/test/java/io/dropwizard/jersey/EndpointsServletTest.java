@@ -0,0 +1,103 @@
+package io.dropwizard.jersey;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.core.Application;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EndpointsServletTest {
+    private final DropwizardResourceConfig rc = DropwizardResourceConfig.forTesting();
+    private final AbstractJerseyTest jerseyTest = new AbstractJerseyTest() {
+        @Override
+        protected Application configure() {
+            return rc;
+        }
+    };
+    private final EndpointsServlet servlet = new EndpointsServlet(rc);
+    private final HttpServletRequest request = mock(HttpServletRequest.class);
+    private final HttpServletResponse response = mock(HttpServletResponse.class);
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        rc.setLogEndpoints(false);
+        rc.register(PingResource.class);
+        jerseyTest.setUp();
+
+        when(request.getMethod()).thenReturn("GET");
+        when(response.getOutputStream()).thenReturn(new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+
+            @Override
+            public void write(int b) {
+                output.write(b);
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        jerseyTest.tearDown();
+    }
+
+    @Test
+    void listsTheEndpointsAsText() throws Exception {
+        servlet.service(request, response);
+
+        verify(response).setContentType("text/plain");
+        assertThat(new String(output.toByteArray(), StandardCharsets.UTF_8))
+            .isEqualTo(rc.getEndpointsInfo())
+            .contains("GET     /ping (io.dropwizard.jersey.EndpointsServletTest.PingResource)");
+    }
+
+    @Test
+    void listsTheEndpointsAsJsonIfRequested() throws Exception {
+        when(request.getParameter("format")).thenReturn("json");
+
+        servlet.service(request, response);
+
+        verify(response).setContentType("application/json");
+        assertThat(new String(output.toByteArray(), StandardCharsets.UTF_8))
+            .isEqualTo("[{\"method\":\"GET\",\"path\":\"/ping\"," +
+                "\"resource\":\"io.dropwizard.jersey.EndpointsServletTest.PingResource\"}]");
+    }
+
+    @Test
+    void listsTheEndpointsAsJsonIfAccepted() throws Exception {
+        when(request.getHeader("Accept")).thenReturn("application/json");
+
+        servlet.service(request, response);
+
+        verify(response).setContentType("application/json");
+        assertThat(new String(output.toByteArray(), StandardCharsets.UTF_8)).startsWith("[{\"method\":\"GET\"");
+    }
+
+    @Path("/ping")
+    public static class PingResource {
+        @GET
+        public String ping() {
+            return "pong";
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package io.dropwizard.jersey.jackson;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.dropwizard.jackson.Jackson;
+import org.glassfish.jersey.server.model.Resource;
+import org.glassfish.jersey.server.model.ResourceModel;
+import org.glassfish.jersey.server.monitoring.ApplicationEvent;
+import org.junit.jupiter.api.Test;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
+import java.io.ByteArrayOutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JacksonEntityTypesListenerTest {
+    private static final Type EXAMPLES = new TypeReference<List<JacksonMessageBodyProviderTest.Example>>() {
+    }.getType();
+
+    private final JacksonMessageBodyProvider provider = new JacksonMessageBodyProvider(Jackson.newObjectMapper());
+    private final JacksonEntityTypesListener listener = new JacksonEntityTypesListener(provider);
+
+    @Test
+    void preparesTheEntityTypesOfResourceMethods() {
+        listener.onEvent(initialized());
+
+        assertThat(provider.hasCachedReader(EXAMPLES)).isTrue();
+        assertThat(provider.hasCachedWriter(JacksonMessageBodyProviderTest.Example.class)).isTrue();
+        assertThat(provider.hasCachedWriter(EXAMPLES)).isTrue();
+    }
+
+    @Test
+    void preparesTheWritersUsedForEntitiesOfOtherRuntimeClasses() throws Exception {
+        listener.onEvent(initialized());
+        final int prepared = provider.getCachedWriterCount();
+
+        final JacksonMessageBodyProviderTest.Example example = new JacksonMessageBodyProviderTest.Example();
+        example.id = 1;
+        final List<JacksonMessageBodyProviderTest.Example> examples = new ArrayList<>();
+        examples.add(example);
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        provider.writeTo(examples, ArrayList.class, EXAMPLES, new Annotation[0], MediaType.APPLICATION_JSON_TYPE,
+            new MultivaluedHashMap<>(), output);
+
+        assertThat(output).hasToString("[{\"id\":1}]");
+        assertThat(provider.getCachedWriterCount()).isEqualTo(prepared);
+    }
+
+    @Test
+    void doesNotPrepareTypesWhichAreNotHandledByJackson() {
+        listener.onEvent(initialized());
+
+        assertThat(provider.hasCachedReader(String.class)).isFalse();
+        assertThat(provider.hasCachedWriter(String.class)).isFalse();
+    }
+
+    @Test
+    void ignoresOtherEvents() {
+        final ApplicationEvent event = mock(ApplicationEvent.class);
+        when(event.getType()).thenReturn(ApplicationEvent.Type.INITIALIZATION_START);
+
+        listener.onEvent(event);
+
+        assertThat(provider.hasCachedReader(EXAMPLES)).isFalse();
+    }
+
+    private static ApplicationEvent initialized() {
+        final ApplicationEvent event = mock(ApplicationEvent.class);
+        when(event.getType()).thenReturn(ApplicationEvent.Type.INITIALIZATION_APP_FINISHED);
+        when(event.getResourceModel()).thenReturn(new ResourceModel.Builder(false)
+            .addResource(Resource.from(ExamplesResource.class))
+            .build());
+        return event;
+    }
+
+    @Path("/examples")
+    public static class ExamplesResource {
+        @GET
+        public List<JacksonMessageBodyProviderTest.Example> list() {
+            throw new UnsupportedOperationException();
+        }
+
+        @POST
+        public String add(List<JacksonMessageBodyProviderTest.Example> examples) {
+            throw new UnsupportedOperationException();
+        }
+
+        @GET
+        @Path("/{id}")
+        public JacksonMessageBodyProviderTest.Example get(@PathParam("id") int id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @POST
+        @Path("/{id}")
+        public void update(@PathParam("id") int id, String example) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
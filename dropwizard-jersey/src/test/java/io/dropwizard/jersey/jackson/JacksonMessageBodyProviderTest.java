@@ -2,9 +2,19 @@ package io.dropwizard.jersey.jackson;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreType;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonView;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.jaxrs.cfg.EndpointConfigBase;
+import com.fasterxml.jackson.jaxrs.cfg.ObjectWriterInjector;
+import com.fasterxml.jackson.jaxrs.cfg.ObjectWriterModifier;
 import io.dropwizard.jackson.Jackson;
 import io.dropwizard.validation.Validated;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,18 +28,26 @@ import javax.validation.constraints.NotNull;
 import javax.validation.groups.Default;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -76,6 +94,16 @@ public class JacksonMessageBodyProviderTest {
     public interface Partial1 {
     }
 
+    public static class ViewExample {
+        @JsonView(Partial1.class)
+        @JsonProperty
+        public int id;
+
+        @JsonView(Partial2.class)
+        @JsonProperty
+        public String text = "";
+    }
+
     public interface Partial2 extends Default {
     }
 
@@ -90,6 +118,16 @@ public class JacksonMessageBodyProviderTest {
         public String text;
     }
 
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NAME)
+    @JsonSubTypes(@JsonSubTypes.Type(value = Circle.class, name = "circle"))
+    public interface Shape {
+    }
+
+    public static class Circle implements Shape {
+        @JsonProperty
+        public int radius = 1;
+    }
+
     @JsonIgnoreType
     public interface Ignorable {
 
@@ -109,6 +147,12 @@ public class JacksonMessageBodyProviderTest {
         assumeThat(Locale.getDefault().getLanguage()).isEqualTo("en");
     }
 
+    private static Example example(int id) {
+        final Example example = new Example();
+        example.id = id;
+        return example;
+    }
+
     @Test
     void readsDeserializableTypes() {
         assertThat(provider.isReadable(Example.class, null, null, null))
@@ -251,6 +295,239 @@ public class JacksonMessageBodyProviderTest {
                 .hasToString("{\"id\":500}");
     }
 
+    @Test
+    void streamsIteratorResponseEntities() throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final List<Example> examples = Arrays.asList(example(1), example(2));
+
+        provider.writeTo(examples.iterator(),
+                         Iterator.class,
+                         new TypeReference<Iterator<Example>>() {
+                         }.getType(),
+                         NONE,
+                         MediaType.APPLICATION_JSON_TYPE,
+                         new MultivaluedHashMap<>(),
+                         output);
+
+        assertThat(output)
+                .hasToString("[{\"id\":1},{\"id\":2}]");
+    }
+
+    @Test
+    void streamsStreamResponseEntitiesAndClosesThem() throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final AtomicBoolean closed = new AtomicBoolean();
+        final Stream<Example> examples = Stream.of(example(1), example(2)).onClose(() -> closed.set(true));
+
+        provider.writeTo(examples,
+                         Stream.class,
+                         new TypeReference<Stream<Example>>() {
+                         }.getType(),
+                         NONE,
+                         MediaType.APPLICATION_JSON_TYPE,
+                         new MultivaluedHashMap<>(),
+                         output);
+
+        assertThat(output)
+                .hasToString("[{\"id\":1},{\"id\":2}]");
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void streamsPolymorphicElementsWithTheirTypes() throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        provider.writeTo(Stream.of(new Circle()),
+                         Stream.class,
+                         new TypeReference<Stream<Shape>>() {
+                         }.getType(),
+                         NONE,
+                         MediaType.APPLICATION_JSON_TYPE,
+                         new MultivaluedHashMap<>(),
+                         output);
+
+        assertThat(output)
+                .hasToString("[{\"@type\":\"circle\",\"radius\":1}]");
+    }
+
+    @Test
+    void appliesTheObjectWriterModifierToStreamedEntities() throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ObjectWriterInjector.set(new ObjectWriterModifier() {
+            @Override
+            public ObjectWriter modify(EndpointConfigBase<?> endpoint, MultivaluedMap<String, Object> headers,
+                                       Object value, ObjectWriter writer, JsonGenerator generator) {
+                generator.useDefaultPrettyPrinter();
+                return writer.with(SerializationFeature.INDENT_OUTPUT);
+            }
+        });
+
+        provider.writeTo(Stream.of(example(1)),
+                         Stream.class,
+                         new TypeReference<Stream<Example>>() {
+                         }.getType(),
+                         NONE,
+                         MediaType.APPLICATION_JSON_TYPE,
+                         new MultivaluedHashMap<>(),
+                         output);
+
+        assertThat(output.toString(StandardCharsets.UTF_8.name()))
+                .contains(String.format("\"id\" : 1%n"));
+        assertThat(ObjectWriterInjector.get()).isNull();
+    }
+
+    @Test
+    void wrapsStreamedEntitiesInJsonp() throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        provider.setJSONPFunctionName("callback");
+
+        provider.writeTo(Stream.of(example(1)),
+                         Stream.class,
+                         new TypeReference<Stream<Example>>() {
+                         }.getType(),
+                         NONE,
+                         MediaType.APPLICATION_JSON_TYPE,
+                         new MultivaluedHashMap<>(),
+                         output);
+
+        assertThat(output)
+                .hasToString("callback([{\"id\":1}])");
+    }
+
+    @Test
+    void streamsEmptyStreamResponseEntities() throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        provider.writeTo(Stream.empty(),
+                         Stream.class,
+                         Stream.class,
+                         NONE,
+                         MediaType.APPLICATION_JSON_TYPE,
+                         new MultivaluedHashMap<>(),
+                         output);
+
+        assertThat(output)
+                .hasToString("[]");
+    }
+
+    @Test
+    void flushesStreamedResponseEntitiesPeriodically() throws Exception {
+        final AtomicInteger flushes = new AtomicInteger();
+        final OutputStream output = new ByteArrayOutputStream() {
+            @Override
+            public void flush() {
+                flushes.incrementAndGet();
+            }
+        };
+
+        provider.writeTo(IntStream.range(0, 2500).mapToObj(JacksonMessageBodyProviderTest::example),
+                         Stream.class,
+                         Stream.class,
+                         NONE,
+                         MediaType.APPLICATION_JSON_TYPE,
+                         new MultivaluedHashMap<>(),
+                         output);
+
+        // once every 1000 elements, and once at the end
+        assertThat(flushes).hasValue(3);
+    }
+
+    @Test
+    void readsMappingIteratorRequestEntities() throws Exception {
+        final ByteArrayInputStream entity = new ByteArrayInputStream(
+            "[{\"id\":1},{\"id\":2}]".getBytes(StandardCharsets.UTF_8));
+        final Class<?> klass = MappingIterator.class;
+
+        final Object obj = provider.readFrom((Class<Object>) klass,
+                                             new TypeReference<MappingIterator<Example>>() {
+                                             }.getType(),
+                                             NONE,
+                                             MediaType.APPLICATION_JSON_TYPE,
+                                             new MultivaluedHashMap<>(),
+                                             entity);
+
+        assertThat(obj).isInstanceOf(MappingIterator.class);
+        assertThat(((MappingIterator<Example>) obj).readAll())
+                .containsExactly(example(1), example(2));
+    }
+
+    @Test
+    void reusesTheReaderOfAnEntityType() throws Exception {
+        final Type type = new TypeReference<List<Example>>() {
+        }.getType();
+
+        for (int i = 0; i < 2; i++) {
+            final Object obj = provider.readFrom((Class<Object>) (Class<?>) List.class,
+                                                 type,
+                                                 NONE,
+                                                 MediaType.APPLICATION_JSON_TYPE,
+                                                 new MultivaluedHashMap<>(),
+                                                 new ByteArrayInputStream(
+                                                     "[{\"id\":1}]".getBytes(StandardCharsets.UTF_8)));
+            assertThat((List<Example>) obj).containsExactly(example(1));
+        }
+
+        assertThat(provider.hasCachedReader(type)).isTrue();
+        assertThat(provider.readerFor(type)).isSameAs(provider.readerFor(type));
+    }
+
+    @Test
+    void reusesTheWriterOfAnEntityType() throws Exception {
+        final Type type = new TypeReference<List<Example>>() {
+        }.getType();
+
+        for (int i = 0; i < 2; i++) {
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+            provider.writeTo(Collections.singletonList(example(1)),
+                             Collections.singletonList(example(1)).getClass(),
+                             type,
+                             NONE,
+                             MediaType.APPLICATION_JSON_TYPE,
+                             new MultivaluedHashMap<>(),
+                             output);
+            assertThat(output).hasToString("[{\"id\":1}]");
+        }
+
+        assertThat(provider.hasCachedWriter(type)).isTrue();
+        assertThat(provider.getCachedWriterCount()).isEqualTo(1);
+        assertThat(provider.writerFor(type)).isSameAs(provider.writerFor(type));
+    }
+
+    @Test
+    void readsEmptyRequestEntitiesAsNull() throws Exception {
+        final Object obj = provider.readFrom((Class<Object>) (Class<?>) Example.class,
+                                             Example.class,
+                                             NONE,
+                                             MediaType.APPLICATION_JSON_TYPE,
+                                             new MultivaluedHashMap<>(),
+                                             new ByteArrayInputStream(new byte[0]));
+
+        assertThat(obj).isNull();
+    }
+
+    @Test
+    void appliesTheJsonViewOfTheResourceMethod() throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final JsonView view = mock(JsonView.class);
+        doReturn(JsonView.class).when(view).annotationType();
+        when(view.value()).thenReturn(new Class<?>[]{Partial1.class});
+
+        final ViewExample example = new ViewExample();
+        example.id = 1;
+        example.text = "hidden";
+
+        provider.writeTo(example,
+                         ViewExample.class,
+                         ViewExample.class,
+                         new Annotation[]{view},
+                         MediaType.APPLICATION_JSON_TYPE,
+                         new MultivaluedHashMap<>(),
+                         output);
+
+        assertThat(output).hasToString("{\"id\":1}");
+        assertThat(provider.hasCachedWriter(ViewExample.class)).isFalse();
+    }
+
     @Test
     void returnsValidatedCollectionRequestEntities() throws Exception {
         testValidatedCollectionType(Collection.class,
@@ -0,0 +1,78 @@
+package io.dropwizard.jetty;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * A {@link ConcurrencyLimit} which is increased additively while requests are handled faster than a latency
+ * threshold, and decreased multiplicatively as soon as a request is slower than the threshold.
+ * <p>
+ * The limit is decreased at most once per window: slow requests which started before the last decrease were
+ * admitted under the old limit, and don't decrease it again. Samples are recorded without locking.
+ *
+ * @since 2.1
+ */
+public class AimdConcurrencyLimit implements ConcurrencyLimit {
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger limit;
+    private final AtomicLong lastBackoffNanos;
+
+    /**
+     * @param initialLimit          the limit to start with
+     * @param minLimit              the lowest limit
+     * @param maxLimit              the highest limit
+     * @param backoffRatio          the ratio by which the limit is decreased, between 0 and 1
+     * @param latencyThresholdNanos the latency above which the limit is decreased, in nanoseconds
+     */
+    public AimdConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+                                long latencyThresholdNanos) {
+        this(initialLimit, minLimit, maxLimit, backoffRatio, latencyThresholdNanos, System::nanoTime);
+    }
+
+    AimdConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+                         long latencyThresholdNanos, LongSupplier nanoClock) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("The limits must satisfy 1 <= minLimit <= initialLimit <= maxLimit");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("The backoff ratio must be between 0 and 1");
+        }
+        this.limit = new AtomicInteger(initialLimit);
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.nanoClock = nanoClock;
+        this.lastBackoffNanos = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    @Override
+    public int getLimit() {
+        return limit.get();
+    }
+
+    @Override
+    public void onSample(long latencyNanos, int inFlight) {
+        if (latencyNanos > latencyThresholdNanos) {
+            final long now = nanoClock.getAsLong();
+            final long lastBackoff = lastBackoffNanos.get();
+            if (now - latencyNanos - lastBackoff >= 0 && lastBackoffNanos.compareAndSet(lastBackoff, now)) {
+                limit.updateAndGet(currentLimit -> Math.max(minLimit, (int) (currentLimit * backoffRatio)));
+            }
+        } else {
+            // only grow the limit if it's actually used, so it doesn't grow unbounded while the load is low
+            limit.updateAndGet(currentLimit ->
+                inFlight * 2 >= currentLimit ? Math.min(maxLimit, currentLimit + 1) : currentLimit);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "AimdConcurrencyLimit{limit=" + limit + '}';
+    }
+}
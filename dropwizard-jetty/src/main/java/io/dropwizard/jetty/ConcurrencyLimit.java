@@ -0,0 +1,25 @@
+package io.dropwizard.jetty;
+
+/**
+ * An adaptive limit of the number of requests which are handled concurrently, which is adjusted based on the
+ * latency of the handled requests.
+ *
+ * @see ConcurrencyLimitHandler
+ * @since 2.1
+ */
+public interface ConcurrencyLimit {
+    /**
+     * Returns the current number of requests which may be handled concurrently.
+     *
+     * @return the current limit
+     */
+    int getLimit();
+
+    /**
+     * Adjusts the limit based on a request which was handled.
+     *
+     * @param latencyNanos the time it took to handle the request, in nanoseconds
+     * @param inFlight     the number of requests which were handled concurrently, including this one
+     */
+    void onSample(long latencyNanos, int inFlight);
+}
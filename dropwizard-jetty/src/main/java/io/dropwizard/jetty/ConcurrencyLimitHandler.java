@@ -0,0 +1,150 @@
+package io.dropwizard.jetty;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.handler.HandlerWrapper;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.DispatcherType;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * A handler which limits the number of requests which are handled concurrently by an adaptive
+ * {@link ConcurrencyLimit}. Requests beyond the limit are rejected immediately with a {@code 503 Service Unavailable}
+ * response and a {@code Retry-After} header, instead of queueing up in front of an overloaded application.
+ * <p>
+ * The current limit, the number of requests in flight and the rate of rejected requests are published as the
+ * {@code limit}, {@code in-flight} and {@code rejected} metrics of this class.
+ *
+ * @since 2.1
+ */
+public class ConcurrencyLimitHandler extends HandlerWrapper {
+    private final ConcurrencyLimit limit;
+    private final MetricRegistry metricRegistry;
+    private final String retryAfterSeconds;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Meter rejected;
+
+    /**
+     * @param limit             the limit of concurrent requests
+     * @param metricRegistry    the registry of the metrics
+     * @param retryAfterSeconds the number of seconds after which rejected clients should retry
+     */
+    public ConcurrencyLimitHandler(ConcurrencyLimit limit, MetricRegistry metricRegistry, long retryAfterSeconds) {
+        this.limit = limit;
+        this.metricRegistry = metricRegistry;
+        this.retryAfterSeconds = Long.toString(retryAfterSeconds);
+        this.rejected = metricRegistry.meter(name(ConcurrencyLimitHandler.class, "rejected"));
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        metricRegistry.gauge(name(ConcurrencyLimitHandler.class, "limit"), () -> (Gauge<Integer>) limit::getLimit);
+        metricRegistry.gauge(name(ConcurrencyLimitHandler.class, "in-flight"), () -> (Gauge<Integer>) inFlight::get);
+        super.doStart();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        metricRegistry.remove(name(ConcurrencyLimitHandler.class, "limit"));
+        metricRegistry.remove(name(ConcurrencyLimitHandler.class, "in-flight"));
+    }
+
+    @Override
+    public void handle(String target, Request baseRequest, HttpServletRequest request, HttpServletResponse response)
+        throws IOException, ServletException {
+        // asynchronous and error dispatches belong to a request which was already admitted
+        if (request.getDispatcherType() != DispatcherType.REQUEST) {
+            super.handle(target, baseRequest, request, response);
+            return;
+        }
+
+        if (!tryAcquire()) {
+            rejected.mark();
+            baseRequest.setHandled(true);
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader(HttpHeader.RETRY_AFTER.asString(), retryAfterSeconds);
+            response.setContentLength(0);
+            return;
+        }
+
+        final long start = System.nanoTime();
+        boolean released = false;
+        try {
+            super.handle(target, baseRequest, request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleasingListener(start));
+                released = true;
+            }
+        } finally {
+            if (!released) {
+                release(start);
+            }
+        }
+    }
+
+    private boolean tryAcquire() {
+        while (true) {
+            final int current = inFlight.get();
+            if (current >= limit.getLimit()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void release(long start) {
+        final int concurrent = inFlight.getAndDecrement();
+        limit.onSample(System.nanoTime() - start, concurrent);
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+    private class ReleasingListener implements AsyncListener {
+        private final long start;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        ReleasingListener(long start) {
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            if (released.compareAndSet(false, true)) {
+                release(start);
+            }
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            // the request is completed afterwards
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            // the request is completed afterwards
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // the listener must be re-registered when the request is suspended again
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package io.dropwizard.jetty;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.MinDuration;
+import io.dropwizard.validation.ValidationMethod;
+import org.eclipse.jetty.server.Handler;
+
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds {@link ConcurrencyLimitHandler concurrency limit handlers}.
+ *
+ * <p/>
+ * <b>Configuration Parameters:</b>
+ * <table>
+ *     <tr>
+ *         <td>Name</td>
+ *         <td>Default</td>
+ *         <td>Description</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code enabled}</td>
+ *         <td>false</td>
+ *         <td>If true, requests beyond the concurrency limit are rejected with a 503 response.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code algorithm}</td>
+ *         <td>gradient</td>
+ *         <td>How the limit is adjusted to the latency of requests: {@code gradient} for a
+ *             {@link GradientConcurrencyLimit}, or {@code aimd} for an {@link AimdConcurrencyLimit}.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code initialLimit}</td>
+ *         <td>20</td>
+ *         <td>The limit to start with.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code minLimit}</td>
+ *         <td>1</td>
+ *         <td>The lowest limit.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code maxLimit}</td>
+ *         <td>1000</td>
+ *         <td>The highest limit.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code tolerance}</td>
+ *         <td>1.5</td>
+ *         <td>The ratio by which the short-term latency may exceed the long-term latency before the limit is
+ *             decreased. Only used by the {@code gradient} algorithm.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code latencyThreshold}</td>
+ *         <td>1 second</td>
+ *         <td>The latency above which the limit is decreased. Only used by the {@code aimd} algorithm.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code backoffRatio}</td>
+ *         <td>0.9</td>
+ *         <td>The ratio by which the limit is decreased. Only used by the {@code aimd} algorithm.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code retryAfter}</td>
+ *         <td>1 second</td>
+ *         <td>The time after which rejected clients should retry, sent as the {@code Retry-After} header.</td>
+ *     </tr>
+ * </table>
+ *
+ * @since 2.1
+ */
+public class ConcurrencyLimitHandlerFactory {
+
+    public enum Algorithm {
+        AIMD,
+        GRADIENT
+    }
+
+    private boolean enabled = false;
+
+    @NotNull
+    private Algorithm algorithm = Algorithm.GRADIENT;
+
+    @Min(1)
+    private int initialLimit = 20;
+
+    @Min(1)
+    private int minLimit = 1;
+
+    @Min(1)
+    private int maxLimit = 1000;
+
+    @DecimalMin("1.0")
+    private double tolerance = 1.5;
+
+    @NotNull
+    @MinDuration(value = 0, unit = TimeUnit.MILLISECONDS, inclusive = false)
+    private Duration latencyThreshold = Duration.seconds(1);
+
+    @DecimalMin(value = "0.0", inclusive = false)
+    @DecimalMax(value = "1.0", inclusive = false)
+    private double backoffRatio = 0.9;
+
+    @NotNull
+    @MinDuration(0)
+    private Duration retryAfter = Duration.seconds(1);
+
+    @JsonIgnore
+    @ValidationMethod(message = "must have minLimit <= initialLimit <= maxLimit")
+    public boolean isLimitOrdered() {
+        return minLimit <= initialLimit && initialLimit <= maxLimit;
+    }
+
+    @JsonProperty
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @JsonProperty
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @JsonProperty
+    public Algorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    @JsonProperty
+    public void setAlgorithm(Algorithm algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    @JsonProperty
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    @JsonProperty
+    public void setInitialLimit(int initialLimit) {
+        this.initialLimit = initialLimit;
+    }
+
+    @JsonProperty
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    @JsonProperty
+    public void setMinLimit(int minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    @JsonProperty
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    @JsonProperty
+    public void setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    @JsonProperty
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    @JsonProperty
+    public void setTolerance(double tolerance) {
+        this.tolerance = tolerance;
+    }
+
+    @JsonProperty
+    public Duration getLatencyThreshold() {
+        return latencyThreshold;
+    }
+
+    @JsonProperty
+    public void setLatencyThreshold(Duration latencyThreshold) {
+        this.latencyThreshold = latencyThreshold;
+    }
+
+    @JsonProperty
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    @JsonProperty
+    public void setBackoffRatio(double backoffRatio) {
+        this.backoffRatio = backoffRatio;
+    }
+
+    @JsonProperty
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    @JsonProperty
+    public void setRetryAfter(Duration retryAfter) {
+        this.retryAfter = retryAfter;
+    }
+
+    public ConcurrencyLimit buildLimit() {
+        if (algorithm == Algorithm.AIMD) {
+            return new AimdConcurrencyLimit(initialLimit, minLimit, maxLimit, backoffRatio,
+                latencyThreshold.toNanoseconds());
+        }
+        return new GradientConcurrencyLimit(initialLimit, minLimit, maxLimit, tolerance);
+    }
+
+    public ConcurrencyLimitHandler build(Handler handler, MetricRegistry metricRegistry) {
+        final ConcurrencyLimitHandler limitHandler = new ConcurrencyLimitHandler(buildLimit(), metricRegistry,
+            (long) Math.ceil(retryAfter.toMilliseconds() / 1000.0));
+        limitHandler.setHandler(handler);
+        return limitHandler;
+    }
+}
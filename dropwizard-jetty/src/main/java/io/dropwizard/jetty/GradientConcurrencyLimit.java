@@ -0,0 +1,117 @@
+package io.dropwizard.jetty;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link ConcurrencyLimit} which follows the gradient between the long-term and the short-term average latency of
+ * requests. While the short-term latency is close to the long-term latency, the limit grows by the square root of
+ * itself, which allows some queueing. Once requests queue up and the short-term latency exceeds the long-term
+ * latency by more than the tolerance, the limit shrinks proportionally, down to half of its value.
+ * <p>
+ * The long-term average slowly drifts towards lower latencies after an overload, so a temporary latency increase
+ * doesn't become the new baseline.
+ * <p>
+ * Samples are recorded without locking, and the limit is updated once per window of about {@value #WINDOW_SAMPLES}
+ * samples, from their average latency and the highest number of requests in flight among them.
+ *
+ * @since 2.1
+ */
+public class GradientConcurrencyLimit implements ConcurrencyLimit {
+    static final int WINDOW_SAMPLES = 10;
+    private static final double LONG_WINDOWS = 60;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final LongAdder windowLatencyNanos = new LongAdder();
+    private final LongAdder windowSamples = new LongAdder();
+    private final AtomicInteger windowInFlight = new AtomicInteger();
+    private final AtomicInteger samples = new AtomicInteger();
+    private final AtomicBoolean updating = new AtomicBoolean();
+    private volatile int limit;
+
+    // only accessed by the thread which updates the limit
+    private double estimatedLimit;
+    private double longLatency;
+    private long windows;
+
+    /**
+     * @param initialLimit the limit to start with
+     * @param minLimit     the lowest limit
+     * @param maxLimit     the highest limit
+     * @param tolerance    the ratio by which the short-term latency may exceed the long-term latency before the
+     *                     limit is decreased, at least 1
+     */
+    public GradientConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("The limits must satisfy 1 <= minLimit <= initialLimit <= maxLimit");
+        }
+        if (tolerance < 1) {
+            throw new IllegalArgumentException("The tolerance must be at least 1");
+        }
+        this.limit = initialLimit;
+        this.estimatedLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+    }
+
+    @Override
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public void onSample(long latencyNanos, int inFlight) {
+        windowLatencyNanos.add(Math.max(1, latencyNanos));
+        windowSamples.increment();
+        windowInFlight.accumulateAndGet(inFlight, Math::max);
+        // samples which arrive while the limit is updated are counted towards the next window
+        if (samples.incrementAndGet() % WINDOW_SAMPLES == 0 && updating.compareAndSet(false, true)) {
+            try {
+                update();
+            } finally {
+                updating.set(false);
+            }
+        }
+    }
+
+    private void update() {
+        final long count = windowSamples.sumThenReset();
+        final long totalLatency = windowLatencyNanos.sumThenReset();
+        final int inFlight = windowInFlight.getAndSet(0);
+        if (count == 0) {
+            return;
+        }
+
+        final double shortLatency = Math.max(1, (double) totalLatency / count);
+        windows++;
+        if (windows == 1) {
+            longLatency = shortLatency;
+        } else {
+            longLatency += (shortLatency - longLatency) / Math.min(windows, LONG_WINDOWS);
+        }
+
+        // recover faster from an overload, which would otherwise have raised the baseline
+        if (longLatency > shortLatency * 2) {
+            longLatency *= 0.95;
+        }
+
+        // the latency isn't meaningful while the limit is hardly used
+        if (inFlight * 2 < estimatedLimit) {
+            return;
+        }
+
+        final double gradient = Math.max(0.5, Math.min(1.0, tolerance * longLatency / shortLatency));
+        final double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    @Override
+    public String toString() {
+        return "GradientConcurrencyLimit{limit=" + limit + '}';
+    }
+}
@@ -0,0 +1,124 @@
+package io.dropwizard.jetty;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.MinDuration;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The configuration of a lane of a {@link RequestLanesHandler}.
+ *
+ * <p/>
+ * <b>Configuration Parameters:</b>
+ * <table>
+ *     <tr>
+ *         <td>Name</td>
+ *         <td>Default</td>
+ *         <td>Description</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code paths}</td>
+ *         <td>REQUIRED</td>
+ *         <td>The path prefixes of the requests handled by the lane.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code weight}</td>
+ *         <td>1</td>
+ *         <td>The share of the queued requests dispatched from this lane, relative to the weights of the other
+ *             lanes.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code maxConcurrentRequests}</td>
+ *         <td>100</td>
+ *         <td>The maximum number of requests of this lane which are handled concurrently.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code maxQueuedRequests}</td>
+ *         <td>1024</td>
+ *         <td>The maximum number of requests which wait in the queue of this lane. Requests beyond it are rejected
+ *             with a 503 response.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code maxQueueTime}</td>
+ *         <td>30 seconds</td>
+ *         <td>The maximum time a request waits in the queue of this lane before it's rejected with a 503
+ *             response.</td>
+ *     </tr>
+ * </table>
+ *
+ * @since 2.1
+ */
+public class RequestLaneFactory {
+
+    @NotEmpty
+    private List<String> paths = new ArrayList<>();
+
+    @Min(1)
+    private int weight = 1;
+
+    @Min(1)
+    private int maxConcurrentRequests = 100;
+
+    @Min(0)
+    private int maxQueuedRequests = 1024;
+
+    @NotNull
+    @MinDuration(value = 1, unit = TimeUnit.MILLISECONDS)
+    private Duration maxQueueTime = Duration.seconds(30);
+
+    @JsonProperty
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    @JsonProperty
+    public void setPaths(List<String> paths) {
+        this.paths = paths;
+    }
+
+    @JsonProperty
+    public int getWeight() {
+        return weight;
+    }
+
+    @JsonProperty
+    public void setWeight(int weight) {
+        this.weight = weight;
+    }
+
+    @JsonProperty
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    @JsonProperty
+    public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+
+    @JsonProperty
+    public int getMaxQueuedRequests() {
+        return maxQueuedRequests;
+    }
+
+    @JsonProperty
+    public void setMaxQueuedRequests(int maxQueuedRequests) {
+        this.maxQueuedRequests = maxQueuedRequests;
+    }
+
+    @JsonProperty
+    public Duration getMaxQueueTime() {
+        return maxQueueTime;
+    }
+
+    @JsonProperty
+    public void setMaxQueueTime(Duration maxQueueTime) {
+        this.maxQueueTime = maxQueueTime;
+    }
+}
@@ -0,0 +1,409 @@
+package io.dropwizard.jetty;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.handler.HandlerWrapper;
+import org.eclipse.jetty.servlet.FilterMapping;
+import org.eclipse.jetty.servlet.ServletHandler;
+
+import javax.annotation.Nullable;
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.DispatcherType;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * A handler which schedules requests in separate lanes, so a burst of expensive requests in one lane can't starve the
+ * requests of another lane.
+ * <p>
+ * Requests are assigned to the lane with the longest path prefix matching their URI. Each lane handles up to its own
+ * number of requests concurrently, and all lanes together handle up to the total number of concurrent requests.
+ * Requests beyond these limits are suspended in the queue of their lane without occupying a thread, and dispatched in
+ * the order of the weights of the lanes once a request completes. Queued requests are resumed with
+ * {@link AsyncContext#dispatch()}, so they reach the application as {@link DispatcherType#ASYNC asynchronous}
+ * dispatches. So that they still pass the filters of the initial requests, such as authentication filters, the
+ * filters of the wrapped servlet handlers which are mapped for requests only are mapped for asynchronous dispatches as
+ * well once the handler is started. Requests which don't fit into the queue of their
+ * lane, or wait longer than the maximum queue time, are rejected with a {@code 503 Service Unavailable} response.
+ * Requests which don't match any lane are handled unscheduled.
+ * <p>
+ * The number of queued and in-flight requests, the time requests wait in the queue and the rate of rejected requests
+ * are published per lane as the {@code <lane>.queued}, {@code <lane>.in-flight}, {@code <lane>.wait} and
+ * {@code <lane>.rejected} metrics of this class.
+ *
+ * @since 2.1
+ */
+public class RequestLanesHandler extends HandlerWrapper {
+    private static final String RESUMED_LANE = RequestLanesHandler.class.getName() + ".lane";
+
+    private final MetricRegistry metricRegistry;
+    private final int maxConcurrentRequests;
+    private final List<Lane> lanes = new ArrayList<>();
+    private final Map<String, Lane> lanesByPrefix = new TreeMap<>(
+        Comparator.comparingInt(String::length).reversed().thenComparing(Comparator.naturalOrder()));
+    private final Object lock = new Object();
+    private int inFlight;
+
+    /**
+     * @param metricRegistry        the registry of the metrics
+     * @param maxConcurrentRequests the maximum number of requests which are handled concurrently by all lanes
+     */
+    public RequestLanesHandler(MetricRegistry metricRegistry, int maxConcurrentRequests) {
+        if (maxConcurrentRequests < 1) {
+            throw new IllegalArgumentException("maxConcurrentRequests must be positive");
+        }
+        this.metricRegistry = metricRegistry;
+        this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+
+    /**
+     * Adds a lane. Lanes must be added before the handler is started.
+     *
+     * @param name                  the name of the lane
+     * @param pathPrefixes          the path prefixes of the requests handled by the lane
+     * @param weight                the share of the requests dispatched from the queue of the lane, relative to the
+     *                              weights of the other lanes
+     * @param maxConcurrentRequests the maximum number of requests which are handled concurrently by the lane
+     * @param maxQueuedRequests     the maximum number of requests which wait in the queue of the lane
+     * @param maxQueueTimeMs        the maximum number of milliseconds a request waits in the queue of the lane
+     */
+    public void addLane(String name, List<String> pathPrefixes, int weight, int maxConcurrentRequests,
+                        int maxQueuedRequests, long maxQueueTimeMs) {
+        if (isStarted()) {
+            throw new IllegalStateException("Lanes must be added before the handler is started");
+        }
+        if (weight < 1 || maxConcurrentRequests < 1 || maxQueuedRequests < 0 || maxQueueTimeMs < 1) {
+            throw new IllegalArgumentException("Invalid parameters of lane " + name);
+        }
+        final Lane lane = new Lane(name, weight, maxConcurrentRequests, maxQueuedRequests, maxQueueTimeMs);
+        for (String prefix : pathPrefixes) {
+            if (lanesByPrefix.putIfAbsent(prefix, lane) != null) {
+                throw new IllegalArgumentException("Path prefix " + prefix + " is assigned to several lanes");
+            }
+        }
+        lanes.add(lane);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        for (Lane lane : lanes) {
+            metricRegistry.gauge(name(RequestLanesHandler.class, lane.name, "queued"), () -> (Gauge<Integer>) () -> {
+                synchronized (lock) {
+                    return lane.queue.size();
+                }
+            });
+            metricRegistry.gauge(name(RequestLanesHandler.class, lane.name, "in-flight"), () -> (Gauge<Integer>) () -> {
+                synchronized (lock) {
+                    return lane.inFlight;
+                }
+            });
+        }
+        super.doStart();
+        for (Handler servletHandler : getChildHandlersByClass(ServletHandler.class)) {
+            mapRequestFiltersForAsyncDispatches((ServletHandler) servletHandler);
+        }
+    }
+
+    /**
+     * Maps the filters which are only mapped for requests for asynchronous dispatches as well, so a queued request
+     * isn't resumed past them. This happens after the servlet handler is started, so filters which were added while
+     * the context was initialized are mapped as well.
+     */
+    private static void mapRequestFiltersForAsyncDispatches(ServletHandler servletHandler) {
+        final FilterMapping[] mappings = servletHandler.getFilterMappings();
+        if (mappings == null) {
+            return;
+        }
+        boolean changed = false;
+        for (FilterMapping mapping : mappings) {
+            if (mapping.appliesTo(DispatcherType.REQUEST) && !mapping.appliesTo(DispatcherType.ASYNC)) {
+                final EnumSet<DispatcherType> dispatches = mapping.isDefaultDispatches()
+                    ? EnumSet.of(DispatcherType.REQUEST) : mapping.getDispatcherTypes();
+                dispatches.add(DispatcherType.ASYNC);
+                mapping.setDispatcherTypes(dispatches);
+                changed = true;
+            }
+        }
+        if (changed) {
+            // invalidates the cached filter chains
+            servletHandler.setFilterMappings(mappings);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        final List<Queued> abandoned = new ArrayList<>();
+        synchronized (lock) {
+            for (Lane lane : lanes) {
+                abandoned.addAll(lane.queue);
+                lane.queue.clear();
+            }
+        }
+        for (Queued queued : abandoned) {
+            queued.reject();
+        }
+        super.doStop();
+        for (Lane lane : lanes) {
+            metricRegistry.remove(name(RequestLanesHandler.class, lane.name, "queued"));
+            metricRegistry.remove(name(RequestLanesHandler.class, lane.name, "in-flight"));
+        }
+    }
+
+    @Override
+    public void handle(String target, Request baseRequest, HttpServletRequest request, HttpServletResponse response)
+        throws IOException, ServletException {
+        final Object resumed = request.getAttribute(RESUMED_LANE);
+        if (resumed instanceof Lane && request.getDispatcherType() == DispatcherType.ASYNC) {
+            // the request was suspended before it reached the application, and is now dispatched to it
+            request.removeAttribute(RESUMED_LANE);
+            handleAdmitted((Lane) resumed, target, baseRequest, request, response);
+            return;
+        }
+
+        final Lane lane = request.getDispatcherType() == DispatcherType.REQUEST ? laneOf(target) : null;
+        if (lane == null) {
+            super.handle(target, baseRequest, request, response);
+            return;
+        }
+
+        final boolean admitted;
+        boolean queued = false;
+        synchronized (lock) {
+            admitted = lane.queue.isEmpty() && canAdmit(lane);
+            if (admitted) {
+                acquire(lane);
+            } else if (lane.queue.size() < lane.maxQueuedRequests) {
+                final AsyncContext asyncContext = request.startAsync();
+                asyncContext.setTimeout(lane.maxQueueTimeMs);
+                final Queued entry = new Queued(lane, asyncContext);
+                asyncContext.addListener(entry);
+                lane.queue.add(entry);
+                baseRequest.setHandled(true);
+                queued = true;
+            }
+        }
+
+        if (admitted) {
+            handleAdmitted(lane, target, baseRequest, request, response);
+        } else if (!queued) {
+            lane.rejected.mark();
+            baseRequest.setHandled(true);
+            reject(response);
+        }
+    }
+
+    @Nullable
+    private Lane laneOf(String target) {
+        for (Map.Entry<String, Lane> entry : lanesByPrefix.entrySet()) {
+            final String prefix = entry.getKey();
+            if (target.startsWith(prefix) && (prefix.endsWith("/") || target.length() == prefix.length()
+                || target.charAt(prefix.length()) == '/')) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private void handleAdmitted(Lane lane, String target, Request baseRequest, HttpServletRequest request,
+                                HttpServletResponse response) throws IOException, ServletException {
+        boolean released = false;
+        try {
+            super.handle(target, baseRequest, request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleasingListener(lane));
+                released = true;
+            }
+        } finally {
+            if (!released) {
+                release(lane);
+            }
+        }
+    }
+
+    private boolean canAdmit(Lane lane) {
+        return inFlight < maxConcurrentRequests && lane.inFlight < lane.maxConcurrentRequests;
+    }
+
+    private void acquire(Lane lane) {
+        inFlight++;
+        lane.inFlight++;
+    }
+
+    private void release(Lane lane) {
+        final List<Queued> resumable = new ArrayList<>();
+        synchronized (lock) {
+            inFlight--;
+            lane.inFlight--;
+            Lane next;
+            while (inFlight < maxConcurrentRequests && (next = nextLane()) != null) {
+                acquire(next);
+                resumable.add(next.queue.remove());
+            }
+        }
+        for (Queued queued : resumable) {
+            queued.resume();
+        }
+    }
+
+    /**
+     * Selects the lane to dispatch the next request from by smooth weighted round-robin among the lanes with queued
+     * requests and free capacity.
+     */
+    @Nullable
+    private Lane nextLane() {
+        Lane selected = null;
+        int totalWeight = 0;
+        for (Lane lane : lanes) {
+            if (lane.queue.isEmpty() || lane.inFlight >= lane.maxConcurrentRequests) {
+                continue;
+            }
+            lane.currentWeight += lane.weight;
+            totalWeight += lane.weight;
+            if (selected == null || lane.currentWeight > selected.currentWeight) {
+                selected = lane;
+            }
+        }
+        if (selected != null) {
+            selected.currentWeight -= totalWeight;
+        }
+        return selected;
+    }
+
+    int getInFlight() {
+        synchronized (lock) {
+            return inFlight;
+        }
+    }
+
+    private static void reject(HttpServletResponse response) {
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setContentLength(0);
+    }
+
+    private class Lane {
+        private final String name;
+        private final int weight;
+        private final int maxConcurrentRequests;
+        private final int maxQueuedRequests;
+        private final long maxQueueTimeMs;
+        private final ArrayDeque<Queued> queue = new ArrayDeque<>();
+        private final Timer wait;
+        private final Meter rejected;
+        private int inFlight;
+        private int currentWeight;
+
+        Lane(String name, int weight, int maxConcurrentRequests, int maxQueuedRequests, long maxQueueTimeMs) {
+            this.name = name;
+            this.weight = weight;
+            this.maxConcurrentRequests = maxConcurrentRequests;
+            this.maxQueuedRequests = maxQueuedRequests;
+            this.maxQueueTimeMs = maxQueueTimeMs;
+            this.wait = metricRegistry.timer(name(RequestLanesHandler.class, name, "wait"));
+            this.rejected = metricRegistry.meter(name(RequestLanesHandler.class, name, "rejected"));
+        }
+    }
+
+    private class Queued implements AsyncListener {
+        private final Lane lane;
+        private final AsyncContext asyncContext;
+        private final long queuedAt = System.nanoTime();
+
+        Queued(Lane lane, AsyncContext asyncContext) {
+            this.lane = lane;
+            this.asyncContext = asyncContext;
+        }
+
+        void resume() {
+            lane.wait.update(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+            asyncContext.getRequest().setAttribute(RESUMED_LANE, lane);
+            asyncContext.dispatch();
+        }
+
+        void reject() {
+            lane.rejected.mark();
+            RequestLanesHandler.reject((HttpServletResponse) asyncContext.getResponse());
+            asyncContext.complete();
+        }
+
+        private boolean dequeue() {
+            synchronized (lock) {
+                return lane.queue.remove(this);
+            }
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            if (dequeue()) {
+                reject();
+            }
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            if (dequeue()) {
+                asyncContext.complete();
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            // the request was either dispatched or rejected
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // the request was dispatched and suspended again by the application
+        }
+    }
+
+    private class ReleasingListener implements AsyncListener {
+        private final Lane lane;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        ReleasingListener(Lane lane) {
+            this.lane = lane;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            if (released.compareAndSet(false, true)) {
+                release(lane);
+            }
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            // the request is completed afterwards
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            // the request is completed afterwards
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // the listener must be re-registered when the request is suspended again
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package io.dropwizard.jetty;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.validation.ValidationMethod;
+import org.eclipse.jetty.server.Handler;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builds {@link RequestLanesHandler request lanes handlers}.
+ *
+ * <p/>
+ * <b>Configuration Parameters:</b>
+ * <table>
+ *     <tr>
+ *         <td>Name</td>
+ *         <td>Default</td>
+ *         <td>Description</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code enabled}</td>
+ *         <td>false</td>
+ *         <td>If true, requests are scheduled in the configured lanes.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code maxConcurrentRequests}</td>
+ *         <td>200</td>
+ *         <td>The maximum number of requests of all lanes which are handled concurrently.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code lanes}</td>
+ *         <td>(none)</td>
+ *         <td>The {@link RequestLaneFactory lanes} by their names.</td>
+ *     </tr>
+ * </table>
+ *
+ * @since 2.1
+ */
+public class RequestLanesHandlerFactory {
+
+    private boolean enabled = false;
+
+    @Min(1)
+    private int maxConcurrentRequests = 200;
+
+    @Valid
+    @NotNull
+    private Map<String, RequestLaneFactory> lanes = new LinkedHashMap<>();
+
+    @JsonIgnore
+    @ValidationMethod(message = "must not assign a path to several lanes")
+    public boolean isPathsUnique() {
+        final Set<String> paths = new HashSet<>();
+        return lanes.values().stream()
+            .flatMap(lane -> lane.getPaths().stream())
+            .allMatch(paths::add);
+    }
+
+    @JsonProperty
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @JsonProperty
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @JsonProperty
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    @JsonProperty
+    public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+
+    @JsonProperty
+    public Map<String, RequestLaneFactory> getLanes() {
+        return lanes;
+    }
+
+    @JsonProperty
+    public void setLanes(Map<String, RequestLaneFactory> lanes) {
+        this.lanes = lanes;
+    }
+
+    public RequestLanesHandler build(Handler handler, MetricRegistry metricRegistry) {
+        final RequestLanesHandler lanesHandler = new RequestLanesHandler(metricRegistry, maxConcurrentRequests);
+        lanes.forEach((name, lane) -> lanesHandler.addLane(name, lane.getPaths(), lane.getWeight(),
+            lane.getMaxConcurrentRequests(), lane.getMaxQueuedRequests(), lane.getMaxQueueTime().toMilliseconds()));
+        lanesHandler.setHandler(handler);
+        return lanesHandler;
+    }
+}
@@ -0,0 +1,153 @@
+package io.dropwizard.jetty;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.util.VirtualThreads;
+import org.eclipse.jetty.util.component.ContainerLifeCycle;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.eclipse.jetty.util.thread.ThreadPool;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * A {@link ThreadPool} which doesn't pool threads, but runs each task on a new virtual thread.
+ * <p>
+ * The acceptors and the selectors of Jetty block in native calls for the lifetime of their connectors, which would pin
+ * their virtual threads to carrier threads, so they run on a small pool of platform threads named
+ * {@code <name>-jetty}, and only the handling of connections and requests runs on virtual threads.
+ * <p>
+ * The number of running virtual threads, and the number of times a virtual thread was pinned to its carrier thread,
+ * are published as the {@code <name>.in-flight} and {@code <name>.pinned} metrics of this class.
+ *
+ * @see VirtualThreads
+ * @since 2.1
+ */
+public class VirtualThreadPool extends ContainerLifeCycle implements ThreadPool {
+    private static final int MAX_PLATFORM_THREADS = 64;
+    private static final String ACCEPTOR = "org.eclipse.jetty.server.AbstractConnector$Acceptor";
+    private static final String SELECTOR = "org.eclipse.jetty.io.ManagedSelector";
+    private static final String EXECUTION_STRATEGY = "org.eclipse.jetty.util.thread.strategy.";
+
+    private final MetricRegistry metricRegistry;
+    private final String name;
+    private final ThreadFactory threadFactory;
+    private final QueuedThreadPool platformThreads;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private boolean monitoringPinning;
+
+    /**
+     * @param metricRegistry the registry of the metrics
+     * @param name           the name of the pool, which prefixes the names of the threads
+     * @throws UnsupportedOperationException if the runtime doesn't support virtual threads
+     */
+    public VirtualThreadPool(MetricRegistry metricRegistry, String name) {
+        this(metricRegistry, name, VirtualThreads.newThreadFactory(name + "-"));
+    }
+
+    VirtualThreadPool(MetricRegistry metricRegistry, String name, ThreadFactory threadFactory) {
+        this.metricRegistry = metricRegistry;
+        this.name = name;
+        this.threadFactory = threadFactory;
+        this.platformThreads = new QueuedThreadPool(MAX_PLATFORM_THREADS, 1);
+        platformThreads.setName(name + "-jetty");
+        platformThreads.setReservedThreads(0);
+        addBean(platformThreads);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        monitoringPinning = VirtualThreads.monitorPinning();
+        metricRegistry.gauge(name(VirtualThreadPool.class, name, "in-flight"), () -> (Gauge<Integer>) inFlight::get);
+        metricRegistry.gauge(name(VirtualThreadPool.class, name, "pinned"),
+            () -> (Gauge<Long>) VirtualThreads::getPinnedCount);
+        super.doStart();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        metricRegistry.remove(name(VirtualThreadPool.class, name, "in-flight"));
+        metricRegistry.remove(name(VirtualThreadPool.class, name, "pinned"));
+        if (monitoringPinning) {
+            monitoringPinning = false;
+            VirtualThreads.stopMonitoringPinning();
+        }
+        synchronized (this) {
+            notifyAll();
+        }
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (!isRunning()) {
+            throw new RejectedExecutionException(name + " is not running");
+        }
+        if (isJettyInternal(task)) {
+            platformThreads.execute(task);
+            return;
+        }
+        inFlight.incrementAndGet();
+        try {
+            threadFactory.newThread(() -> {
+                try {
+                    task.run();
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            }).start();
+        } catch (RuntimeException | Error e) {
+            inFlight.decrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * @return the pool of platform threads, which runs the acceptors and the selectors of Jetty
+     */
+    public QueuedThreadPool getPlatformThreads() {
+        return platformThreads;
+    }
+
+    private static boolean isJettyInternal(Runnable task) {
+        // The selectors are started as lambdas of ManagedSelector, whose classes are named after it
+        final String className = task.getClass().getName();
+        return className.equals(ACCEPTOR) || className.startsWith(SELECTOR)
+            || className.startsWith(EXECUTION_STRATEGY);
+    }
+
+    @Override
+    public synchronized void join() throws InterruptedException {
+        while (isRunning()) {
+            wait();
+        }
+    }
+
+    @Override
+    public int getThreads() {
+        return inFlight.get();
+    }
+
+    @Override
+    public int getIdleThreads() {
+        return 0;
+    }
+
+    @Override
+    public boolean isLowOnThreads() {
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[%s]@%x{%s,inFlight=%d}", getClass().getSimpleName(), name, hashCode(), getState(),
+            inFlight.get());
+    }
+}
@@ -0,0 +1,66 @@
+package io.dropwizard.jetty;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class AimdConcurrencyLimitTest {
+    private static final long THRESHOLD = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final AtomicLong nanoTime = new AtomicLong(1_000_000_000L);
+    private final AimdConcurrencyLimit limit = new AimdConcurrencyLimit(10, 2, 12, 0.5, THRESHOLD, nanoTime::get);
+
+    @Test
+    void increasesTheLimitWhileItIsUsedAndRequestsAreFast() {
+        limit.onSample(THRESHOLD, 5);
+        assertThat(limit.getLimit()).isEqualTo(11);
+
+        limit.onSample(THRESHOLD / 2, 11);
+        limit.onSample(THRESHOLD / 2, 12);
+        assertThat(limit.getLimit()).isEqualTo(12);
+    }
+
+    @Test
+    void keepsTheLimitWhileItIsHardlyUsed() {
+        limit.onSample(THRESHOLD / 2, 4);
+        assertThat(limit.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void decreasesTheLimitWhenRequestsAreSlow() {
+        sampleSlowRequest();
+        assertThat(limit.getLimit()).isEqualTo(5);
+
+        sampleSlowRequest();
+        sampleSlowRequest();
+        assertThat(limit.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void decreasesTheLimitOnlyOnceForRequestsAdmittedBeforeTheDecrease() {
+        nanoTime.addAndGet(THRESHOLD * 2);
+        limit.onSample(THRESHOLD + 1, 10);
+        limit.onSample(THRESHOLD + 2, 10);
+        limit.onSample(THRESHOLD * 2, 10);
+        assertThat(limit.getLimit()).isEqualTo(5);
+
+        sampleSlowRequest();
+        assertThat(limit.getLimit()).isEqualTo(2);
+    }
+
+    private void sampleSlowRequest() {
+        // the request starts now, and takes longer than the threshold
+        nanoTime.addAndGet(THRESHOLD + 1);
+        limit.onSample(THRESHOLD + 1, 1);
+    }
+
+    @Test
+    void rejectsInvalidParameters() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new AimdConcurrencyLimit(1, 2, 12, 0.5, THRESHOLD));
+        assertThatIllegalArgumentException().isThrownBy(() -> new AimdConcurrencyLimit(10, 2, 12, 1, THRESHOLD));
+    }
+}
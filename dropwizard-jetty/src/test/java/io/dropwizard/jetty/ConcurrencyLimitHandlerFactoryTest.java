@@ -0,0 +1,73 @@
+package io.dropwizard.jetty;
+
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.configuration.ConfigurationValidationException;
+import io.dropwizard.configuration.YamlConfigurationFactory;
+import io.dropwizard.jackson.Jackson;
+import io.dropwizard.util.Duration;
+import io.dropwizard.util.Resources;
+import io.dropwizard.validation.BaseValidator;
+import org.eclipse.jetty.server.Handler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+
+class ConcurrencyLimitHandlerFactoryTest {
+    private final YamlConfigurationFactory<ConcurrencyLimitHandlerFactory> configurationFactory =
+        new YamlConfigurationFactory<>(ConcurrencyLimitHandlerFactory.class, BaseValidator.newValidator(),
+            Jackson.newObjectMapper(), "dw");
+
+    private ConcurrencyLimitHandlerFactory concurrencyLimit;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        concurrencyLimit = configurationFactory.build(
+            new File(Resources.getResource("yaml/concurrency-limit.yml").toURI()));
+    }
+
+    @Test
+    void isDisabledByDefault() throws Exception {
+        final ConcurrencyLimitHandlerFactory defaults = configurationFactory.build();
+        assertThat(defaults.isEnabled()).isFalse();
+        assertThat(defaults.getAlgorithm()).isEqualTo(ConcurrencyLimitHandlerFactory.Algorithm.GRADIENT);
+        assertThat(defaults.buildLimit()).isInstanceOf(GradientConcurrencyLimit.class)
+            .extracting(ConcurrencyLimit::getLimit)
+            .isEqualTo(20);
+    }
+
+    @Test
+    void loadsTheConfiguration() {
+        assertThat(concurrencyLimit.isEnabled()).isTrue();
+        assertThat(concurrencyLimit.getAlgorithm()).isEqualTo(ConcurrencyLimitHandlerFactory.Algorithm.AIMD);
+        assertThat(concurrencyLimit.getInitialLimit()).isEqualTo(10);
+        assertThat(concurrencyLimit.getMinLimit()).isEqualTo(2);
+        assertThat(concurrencyLimit.getMaxLimit()).isEqualTo(100);
+        assertThat(concurrencyLimit.getLatencyThreshold()).isEqualTo(Duration.milliseconds(250));
+        assertThat(concurrencyLimit.getBackoffRatio()).isEqualTo(0.5);
+        assertThat(concurrencyLimit.getRetryAfter()).isEqualTo(Duration.milliseconds(1500));
+    }
+
+    @Test
+    void buildsAHandler() {
+        final Handler handler = mock(Handler.class);
+        final ConcurrencyLimitHandler limitHandler = concurrencyLimit.build(handler, new MetricRegistry());
+
+        assertThat(limitHandler.getHandler()).isSameAs(handler);
+        assertThat(concurrencyLimit.buildLimit()).isInstanceOf(AimdConcurrencyLimit.class)
+            .extracting(ConcurrencyLimit::getLimit)
+            .isEqualTo(10);
+    }
+
+    @Test
+    void rejectsUnorderedLimits() {
+        assertThatExceptionOfType(ConfigurationValidationException.class)
+            .isThrownBy(() -> configurationFactory.build(new File(
+                Resources.getResource("yaml/concurrency-limit-unordered.yml").toURI())))
+            .withMessageContaining("must have minLimit <= initialLimit <= maxLimit");
+    }
+}
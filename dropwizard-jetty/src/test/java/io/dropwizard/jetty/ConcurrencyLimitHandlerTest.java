@@ -0,0 +1,160 @@
+package io.dropwizard.jetty;
+
+import com.codahale.metrics.MetricRegistry;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitHandlerTest {
+    @Mock
+    private Request baseRequest;
+    @Mock
+    private HttpServletRequest request;
+    @Mock
+    private HttpServletResponse response;
+    @Mock
+    private Handler delegate;
+
+    private final FixedLimit limit = new FixedLimit(1);
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+    private final ConcurrencyLimitHandler handler = new ConcurrencyLimitHandler(limit, metricRegistry, 2);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        handler.setHandler(delegate);
+        handler.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        handler.stop();
+    }
+
+    @Test
+    void handlesRequestsWithinTheLimit() throws Exception {
+        when(request.getDispatcherType()).thenReturn(DispatcherType.REQUEST);
+        handler.handle("/", baseRequest, request, response);
+
+        verify(delegate).handle("/", baseRequest, request, response);
+        assertThat(limit.inFlightSamples).containsExactly(1);
+        assertThat(handler.getInFlight()).isZero();
+        assertThat(metricRegistry.getGauges().get(MetricRegistry.name(ConcurrencyLimitHandler.class, "limit")))
+            .isNotNull()
+            .extracting(gauge -> gauge.getValue())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void rejectsRequestsBeyondTheLimit() throws Exception {
+        when(request.getDispatcherType()).thenReturn(DispatcherType.REQUEST);
+        doAnswer(invocation -> {
+            handler.handle("/", baseRequest, request, response);
+            return null;
+        }).when(delegate).handle("/", baseRequest, request, response);
+
+        handler.handle("/", baseRequest, request, response);
+
+        verify(response).setStatus(503);
+        verify(response).setHeader("Retry-After", "2");
+        verify(baseRequest).setHandled(true);
+        assertThat(metricRegistry.meter(MetricRegistry.name(ConcurrencyLimitHandler.class, "rejected")).getCount())
+            .isEqualTo(1);
+        assertThat(limit.inFlightSamples).containsExactly(1);
+        assertThat(handler.getInFlight()).isZero();
+    }
+
+    @Test
+    void releasesAsynchronousRequestsOnceTheyComplete() throws Exception {
+        final AsyncContext asyncContext = mock(AsyncContext.class);
+        when(request.getDispatcherType()).thenReturn(DispatcherType.REQUEST);
+        when(request.isAsyncStarted()).thenReturn(true);
+        when(request.getAsyncContext()).thenReturn(asyncContext);
+
+        handler.handle("/", baseRequest, request, response);
+
+        final ArgumentCaptor<AsyncListener> listener = ArgumentCaptor.forClass(AsyncListener.class);
+        verify(asyncContext).addListener(listener.capture());
+        assertThat(handler.getInFlight()).isEqualTo(1);
+        assertThat(limit.inFlightSamples).isEmpty();
+
+        listener.getValue().onComplete(new AsyncEvent(asyncContext));
+        listener.getValue().onComplete(new AsyncEvent(asyncContext));
+        assertThat(handler.getInFlight()).isZero();
+        assertThat(limit.inFlightSamples).containsExactly(1);
+    }
+
+    @Test
+    void passesThroughDispatchesOfAdmittedRequests() throws Exception {
+        when(request.getDispatcherType()).thenReturn(DispatcherType.ASYNC);
+
+        handler.handle("/", baseRequest, request, response);
+
+        verify(delegate).handle("/", baseRequest, request, response);
+        verify(response, never()).setStatus(any(Integer.class));
+        assertThat(limit.inFlightSamples).isEmpty();
+    }
+
+    @Test
+    void removesItsGaugesWhenStopped() throws Exception {
+        handler.stop();
+
+        assertThat(metricRegistry.getGauges()).isEmpty();
+    }
+
+    @Test
+    void canBeStartedAlongsideAnotherHandler() throws Exception {
+        final ConcurrencyLimitHandler other = new ConcurrencyLimitHandler(new FixedLimit(2), metricRegistry, 2);
+        other.setHandler(delegate);
+        other.start();
+        try {
+            assertThat(metricRegistry.getGauges()).containsKeys(
+                MetricRegistry.name(ConcurrencyLimitHandler.class, "limit"),
+                MetricRegistry.name(ConcurrencyLimitHandler.class, "in-flight"));
+        } finally {
+            other.stop();
+        }
+    }
+
+    private static class FixedLimit implements ConcurrencyLimit {
+        private final int limit;
+        private final List<Integer> inFlightSamples = new ArrayList<>();
+
+        FixedLimit(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public int getLimit() {
+            return limit;
+        }
+
+        @Override
+        public void onSample(long latencyNanos, int inFlight) {
+            inFlightSamples.add(inFlight);
+        }
+    }
+}
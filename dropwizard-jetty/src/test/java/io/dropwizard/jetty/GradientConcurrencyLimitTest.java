@@ -0,0 +1,70 @@
+package io.dropwizard.jetty;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class GradientConcurrencyLimitTest {
+    private static final long LATENCY = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final GradientConcurrencyLimit limit = new GradientConcurrencyLimit(20, 5, 100, 1.5);
+
+    @Test
+    void increasesTheLimitWhileTheLatencyIsStable() {
+        for (int i = 0; i < 200; i++) {
+            limit.onSample(LATENCY, limit.getLimit());
+        }
+
+        assertThat(limit.getLimit()).isEqualTo(100);
+    }
+
+    @Test
+    void updatesTheLimitOncePerWindow() {
+        for (int i = 0; i < GradientConcurrencyLimit.WINDOW_SAMPLES - 1; i++) {
+            limit.onSample(LATENCY, limit.getLimit());
+        }
+        assertThat(limit.getLimit()).isEqualTo(20);
+
+        limit.onSample(LATENCY, limit.getLimit());
+        assertThat(limit.getLimit()).isEqualTo(24);
+    }
+
+    @Test
+    void keepsTheLimitWhileItIsHardlyUsed() {
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(LATENCY, 1);
+        }
+
+        assertThat(limit.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    void decreasesTheLimitWhenTheLatencyIncreases() {
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(LATENCY, limit.getLimit());
+        }
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(LATENCY * 10, limit.getLimit());
+        }
+
+        assertThat(limit.getLimit()).isLessThan(50);
+    }
+
+    @Test
+    void neverDecreasesTheLimitBelowTheMinimum() {
+        for (int i = 0; i < 200; i++) {
+            limit.onSample(LATENCY * (i + 1), limit.getLimit());
+        }
+
+        assertThat(limit.getLimit()).isGreaterThanOrEqualTo(5);
+    }
+
+    @Test
+    void rejectsInvalidParameters() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new GradientConcurrencyLimit(20, 5, 10, 1.5));
+        assertThatIllegalArgumentException().isThrownBy(() -> new GradientConcurrencyLimit(20, 5, 100, 0.5));
+    }
+}
@@ -0,0 +1,83 @@
+package io.dropwizard.jetty;
+
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.configuration.ConfigurationValidationException;
+import io.dropwizard.configuration.YamlConfigurationFactory;
+import io.dropwizard.jackson.Jackson;
+import io.dropwizard.util.Duration;
+import io.dropwizard.util.Resources;
+import io.dropwizard.validation.BaseValidator;
+import org.eclipse.jetty.server.Handler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+
+class RequestLanesHandlerFactoryTest {
+    private final YamlConfigurationFactory<RequestLanesHandlerFactory> configurationFactory =
+        new YamlConfigurationFactory<>(RequestLanesHandlerFactory.class, BaseValidator.newValidator(),
+            Jackson.newObjectMapper(), "dw");
+
+    private RequestLanesHandlerFactory requestLanes;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        requestLanes = configurationFactory.build(new File(Resources.getResource("yaml/request-lanes.yml").toURI()));
+    }
+
+    @Test
+    void isDisabledByDefault() throws Exception {
+        final RequestLanesHandlerFactory defaults = configurationFactory.build();
+        assertThat(defaults.isEnabled()).isFalse();
+        assertThat(defaults.getMaxConcurrentRequests()).isEqualTo(200);
+        assertThat(defaults.getLanes()).isEmpty();
+    }
+
+    @Test
+    void loadsTheConfiguration() {
+        assertThat(requestLanes.isEnabled()).isTrue();
+        assertThat(requestLanes.getMaxConcurrentRequests()).isEqualTo(50);
+        assertThat(requestLanes.getLanes()).containsOnlyKeys("critical", "bulk");
+        assertThat(requestLanes.getLanes()).extractingByKey("critical")
+            .satisfies(lane -> {
+                assertThat(lane.getPaths()).containsExactly("/lookup");
+                assertThat(lane.getWeight()).isEqualTo(5);
+                assertThat(lane.getMaxConcurrentRequests()).isEqualTo(40);
+                assertThat(lane.getMaxQueuedRequests()).isEqualTo(1024);
+                assertThat(lane.getMaxQueueTime()).isEqualTo(Duration.seconds(30));
+            });
+        assertThat(requestLanes.getLanes()).extractingByKey("bulk")
+            .satisfies(lane -> {
+                assertThat(lane.getPaths()).containsExactly("/export", "/import");
+                assertThat(lane.getWeight()).isEqualTo(1);
+                assertThat(lane.getMaxConcurrentRequests()).isEqualTo(5);
+                assertThat(lane.getMaxQueuedRequests()).isEqualTo(20);
+                assertThat(lane.getMaxQueueTime()).isEqualTo(Duration.seconds(10));
+            });
+    }
+
+    @Test
+    void buildsAHandler() {
+        final Handler handler = mock(Handler.class);
+        final MetricRegistry metricRegistry = new MetricRegistry();
+
+        final RequestLanesHandler lanesHandler = requestLanes.build(handler, metricRegistry);
+
+        assertThat(lanesHandler.getHandler()).isSameAs(handler);
+        assertThat(metricRegistry.getTimers()).containsOnlyKeys(
+            MetricRegistry.name(RequestLanesHandler.class, "critical", "wait"),
+            MetricRegistry.name(RequestLanesHandler.class, "bulk", "wait"));
+    }
+
+    @Test
+    void rejectsPathsOfSeveralLanes() {
+        assertThatExceptionOfType(ConfigurationValidationException.class)
+            .isThrownBy(() -> configurationFactory.build(new File(
+                Resources.getResource("yaml/request-lanes-overlapping.yml").toURI())))
+            .withMessageContaining("must not assign a path to several lanes");
+    }
+}
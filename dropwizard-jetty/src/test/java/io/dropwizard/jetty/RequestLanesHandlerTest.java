@@ -0,0 +1,242 @@
+package io.dropwizard.jetty;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import org.eclipse.jetty.server.LocalConnector;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.servlet.ServletContextHandler;
+import org.eclipse.jetty.servlet.ServletHolder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nullable;
+import javax.servlet.DispatcherType;
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.codahale.metrics.MetricRegistry.name;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestLanesHandlerTest {
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+    private final Server server = new Server();
+    private final LocalConnector connector = new LocalConnector(server);
+    private final List<String> handled = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        final ServletContextHandler context = new ServletContextHandler();
+        context.addFilter(MarkingFilter.class, "/*", EnumSet.of(DispatcherType.REQUEST));
+        context.addServlet(new ServletHolder(new HttpServlet() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                handled.add(req.getRequestURI());
+                resp.setHeader("X-Dispatcher-Type", req.getDispatcherType().name());
+                if (req.getRequestURI().endsWith("/block")) {
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                resp.getWriter().print("ok");
+            }
+        }), "/*");
+
+        final RequestLanesHandler handler = new RequestLanesHandler(metricRegistry, 1);
+        handler.addLane("critical", Collections.singletonList("/critical"), 3, 1, 10, 10_000);
+        handler.addLane("bulk", Arrays.asList("/bulk", "/export/"), 1, 1, 2, 10_000);
+        handler.addLane("report", Collections.singletonList("/report"), 1, 1, 10, 100);
+        handler.setHandler(context);
+
+        server.addConnector(connector);
+        server.setHandler(handler);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        release.countDown();
+        server.stop();
+    }
+
+    @Test
+    void handlesRequestsOutsideOfTheLanesDirectly() throws Exception {
+        final LocalConnector.LocalEndPoint blocking = send("/bulk/block");
+        awaitHandled("/bulk/block");
+
+        assertThat(connector.getResponse(request("/other"), 5, TimeUnit.SECONDS))
+            .contains("200 OK")
+            .contains("X-Filtered: true");
+        assertThat(connector.getResponse(request("/bulky"), 5, TimeUnit.SECONDS))
+            .contains("200 OK");
+
+        release.countDown();
+        assertThat(blocking.getResponse(false, 5, TimeUnit.SECONDS)).contains("200 OK");
+    }
+
+    @Test
+    void dispatchesQueuedRequestsByTheWeightsOfTheLanes() throws Exception {
+        final List<LocalConnector.LocalEndPoint> endPoints = new ArrayList<>();
+        endPoints.add(send("/bulk/block"));
+        awaitHandled("/bulk/block");
+
+        endPoints.add(send("/critical/1"));
+        awaitQueued("critical", 1);
+        endPoints.add(send("/bulk/1"));
+        awaitQueued("bulk", 1);
+        endPoints.add(send("/export/1"));
+        awaitQueued("bulk", 2);
+        endPoints.add(send("/critical/2"));
+        awaitQueued("critical", 2);
+        endPoints.add(send("/critical/3"));
+        awaitQueued("critical", 3);
+
+        release.countDown();
+        assertThat(endPoints.get(0).getResponse(false, 5, TimeUnit.SECONDS))
+            .contains("200 OK")
+            .contains("X-Dispatcher-Type: REQUEST");
+        for (LocalConnector.LocalEndPoint endPoint : endPoints.subList(1, endPoints.size())) {
+            assertThat(endPoint.getResponse(false, 5, TimeUnit.SECONDS))
+                .contains("200 OK")
+                .contains("X-Filtered: true")
+                .contains("X-Dispatcher-Type: ASYNC");
+        }
+
+        assertThat(handled).containsExactly("/bulk/block", "/critical/1", "/critical/2", "/bulk/1", "/critical/3",
+            "/export/1");
+        assertThat(metricRegistry.timer(name(RequestLanesHandler.class, "critical", "wait")).getCount())
+            .isEqualTo(3);
+        assertThat(metricRegistry.getGauges()).containsKey(name(RequestLanesHandler.class, "bulk", "in-flight"));
+        assertThat(queued("bulk")).isEqualTo(0);
+    }
+
+    @Test
+    void passesQueuedRequestsThroughTheFiltersMappedForRequestsOnly() throws Exception {
+        final LocalConnector.LocalEndPoint blocking = send("/bulk/block");
+        awaitHandled("/bulk/block");
+        final LocalConnector.LocalEndPoint queued = send("/bulk/1");
+        awaitQueued("bulk", 1);
+
+        release.countDown();
+        assertThat(blocking.getResponse(false, 5, TimeUnit.SECONDS))
+            .contains("X-Filtered: true")
+            .contains("X-Dispatcher-Type: REQUEST");
+        assertThat(queued.getResponse(false, 5, TimeUnit.SECONDS))
+            .contains("200 OK")
+            .contains("X-Filtered: true")
+            .contains("X-Dispatcher-Type: ASYNC");
+    }
+
+    @Test
+    void rejectsRequestsBeyondTheQueueOfTheirLane() throws Exception {
+        final LocalConnector.LocalEndPoint blocking = send("/bulk/block");
+        awaitHandled("/bulk/block");
+        final LocalConnector.LocalEndPoint first = send("/bulk/1");
+        final LocalConnector.LocalEndPoint second = send("/bulk/2");
+        awaitQueued("bulk", 2);
+
+        assertThat(connector.getResponse(request("/bulk/3"), 5, TimeUnit.SECONDS))
+            .contains("503 Service Unavailable");
+        assertThat(metricRegistry.meter(name(RequestLanesHandler.class, "bulk", "rejected")).getCount())
+            .isEqualTo(1);
+
+        release.countDown();
+        assertThat(blocking.getResponse(false, 5, TimeUnit.SECONDS)).contains("200 OK");
+        assertThat(first.getResponse(false, 5, TimeUnit.SECONDS)).contains("200 OK");
+        assertThat(second.getResponse(false, 5, TimeUnit.SECONDS)).contains("200 OK");
+    }
+
+    @Test
+    void rejectsRequestsWhichWaitTooLong() throws Exception {
+        final LocalConnector.LocalEndPoint blocking = send("/bulk/block");
+        awaitHandled("/bulk/block");
+
+        assertThat(connector.getResponse(request("/report/1"), 5, TimeUnit.SECONDS))
+            .contains("503 Service Unavailable");
+        assertThat(metricRegistry.meter(name(RequestLanesHandler.class, "report", "rejected")).getCount())
+            .isEqualTo(1);
+
+        release.countDown();
+        assertThat(blocking.getResponse(false, 5, TimeUnit.SECONDS)).contains("200 OK");
+        assertThat(connector.getResponse(request("/report/2"), 5, TimeUnit.SECONDS)).contains("200 OK");
+        assertThat(handled).doesNotContain("/report/1");
+    }
+
+    @Test
+    void canBeStartedAlongsideAnotherHandlerWithTheSameLanes() throws Exception {
+        final RequestLanesHandler other = new RequestLanesHandler(metricRegistry, 1);
+        other.addLane("bulk", Collections.singletonList("/bulk"), 1, 1, 2, 10_000);
+        other.setServer(server);
+        other.start();
+        try {
+            assertThat(metricRegistry.getGauges()).containsKey(name(RequestLanesHandler.class, "bulk", "queued"));
+        } finally {
+            other.stop();
+        }
+    }
+
+    private LocalConnector.LocalEndPoint send(String path) {
+        return connector.executeRequest(request(path));
+    }
+
+    private static String request(String path) {
+        return "GET " + path + " HTTP/1.1\r\nHost: localhost\r\nConnection: close\r\n\r\n";
+    }
+
+    private void awaitHandled(String path) throws InterruptedException {
+        for (int i = 0; i < 500 && !handled.contains(path); i++) {
+            Thread.sleep(10);
+        }
+        assertThat(handled).contains(path);
+    }
+
+    private void awaitQueued(String lane, int queued) throws InterruptedException {
+        for (int i = 0; i < 500 && !Integer.valueOf(queued).equals(queued(lane)); i++) {
+            Thread.sleep(10);
+        }
+        assertThat(queued(lane)).isEqualTo(queued);
+    }
+
+    @Nullable
+    private Object queued(String lane) {
+        final Gauge<?> gauge = metricRegistry.getGauges().get(name(RequestLanesHandler.class, lane, "queued"));
+        return gauge == null ? null : gauge.getValue();
+    }
+
+    public static class MarkingFilter implements Filter {
+        @Override
+        public void init(FilterConfig filterConfig) {
+        }
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+            ((HttpServletResponse) response).setHeader("X-Filtered", "true");
+            chain.doFilter(request, response);
+        }
+
+        @Override
+        public void destroy() {
+        }
+    }
+}
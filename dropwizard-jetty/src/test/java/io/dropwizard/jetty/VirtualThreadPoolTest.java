@@ -0,0 +1,138 @@
+package io.dropwizard.jetty;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.server.handler.AbstractHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nullable;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static com.codahale.metrics.MetricRegistry.name;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class VirtualThreadPoolTest {
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+    private final VirtualThreadPool threadPool = new VirtualThreadPool(metricRegistry, "test",
+        Executors.defaultThreadFactory());
+
+    @AfterEach
+    void tearDown() throws Exception {
+        threadPool.stop();
+    }
+
+    @Test
+    void runsEachTaskOnANewThread() throws Exception {
+        threadPool.start();
+        final CountDownLatch running = new CountDownLatch(2);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Runnable task = () -> {
+            running.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        threadPool.execute(task);
+        threadPool.execute(task);
+
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(threadPool.getThreads()).isEqualTo(2);
+        assertThat(threadPool.getIdleThreads()).isZero();
+        assertThat(threadPool.isLowOnThreads()).isFalse();
+        assertThat(gauge("in-flight")).isEqualTo(2);
+
+        release.countDown();
+        for (int i = 0; i < 500 && threadPool.getThreads() > 0; i++) {
+            Thread.sleep(10);
+        }
+        assertThat(threadPool.getThreads()).isZero();
+        assertThat(gauge("pinned")).isEqualTo(0L);
+    }
+
+    @Test
+    void rejectsTasksUnlessRunning() throws Exception {
+        assertThatExceptionOfType(RejectedExecutionException.class).isThrownBy(() -> threadPool.execute(() -> { }));
+
+        threadPool.start();
+        threadPool.stop();
+
+        assertThatExceptionOfType(RejectedExecutionException.class).isThrownBy(() -> threadPool.execute(() -> { }));
+        assertThat(metricRegistry.getGauges()).isEmpty();
+    }
+
+    @Test
+    void joinsUntilStopped() throws Exception {
+        threadPool.start();
+        final Thread joining = new Thread(() -> {
+            try {
+                threadPool.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        joining.start();
+        joining.join(100);
+        assertThat(joining.isAlive()).isTrue();
+
+        threadPool.stop();
+        joining.join(5_000);
+        assertThat(joining.isAlive()).isFalse();
+    }
+
+    @Test
+    void runsTheAcceptorsAndSelectorsOnPlatformThreads() throws Exception {
+        final Server server = new Server(threadPool);
+        final ServerConnector connector = new ServerConnector(server, 1, 1);
+        connector.setHost("127.0.0.1");
+        connector.setPort(0);
+        server.addConnector(connector);
+        server.setHandler(new AbstractHandler() {
+            @Override
+            public void handle(String target, Request baseRequest, HttpServletRequest request,
+                               HttpServletResponse response) throws IOException {
+                baseRequest.setHandled(true);
+                response.getWriter().print(Thread.currentThread().getName());
+            }
+        });
+        server.start();
+        try {
+            final HttpURLConnection connection = (HttpURLConnection)
+                new URL("http://127.0.0.1:" + connector.getLocalPort() + "/").openConnection();
+            final String thread;
+            try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8))) {
+                thread = reader.readLine();
+            }
+
+            assertThat(thread).startsWith("pool-").doesNotStartWith("test-jetty");
+            assertThat(threadPool.getPlatformThreads().getThreads()).isGreaterThanOrEqualTo(2);
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Nullable
+    private Object gauge(String metric) {
+        final Gauge<?> gauge = metricRegistry.getGauges().get(name(VirtualThreadPool.class, "test", metric));
+        return gauge == null ? null : gauge.getValue();
+    }
+}
@@ -1,23 +1,65 @@
 package io.dropwizard.logging.json.layout;
 
 import ch.qos.logback.core.LayoutBase;
+import io.dropwizard.logging.layout.EncodingLayout;
 
 import javax.annotation.Nullable;
+import java.io.IOException;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 /**
  * Provides the common functionality for building JSON representations
  * of {@link ch.qos.logback.access.spi.IAccessEvent} and {@link ch.qos.logback.classic.spi.ILoggingEvent}
  * events.
+ * <p>
+ * Events are encoded by writing their fields with {@link #writeFields(Object, JsonFieldWriter)} straight into a
+ * per-thread JSON generator, without building a map or a string for each event. By default, the written fields
+ * are the entries of {@link #toJsonMap(Object)}, so layouts which customize their fields should override
+ * {@code writeFields} to avoid building the map.
  *
  * @param <E> represents the type of the event
  */
-public abstract class AbstractJsonLayout<E> extends LayoutBase<E> {
+public abstract class AbstractJsonLayout<E> extends LayoutBase<E> implements EncodingLayout<E> {
 
     private final JsonFormatter jsonFormatter;
+    private final Supplier<JsonGeneratorFieldWriter> fieldWriterFactory;
+    private final BiConsumer<E, JsonFieldWriter> fields = this::writeFields;
+
+    private volatile ThreadLocal<JsonGeneratorFieldWriter> fieldWriters;
 
     protected AbstractJsonLayout(JsonFormatter jsonFormatter) {
+        this(jsonFormatter, new TimestampFormatter(null, ZoneId.systemDefault()), Collections.emptyMap(),
+            Collections.emptyMap());
+    }
+
+    /**
+     * @param jsonFormatter      the formatter of the JSON messages
+     * @param timestampFormatter the formatter of timestamp fields
+     * @param customFieldNames   the custom names of fields
+     * @param additionalFields   the fields to add to every message
+     * @since 2.1
+     */
+    protected AbstractJsonLayout(JsonFormatter jsonFormatter, TimestampFormatter timestampFormatter,
+                                 Map<String, String> customFieldNames, Map<String, Object> additionalFields) {
         this.jsonFormatter = jsonFormatter;
+        final Map<String, String> fieldNames = new HashMap<>(customFieldNames);
+        final Map<String, Object> extraFields = new HashMap<>(additionalFields);
+        this.fieldWriterFactory = () ->
+            new JsonGeneratorFieldWriter(jsonFormatter, timestampFormatter, fieldNames, extraFields);
+        this.fieldWriters = ThreadLocal.withInitial(fieldWriterFactory);
+    }
+
+    @Override
+    public void stop() {
+        super.stop();
+        // release the generators of all threads, not only of the current one
+        fieldWriters.remove();
+        fieldWriters = ThreadLocal.withInitial(fieldWriterFactory);
     }
 
     @Override
@@ -26,8 +68,33 @@ public abstract class AbstractJsonLayout<E> extends LayoutBase<E> {
         return jsonFormatter.toJson(toJsonMap(event));
     }
 
+    @Override
+    public byte[] encode(E event) {
+        final ThreadLocal<JsonGeneratorFieldWriter> writers = fieldWriters;
+        try {
+            return writers.get().write(event, fields);
+        } catch (IOException e) {
+            writers.remove();
+            throw new IllegalArgumentException("Unable to format event as a JSON", e);
+        }
+    }
+
     /**
      * Converts the provided logging event to a generic {@link Map}
      */
     protected abstract Map<String, Object> toJsonMap(E event);
+
+    /**
+     * Writes the fields of the provided logging event, which must be the same fields as the ones of
+     * {@link #toJsonMap(Object)}. By default, writes the entries of {@code toJsonMap}.
+     *
+     * @param event  the logging event
+     * @param writer the writer of the fields
+     * @since 2.1
+     */
+    protected void writeFields(E event, JsonFieldWriter writer) {
+        for (Map.Entry<String, Object> field : toJsonMap(event).entrySet()) {
+            writer.addObject(field.getKey(), true, field.getValue());
+        }
+    }
 }
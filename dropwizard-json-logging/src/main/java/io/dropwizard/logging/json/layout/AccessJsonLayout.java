@@ -36,7 +36,7 @@ public class AccessJsonLayout extends AbstractJsonLayout<IAccessEvent> {
     public AccessJsonLayout(JsonFormatter jsonFormatter, TimestampFormatter timestampFormatter,
                             Set<AccessAttribute> includes, Map<String, String> customFieldNames,
                             Map<String, Object> additionalFields) {
-        super(jsonFormatter);
+        super(jsonFormatter, timestampFormatter, customFieldNames, additionalFields);
         this.timestampFormatter = timestampFormatter;
         this.additionalFields = new HashMap<>(additionalFields);
         this.customFieldNames = new HashMap<>(customFieldNames);
@@ -45,33 +45,58 @@ public class AccessJsonLayout extends AbstractJsonLayout<IAccessEvent> {
 
     @Override
     protected Map<String, Object> toJsonMap(IAccessEvent event) {
-        return new MapBuilder(timestampFormatter, customFieldNames, additionalFields, includes.size())
-            .addNumber("port", isIncluded(AccessAttribute.LOCAL_PORT), event::getLocalPort)
-            .addNumber("contentLength", isIncluded(AccessAttribute.CONTENT_LENGTH), event::getContentLength)
+        final MapBuilder mapBuilder = new MapBuilder(timestampFormatter, customFieldNames, additionalFields, includes.size());
+        writeFields(event, mapBuilder);
+        return mapBuilder.build();
+    }
+
+    /**
+     * @since 2.1
+     */
+    @Override
+    protected void writeFields(IAccessEvent event, JsonFieldWriter writer) {
+        writer.addNumber("port", isIncluded(AccessAttribute.LOCAL_PORT),
+                isIncluded(AccessAttribute.LOCAL_PORT) ? event.getLocalPort() : 0)
+            .addNumber("contentLength", isIncluded(AccessAttribute.CONTENT_LENGTH),
+                isIncluded(AccessAttribute.CONTENT_LENGTH) ? event.getContentLength() : 0L)
             .addTimestamp("timestamp", isIncluded(AccessAttribute.TIMESTAMP), event.getTimeStamp())
-            .add("method", isIncluded(AccessAttribute.METHOD), event::getMethod)
-            .add("protocol", isIncluded(AccessAttribute.PROTOCOL), event::getProtocol)
-            .add("requestContent", isIncluded(AccessAttribute.REQUEST_CONTENT), event::getRequestContent)
-            .add("remoteAddress", isIncluded(AccessAttribute.REMOTE_ADDRESS), event::getRemoteAddr)
-            .add("remoteUser", isIncluded(AccessAttribute.REMOTE_USER), event::getRemoteUser)
-            .addMap("headers", !requestHeaders.isEmpty(),
-                () -> filterHeaders(event.getRequestHeaderMap(), requestHeaders))
-            .addMap("params", isIncluded(AccessAttribute.REQUEST_PARAMETERS), event::getRequestParameterMap)
-            .addNumber("requestTime", isIncluded(AccessAttribute.REQUEST_TIME), event::getElapsedTime)
-            .add("uri", isIncluded(AccessAttribute.REQUEST_URI), event::getRequestURI)
-            .add("url", isIncluded(AccessAttribute.REQUEST_URL), event::getRequestURL)
-            .add("pathQuery", isIncluded(AccessAttribute.PATH_QUERY), () -> event.getRequestURI() + event.getQueryString())
-            .add("remoteHost", isIncluded(AccessAttribute.REMOTE_HOST), event::getRemoteHost)
-            .add("responseContent", isIncluded(AccessAttribute.RESPONSE_CONTENT), event::getResponseContent)
-            .addMap("responseHeaders", !responseHeaders.isEmpty(),
-                () -> filterHeaders(event.getResponseHeaderMap(), responseHeaders))
-            .add("serverName", isIncluded(AccessAttribute.SERVER_NAME), event::getServerName)
-            .addNumber("status", isIncluded(AccessAttribute.STATUS_CODE), event::getStatusCode)
-            .add("userAgent", isIncluded(AccessAttribute.USER_AGENT), () -> event.getRequestHeader(USER_AGENT))
+            .add("method", isIncluded(AccessAttribute.METHOD),
+                isIncluded(AccessAttribute.METHOD) ? event.getMethod() : null)
+            .add("protocol", isIncluded(AccessAttribute.PROTOCOL),
+                isIncluded(AccessAttribute.PROTOCOL) ? event.getProtocol() : null)
+            .add("requestContent", isIncluded(AccessAttribute.REQUEST_CONTENT),
+                isIncluded(AccessAttribute.REQUEST_CONTENT) ? event.getRequestContent() : null)
+            .add("remoteAddress", isIncluded(AccessAttribute.REMOTE_ADDRESS),
+                isIncluded(AccessAttribute.REMOTE_ADDRESS) ? event.getRemoteAddr() : null)
+            .add("remoteUser", isIncluded(AccessAttribute.REMOTE_USER),
+                isIncluded(AccessAttribute.REMOTE_USER) ? event.getRemoteUser() : null)
+            .add("headers", !requestHeaders.isEmpty(),
+                requestHeaders.isEmpty() ? null : filterHeaders(event.getRequestHeaderMap(), requestHeaders))
+            .add("params", isIncluded(AccessAttribute.REQUEST_PARAMETERS),
+                isIncluded(AccessAttribute.REQUEST_PARAMETERS) ? event.getRequestParameterMap() : null)
+            .addNumber("requestTime", isIncluded(AccessAttribute.REQUEST_TIME),
+                isIncluded(AccessAttribute.REQUEST_TIME) ? event.getElapsedTime() : 0L)
+            .add("uri", isIncluded(AccessAttribute.REQUEST_URI),
+                isIncluded(AccessAttribute.REQUEST_URI) ? event.getRequestURI() : null)
+            .add("url", isIncluded(AccessAttribute.REQUEST_URL),
+                isIncluded(AccessAttribute.REQUEST_URL) ? event.getRequestURL() : null)
+            .add("pathQuery", isIncluded(AccessAttribute.PATH_QUERY),
+                isIncluded(AccessAttribute.PATH_QUERY) ? event.getRequestURI() + event.getQueryString() : null)
+            .add("remoteHost", isIncluded(AccessAttribute.REMOTE_HOST),
+                isIncluded(AccessAttribute.REMOTE_HOST) ? event.getRemoteHost() : null)
+            .add("responseContent", isIncluded(AccessAttribute.RESPONSE_CONTENT),
+                isIncluded(AccessAttribute.RESPONSE_CONTENT) ? event.getResponseContent() : null)
+            .add("responseHeaders", !responseHeaders.isEmpty(),
+                responseHeaders.isEmpty() ? null : filterHeaders(event.getResponseHeaderMap(), responseHeaders))
+            .add("serverName", isIncluded(AccessAttribute.SERVER_NAME),
+                isIncluded(AccessAttribute.SERVER_NAME) ? event.getServerName() : null)
+            .addNumber("status", isIncluded(AccessAttribute.STATUS_CODE),
+                isIncluded(AccessAttribute.STATUS_CODE) ? event.getStatusCode() : 0)
+            .add("userAgent", isIncluded(AccessAttribute.USER_AGENT),
+                isIncluded(AccessAttribute.USER_AGENT) ? event.getRequestHeader(USER_AGENT) : null)
             .add("version", jsonProtocolVersion != null, jsonProtocolVersion)
-            .addMap("requestAttributes", !requestAttributes.isEmpty(),
-                () -> filterRequestAttributes(requestAttributes, event))
-            .build();
+            .add("requestAttributes", !requestAttributes.isEmpty(),
+                requestAttributes.isEmpty() ? null : filterRequestAttributes(requestAttributes, event));
     }
 
     private boolean isIncluded(AccessAttribute attribute) {
@@ -3,6 +3,7 @@ package io.dropwizard.logging.json.layout;
 import ch.qos.logback.classic.pattern.ThrowableHandlingConverter;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import io.dropwizard.logging.json.EventAttribute;
+import org.slf4j.Marker;
 
 import javax.annotation.Nullable;
 import java.util.EnumSet;
@@ -34,7 +35,7 @@ public class EventJsonLayout extends AbstractJsonLayout<ILoggingEvent> {
                            ThrowableHandlingConverter throwableProxyConverter, Set<EventAttribute> includes,
                            Map<String, String> customFieldNames, Map<String, Object> additionalFields,
                            Set<String> includesMdcKeys, boolean flattenMdc) {
-        super(jsonFormatter);
+        super(jsonFormatter, timestampFormatter, customFieldNames, additionalFields);
         this.timestampFormatter = timestampFormatter;
         this.additionalFields = new HashMap<>(additionalFields);
         this.customFieldNames = new HashMap<>(customFieldNames);
@@ -58,36 +59,51 @@ public class EventJsonLayout extends AbstractJsonLayout<ILoggingEvent> {
 
     @Override
     protected Map<String, Object> toJsonMap(ILoggingEvent event) {
-        final MapBuilder mapBuilder = new MapBuilder(timestampFormatter, customFieldNames, additionalFields, includes.size())
-            .addTimestamp("timestamp", isIncluded(EventAttribute.TIMESTAMP), event.getTimeStamp())
-            .add("level", isIncluded(EventAttribute.LEVEL), () -> String.valueOf(event.getLevel()))
-            .add("thread", isIncluded(EventAttribute.THREAD_NAME), event::getThreadName)
-            .add("marker", isIncluded(EventAttribute.MARKER) && event.getMarker() != null, () -> event.getMarker().getName())
-            .add("logger", isIncluded(EventAttribute.LOGGER_NAME), event::getLoggerName)
-            .add("message", isIncluded(EventAttribute.MESSAGE), event::getFormattedMessage)
-            .add("context", isIncluded(EventAttribute.CONTEXT_NAME), () -> event.getLoggerContextVO().getName())
+        final MapBuilder mapBuilder = new MapBuilder(timestampFormatter, customFieldNames, additionalFields, includes.size());
+        writeFields(event, mapBuilder);
+        return mapBuilder.build();
+    }
+
+    /**
+     * @since 2.1
+     */
+    @Override
+    protected void writeFields(ILoggingEvent event, JsonFieldWriter writer) {
+        final Marker marker = event.getMarker();
+        writer.addTimestamp("timestamp", isIncluded(EventAttribute.TIMESTAMP), event.getTimeStamp())
+            .add("level", isIncluded(EventAttribute.LEVEL), String.valueOf(event.getLevel()))
+            .add("thread", isIncluded(EventAttribute.THREAD_NAME), event.getThreadName())
+            .add("marker", isIncluded(EventAttribute.MARKER) && marker != null, marker == null ? null : marker.getName())
+            .add("logger", isIncluded(EventAttribute.LOGGER_NAME), event.getLoggerName())
+            .add("message", isIncluded(EventAttribute.MESSAGE), event.getFormattedMessage())
+            .add("context", isIncluded(EventAttribute.CONTEXT_NAME),
+                isIncluded(EventAttribute.CONTEXT_NAME) ? event.getLoggerContextVO().getName() : null)
             .add("version", jsonProtocolVersion != null, jsonProtocolVersion)
             .add("exception", isIncluded(EventAttribute.EXCEPTION) && event.getThrowableProxy() != null,
-                () -> throwableProxyConverter.convert(event));
-
-        final boolean includeMdc = isIncluded(EventAttribute.MDC);
-        if (flattenMdc) {
-            filterMdc(event.getMDCPropertyMap()).forEach((k,v) -> mapBuilder.add(k, includeMdc, v));
-        } else {
-            mapBuilder.addMap("mdc", includeMdc, () -> filterMdc(event.getMDCPropertyMap()));
+                isIncluded(EventAttribute.EXCEPTION) && event.getThrowableProxy() != null
+                    ? throwableProxyConverter.convert(event) : null);
+
+        if (isIncluded(EventAttribute.MDC)) {
+            final Map<String, String> mdc = event.getMDCPropertyMap();
+            if (flattenMdc) {
+                for (Map.Entry<String, String> entry : mdc.entrySet()) {
+                    writer.add(entry.getKey(), includesMdcKeys.isEmpty() || includesMdcKeys.contains(entry.getKey()),
+                        entry.getValue());
+                }
+            } else {
+                writer.add("mdc", true, filterMdc(mdc));
+            }
         }
 
         final boolean includeCallerData = isIncluded(EventAttribute.CALLER_DATA);
         final StackTraceElement[] callerData = event.getCallerData();
         if (includeCallerData && callerData.length >= 1) {
             final StackTraceElement stackTraceElement = callerData[0];
-            mapBuilder.add("caller_class_name", includeCallerData, stackTraceElement.getClassName());
-            mapBuilder.add("caller_method_name", includeCallerData, stackTraceElement.getMethodName());
-            mapBuilder.add("caller_file_name", includeCallerData, stackTraceElement.getFileName());
-            mapBuilder.addNumber("caller_line_number", includeCallerData, stackTraceElement.getLineNumber());
+            writer.add("caller_class_name", includeCallerData, stackTraceElement.getClassName());
+            writer.add("caller_method_name", includeCallerData, stackTraceElement.getMethodName());
+            writer.add("caller_file_name", includeCallerData, stackTraceElement.getFileName());
+            writer.addNumber("caller_line_number", includeCallerData, stackTraceElement.getLineNumber());
         }
-
-        return mapBuilder.build();
     }
 
     private Map<String, String> filterMdc(Map<String, String> mdcPropertyMap) {
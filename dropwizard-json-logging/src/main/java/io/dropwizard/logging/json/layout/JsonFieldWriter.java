@@ -0,0 +1,69 @@
+package io.dropwizard.logging.json.layout;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Writes the fields of a JSON message, either into a {@link MapBuilder} or straight into a JSON generator.
+ * Field names are replaced by their custom names, and fields which shouldn't be included or have no value are
+ * skipped.
+ *
+ * @since 2.1
+ */
+public interface JsonFieldWriter {
+
+    /**
+     * Adds the string value under the provided field name, if it should be included.
+     */
+    JsonFieldWriter add(String fieldName, boolean include, @Nullable String value);
+
+    /**
+     * Adds the string value under the provided field name, if it should be included.
+     * The supplier is only invoked if the field is to be included.
+     */
+    JsonFieldWriter add(String fieldName, boolean include, Supplier<String> supplier);
+
+    /**
+     * Adds the number under the provided field name, if it should be included.
+     */
+    JsonFieldWriter addNumber(String fieldName, boolean include, @Nullable Number number);
+
+    /**
+     * Adds the number under the provided field name, if it should be included.
+     */
+    JsonFieldWriter addNumber(String fieldName, boolean include, int number);
+
+    /**
+     * Adds the number under the provided field name, if it should be included.
+     */
+    JsonFieldWriter addNumber(String fieldName, boolean include, long number);
+
+    /**
+     * Adds the number value under the provided field name, if it should be included.
+     * The supplier is only invoked if the field is to be included.
+     */
+    JsonFieldWriter addNumber(String fieldName, boolean include, Supplier<Number> supplier);
+
+    /**
+     * Adds the map under the provided field name, if it should be included and isn't empty.
+     */
+    JsonFieldWriter add(String fieldName, boolean include, @Nullable Map<String, ?> mapValue);
+
+    /**
+     * Adds the map value under the provided field name, if it should be included and isn't empty.
+     * The supplier is only invoked if the field is to be included.
+     */
+    JsonFieldWriter addMap(String fieldName, boolean include, Supplier<Map<String, ?>> supplier);
+
+    /**
+     * Adds the value under the provided field name, if it should be included and isn't null. The value is written
+     * as JSON like any other value of a map.
+     */
+    JsonFieldWriter addObject(String fieldName, boolean include, @Nullable Object value);
+
+    /**
+     * Adds and optionally formats the timestamp under the provided field name, if it should be included.
+     */
+    JsonFieldWriter addTimestamp(String fieldName, boolean include, long timestamp);
+}
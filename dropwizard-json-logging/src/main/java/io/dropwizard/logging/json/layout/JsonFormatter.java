@@ -1,11 +1,17 @@
 package io.dropwizard.logging.json.layout;
 
 import ch.qos.logback.core.CoreConstants;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 
 import javax.annotation.Nullable;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.StringWriter;
 import java.util.Map;
 
@@ -53,4 +59,31 @@ public class JsonFormatter {
             throw new IllegalArgumentException("Unable to format map as a JSON", e);
         }
     }
+
+    /**
+     * Creates a generator which writes consecutive JSON objects to the given stream, formatted like
+     * {@link #toJson(Map)} formats them, but without separating them.
+     */
+    JsonGenerator createGenerator(OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writer();
+        if (objectMapper.isEnabled(SerializationFeature.INDENT_OUTPUT)) {
+            writer = writer.with(new DefaultPrettyPrinter().withRootSeparator((SerializableString) null));
+        }
+        return writer.createGenerator(out, JsonEncoding.UTF8).setRootValueSeparator(null);
+    }
+
+    /**
+     * Returns whether nested maps must be serialized by the {@link ObjectMapper}, as it orders their entries.
+     */
+    boolean isOrderingMapEntries() {
+        return objectMapper.isEnabled(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+    }
+
+    boolean doesAppendLineSeparator() {
+        return doesAppendLineSeparator;
+    }
+
+    int getBufferSize() {
+        return bufferSize;
+    }
 }
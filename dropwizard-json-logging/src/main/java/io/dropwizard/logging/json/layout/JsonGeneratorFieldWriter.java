@@ -0,0 +1,309 @@
+package io.dropwizard.logging.json.layout;
+
+import ch.qos.logback.core.CoreConstants;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Writes the fields of a JSON message straight into a {@link JsonGenerator}, without building a map or a string
+ * first. The generator and its buffers are reused for every message, so a writer must only be used by a single
+ * thread.
+ * <p>
+ * The fields are written in the order they are added, followed by the remaining additional fields. The written
+ * fields are the entries of a {@link MapBuilder}: additional fields replace the fields with the same name, and if
+ * a field name occurs more than once, its last value is written. As only the first value of a duplicate field can
+ * be streamed, such messages are written again from a {@link MapBuilder}, as are all messages whose map entries
+ * must be ordered by their keys.
+ */
+class JsonGeneratorFieldWriter implements JsonFieldWriter {
+
+    private static final byte[] EMPTY = new byte[0];
+    private static final byte[] LINE_SEPARATOR = CoreConstants.LINE_SEPARATOR.getBytes(StandardCharsets.UTF_8);
+
+    private final TimestampFormatter timestampFormatter;
+    private final Map<String, String> customFieldNames;
+    private final Map<String, Object> additionalFields;
+    private final boolean doesAppendLineSeparator;
+    private final boolean orderMapEntries;
+    private final ByteArrayBuilder buffer;
+    private final JsonGenerator generator;
+
+    private final StringBuilder formattedTimestamp = new StringBuilder(32);
+    private char[] timestampChars = new char[32];
+    private String[] fieldNames = new String[16];
+    private int fieldCount;
+    private boolean duplicateField;
+
+    JsonGeneratorFieldWriter(JsonFormatter jsonFormatter, TimestampFormatter timestampFormatter,
+                             Map<String, String> customFieldNames, Map<String, Object> additionalFields) {
+        this.timestampFormatter = timestampFormatter;
+        this.customFieldNames = customFieldNames;
+        this.additionalFields = additionalFields;
+        this.doesAppendLineSeparator = jsonFormatter.doesAppendLineSeparator();
+        this.orderMapEntries = jsonFormatter.isOrderingMapEntries();
+        this.buffer = new ByteArrayBuilder(jsonFormatter.getBufferSize());
+        try {
+            this.generator = jsonFormatter.createGenerator(buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the fields of the given event as a JSON object.
+     *
+     * @return the UTF-8 encoded JSON object, or an empty array if the event has no fields
+     * @throws IOException if the JSON can't be generated, after which this writer mustn't be used anymore
+     */
+    <E> byte[] write(E event, BiConsumer<E, JsonFieldWriter> fields) throws IOException {
+        buffer.reset();
+        final boolean written = orderMapEntries ? writeFieldMap(event, fields) : writeFields(event, fields);
+        if (!written) {
+            return EMPTY;
+        }
+        if (doesAppendLineSeparator) {
+            buffer.write(LINE_SEPARATOR);
+        }
+        return buffer.toByteArray();
+    }
+
+    private <E> boolean writeFields(E event, BiConsumer<E, JsonFieldWriter> fields) throws IOException {
+        fieldCount = 0;
+        duplicateField = false;
+        try {
+            fields.accept(event, this);
+            for (Map.Entry<String, Object> field : additionalFields.entrySet()) {
+                if (writeFieldName(field.getKey())) {
+                    writeValue(field.getValue());
+                }
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        if (fieldCount == 0) {
+            return false;
+        }
+        generator.writeEndObject();
+        generator.flush();
+        if (duplicateField) {
+            // the first value of the duplicate field was written, but the last one must win
+            buffer.reset();
+            return writeFieldMap(event, fields);
+        }
+        return true;
+    }
+
+    private <E> boolean writeFieldMap(E event, BiConsumer<E, JsonFieldWriter> fields) throws IOException {
+        final MapBuilder mapBuilder = new MapBuilder(timestampFormatter, customFieldNames, additionalFields,
+            fieldNames.length);
+        fields.accept(event, mapBuilder);
+        final Map<String, Object> map = mapBuilder.build();
+        if (map.isEmpty()) {
+            return false;
+        }
+        generator.writeObject(map);
+        generator.flush();
+        return true;
+    }
+
+    @Override
+    public JsonFieldWriter add(String fieldName, boolean include, @Nullable String value) {
+        if (include && value != null && startField(fieldName)) {
+            writeString(value);
+        }
+        return this;
+    }
+
+    @Override
+    public JsonFieldWriter add(String fieldName, boolean include, Supplier<String> supplier) {
+        return include ? add(fieldName, true, supplier.get()) : this;
+    }
+
+    @Override
+    public JsonFieldWriter addNumber(String fieldName, boolean include, @Nullable Number number) {
+        if (include && number != null && startField(fieldName)) {
+            writeValue(number);
+        }
+        return this;
+    }
+
+    @Override
+    public JsonFieldWriter addNumber(String fieldName, boolean include, int number) {
+        if (include && startField(fieldName)) {
+            try {
+                generator.writeNumber(number);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public JsonFieldWriter addNumber(String fieldName, boolean include, long number) {
+        if (include && startField(fieldName)) {
+            try {
+                generator.writeNumber(number);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public JsonFieldWriter addNumber(String fieldName, boolean include, Supplier<Number> supplier) {
+        return include ? addNumber(fieldName, true, supplier.get()) : this;
+    }
+
+    @Override
+    public JsonFieldWriter add(String fieldName, boolean include, @Nullable Map<String, ?> mapValue) {
+        if (include && mapValue != null && !mapValue.isEmpty() && startField(fieldName)) {
+            writeMap(mapValue);
+        }
+        return this;
+    }
+
+    @Override
+    public JsonFieldWriter addMap(String fieldName, boolean include, Supplier<Map<String, ?>> supplier) {
+        return include ? add(fieldName, true, supplier.get()) : this;
+    }
+
+    @Override
+    public JsonFieldWriter addObject(String fieldName, boolean include, @Nullable Object value) {
+        if (include && value != null && startField(fieldName)) {
+            writeValue(value);
+        }
+        return this;
+    }
+
+    @Override
+    public JsonFieldWriter addTimestamp(String fieldName, boolean include, long timestamp) {
+        if (include && timestamp > 0 && startField(fieldName)) {
+            try {
+                if (timestampFormatter.isFormatting()) {
+                    formattedTimestamp.setLength(0);
+                    timestampFormatter.formatTo(timestamp, formattedTimestamp);
+                    final int length = formattedTimestamp.length();
+                    if (timestampChars.length < length) {
+                        timestampChars = new char[length];
+                    }
+                    formattedTimestamp.getChars(0, length, timestampChars, 0);
+                    generator.writeString(timestampChars, 0, length);
+                } else {
+                    generator.writeNumber(timestamp);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Writes the custom name of the field. If an additional field has the same name, its value is written in place
+     * of the value of the field, just like it replaces the value in a {@link MapBuilder}. If the field was already
+     * written, the message is marked to be written again from a {@link MapBuilder}.
+     *
+     * @return whether the value of the field should be written
+     */
+    private boolean startField(String fieldName) {
+        final String name = customFieldNames.getOrDefault(fieldName, fieldName);
+        if (additionalFields.containsKey(name)) {
+            if (writeFieldName(name)) {
+                writeValue(additionalFields.get(name));
+            }
+            return false;
+        }
+        if (!writeFieldName(name)) {
+            duplicateField = true;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Writes the name of the field, unless it was already written.
+     *
+     * @return whether the value of the field should be written
+     */
+    private boolean writeFieldName(String name) {
+        for (int i = 0; i < fieldCount; i++) {
+            if (fieldNames[i].equals(name)) {
+                return false;
+            }
+        }
+        if (fieldCount == fieldNames.length) {
+            fieldNames = Arrays.copyOf(fieldNames, fieldCount * 2);
+        }
+        fieldNames[fieldCount] = name;
+
+        try {
+            if (fieldCount == 0) {
+                generator.writeStartObject();
+            }
+            fieldCount++;
+            generator.writeFieldName(name);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return true;
+    }
+
+    private void writeMap(Map<String, ?> map) {
+        try {
+            generator.writeStartObject();
+            for (Map.Entry<String, ?> entry : map.entrySet()) {
+                generator.writeFieldName(entry.getKey());
+                writeValue(entry.getValue());
+            }
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeValue(@Nullable Object value) {
+        try {
+            if (value == null) {
+                generator.writeNull();
+            } else if (value instanceof String) {
+                generator.writeString((String) value);
+            } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                generator.writeNumber(((Number) value).intValue());
+            } else if (value instanceof Long) {
+                generator.writeNumber((Long) value);
+            } else {
+                writeObject(value);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeString(String value) {
+        try {
+            generator.writeString(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeObject(Object value) {
+        try {
+            generator.writeObject(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -10,7 +10,7 @@ import static java.util.Objects.requireNonNull;
 /**
  * Builds a Java map based on the provided configuration and customization.
  */
-public class MapBuilder {
+public class MapBuilder implements JsonFieldWriter {
 
     private final TimestampFormatter timestampFormatter;
 
@@ -38,6 +38,7 @@ public class MapBuilder {
      * Adds the string value to the provided map under the provided field name,
      * if it should be included.
      */
+    @Override
     public MapBuilder add(String fieldName, boolean include, @Nullable String value) {
         if (include && value != null) {
             map.put(getFieldName(fieldName), value);
@@ -51,6 +52,7 @@ public class MapBuilder {
      *
      * @since 2.0
      */
+    @Override
     public MapBuilder add(String fieldName, boolean include, Supplier<String> supplier) {
         if (include) {
             String value = supplier.get();
@@ -64,6 +66,7 @@ public class MapBuilder {
     /**
      * Adds the number to the provided map under the provided field name if it's should be included.
      */
+    @Override
     public MapBuilder addNumber(String fieldName, boolean include, @Nullable Number number) {
         if (include && number != null) {
             map.put(getFieldName(fieldName), number);
@@ -71,12 +74,39 @@ public class MapBuilder {
         return this;
     }
 
+    /**
+     * Adds the number to the provided map under the provided field name if it's should be included.
+     *
+     * @since 2.1
+     */
+    @Override
+    public MapBuilder addNumber(String fieldName, boolean include, int number) {
+        if (include) {
+            map.put(getFieldName(fieldName), number);
+        }
+        return this;
+    }
+
+    /**
+     * Adds the number to the provided map under the provided field name if it's should be included.
+     *
+     * @since 2.1
+     */
+    @Override
+    public MapBuilder addNumber(String fieldName, boolean include, long number) {
+        if (include) {
+            map.put(getFieldName(fieldName), number);
+        }
+        return this;
+    }
+
     /**
      * Adds the number value to the provided map under the provided field name,
      * if it should be included. The supplier is only invoked if the field is to be included.
      *
      * @since 2.0
      */
+    @Override
     public MapBuilder addNumber(String fieldName, boolean include, Supplier<Number> supplier) {
         if (include) {
             Number value = supplier.get();
@@ -90,6 +120,7 @@ public class MapBuilder {
     /**
      * Adds the map to the provided map under the provided field name if it's should be included.
      */
+    @Override
     public MapBuilder add(String fieldName, boolean include, @Nullable Map<String, ?> mapValue) {
         if (include && mapValue != null && !mapValue.isEmpty()) {
             map.put(getFieldName(fieldName), mapValue);
@@ -103,6 +134,7 @@ public class MapBuilder {
      *
      * @since 2.0
      */
+    @Override
     public MapBuilder addMap(String fieldName, boolean include, Supplier<Map<String, ?>> supplier) {
         if (include) {
             Map<String, ?> value = supplier.get();
@@ -113,11 +145,24 @@ public class MapBuilder {
         return this;
     }
 
+    /**
+     * Adds the value to the provided map under the provided field name, if it should be included.
+     *
+     * @since 2.1
+     */
+    @Override
+    public MapBuilder addObject(String fieldName, boolean include, @Nullable Object value) {
+        if (include && value != null) {
+            map.put(getFieldName(fieldName), value);
+        }
+        return this;
+    }
 
     /**
      * Adds and optionally formats the timestamp to the provided map under the provided field name,
      * if it's should be included.
      */
+    @Override
     public MapBuilder addTimestamp(String fieldName, boolean include, long timestamp) {
         if (include && timestamp > 0) {
             map.put(getFieldName(fieldName), timestampFormatter.format(timestamp));
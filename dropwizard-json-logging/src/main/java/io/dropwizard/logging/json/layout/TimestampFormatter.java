@@ -1,7 +1,8 @@
 package io.dropwizard.logging.json.layout;
 
+import io.dropwizard.logging.TimestampFormatCache;
+
 import javax.annotation.Nullable;
-import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.Collections;
@@ -12,6 +13,7 @@ import java.util.Optional;
 /**
  * A faster timestamp formatter than the default one in Logback.
  * Also produces timestamps as numbers if the timestamp formatting is disabled.
+ * Formatted timestamps are cached per second by a {@link TimestampFormatCache}.
  */
 public class TimestampFormatter {
     private static final Map<String, DateTimeFormatter> FORMATTERS;
@@ -37,19 +39,44 @@ public class TimestampFormatter {
     }
 
     @Nullable
-    private final DateTimeFormatter dateTimeFormatter;
+    private final TimestampFormatCache formatCache;
 
     public TimestampFormatter(@Nullable String timestampFormat, ZoneId zoneId) {
         if (timestampFormat != null) {
-            dateTimeFormatter = Optional.ofNullable(FORMATTERS.get(timestampFormat))
+            final DateTimeFormatter dateTimeFormatter = Optional.ofNullable(FORMATTERS.get(timestampFormat))
                 .orElseGet(() -> DateTimeFormatter.ofPattern(timestampFormat))
                 .withZone(zoneId);
+            formatCache = new TimestampFormatCache(dateTimeFormatter);
         } else {
-            dateTimeFormatter = null;
+            formatCache = null;
         }
     }
 
     public Object format(long timestamp) {
-        return dateTimeFormatter == null ? timestamp : dateTimeFormatter.format(Instant.ofEpochMilli(timestamp));
+        return formatCache == null ? timestamp : formatCache.format(timestamp);
+    }
+
+    /**
+     * Returns whether timestamps are formatted, rather than produced as numbers.
+     *
+     * @since 2.1
+     */
+    public boolean isFormatting() {
+        return formatCache != null;
+    }
+
+    /**
+     * Appends the timestamp to the given builder, formatted or as a number.
+     *
+     * @param timestamp the timestamp in milliseconds since the epoch
+     * @param builder   the builder to append the timestamp to
+     * @since 2.1
+     */
+    public void formatTo(long timestamp, StringBuilder builder) {
+        if (formatCache == null) {
+            builder.append(timestamp);
+        } else {
+            formatCache.formatTo(timestamp, builder);
+        }
     }
 }
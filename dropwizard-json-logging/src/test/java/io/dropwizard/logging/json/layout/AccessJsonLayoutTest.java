@@ -11,6 +11,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.nio.charset.StandardCharsets;
 import java.time.ZoneId;
 import java.util.Collections;
 import java.util.EnumSet;
@@ -259,4 +260,18 @@ class AccessJsonLayoutTest {
         assertThat(json.get("userAgent").asText()).isEqualTo(userAgent);
         assertThat(json.get("remoteAddress").asText()).isEqualTo(remoteAddress);
     }
+
+    @Test
+    void testEncodesTheSameJsonAsTheLayout() throws Exception {
+        final AccessJsonLayout layout = new AccessJsonLayout(jsonFormatter, timestampFormatter,
+            EnumSet.allOf(AccessAttribute.class), Collections.singletonMap("uri", "request_uri"),
+            Collections.singletonMap("serviceName", "userService"));
+        layout.setRequestHeaders(Sets.of("Host"));
+        layout.setResponseHeaders(Sets.of("Content-Type"));
+
+        layout.encode(event);
+        final String json = new String(layout.encode(event), StandardCharsets.UTF_8);
+        assertThat(json).endsWith(System.lineSeparator());
+        assertThat(objectMapper.readTree(json)).isEqualTo(objectMapper.readTree(layout.doLayout(event)));
+    }
 }
@@ -5,6 +5,8 @@ import ch.qos.logback.classic.pattern.ThrowableProxyConverter;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.classic.spi.LoggerContextVO;
 import ch.qos.logback.classic.spi.ThrowableProxyVO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.dropwizard.jackson.Jackson;
 import io.dropwizard.logging.json.EventAttribute;
 import io.dropwizard.util.Maps;
@@ -14,10 +16,12 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.slf4j.Marker;
 
+import java.nio.charset.StandardCharsets;
 import java.time.ZoneId;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
@@ -184,6 +188,134 @@ class EventJsonLayoutTest {
         assertThat(map).isEqualTo(expectedFields);
     }
 
+    @Test
+    void testEncodesTheSameJsonAsTheLayout() throws Exception {
+        final ObjectMapper objectMapper = Jackson.newObjectMapper();
+        assertThat(objectMapper.readTree(encode(eventJsonLayout)))
+                .isEqualTo(objectMapper.readTree(eventJsonLayout.doLayout(event)));
+    }
+
+    @Test
+    void testEncodesTheSamePrettyPrintedJsonAsTheLayout() throws Exception {
+        final EventJsonLayout layout = new EventJsonLayout(new JsonFormatter(Jackson.newObjectMapper(), true, true),
+                timestampFormatter, throwableProxyConverter, DEFAULT_EVENT_ATTRIBUTES, Collections.emptyMap(),
+                Collections.emptyMap(), Collections.emptySet(), false);
+
+        final ObjectMapper objectMapper = Jackson.newObjectMapper();
+        assertThat(encode(layout)).startsWith("{" + System.lineSeparator());
+        assertThat(objectMapper.readTree(encode(layout))).isEqualTo(objectMapper.readTree(layout.doLayout(event)));
+    }
+
+    @Test
+    void testEncodesTheSameOrderedJsonAsTheLayout() throws Exception {
+        final ObjectMapper objectMapper = Jackson.newObjectMapper().enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+        final EventJsonLayout layout = new EventJsonLayout(new JsonFormatter(objectMapper, false, true),
+                timestampFormatter, throwableProxyConverter, DEFAULT_EVENT_ATTRIBUTES, Collections.emptyMap(),
+                Collections.singletonMap("serviceName", "userService"), Collections.emptySet(), false);
+
+        assertThat(encode(layout)).isEqualTo(layout.doLayout(event));
+    }
+
+    @Test
+    void testEncodesTheLastValueOfDuplicateFieldsLikeTheLayout() throws Exception {
+        final EventJsonLayout layout = new EventJsonLayout(jsonFormatter, timestampFormatter, throwableProxyConverter,
+                DEFAULT_EVENT_ATTRIBUTES, Collections.singletonMap("thread", "source"),
+                Collections.singletonMap("serviceName", "userService"), Collections.emptySet(), false) {
+            @Override
+            protected void writeFields(ILoggingEvent event, JsonFieldWriter writer) {
+                writer.add("source", true, "first");
+                super.writeFields(event, writer);
+                writer.add("serviceName", true, "ignored");
+                writer.add("custom", true, "first");
+                writer.add("custom", true, "last");
+            }
+        };
+
+        final String json = encode(layout);
+        final ObjectMapper objectMapper = Jackson.newObjectMapper();
+        assertThat(objectMapper.readTree(json)).isEqualTo(objectMapper.readTree(layout.doLayout(event)));
+        assertThat(json)
+                .contains("\"source\":\"main\"")
+                .contains("\"serviceName\":\"userService\"")
+                .contains("\"custom\":\"last\"");
+    }
+
+    @Test
+    void testEncodesFlattenedMdcWithCustomAndAdditionalFields() throws Exception {
+        final Map<String, String> customFieldNames = Maps.of(
+                "timestamp", "@timestamp",
+                "thread", "threadName");
+        final Map<String, Object> additionalFields = Maps.of(
+                "serviceName", "userService",
+                "threadName", "worker");
+        final EventJsonLayout layout = new EventJsonLayout(jsonFormatter, timestampFormatter, throwableProxyConverter,
+                DEFAULT_EVENT_ATTRIBUTES, customFieldNames, additionalFields, Sets.of("userId", "orderId"), true);
+
+        final ObjectMapper objectMapper = Jackson.newObjectMapper();
+        assertThat(objectMapper.readTree(encode(layout))).isEqualTo(objectMapper.readTree(layout.doLayout(event)));
+    }
+
+    @Test
+    void testEncodesTheFieldsOfLayoutsWhichOverrideThem() throws Exception {
+        final EventJsonLayout layout = new EventJsonLayout(jsonFormatter, timestampFormatter, throwableProxyConverter,
+                DEFAULT_EVENT_ATTRIBUTES, Collections.emptyMap(), Collections.emptyMap(), Collections.emptySet(), false) {
+            @Override
+            protected void writeFields(ILoggingEvent event, JsonFieldWriter writer) {
+                super.writeFields(event, writer);
+                writer.add("custom", true, "value");
+            }
+        };
+
+        final ObjectMapper objectMapper = Jackson.newObjectMapper();
+        assertThat(encode(layout)).contains("\"custom\":\"value\"");
+        assertThat(objectMapper.readTree(encode(layout))).isEqualTo(objectMapper.readTree(layout.doLayout(event)));
+    }
+
+    @Test
+    void testEncodesTheMapOfLayoutsWhichOnlyImplementIt() throws Exception {
+        final AbstractJsonLayout<ILoggingEvent> layout = new AbstractJsonLayout<ILoggingEvent>(jsonFormatter) {
+            @Override
+            protected Map<String, Object> toJsonMap(ILoggingEvent event) {
+                final Map<String, Object> map = new LinkedHashMap<>();
+                map.put("message", event.getFormattedMessage());
+                map.put("level", event.getLevel().levelInt);
+                map.put("tags", Collections.singletonList("custom"));
+                return map;
+            }
+        };
+
+        layout.encode(event);
+        assertThat(new String(layout.encode(event), StandardCharsets.UTF_8))
+                .isEqualTo(layout.doLayout(event))
+                .contains("\"tags\":[\"custom\"]");
+    }
+
+    @Test
+    void testEncodesAfterARestart() {
+        final EventJsonLayout layout = new EventJsonLayout(jsonFormatter, timestampFormatter, throwableProxyConverter,
+                DEFAULT_EVENT_ATTRIBUTES, Collections.emptyMap(), Collections.emptyMap(), Collections.emptySet(), false);
+        layout.start();
+        final byte[] encoded = layout.encode(event);
+        layout.stop();
+        layout.start();
+
+        assertThat(layout.encode(event)).isEqualTo(encoded);
+    }
+
+    @Test
+    void testEncodesNothingWithoutFields() {
+        final EventJsonLayout layout = new EventJsonLayout(jsonFormatter, timestampFormatter, throwableProxyConverter,
+                Collections.emptySet(), Collections.emptyMap(), Collections.emptyMap(), Collections.emptySet(), false);
+
+        assertThat(layout.encode(event)).isEmpty();
+    }
+
+    private String encode(EventJsonLayout layout) {
+        // encode twice to make sure the reused generator starts each message from scratch
+        layout.encode(event);
+        return new String(layout.encode(event), StandardCharsets.UTF_8);
+    }
+
     @Test
     void testStartThrowableConverter() {
         eventJsonLayout.start();
@@ -1,21 +1,74 @@
 package io.dropwizard.lifecycle;
 
+import com.codahale.metrics.MetricRegistry;
 import org.eclipse.jetty.util.component.AbstractLifeCycle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.TimeUnit;
+
+import static com.codahale.metrics.MetricRegistry.name;
 
 /**
  * A wrapper for {@link Managed} instances which ties them to a Jetty {@link
  * org.eclipse.jetty.util.component.LifeCycle}.
+ * <p/>
+ * With a {@link MetricRegistry}, the time to start and to stop the managed object is recorded in the
+ * {@code io.dropwizard.lifecycle.Managed.<name>.start} and {@code io.dropwizard.lifecycle.Managed.<name>.stop}
+ * timers, and logged. The name defaults to the class of the managed object, which is shared by its instances.
+ * Lambdas, anonymous and local classes have no stable name, so they are only timed if they're given a name.
  */
 public class JettyManaged extends AbstractLifeCycle implements Managed {
+    private static final Logger LOGGER = LoggerFactory.getLogger(JettyManaged.class);
+
     private final Managed managed;
 
+    @Nullable
+    private final MetricRegistry metricRegistry;
+
+    @Nullable
+    private final String name;
+
     /**
      * Creates a new JettyManaged wrapping {@code managed}.
      *
      * @param managed a {@link Managed} instance to be wrapped
      */
     public JettyManaged(Managed managed) {
+        this(managed, null);
+    }
+
+    /**
+     * Creates a new JettyManaged wrapping {@code managed}, which records the time to start and to stop it.
+     *
+     * @param managed        a {@link Managed} instance to be wrapped
+     * @param metricRegistry the registry of the start and stop timers, or {@code null} to not record them
+     * @since 2.1
+     */
+    public JettyManaged(Managed managed, @Nullable MetricRegistry metricRegistry) {
+        this(managed, metricRegistry, null);
+    }
+
+    /**
+     * Creates a new JettyManaged wrapping {@code managed}, which records the time to start and to stop it in the
+     * timers with the given name.
+     *
+     * @param managed        a {@link Managed} instance to be wrapped
+     * @param metricRegistry the registry of the start and stop timers, or {@code null} to not record them
+     * @param name           the name of the timers, or {@code null} for the name of the class of {@code managed}
+     * @since 2.1
+     */
+    public JettyManaged(Managed managed, @Nullable MetricRegistry metricRegistry, @Nullable String name) {
         this.managed = managed;
+        this.metricRegistry = metricRegistry;
+        this.name = name == null ? nameOf(managed.getClass()) : name;
+    }
+
+    @Nullable
+    private static String nameOf(Class<?> managedClass) {
+        // lambdas, anonymous and local classes have no canonical name
+        return managedClass.isSynthetic() || managedClass.getCanonicalName() == null ? null : managedClass.getName();
     }
 
     public Managed getManaged() {
@@ -24,12 +77,27 @@ public class JettyManaged extends AbstractLifeCycle implements Managed {
 
     @Override
     protected void doStart() throws Exception {
+        final long startTime = System.nanoTime();
         managed.start();
+        record("start", "Started", startTime);
     }
 
     @Override
     protected void doStop() throws Exception {
+        final long startTime = System.nanoTime();
         managed.stop();
+        record("stop", "Stopped", startTime);
+    }
+
+    private void record(String action, String description, long startTime) {
+        if (metricRegistry == null) {
+            return;
+        }
+        final long duration = System.nanoTime() - startTime;
+        if (name != null) {
+            metricRegistry.timer(name(Managed.class, name, action)).update(duration, TimeUnit.NANOSECONDS);
+        }
+        LOGGER.info("{} {} in {} ms", description, managed, TimeUnit.NANOSECONDS.toMillis(duration));
     }
 
     @Override
@@ -0,0 +1,281 @@
+package io.dropwizard.lifecycle;
+
+import com.codahale.metrics.MetricRegistry;
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A Jetty {@link org.eclipse.jetty.util.component.LifeCycle} for {@link Managed} objects with dependencies between
+ * them.
+ * <p/>
+ * The objects are started concurrently on a bounded pool of threads: each object is started as soon as all of its
+ * dependencies are started. They are stopped in the reverse order: each object is stopped as soon as all the objects
+ * which depend on it are stopped. If an object fails to start, the objects which depend on it are not started, and
+ * the objects which were started are stopped again.
+ * <p/>
+ * The dependencies of an object must be added to the graph before the object, so the graph has no cycles.
+ *
+ * @since 2.1
+ */
+public class ManagedGraph extends AbstractLifeCycle {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ManagedGraph.class);
+    private static final AtomicInteger COUNT = new AtomicInteger();
+
+    private final MetricRegistry metricRegistry;
+    private final Map<Managed, Node> nodes = new IdentityHashMap<>();
+    private final List<Node> order = new ArrayList<>();
+    private int threads;
+
+    /**
+     * Creates an empty graph.
+     *
+     * @param metricRegistry the registry of the start and stop timers of the managed objects
+     * @param threads        the maximum number of objects started or stopped at the same time
+     */
+    public ManagedGraph(MetricRegistry metricRegistry, int threads) {
+        this.metricRegistry = metricRegistry;
+        setThreads(threads);
+    }
+
+    /**
+     * Adds a managed object, which is started after its dependencies.
+     *
+     * @param managed      the managed object
+     * @param dependencies the managed objects of this graph which must be started before {@code managed}
+     * @throws IllegalArgumentException if a dependency is not part of this graph, or the object already is
+     */
+    public void add(Managed managed, List<Managed> dependencies) {
+        add(managed, null, dependencies);
+    }
+
+    /**
+     * Adds a managed object, which is started after its dependencies, and names the timers of its start and stop.
+     *
+     * @param managed      the managed object
+     * @param name         the name of the start and stop timers of {@code managed}, or {@code null} for the name of
+     *                     its class
+     * @param dependencies the managed objects of this graph which must be started before {@code managed}
+     * @throws IllegalArgumentException if a dependency is not part of this graph, or the object already is
+     * @see JettyManaged
+     */
+    public synchronized void add(Managed managed, @Nullable String name, List<Managed> dependencies) {
+        if (nodes.containsKey(managed)) {
+            throw new IllegalArgumentException(managed + " is already managed");
+        }
+        final List<Node> dependencyNodes = new ArrayList<>(dependencies.size());
+        for (Managed dependency : dependencies) {
+            final Node node = nodes.get(dependency);
+            if (node == null) {
+                throw new IllegalArgumentException("The dependency " + dependency + " of " + managed
+                    + " must be managed before it");
+            }
+            dependencyNodes.add(node);
+        }
+        final Node node = new Node(new JettyManaged(managed, metricRegistry, name), dependencyNodes);
+        nodes.put(managed, node);
+        order.add(node);
+    }
+
+    /**
+     * @param managed a managed object
+     * @return whether the object was added to this graph
+     */
+    public synchronized boolean contains(Managed managed) {
+        return nodes.containsKey(managed);
+    }
+
+    /**
+     * @return the managed objects of this graph, in the order they were added
+     */
+    public synchronized List<JettyManaged> getManagedObjects() {
+        final List<JettyManaged> managedObjects = new ArrayList<>(order.size());
+        for (Node node : order) {
+            managedObjects.add(node.managed);
+        }
+        return managedObjects;
+    }
+
+    public synchronized int getThreads() {
+        return threads;
+    }
+
+    /**
+     * @param threads the maximum number of objects started or stopped at the same time
+     */
+    public synchronized void setThreads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be at least 1, but was " + threads);
+        }
+        this.threads = threads;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        final List<Node> nodes = snapshot();
+        final ExecutorService executor = newExecutor(nodes.size());
+        final long startTime = System.nanoTime();
+        try {
+            final Map<Node, CompletableFuture<Void>> started = new IdentityHashMap<>();
+            // the dependencies of a node are always before it
+            for (Node node : nodes) {
+                started.put(node, allOf(node.dependencies, started)
+                    .thenRunAsync(() -> run(node.managed::start), executor));
+            }
+            final Throwable failure = await(started.values());
+            if (failure != null) {
+                stop(nodes, executor);
+                throw rethrow(failure);
+            }
+            LOGGER.info("Started {} managed objects with {} threads in {} ms", nodes.size(), getThreads(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        final List<Node> nodes = snapshot();
+        final ExecutorService executor = newExecutor(nodes.size());
+        try {
+            final Throwable failure = stop(nodes, executor);
+            if (failure != null) {
+                throw rethrow(failure);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Stops the started objects, each once all the objects which depend on it are stopped, even if they failed to.
+     *
+     * @return the first failure, if an object failed to stop
+     */
+    @Nullable
+    private Throwable stop(List<Node> nodes, ExecutorService executor) {
+        final Map<Node, List<Node>> dependents = new IdentityHashMap<>();
+        for (Node node : nodes) {
+            dependents.put(node, new ArrayList<>());
+            for (Node dependency : node.dependencies) {
+                dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(node);
+            }
+        }
+
+        final Map<Node, CompletableFuture<Void>> stopped = new IdentityHashMap<>();
+        final List<CompletableFuture<Void>> failures = new ArrayList<>();
+        // the dependents of a node are always after it
+        for (int i = nodes.size() - 1; i >= 0; i--) {
+            final Node node = nodes.get(i);
+            final CompletableFuture<Void> stop = allOf(dependents.get(node), stopped)
+                .handle((ignored, failure) -> null)
+                .thenRunAsync(() -> {
+                    if (node.managed.isStarted()) {
+                        run(node.managed::stop);
+                    }
+                }, executor);
+            failures.add(stop);
+            // the failure of a dependent doesn't prevent stopping its dependencies
+            stopped.put(node, stop.handle((ignored, failure) -> null));
+        }
+        return await(failures);
+    }
+
+    private synchronized List<Node> snapshot() {
+        return new ArrayList<>(order);
+    }
+
+    private ExecutorService newExecutor(int nodes) {
+        final String prefix = "managed-lifecycle-" + COUNT.incrementAndGet() + "-";
+        final AtomicInteger count = new AtomicInteger();
+        final ThreadFactory threadFactory = runnable -> new Thread(runnable,
+            String.format(Locale.ROOT, "%s%d", prefix, count.incrementAndGet()));
+        return Executors.newFixedThreadPool(Math.max(1, Math.min(getThreads(), nodes)), threadFactory);
+    }
+
+    private static CompletableFuture<Void> allOf(@Nullable List<Node> nodes, Map<Node, CompletableFuture<Void>> futures) {
+        if (nodes == null || nodes.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        final CompletableFuture<?>[] dependencies = new CompletableFuture<?>[nodes.size()];
+        for (int i = 0; i < dependencies.length; i++) {
+            dependencies[i] = futures.get(nodes.get(i));
+        }
+        return CompletableFuture.allOf(dependencies);
+    }
+
+    /**
+     * Waits for all the futures to complete.
+     *
+     * @return the first failure, with the other failures suppressed, if a future failed
+     */
+    @Nullable
+    private static Throwable await(Iterable<CompletableFuture<Void>> futures) {
+        Throwable failure = null;
+        for (CompletableFuture<Void> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                final Throwable cause = e.getCause() == null ? e : e.getCause();
+                if (failure == null) {
+                    failure = cause;
+                } else if (failure != cause) {
+                    failure.addSuppressed(cause);
+                }
+            }
+        }
+        return failure;
+    }
+
+    private static void run(LifecycleAction action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private static Exception rethrow(Throwable failure) {
+        if (failure instanceof Exception) {
+            return (Exception) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        return new IllegalStateException(failure);
+    }
+
+    @Override
+    public String toString() {
+        return "ManagedGraph" + getManagedObjects();
+    }
+
+    private interface LifecycleAction {
+        void run() throws Exception;
+    }
+
+    private static class Node {
+        private final JettyManaged managed;
+        private final List<Node> dependencies;
+
+        private Node(JettyManaged managed, List<Node> dependencies) {
+            this.managed = managed;
+            this.dependencies = dependencies;
+        }
+    }
+}
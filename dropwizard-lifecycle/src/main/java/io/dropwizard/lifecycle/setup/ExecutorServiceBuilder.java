@@ -1,8 +1,10 @@
 package io.dropwizard.lifecycle.setup;
 
 import com.codahale.metrics.InstrumentedThreadFactory;
+import com.codahale.metrics.MetricRegistry;
 import io.dropwizard.lifecycle.ExecutorServiceManager;
 import io.dropwizard.util.Duration;
+import io.dropwizard.util.VirtualThreads;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,6 +35,7 @@ public class ExecutorServiceBuilder {
     private BlockingQueue<Runnable> workQueue;
     private ThreadFactory threadFactory;
     private RejectedExecutionHandler handler;
+    private boolean virtualThreads;
 
     public ExecutorServiceBuilder(LifecycleEnvironment environment, String nameFormat, ThreadFactory factory) {
         this.environment = environment;
@@ -45,6 +48,7 @@ public class ExecutorServiceBuilder {
         this.workQueue = new LinkedBlockingQueue<>();
         this.threadFactory = factory;
         this.handler = new ThreadPoolExecutor.AbortPolicy();
+        this.virtualThreads = false;
     }
 
     public ExecutorServiceBuilder(LifecycleEnvironment environment, String nameFormat) {
@@ -52,8 +56,10 @@ public class ExecutorServiceBuilder {
     }
 
     private static ThreadFactory buildThreadFactory(String nameFormat) {
-        ThreadFactory defaultThreadFactory = Executors.defaultThreadFactory();
+        return buildThreadFactory(nameFormat, Executors.defaultThreadFactory());
+    }
 
+    private static ThreadFactory buildThreadFactory(String nameFormat, ThreadFactory defaultThreadFactory) {
         // Validate the format string
         try (Formatter fmt = new Formatter()) {
             fmt.format(Locale.ROOT, nameFormat, 0);
@@ -106,7 +112,29 @@ public class ExecutorServiceBuilder {
         return this;
     }
 
+    /**
+     * Runs each task on a new virtual thread instead of a thread pool, if the runtime supports virtual threads. The
+     * pool sizes, the keep-alive time, the work queue, the thread factory and the rejected execution handler don't
+     * apply to virtual threads.
+     *
+     * @param virtualThreads whether to run tasks on virtual threads
+     * @return this builder
+     * @see VirtualThreads
+     * @since 2.1
+     */
+    public ExecutorServiceBuilder virtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+        return this;
+    }
+
     public ExecutorService build() {
+        if (virtualThreads) {
+            if (VirtualThreads.isSupported()) {
+                return buildVirtualThreadExecutor();
+            }
+            log.warn("Virtual threads aren't supported by this runtime, falling back to a thread pool");
+        }
+
         if (corePoolSize != maximumPoolSize && maximumPoolSize > 1 && !isBoundedQueue()) {
             log.warn("Parameter 'maximumPoolSize' is conflicting with unbounded work queues");
         }
@@ -125,6 +153,33 @@ public class ExecutorServiceBuilder {
         return executor;
     }
 
+    private ExecutorService buildVirtualThreadExecutor() {
+        final String nameWithoutFormat = getNameWithoutFormat(nameFormat);
+        final MetricRegistry metricRegistry = environment.getMetricRegistry();
+        final ThreadFactory instrumentedThreadFactory = new InstrumentedThreadFactory(
+            buildThreadFactory(nameFormat, VirtualThreads.newThreadFactory(nameWithoutFormat)), metricRegistry,
+            nameWithoutFormat);
+        final boolean monitoringPinning = VirtualThreads.monitorPinning();
+        if (monitoringPinning) {
+            metricRegistry.gauge(MetricRegistry.name(nameWithoutFormat, "pinned"),
+                () -> VirtualThreads::getPinnedCount);
+        }
+        final ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor(instrumentedThreadFactory);
+        environment.manage(new ExecutorServiceManager(executor, shutdownTime, nameFormat) {
+            @Override
+            public void stop() throws Exception {
+                try {
+                    super.stop();
+                } finally {
+                    if (monitoringPinning) {
+                        VirtualThreads.stopMonitoringPinning();
+                    }
+                }
+            }
+        });
+        return executor;
+    }
+
     static String getNameWithoutFormat(String nameFormat) {
         final String name = String.format(Locale.ROOT, nameFormat, 0);
         return commonPrefixWithoutHyphen(name, nameFormat) + commonSuffix(name, nameFormat);
@@ -3,6 +3,7 @@ package io.dropwizard.lifecycle.setup;
 import com.codahale.metrics.MetricRegistry;
 import io.dropwizard.lifecycle.JettyManaged;
 import io.dropwizard.lifecycle.Managed;
+import io.dropwizard.lifecycle.ManagedGraph;
 import io.dropwizard.lifecycle.ServerLifecycleListener;
 import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.util.component.AbstractLifeCycle;
@@ -11,6 +12,7 @@ import org.eclipse.jetty.util.component.LifeCycle;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ThreadFactory;
@@ -23,6 +25,10 @@ public class LifecycleEnvironment {
     private final List<LifeCycle> managedObjects;
     private final List<LifeCycle.Listener> lifecycleListeners;
     private final MetricRegistry metricRegistry;
+    private int lifecycleThreads = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    @Nullable
+    private ManagedGraph managedGraph;
 
     public LifecycleEnvironment(MetricRegistry metricRegistry) {
         this.managedObjects = new ArrayList<>();
@@ -42,7 +48,80 @@ public class LifecycleEnvironment {
      * @param managed a managed object
      */
     public void manage(Managed managed) {
-        managedObjects.add(new JettyManaged(requireNonNull(managed)));
+        managedObjects.add(new JettyManaged(requireNonNull(managed), metricRegistry));
+    }
+
+    /**
+     * Adds the given {@link Managed} instance to the set of objects managed by the server's
+     * lifecycle, like {@link #manage(Managed)}, and names the timers of its start and stop.
+     *
+     * @param name    the name of the start and stop timers of {@code managed}
+     * @param managed a managed object
+     * @see JettyManaged
+     * @since 2.1
+     */
+    public void manage(String name, Managed managed) {
+        managedObjects.add(new JettyManaged(requireNonNull(managed), metricRegistry, requireNonNull(name)));
+    }
+
+    /**
+     * Adds the given {@link Managed} instance to the set of objects managed by the server's
+     * lifecycle, with the managed objects it depends on.
+     * <p/>
+     * The objects managed with this method are started concurrently, each as soon as its
+     * dependencies are started, on at most {@link #getLifecycleThreads() lifecycle threads}.
+     * They are stopped in the reverse order. They are started together at the position of the
+     * first of them among the other managed objects.
+     *
+     * @param managed      a managed object
+     * @param dependencies the objects which must be started before {@code managed}, and stopped
+     *                     after it. They must have been managed with this method, or with
+     *                     {@link #manage(Managed)} before the first object managed with this method.
+     * @throws IllegalArgumentException if a dependency is not managed as required
+     * @see ManagedGraph
+     * @since 2.1
+     */
+    public void manageConcurrently(Managed managed, Managed... dependencies) {
+        addToGraph(null, managed, dependencies);
+    }
+
+    /**
+     * Adds the given {@link Managed} instance to the set of objects managed by the server's
+     * lifecycle, with the managed objects it depends on, like
+     * {@link #manageConcurrently(Managed, Managed...)}, and names the timers of its start and stop.
+     *
+     * @param name         the name of the start and stop timers of {@code managed}
+     * @param managed      a managed object
+     * @param dependencies the objects which must be started before {@code managed}, and stopped
+     *                     after it
+     * @throws IllegalArgumentException if a dependency is not managed as required
+     * @see JettyManaged
+     * @since 2.1
+     */
+    public void manageConcurrently(String name, Managed managed, Managed... dependencies) {
+        addToGraph(requireNonNull(name), managed, dependencies);
+    }
+
+    private void addToGraph(@Nullable String name, Managed managed, Managed[] dependencies) {
+        requireNonNull(managed);
+        ManagedGraph graph = managedGraph;
+        if (graph == null) {
+            graph = new ManagedGraph(metricRegistry, lifecycleThreads);
+            managedObjects.add(graph);
+            managedGraph = graph;
+        }
+
+        final List<LifeCycle> startedBefore = managedObjects.subList(0, managedObjects.indexOf(graph));
+        final List<Managed> graphDependencies = new ArrayList<>(dependencies.length);
+        for (Managed dependency : dependencies) {
+            if (graph.contains(dependency)) {
+                graphDependencies.add(dependency);
+            } else if (!isManaged(startedBefore, dependency)) {
+                throw new IllegalArgumentException("The dependency " + dependency + " of " + managed
+                    + " must be managed before it");
+            }
+        }
+        graph.add(managed, name, graphDependencies);
     }
 
     /**
@@ -54,6 +133,30 @@ public class LifecycleEnvironment {
         managedObjects.add(requireNonNull(managed));
     }
 
+    /**
+     * @return the maximum number of objects managed with dependencies which are started or
+     * stopped at the same time, by default the number of processors, and at least 2
+     * @since 2.1
+     */
+    public int getLifecycleThreads() {
+        return lifecycleThreads;
+    }
+
+    /**
+     * @param lifecycleThreads the maximum number of objects managed with dependencies which are
+     *                         started or stopped at the same time
+     * @see #manageConcurrently(Managed, Managed...)
+     * @since 2.1
+     */
+    public void setLifecycleThreads(int lifecycleThreads) {
+        if (managedGraph != null) {
+            managedGraph.setThreads(lifecycleThreads);
+        } else if (lifecycleThreads < 1) {
+            throw new IllegalArgumentException("lifecycleThreads must be at least 1, but was " + lifecycleThreads);
+        }
+        this.lifecycleThreads = lifecycleThreads;
+    }
+
     public ExecutorServiceBuilder executorService(String nameFormat) {
         return new ExecutorServiceBuilder(this, nameFormat);
     }
@@ -104,6 +207,16 @@ public class LifecycleEnvironment {
         return metricRegistry;
     }
 
+    private static boolean isManaged(List<LifeCycle> managedObjects, Managed managed) {
+        for (LifeCycle object : managedObjects) {
+            if (object == managed
+                || (object instanceof JettyManaged && ((JettyManaged) object).getManaged() == managed)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private static class ServerListener extends AbstractLifeCycle.AbstractLifeCycleListener {
         private final ServerLifecycleListener listener;
 
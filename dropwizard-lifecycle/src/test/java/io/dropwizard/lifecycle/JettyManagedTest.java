@@ -1,8 +1,13 @@
 package io.dropwizard.lifecycle;
 
+import com.codahale.metrics.MetricRegistry;
 import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
 
+import java.util.Arrays;
+
+import static com.codahale.metrics.MetricRegistry.name;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 
@@ -19,4 +24,49 @@ class JettyManagedTest {
         inOrder.verify(managed).start();
         inOrder.verify(managed).stop();
     }
+
+    @Test
+    void recordsTheTimeToStartAndStop() throws Exception {
+        final MetricRegistry registry = new MetricRegistry();
+        final JettyManaged timed = new JettyManaged(managed, registry);
+        timed.start();
+        timed.stop();
+
+        assertThat(registry.timer(name(Managed.class, managed.getClass().getName(), "start")).getCount()).isEqualTo(1);
+        assertThat(registry.timer(name(Managed.class, managed.getClass().getName(), "stop")).getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void namesTheTimers() throws Exception {
+        final MetricRegistry registry = new MetricRegistry();
+        final JettyManaged timed = new JettyManaged(managed, registry, "database");
+        timed.start();
+        timed.stop();
+
+        assertThat(registry.timer(name(Managed.class, "database", "start")).getCount()).isEqualTo(1);
+        assertThat(registry.timer(name(Managed.class, "database", "stop")).getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotTimeAnonymousAndLocalClassesWithoutAName() throws Exception {
+        final MetricRegistry registry = new MetricRegistry();
+        class Local implements Managed {
+            @Override
+            public void start() {
+            }
+
+            @Override
+            public void stop() {
+            }
+        }
+        final Managed anonymous = new Local() {
+        };
+        for (Managed unnamed : Arrays.asList(new Local(), anonymous)) {
+            final JettyManaged timed = new JettyManaged(unnamed, registry);
+            timed.start();
+            timed.stop();
+        }
+
+        assertThat(registry.getTimers()).isEmpty();
+    }
 }
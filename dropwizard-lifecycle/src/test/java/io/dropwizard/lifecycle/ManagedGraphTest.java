@@ -0,0 +1,153 @@
+package io.dropwizard.lifecycle;
+
+import com.codahale.metrics.MetricRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.codahale.metrics.MetricRegistry.name;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class ManagedGraphTest {
+    private final MetricRegistry registry = new MetricRegistry();
+    private final ManagedGraph graph = new ManagedGraph(registry, 4);
+    private final List<String> events = new CopyOnWriteArrayList<>();
+
+    @Test
+    void startsIndependentObjectsConcurrently() throws Exception {
+        final CountDownLatch bothStarting = new CountDownLatch(2);
+        graph.add(new Recording("a", bothStarting), Collections.emptyList());
+        graph.add(new Recording("b", bothStarting), Collections.emptyList());
+
+        graph.start();
+        graph.stop();
+
+        // each object waits for the other one to be starting
+        assertThat(bothStarting.getCount()).isZero();
+        assertThat(events).containsExactlyInAnyOrder("start a", "start b", "stop a", "stop b");
+    }
+
+    @Test
+    void startsObjectsAfterTheirDependencies() throws Exception {
+        final Recording database = new Recording("database");
+        final Recording cache = new Recording("cache");
+        final Recording warmer = new Recording("warmer");
+        graph.add(database, Collections.emptyList());
+        graph.add(cache, Collections.emptyList());
+        graph.add(warmer, Arrays.asList(database, cache));
+
+        graph.start();
+        assertThat(events).hasSize(3).endsWith("start warmer");
+
+        events.clear();
+        graph.stop();
+        assertThat(events).hasSize(3).startsWith("stop warmer");
+    }
+
+    @Test
+    void stopsTheStartedObjectsWhenAnObjectFailsToStart() throws Exception {
+        final Recording database = new Recording("database");
+        final Recording failing = new Recording("failing") {
+            @Override
+            public void start() throws Exception {
+                throw new IllegalStateException("unable to start");
+            }
+        };
+        final Recording client = new Recording("client");
+        graph.add(database, Collections.emptyList());
+        graph.add(failing, Collections.singletonList(database));
+        graph.add(client, Collections.singletonList(failing));
+
+        assertThatExceptionOfType(IllegalStateException.class)
+            .isThrownBy(graph::start)
+            .withMessage("unable to start");
+        assertThat(events).containsExactly("start database", "stop database");
+    }
+
+    @Test
+    void stopsTheDependenciesWhenAnObjectFailsToStop() throws Exception {
+        final Recording database = new Recording("database");
+        final Recording failing = new Recording("failing") {
+            @Override
+            public void stop() throws Exception {
+                throw new IllegalStateException("unable to stop");
+            }
+        };
+        graph.add(database, Collections.emptyList());
+        graph.add(failing, Collections.singletonList(database));
+
+        graph.start();
+        assertThatExceptionOfType(IllegalStateException.class)
+            .isThrownBy(graph::stop)
+            .withMessage("unable to stop");
+        assertThat(events).containsExactly("start database", "start failing", "stop database");
+    }
+
+    @Test
+    void recordsTheTimeToStartAndStopTheObjects() throws Exception {
+        graph.add(new Recording("a"), Collections.emptyList());
+
+        graph.start();
+        graph.stop();
+
+        assertThat(registry.timer(name(Managed.class, Recording.class.getName(), "start")).getCount()).isEqualTo(1);
+        assertThat(registry.timer(name(Managed.class, Recording.class.getName(), "stop")).getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsUnknownDependencies() {
+        final Recording a = new Recording("a");
+        final Recording b = new Recording("b");
+        graph.add(a, Collections.emptyList());
+
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> graph.add(b, Collections.singletonList(new Recording("unknown"))));
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> graph.add(a, Collections.emptyList()));
+        assertThat(graph.contains(b)).isFalse();
+        assertThat(graph.getManagedObjects()).extracting(JettyManaged::getManaged).containsExactly(a);
+    }
+
+    @Test
+    void rejectsLessThanOneThread() {
+        assertThatIllegalArgumentException().isThrownBy(() -> graph.setThreads(0));
+    }
+
+    private class Recording implements Managed {
+        private final String name;
+        private final CountDownLatch starting;
+
+        private Recording(String name) {
+            this(name, new CountDownLatch(0));
+        }
+
+        private Recording(String name, CountDownLatch starting) {
+            this.name = name;
+            this.starting = starting;
+        }
+
+        @Override
+        public void start() throws Exception {
+            starting.countDown();
+            assertThat(starting.await(5, TimeUnit.SECONDS)).isTrue();
+            events.add("start " + name);
+        }
+
+        @Override
+        public void stop() throws Exception {
+            events.add("stop " + name);
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package io.dropwizard.lifecycle.setup;
 import com.codahale.metrics.InstrumentedThreadFactory;
 import com.codahale.metrics.MetricRegistry;
 import io.dropwizard.util.Duration;
+import io.dropwizard.util.VirtualThreads;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.exceptions.verification.WantedButNotInvoked;
@@ -18,6 +19,8 @@ import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -50,6 +53,34 @@ class ExecutorServiceBuilderTest {
             .containsOnlyKeys("test.created", "test.terminated", "test.running");
     }
 
+    @Test
+    void runsTasksOnVirtualThreads() throws Exception {
+        assumeTrue(VirtualThreads.isSupported());
+
+        final ExecutorService executor = executorServiceBuilder
+            .virtualThreads(true)
+            .build();
+
+        assertThat(executor).isNotInstanceOf(ThreadPoolExecutor.class);
+        assertThat(executor.submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS))
+            .startsWith("test-");
+        assertThat(metricRegistry.getMetrics())
+            .containsOnlyKeys("test.created", "test.terminated", "test.running", "test.pinned");
+        executor.shutdown();
+    }
+
+    @Test
+    void fallsBackToAThreadPoolWithoutVirtualThreads() {
+        assumeFalse(VirtualThreads.isSupported());
+
+        final ExecutorService executor = executorServiceBuilder
+            .virtualThreads(true)
+            .build();
+
+        verify(log).warn("Virtual threads aren't supported by this runtime, falling back to a thread pool");
+        assertThat(executor).isInstanceOf(ThreadPoolExecutor.class);
+    }
+
     @Test
     @SuppressWarnings("Slf4jFormatShouldBeConst")
     void testGiveNoWarningAboutMaximumPoolSizeAndBoundedQueue() {
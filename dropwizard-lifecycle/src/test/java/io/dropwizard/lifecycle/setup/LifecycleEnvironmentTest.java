@@ -3,11 +3,13 @@ package io.dropwizard.lifecycle.setup;
 import com.codahale.metrics.MetricRegistry;
 import io.dropwizard.lifecycle.JettyManaged;
 import io.dropwizard.lifecycle.Managed;
+import io.dropwizard.lifecycle.ManagedGraph;
 import org.eclipse.jetty.util.component.ContainerLifeCycle;
 import org.eclipse.jetty.util.component.LifeCycle;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -16,7 +18,9 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicLong;
 
+import static com.codahale.metrics.MetricRegistry.name;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.Mockito.mock;
 
 class LifecycleEnvironmentTest {
@@ -53,6 +57,77 @@ class LifecycleEnvironmentTest {
             .isEqualTo(managed);
     }
 
+    @Test
+    void namesTheTimersOfManagedObjects() throws Exception {
+        final Managed managed = mock(Managed.class);
+        environment.manage("database", managed);
+
+        final ContainerLifeCycle container = new ContainerLifeCycle();
+        environment.attach(container);
+        container.start();
+        container.stop();
+
+        assertThat(environment.getMetricRegistry().getTimers())
+            .containsKeys(name(Managed.class, "database", "start"), name(Managed.class, "database", "stop"));
+    }
+
+    @Test
+    void managesObjectsConcurrently() throws Exception {
+        final Managed first = mock(Managed.class);
+        final Managed database = mock(Managed.class);
+        final Managed client = mock(Managed.class);
+        environment.manage(first);
+        environment.manageConcurrently(database);
+        environment.manageConcurrently(client, database, first);
+
+        final ContainerLifeCycle container = new ContainerLifeCycle();
+        environment.attach(container);
+
+        final List<Object> beans = new ArrayList<>(container.getBeans());
+        assertThat(beans).hasSize(2);
+        assertThat(beans.get(1)).isInstanceOf(ManagedGraph.class);
+        assertThat(((ManagedGraph) beans.get(1)).getManagedObjects())
+            .extracting(JettyManaged::getManaged)
+            .containsExactly(database, client);
+    }
+
+    @Test
+    void namesTheTimersOfObjectsManagedConcurrently() throws Exception {
+        final Managed database = mock(Managed.class);
+        environment.manageConcurrently(database);
+        environment.manageConcurrently("client", mock(Managed.class), database);
+
+        final ContainerLifeCycle container = new ContainerLifeCycle();
+        environment.attach(container);
+        container.start();
+        container.stop();
+
+        assertThat(environment.getMetricRegistry().getTimers())
+            .containsKeys(name(Managed.class, "client", "start"), name(Managed.class, "client", "stop"));
+    }
+
+    @Test
+    void rejectsDependenciesManagedAfterTheConcurrentObjects() {
+        final Managed database = mock(Managed.class);
+        final Managed late = mock(Managed.class);
+        environment.manageConcurrently(database);
+        environment.manage(late);
+
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> environment.manageConcurrently(mock(Managed.class), late));
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> environment.manageConcurrently(mock(Managed.class), mock(Managed.class)));
+    }
+
+    @Test
+    void configuresTheLifecycleThreads() {
+        environment.manageConcurrently(mock(Managed.class));
+        environment.setLifecycleThreads(3);
+
+        assertThat(environment.getLifecycleThreads()).isEqualTo(3);
+        assertThatIllegalArgumentException().isThrownBy(() -> environment.setLifecycleThreads(0));
+    }
+
     @Test
     void scheduledExecutorServiceBuildsDaemonThreads() throws ExecutionException, InterruptedException {
         final ScheduledExecutorService executorService = environment.scheduledExecutorService("daemon-%d", true).build();
@@ -12,6 +12,8 @@ import ch.qos.logback.core.spi.DeferredProcessingAware;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.dropwizard.logback.ThrottlingAppenderWrapper;
 import io.dropwizard.logging.async.AsyncAppenderFactory;
+import io.dropwizard.logging.async.AsyncQueueType;
+import io.dropwizard.logging.async.RingBufferAsyncLoggingEventAppender;
 import io.dropwizard.logging.filter.FilterFactory;
 import io.dropwizard.logging.layout.DiscoverableLayoutFactory;
 import io.dropwizard.logging.layout.LayoutFactory;
@@ -83,6 +85,15 @@ import java.util.concurrent.TimeUnit;
  *         </td>
  *     </tr>
  *     <tr>
+ *         <td>{@code asyncQueueType}</td>
+ *         <td>{@code BLOCKING_QUEUE}</td>
+ *         <td>
+ *             The type of queue buffering the events: {@code BLOCKING_QUEUE} for logback's lock-based queue,
+ *             or {@code RING_BUFFER} for a preallocated lock-free ring buffer, which publishes its queue depth
+ *             and the number of discarded events as metrics.
+ *         </td>
+ *     </tr>
+ *     <tr>
  *         <td>{@code messageRate}</td>
  *         <td>
  *             Maximum message rate: average duration between messages. Extra messages are discarded.
@@ -135,6 +146,9 @@ public abstract class AbstractAppenderFactory<E extends DeferredProcessingAware>
 
     private boolean neverBlock = false;
 
+    @NotNull
+    private AsyncQueueType asyncQueueType = AsyncQueueType.BLOCKING_QUEUE;
+
     @JsonProperty
     public int getQueueSize() {
         return queueSize;
@@ -234,6 +248,22 @@ public abstract class AbstractAppenderFactory<E extends DeferredProcessingAware>
         this.neverBlock = neverBlock;
     }
 
+    /**
+     * @since 2.1
+     */
+    @JsonProperty
+    public AsyncQueueType getAsyncQueueType() {
+        return asyncQueueType;
+    }
+
+    /**
+     * @since 2.1
+     */
+    @JsonProperty
+    public void setAsyncQueueType(AsyncQueueType asyncQueueType) {
+        this.asyncQueueType = asyncQueueType;
+    }
+
     @Nullable
     @JsonProperty
     public DiscoverableLayoutFactory<?> getLayout() {
@@ -250,9 +280,11 @@ public abstract class AbstractAppenderFactory<E extends DeferredProcessingAware>
     }
 
     protected Appender<E> wrapAsync(Appender<E> appender, AsyncAppenderFactory<E> asyncAppenderFactory, Context context) {
-        final AsyncAppenderBase<E> asyncAppender = asyncAppenderFactory.build();
+        final AsyncAppenderBase<E> asyncAppender = asyncAppenderFactory.build(asyncQueueType);
         if (asyncAppender instanceof AsyncAppender) {
             ((AsyncAppender) asyncAppender).setIncludeCallerData(includeCallerData);
+        } else if (asyncAppender instanceof RingBufferAsyncLoggingEventAppender) {
+            ((RingBufferAsyncLoggingEventAppender) asyncAppender).setIncludeCallerData(includeCallerData);
         }
         asyncAppender.setQueueSize(queueSize);
         asyncAppender.setDiscardingThreshold(discardingThreshold);
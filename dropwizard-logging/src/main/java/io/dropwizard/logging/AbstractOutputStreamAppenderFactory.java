@@ -3,10 +3,10 @@ package io.dropwizard.logging;
 import ch.qos.logback.classic.LoggerContext;
 import ch.qos.logback.core.Appender;
 import ch.qos.logback.core.OutputStreamAppender;
-import ch.qos.logback.core.encoder.LayoutWrappingEncoder;
 import ch.qos.logback.core.spi.DeferredProcessingAware;
 import io.dropwizard.logging.async.AsyncAppenderFactory;
 import io.dropwizard.logging.filter.LevelFilterFactory;
+import io.dropwizard.logging.layout.EncodingLayoutWrappingEncoder;
 import io.dropwizard.logging.layout.LayoutFactory;
 
 /**
@@ -21,7 +21,7 @@ public abstract class AbstractOutputStreamAppenderFactory<E extends DeferredProc
     public Appender<E> build(LoggerContext context, String applicationName, LayoutFactory<E> layoutFactory,
                              LevelFilterFactory<E> levelFilterFactory, AsyncAppenderFactory<E> asyncAppenderFactory) {
         final OutputStreamAppender<E> appender = appender(context);
-        final LayoutWrappingEncoder<E> layoutEncoder = new LayoutWrappingEncoder<>();
+        final EncodingLayoutWrappingEncoder<E> layoutEncoder = new EncodingLayoutWrappingEncoder<>();
         layoutEncoder.setLayout(buildLayout(context, layoutFactory));
         appender.setEncoder(layoutEncoder);
 
@@ -6,8 +6,8 @@ import ch.qos.logback.classic.filter.ThresholdFilter;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.ConsoleAppender;
 import ch.qos.logback.core.Layout;
-import ch.qos.logback.core.encoder.LayoutWrappingEncoder;
 import io.dropwizard.logging.layout.DiscoverableLayoutFactory;
+import io.dropwizard.logging.layout.EncodingLayoutWrappingEncoder;
 
 import javax.annotation.concurrent.GuardedBy;
 import java.util.TimeZone;
@@ -62,7 +62,7 @@ public class BootstrapLogging {
             appender.addFilter(filter);
             appender.setContext(root.getLoggerContext());
 
-            final LayoutWrappingEncoder<ILoggingEvent> layoutEncoder = new LayoutWrappingEncoder<>();
+            final EncodingLayoutWrappingEncoder<ILoggingEvent> layoutEncoder = new EncodingLayoutWrappingEncoder<>();
             layoutEncoder.setLayout(layout);
             appender.setEncoder(layoutEncoder);
             appender.start();
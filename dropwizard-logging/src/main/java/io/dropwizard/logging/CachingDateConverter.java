@@ -0,0 +1,63 @@
+package io.dropwizard.logging;
+
+import ch.qos.logback.classic.pattern.ClassicConverter;
+import ch.qos.logback.classic.pattern.DateConverter;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.CoreConstants;
+
+import javax.annotation.Nullable;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * A replacement of Logback's {@link DateConverter} which supports the same options (a date pattern and a time zone),
+ * but formats timestamps through a {@link TimestampFormatCache}, so only the first timestamp of every second is
+ * formatted by a {@link SimpleDateFormat}.
+ *
+ * @since 2.1
+ */
+public class CachingDateConverter extends ClassicConverter {
+
+    @Nullable
+    private TimestampFormatCache cache;
+
+    @Override
+    public void start() {
+        String datePattern = getFirstOption();
+        if (datePattern == null || datePattern.equals(CoreConstants.ISO8601_STR)) {
+            datePattern = CoreConstants.ISO8601_PATTERN;
+        }
+
+        SimpleDateFormat dateFormat;
+        try {
+            dateFormat = new SimpleDateFormat(datePattern);
+        } catch (IllegalArgumentException e) {
+            addWarn("Could not instantiate SimpleDateFormat with pattern " + datePattern, e);
+            dateFormat = new SimpleDateFormat(CoreConstants.ISO8601_PATTERN);
+        }
+
+        final List<String> optionList = getOptionList();
+        if (optionList != null && optionList.size() > 1) {
+            dateFormat.setTimeZone(TimeZone.getTimeZone(optionList.get(1)));
+        }
+
+        final SimpleDateFormat format = dateFormat;
+        cache = new TimestampFormatCache(timestamp -> {
+            synchronized (format) {
+                return format.format(new Date(timestamp));
+            }
+        });
+        super.start();
+    }
+
+    @Override
+    public String convert(ILoggingEvent event) {
+        final TimestampFormatCache timestampFormatCache = cache;
+        if (timestampFormatCache == null) {
+            throw new IllegalStateException("The converter hasn't been started");
+        }
+        return timestampFormatCache.format(event.getTimeStamp());
+    }
+}
@@ -11,6 +11,7 @@ import ch.qos.logback.core.AsyncAppenderBase;
 import ch.qos.logback.core.ConsoleAppender;
 import ch.qos.logback.core.encoder.LayoutWrappingEncoder;
 import ch.qos.logback.core.util.StatusPrinter;
+import com.codahale.metrics.Gauge;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.logback.InstrumentedAppender;
 import com.fasterxml.jackson.annotation.JsonIgnore;
@@ -22,10 +23,12 @@ import io.dropwizard.jackson.Jackson;
 import io.dropwizard.logback.AsyncAppenderBaseProxy;
 import io.dropwizard.logging.async.AsyncAppenderFactory;
 import io.dropwizard.logging.async.AsyncLoggingEventAppenderFactory;
+import io.dropwizard.logging.async.RingBufferAsyncAppender;
 import io.dropwizard.logging.filter.LevelFilterFactory;
 import io.dropwizard.logging.filter.ThresholdLevelFilterFactory;
 import io.dropwizard.logging.layout.DropwizardLayoutFactory;
 import io.dropwizard.logging.layout.LayoutFactory;
+import io.dropwizard.logging.socket.DropwizardSocketAppender;
 import io.dropwizard.util.Lists;
 
 import javax.annotation.Nullable;
@@ -70,6 +73,13 @@ public class DefaultLoggingFactory implements LoggingFactory {
     @JsonIgnore
     private final PrintStream configurationErrorsStream;
 
+    @JsonIgnore
+    private Map<String, Gauge<?>> appenderGauges = Collections.emptyMap();
+
+    @JsonIgnore
+    @Nullable
+    private MetricRegistry appenderGaugeRegistry;
+
     public DefaultLoggingFactory() {
         this(LoggingUtil.getLoggerContext(), System.err);
     }
@@ -202,6 +212,7 @@ public class DefaultLoggingFactory implements LoggingFactory {
             loggerContext.stop();
             final Logger logger = loggerContext.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
             logger.detachAndStopAllAppenders();
+            removeAppenderGauges();
             final DropwizardLayout formatter = new DropwizardLayout(loggerContext, TimeZone.getDefault());
             formatter.start();
             final LayoutWrappingEncoder<ILoggingEvent> layoutEncoder = new LayoutWrappingEncoder<>();
@@ -238,6 +249,68 @@ public class DefaultLoggingFactory implements LoggingFactory {
         appender.setContext(loggerContext);
         appender.start();
         root.addAppender(appender);
+
+        final Map<String, Gauge<?>> gauges = new HashMap<>();
+        int ringBufferAppenders = 0;
+        for (Logger logger : loggerContext.getLoggerList()) {
+            for (Appender<ILoggingEvent> loggerAppender : Lists.of(logger.iteratorForAppenders())) {
+                final Appender<ILoggingEvent> asyncAppender = loggerAppender instanceof AsyncAppenderBaseProxy
+                    ? ((AsyncAppenderBaseProxy<ILoggingEvent>) loggerAppender).getAppender() : loggerAppender;
+                if (asyncAppender instanceof RingBufferAsyncAppender) {
+                    final RingBufferAsyncAppender<ILoggingEvent> ringBufferAppender =
+                        (RingBufferAsyncAppender<ILoggingEvent>) asyncAppender;
+                    // appenders of the same type have the same name, so the index tells them apart
+                    final String prefix = MetricRegistry.name(RingBufferAsyncAppender.class, asyncAppender.getName(),
+                        String.valueOf(ringBufferAppenders++));
+                    gauges.put(MetricRegistry.name(prefix, "queue-depth"),
+                        (Gauge<Integer>) ringBufferAppender::getNumberOfElementsInQueue);
+                    gauges.put(MetricRegistry.name(prefix, "discarded"),
+                        (Gauge<Long>) ringBufferAppender::getDiscardedCount);
+                }
+                if (asyncAppender instanceof AsyncAppenderBase) {
+                    for (Appender<ILoggingEvent> delegate :
+                        Lists.of(((AsyncAppenderBase<ILoggingEvent>) asyncAppender).iteratorForAppenders())) {
+                        if (delegate instanceof DropwizardSocketAppender) {
+                            final DropwizardSocketAppender<ILoggingEvent> socketAppender =
+                                (DropwizardSocketAppender<ILoggingEvent>) delegate;
+                            final String prefix = MetricRegistry.name(DropwizardSocketAppender.class,
+                                delegate.getName(), socketAppender.getHost() + ':' + socketAppender.getPort());
+                            gauges.put(MetricRegistry.name(prefix, "dropped"),
+                                (Gauge<Long>) socketAppender::getDroppedCount);
+                            gauges.put(MetricRegistry.name(prefix, "backlog-size"),
+                                (Gauge<Integer>) socketAppender::getReconnectBacklogLength);
+                        }
+                    }
+                }
+            }
+        }
+        registerAppenderGauges(metricRegistry, gauges);
+    }
+
+    /**
+     * Registers the gauges of the appenders, replacing the gauges of the appenders of a previous configuration.
+     * Metrics with the same name which weren't registered by this factory are kept.
+     */
+    private synchronized void registerAppenderGauges(MetricRegistry metricRegistry, Map<String, Gauge<?>> gauges) {
+        removeAppenderGauges();
+        final Map<String, Gauge<?>> registered = new HashMap<>();
+        gauges.forEach((name, gauge) -> {
+            if (metricRegistry.gauge(name, () -> gauge) == gauge) {
+                registered.put(name, gauge);
+            }
+        });
+        appenderGauges = registered;
+        appenderGaugeRegistry = metricRegistry;
+    }
+
+    private synchronized void removeAppenderGauges() {
+        final MetricRegistry metricRegistry = appenderGaugeRegistry;
+        if (metricRegistry != null) {
+            final Map<String, Gauge<?>> gauges = appenderGauges;
+            metricRegistry.removeMatching((name, metric) -> gauges.get(name) == metric);
+        }
+        appenderGauges = Collections.emptyMap();
+        appenderGaugeRegistry = null;
     }
 
     private Logger configureLoggers(String name) {
@@ -11,6 +11,7 @@ import java.util.TimeZone;
  *     <li>Disables pattern headers.</li>
  *     <li>Prefixes logged exceptions with {@code !}.</li>
  *     <li>Sets the pattern to the given timezone.</li>
+ *     <li>Formats dates with a {@link CachingDateConverter}.</li>
  * </ul>
  */
 public class DropwizardLayout extends PatternLayout {
@@ -20,6 +21,8 @@ public class DropwizardLayout extends PatternLayout {
         getDefaultConverterMap().put("ex", PrefixedThrowableProxyConverter.class.getName());
         getDefaultConverterMap().put("xEx", PrefixedExtendedThrowableProxyConverter.class.getName());
         getDefaultConverterMap().put("rEx", PrefixedRootCauseFirstThrowableProxyConverter.class.getName());
+        getInstanceConverterMap().put("d", CachingDateConverter.class.getName());
+        getInstanceConverterMap().put("date", CachingDateConverter.class.getName());
         setPattern("%-5p [%d{ISO8601," + timeZone.getID() + "}] %c: %m%n%rEx");
         setContext(context);
     }
@@ -22,9 +22,18 @@ import ch.qos.logback.core.status.StatusManager;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Imported from Logback 1.2.3.
+ * <p>
+ * Unlike the original, writes which fail or which happen while the stream is in error can be kept in a bounded
+ * backlog, which is written to the new stream once the stream is recovered. Every write is one event; events which
+ * don't fit into the backlog are dropped and counted. Flushes attempt to recover the stream as well, and send the
+ * backlog once it's recovered. Events which the failed stream buffered in a {@link SendBuffer} but didn't send are
+ * discarded and counted as dropped too, rather than being sent again, in part or in full, when the stream is closed.
+ * Writes and flushes may happen on different threads.
  *
  * @see ch.qos.logback.core.recovery.ResilientOutputStreamBase
  * @see <a href="https://github.com/qos-ch/logback/blob/v_1.2.3/logback-core/src/main/java/ch/qos/logback/core/recovery/ResilientOutputStreamBase.java">ResilientOutputStreamBase</a>
@@ -34,6 +43,7 @@ import java.io.OutputStream;
 abstract class ResilientOutputStreamBase extends OutputStream {
 
     private static final int STATUS_COUNT_LIMIT = 2 * 4;
+    private static final int INITIAL_BACKLOG_SIZE = 8192;
 
     private int noContextWarning = 0;
     private int statusCount = 0;
@@ -44,48 +54,78 @@ abstract class ResilientOutputStreamBase extends OutputStream {
     protected OutputStream os;
     boolean presumedClean = true;
 
+    private int backlogCapacity = 0;
+    private byte[] backlog = new byte[0];
+    private volatile int backlogLength = 0;
+    private int backlogEvents = 0;
+    private final LongAdder droppedEvents = new LongAdder();
+
     private boolean isPresumedInError() {
         // existence of recoveryCoordinator indicates failed state
         return (recoveryCoordinator != null && !presumedClean);
     }
 
     @Override
-    public void write(byte[] b, int off, int len) {
+    public synchronized void write(byte[] b, int off, int len) {
         if (isPresumedInError()) {
             if (!recoveryCoordinator.isTooSoon()) {
                 attemptRecovery();
             }
-            return; // return regardless of the success of the recovery attempt
+            if (isPresumedInError()) {
+                addToBacklog(b, off, len);
+                return;
+            }
         }
 
         try {
-            os.write(b, off, len);
+            writeBacklog();
+            write(b, off, len, 1);
             postSuccessfulWrite();
         } catch (IOException e) {
             postIOFailure(e);
+            addToBacklog(b, off, len);
+        }
+    }
+
+    private void write(byte[] b, int off, int len, int events) throws IOException {
+        if (os instanceof SendBuffer) {
+            ((SendBuffer) os).write(b, off, len, events);
+        } else {
+            os.write(b, off, len);
         }
     }
 
     @Override
     public void write(int b) {
-        if (isPresumedInError()) {
-            if (!recoveryCoordinator.isTooSoon()) {
-                attemptRecovery();
-            }
-            return; // return regardless of the success of the recovery attempt
-        }
-        try {
-            os.write(b);
-            postSuccessfulWrite();
-        } catch (IOException e) {
-            postIOFailure(e);
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    private void writeBacklog() throws IOException {
+        if (backlogLength > 0) {
+            write(backlog, 0, backlogLength, backlogEvents);
+            backlogLength = 0;
+            backlogEvents = 0;
         }
     }
 
+    /**
+     * Flushes the stream. A stream in error attempts to recover, and sends its backlog once it's recovered, so
+     * periodic flushes recover a stream which nothing is written to anymore.
+     */
     @Override
-    public void flush() {
+    public synchronized void flush() {
+        if (isPresumedInError()) {
+            if (recoveryCoordinator.isTooSoon()) {
+                return;
+            }
+            attemptRecovery();
+            if (isPresumedInError()) {
+                return;
+            }
+        }
         if (os != null) {
             try {
+                writeBacklog();
                 os.flush();
                 postSuccessfulWrite();
             } catch (IOException e) {
@@ -94,10 +134,57 @@ abstract class ResilientOutputStreamBase extends OutputStream {
         }
     }
 
+    /**
+     * Sets the maximum number of bytes which are kept while the stream is in error, to be written once it's
+     * recovered. Defaults to zero, which drops all writes while the stream is in error.
+     *
+     * @since 2.1
+     */
+    public void setBacklogCapacity(int backlogCapacity) {
+        this.backlogCapacity = backlogCapacity;
+    }
+
+    /**
+     * Returns the number of bytes which are kept until the stream is recovered.
+     *
+     * @since 2.1
+     */
+    public int getBacklogLength() {
+        return backlogLength;
+    }
+
+    /**
+     * Returns the number of events which were dropped, because they were written while the stream was in error
+     * and didn't fit into the backlog, or because the stream failed before sending them.
+     *
+     * @since 2.1
+     */
+    public long getDroppedEvents() {
+        return droppedEvents.sum();
+    }
+
     abstract String getDescription();
 
     abstract OutputStream openNewOutputStream() throws IOException;
 
+    private void addToBacklog(byte[] b, int off, int len) {
+        final int length = backlogLength;
+        if (len > backlogCapacity - length) {
+            droppedEvents.increment();
+            return;
+        }
+        if (len > backlog.length - length) {
+            int size = Math.max(backlog.length, INITIAL_BACKLOG_SIZE);
+            while (size < length + len) {
+                size *= 2;
+            }
+            backlog = Arrays.copyOf(backlog, Math.min(size, backlogCapacity));
+        }
+        System.arraycopy(b, off, backlog, length, len);
+        backlogLength = length + len;
+        backlogEvents++;
+    }
+
     private void postSuccessfulWrite() {
         if (recoveryCoordinator != null) {
             recoveryCoordinator = null;
@@ -107,6 +194,9 @@ abstract class ResilientOutputStreamBase extends OutputStream {
     }
 
     private void postIOFailure(IOException e) {
+        if (os instanceof SendBuffer) {
+            droppedEvents.add(((SendBuffer) os).discard());
+        }
         addStatusIfCountNotOverLimit(new ErrorStatus("IO failure while writing to " + getDescription(), this, e));
         presumedClean = false;
         if (recoveryCoordinator == null) {
@@ -115,7 +205,7 @@ abstract class ResilientOutputStreamBase extends OutputStream {
     }
 
     @Override
-    public void close() throws IOException {
+    public synchronized void close() throws IOException {
         if (os != null) {
             os.close();
         }
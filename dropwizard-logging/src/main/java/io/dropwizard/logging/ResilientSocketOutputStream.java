@@ -1,7 +1,6 @@
 package io.dropwizard.logging;
 
 import javax.net.SocketFactory;
-import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.InetAddress;
@@ -57,6 +56,6 @@ public class ResilientSocketOutputStream extends ResilientOutputStreamBase {
         socket.setKeepAlive(true);
         // Important not to cache `InetAddress` in case the host moved to a new IP address.
         socket.connect(new InetSocketAddress(InetAddress.getByName(host), port), connectionTimeoutMs);
-        return new BufferedOutputStream(socket.getOutputStream(), sendBufferSize);
+        return new SendBuffer(socket.getOutputStream(), sendBufferSize);
     }
 }
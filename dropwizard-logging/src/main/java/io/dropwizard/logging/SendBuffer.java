@@ -0,0 +1,54 @@
+package io.dropwizard.logging;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A {@link BufferedOutputStream} which knows how many events it buffers, and whose buffer can be discarded once
+ * the underlying stream failed, so the buffered bytes aren't sent again when the stream is closed.
+ */
+class SendBuffer extends BufferedOutputStream {
+    private int bufferedEvents;
+
+    SendBuffer(OutputStream out, int size) {
+        super(out, size);
+    }
+
+    @Override
+    public synchronized void write(byte[] b, int off, int len) throws IOException {
+        write(b, off, len, 1);
+    }
+
+    /**
+     * Writes bytes which contain the given number of events.
+     */
+    synchronized void write(byte[] b, int off, int len, int events) throws IOException {
+        final int buffered = count;
+        super.write(b, off, len);
+        if (count == buffered + len) {
+            bufferedEvents += events;
+        } else {
+            // the buffer was flushed, and now holds either nothing or only these bytes
+            bufferedEvents = count == 0 ? 0 : events;
+        }
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        super.flush();
+        bufferedEvents = 0;
+    }
+
+    /**
+     * Discards the buffered bytes.
+     *
+     * @return the number of discarded events
+     */
+    synchronized int discard() {
+        final int events = count == 0 ? 0 : bufferedEvents;
+        count = 0;
+        bufferedEvents = 0;
+        return events;
+    }
+}
@@ -8,12 +8,16 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import io.dropwizard.logging.socket.DropwizardSocketAppender;
 import io.dropwizard.util.Duration;
 import io.dropwizard.util.DataSize;
+import io.dropwizard.validation.MaxDataSize;
+import io.dropwizard.validation.MaxDuration;
 import io.dropwizard.validation.MinDataSize;
+import io.dropwizard.validation.MinDuration;
 import io.dropwizard.validation.PortRange;
 import javax.validation.constraints.NotEmpty;
 
 import javax.net.SocketFactory;
 import javax.validation.constraints.NotNull;
+import java.util.concurrent.TimeUnit;
 
 /**
  * An {@link AppenderFactory} implementation which provides an appender that writes events to a TCP socket.
@@ -51,6 +55,19 @@ import javax.validation.constraints.NotNull;
  * <td>8KiB</td>
  * <td>The buffer size of the underlying SocketAppender. Takes into effect if immediateFlush is disabled.</td>
  * </tr>
+ * <tr>
+ * <td>{@code flushInterval}</td>
+ * <td>{@code 1 second}</td>
+ * <td>The interval in which buffered events are sent to the server if immediateFlush is disabled, even if the
+ * send buffer isn't full yet, and in which a broken connection is reestablished if a reconnect backlog is kept. Set
+ * to zero to only send them once the buffer is full.</td>
+ * </tr>
+ * <tr>
+ * <td>{@code reconnectBacklogSize}</td>
+ * <td>0B</td>
+ * <td>The maximum size of the events which are kept while the connection to the server is broken, to be sent once
+ * it's reestablished. Events which don't fit are dropped.</td>
+ * </tr>
  * </table>
  */
 @JsonTypeName("tcp")
@@ -70,6 +87,15 @@ public class TcpSocketAppenderFactory<E extends DeferredProcessingAware> extends
     @MinDataSize(1)
     private DataSize sendBufferSize = DataSize.kibibytes(8);
 
+    @NotNull
+    @MinDuration(0)
+    @MaxDuration(value = Integer.MAX_VALUE, unit = TimeUnit.MILLISECONDS)
+    private Duration flushInterval = Duration.seconds(1);
+
+    @NotNull
+    @MaxDataSize(Integer.MAX_VALUE)
+    private DataSize reconnectBacklogSize = DataSize.bytes(0);
+
     @JsonProperty
     public String getHost() {
         return host;
@@ -120,10 +146,43 @@ public class TcpSocketAppenderFactory<E extends DeferredProcessingAware> extends
         this.sendBufferSize = sendBufferSize;
     }
 
+    /**
+     * @since 2.1
+     */
+    @JsonProperty
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    /**
+     * @since 2.1
+     */
+    @JsonProperty
+    public void setFlushInterval(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    /**
+     * @since 2.1
+     */
+    @JsonProperty
+    public DataSize getReconnectBacklogSize() {
+        return reconnectBacklogSize;
+    }
+
+    /**
+     * @since 2.1
+     */
+    @JsonProperty
+    public void setReconnectBacklogSize(DataSize reconnectBacklogSize) {
+        this.reconnectBacklogSize = reconnectBacklogSize;
+    }
+
     @Override
     protected OutputStreamAppender<E> appender(LoggerContext context) {
         final OutputStreamAppender<E> appender = new DropwizardSocketAppender<>(host, port,
-            (int) connectionTimeout.toMilliseconds(), (int) sendBufferSize.toBytes(), socketFactory());
+            (int) connectionTimeout.toMilliseconds(), (int) sendBufferSize.toBytes(), socketFactory(),
+            (int) flushInterval.toMilliseconds(), (int) reconnectBacklogSize.toBytes());
         appender.setContext(context);
         appender.setName("tcp-socket-appender");
         appender.setImmediateFlush(immediateFlush);
@@ -0,0 +1,191 @@
+package io.dropwizard.logging;
+
+import javax.annotation.Nullable;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.function.LongFunction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Caches the formatted timestamp of the current second, so the timestamps of all events logged in the same second
+ * are formatted by patching their milliseconds into the cached text, instead of formatting them from scratch.
+ * <p>
+ * The position of the milliseconds in the text is determined for every second by formatting a few timestamps of that
+ * second, so any pattern and time zone is supported. Timestamps whose formatted text doesn't contain the
+ * milliseconds as exactly three digits at a single position (e.g. the pattern {@code S}) are formatted from scratch.
+ * Timestamps of earlier seconds are formatted from scratch as well, so events which are logged slightly out of
+ * order don't evict the current second from the cache.
+ * <p>
+ * This class is thread-safe if its formatting function is.
+ *
+ * @since 2.1
+ */
+public class TimestampFormatCache {
+    private final LongFunction<String> formatter;
+
+    @Nullable
+    private volatile Second second;
+
+    @Nullable
+    private volatile Millis millis;
+
+    /**
+     * @param formatter the function formatting timestamps, in milliseconds since the epoch
+     */
+    public TimestampFormatCache(LongFunction<String> formatter) {
+        this.formatter = requireNonNull(formatter);
+    }
+
+    /**
+     * @param formatter the formatter of the timestamps, which must have a time zone
+     */
+    public TimestampFormatCache(DateTimeFormatter formatter) {
+        this(timestamp -> formatter.format(Instant.ofEpochMilli(timestamp)));
+        requireNonNull(formatter.getZone(), "The formatter must have a time zone");
+    }
+
+    /**
+     * Formats the given timestamp.
+     *
+     * @param timestamp the timestamp in milliseconds since the epoch
+     * @return the formatted timestamp
+     */
+    public String format(long timestamp) {
+        final Millis cachedMillis = millis;
+        if (cachedMillis != null && cachedMillis.timestamp == timestamp) {
+            return cachedMillis.text;
+        }
+
+        final Second cachedSecond = getSecond(timestamp);
+        if (cachedSecond == null) {
+            return formatter.apply(timestamp);
+        }
+        final String text;
+        if (cachedSecond.millisIndex < 0 || Math.floorMod(timestamp, 1000L) == 0) {
+            text = cachedSecond.zeroText;
+        } else {
+            final char[] chars = cachedSecond.chars.clone();
+            patchMillis(chars, cachedSecond.millisIndex, timestamp);
+            text = new String(chars);
+        }
+        millis = new Millis(timestamp, text);
+        return text;
+    }
+
+    /**
+     * Appends the formatted timestamp to the given builder, without creating any intermediate strings if the
+     * second of the timestamp is cached.
+     *
+     * @param timestamp the timestamp in milliseconds since the epoch
+     * @param builder   the builder to append the formatted timestamp to
+     */
+    public void formatTo(long timestamp, StringBuilder builder) {
+        final Second cachedSecond = getSecond(timestamp);
+        if (cachedSecond == null) {
+            builder.append(formatter.apply(timestamp));
+            return;
+        }
+
+        final char[] chars = cachedSecond.chars;
+        final int millisIndex = cachedSecond.millisIndex;
+        final int millisOfSecond = (int) Math.floorMod(timestamp, 1000L);
+        if (millisIndex < 0 || millisOfSecond == 0) {
+            builder.append(cachedSecond.zeroText);
+            return;
+        }
+        builder.append(chars, 0, millisIndex)
+            .append((char) ('0' + millisOfSecond / 100))
+            .append((char) ('0' + millisOfSecond / 10 % 10))
+            .append((char) ('0' + millisOfSecond % 10))
+            .append(chars, millisIndex + 3, chars.length - millisIndex - 3);
+    }
+
+    /**
+     * Returns the cached second of the given timestamp, or {@code null} if the second can't be cached.
+     */
+    @Nullable
+    private Second getSecond(long timestamp) {
+        final long epochSecond = Math.floorDiv(timestamp, 1000L);
+        final Second cachedSecond = second;
+        if (cachedSecond != null) {
+            if (cachedSecond.epochSecond == epochSecond) {
+                return cachedSecond.cacheable ? cachedSecond : null;
+            }
+            if (cachedSecond.epochSecond > epochSecond) {
+                return null;
+            }
+        }
+
+        final Second newSecond = Second.of(epochSecond, formatter);
+        second = newSecond;
+        return newSecond.cacheable ? newSecond : null;
+    }
+
+    private static void patchMillis(char[] chars, int millisIndex, long timestamp) {
+        final int millisOfSecond = (int) Math.floorMod(timestamp, 1000L);
+        chars[millisIndex] = (char) ('0' + millisOfSecond / 100);
+        chars[millisIndex + 1] = (char) ('0' + millisOfSecond / 10 % 10);
+        chars[millisIndex + 2] = (char) ('0' + millisOfSecond % 10);
+    }
+
+    private static class Second {
+        private final long epochSecond;
+        private final String zeroText;
+        private final char[] chars;
+        private final int millisIndex;
+        private final boolean cacheable;
+
+        private Second(long epochSecond, String zeroText, char[] chars, int millisIndex, boolean cacheable) {
+            this.epochSecond = epochSecond;
+            this.zeroText = zeroText;
+            this.chars = chars;
+            this.millisIndex = millisIndex;
+            this.cacheable = cacheable;
+        }
+
+        /**
+         * Formats a few timestamps of the given second to locate its milliseconds, and to verify that they're
+         * always formatted as three digits at that location. The start of the second is kept separately, as
+         * some formats (e.g. {@link DateTimeFormatter#ISO_INSTANT}) omit a fraction of zero.
+         */
+        static Second of(long epochSecond, LongFunction<String> formatter) {
+            final long start = epochSecond * 1000L;
+            final String zeroText = formatter.apply(start);
+            final String text = formatter.apply(start + 987);
+            final String probe = formatter.apply(start + 123);
+            if (text.equals(probe)) {
+                return new Second(epochSecond, zeroText, text.toCharArray(), -1, zeroText.equals(text));
+            }
+
+            final int length = Math.min(text.length(), probe.length());
+            int index = 0;
+            while (index < length && text.charAt(index) == probe.charAt(index)) {
+                index++;
+            }
+            final boolean millisFound = text.length() == probe.length()
+                && index + 3 <= text.length()
+                && text.startsWith("987", index)
+                && probe.startsWith("123", index)
+                && text.regionMatches(index + 3, probe, index + 3, text.length() - index - 3);
+            if (!millisFound) {
+                return new Second(epochSecond, zeroText, text.toCharArray(), -1, false);
+            }
+
+            final char[] chars = text.toCharArray();
+            patchMillis(chars, index, 100);
+            final boolean cacheable = formatter.apply(start + 100).equals(new String(chars));
+            return new Second(epochSecond, zeroText, chars, index, cacheable);
+        }
+    }
+
+    private static class Millis {
+        private final long timestamp;
+        private final String text;
+
+        private Millis(long timestamp, String text) {
+            this.timestamp = timestamp;
+            this.text = text;
+        }
+    }
+}
@@ -14,4 +14,16 @@ public interface AsyncAppenderFactory<E extends DeferredProcessingAware> {
      * @return a new {@link AsyncAppenderBase}
      */
     AsyncAppenderBase<E> build();
+
+    /**
+     * Creates an {@link AsyncAppenderBase} of type E, which buffers its events in the given type of queue.
+     * Factories which don't support the type of queue build their default appender with {@link #build()}.
+     *
+     * @param queueType the type of queue
+     * @return a new {@link AsyncAppenderBase}
+     * @since 2.1
+     */
+    default AsyncAppenderBase<E> build(AsyncQueueType queueType) {
+        return build();
+    }
 }
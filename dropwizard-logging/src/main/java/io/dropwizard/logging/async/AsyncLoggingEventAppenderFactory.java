@@ -17,4 +17,19 @@ public class AsyncLoggingEventAppenderFactory implements AsyncAppenderFactory<IL
     public AsyncAppenderBase<ILoggingEvent> build() {
         return new AsyncAppender();
     }
+
+    /**
+     * Creates an {@link AsyncAppenderFactory} of type {@link ILoggingEvent}, which buffers its events in the given
+     * type of queue
+     * @param queueType the type of queue
+     * @return the {@link AsyncAppenderFactory}
+     * @since 2.1
+     */
+    @Override
+    public AsyncAppenderBase<ILoggingEvent> build(AsyncQueueType queueType) {
+        if (queueType == AsyncQueueType.RING_BUFFER) {
+            return new RingBufferAsyncLoggingEventAppender();
+        }
+        return build();
+    }
 }
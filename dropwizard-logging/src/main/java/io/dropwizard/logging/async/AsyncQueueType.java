@@ -0,0 +1,19 @@
+package io.dropwizard.logging.async;
+
+/**
+ * The type of queue which buffers the events of an asynchronous appender.
+ *
+ * @since 2.1
+ */
+public enum AsyncQueueType {
+    /**
+     * A lock-based {@link java.util.concurrent.BlockingQueue}, as used by logback's
+     * {@link ch.qos.logback.core.AsyncAppenderBase}.
+     */
+    BLOCKING_QUEUE,
+
+    /**
+     * A preallocated lock-free ring buffer, as used by {@link RingBufferAsyncAppender}.
+     */
+    RING_BUFFER
+}
@@ -0,0 +1,356 @@
+package io.dropwizard.logging.async;
+
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.AsyncAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+
+import javax.annotation.Nullable;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * An {@link AsyncAppenderBase} which buffers its events in a preallocated lock-free ring buffer, instead of a
+ * {@link java.util.concurrent.BlockingQueue}. Logging threads publish their events with a single compare-and-set,
+ * and a single worker thread drains all published events into the attached appenders before it parks, so logging
+ * threads neither contend on a lock nor wake up the worker for every event.
+ * <p>
+ * The {@code queueSize}, {@code discardingThreshold}, {@code neverBlock} and {@code maxFlushTime} settings have the
+ * same meaning as for {@link AsyncAppenderBase}. A logging thread which finds the buffer full blocks until the worker
+ * frees a slot, unless {@code neverBlock} is set, in which case the event is discarded.
+ *
+ * @param <E> the type of the events
+ * @since 2.1
+ */
+public class RingBufferAsyncAppender<E> extends AsyncAppenderBase<E> {
+    private static final int UNDEFINED_DISCARDING_THRESHOLD = -1;
+
+    private final AppenderAttachableImpl<E> appenders = new AppenderAttachableImpl<>();
+    private final AtomicLong producerIndex = new AtomicLong();
+    private final LongAdder discardedEvents = new LongAdder();
+    private final ReentrantLock fullLock = new ReentrantLock();
+    private final Condition notFull = fullLock.newCondition();
+    private final AtomicInteger blockedProducers = new AtomicInteger();
+    private volatile long consumerIndex;
+    private volatile boolean running;
+    private volatile boolean workerParked;
+    private volatile boolean drained;
+
+    @Nullable
+    private volatile RingBuffer<E> buffer;
+
+    @Nullable
+    private Thread worker;
+
+    private int appenderCount;
+    private int threshold;
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (appenderCount == 0) {
+            addError("No attached appenders found.");
+            return;
+        }
+        if (getQueueSize() < 1) {
+            addError("Invalid queue size [" + getQueueSize() + "]");
+            return;
+        }
+
+        // a slot of a single slot buffer can't tell a published event from a free slot of the next lap
+        final RingBuffer<E> ringBuffer = new RingBuffer<>(Math.max(2, getQueueSize()));
+        threshold = getDiscardingThreshold() == UNDEFINED_DISCARDING_THRESHOLD
+            ? getQueueSize() / 5 : getDiscardingThreshold();
+        addInfo("Setting discardingThreshold to " + threshold);
+        discardedEvents.add(getStrandedCount());
+        drained = false;
+        producerIndex.set(0);
+        consumerIndex = 0;
+        buffer = ringBuffer;
+
+        final Thread thread = new Thread(() -> drain(ringBuffer), "RingBufferAsyncAppender-Worker-" + getName());
+        thread.setDaemon(true);
+        worker = thread;
+        running = true;
+        started = true;
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        final Thread thread = worker;
+        if (!isStarted() || thread == null) {
+            return;
+        }
+        started = false;
+        running = false;
+        LockSupport.unpark(thread);
+        signalNotFull();
+
+        try {
+            if (getMaxFlushTime() == 0) {
+                thread.join();
+            } else {
+                thread.join(getMaxFlushTime());
+            }
+
+            if (thread.isAlive()) {
+                addWarn("Max queue flush timeout (" + getMaxFlushTime() + " ms) exceeded. Approximately "
+                    + getNumberOfElementsInQueue() + " queued events were possibly discarded.");
+            } else {
+                addInfo("Queue flush finished successfully within timeout.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            addError("Failed to join worker thread. " + getNumberOfElementsInQueue()
+                + " queued events may be discarded.", e);
+        }
+    }
+
+    @Override
+    protected void append(E eventObject) {
+        final RingBuffer<E> ringBuffer = buffer;
+        if (ringBuffer == null) {
+            return;
+        }
+        if (getRemainingCapacity() < threshold && isDiscardable(eventObject)) {
+            discardedEvents.increment();
+            return;
+        }
+        preprocess(eventObject);
+
+        if (!offer(ringBuffer, eventObject)) {
+            if (isNeverBlock()) {
+                discardedEvents.increment();
+            } else {
+                offerUninterruptibly(ringBuffer, eventObject);
+            }
+        }
+    }
+
+    private boolean offer(RingBuffer<E> ringBuffer, E eventObject) {
+        if (!ringBuffer.offer(producerIndex, eventObject)) {
+            return false;
+        }
+        if (workerParked) {
+            final Thread thread = worker;
+            if (thread != null) {
+                LockSupport.unpark(thread);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Blocks until the worker frees a slot for the event, or until this appender is stopped. The worker only
+     * signals the blocked logging threads after a batch, and only if there are any.
+     */
+    private void offerUninterruptibly(RingBuffer<E> ringBuffer, E eventObject) {
+        blockedProducers.incrementAndGet();
+        fullLock.lock();
+        try {
+            // re-check after announcing the wait, as the worker may have freed a slot in between
+            while (!offer(ringBuffer, eventObject)) {
+                if (!running) {
+                    discardedEvents.increment();
+                    return;
+                }
+                notFull.awaitUninterruptibly();
+            }
+        } finally {
+            fullLock.unlock();
+            blockedProducers.decrementAndGet();
+        }
+    }
+
+    private void signalNotFull() {
+        fullLock.lock();
+        try {
+            notFull.signalAll();
+        } finally {
+            fullLock.unlock();
+        }
+    }
+
+    /**
+     * Appends all events published to the buffer until this appender is stopped, and then appends the remaining
+     * events and stops the attached appenders.
+     */
+    private void drain(RingBuffer<E> ringBuffer) {
+        while (running) {
+            final int drained = drainBatch(ringBuffer);
+            if (drained > 0 && blockedProducers.get() > 0) {
+                signalNotFull();
+            }
+            if (drained == 0) {
+                workerParked = true;
+                // re-check after announcing the park, as a producer may have published an event in between
+                if (running && ringBuffer.isEmpty(consumerIndex)) {
+                    LockSupport.park(this);
+                }
+                workerParked = false;
+            }
+        }
+
+        addInfo("Worker thread will flush remaining events before exiting.");
+        drainBatch(ringBuffer);
+        drained = true;
+        signalNotFull();
+        appenders.detachAndStopAllAppenders();
+    }
+
+    private int drainBatch(RingBuffer<E> ringBuffer) {
+        long index = consumerIndex;
+        int count = 0;
+        E eventObject;
+        while ((eventObject = ringBuffer.poll(index)) != null) {
+            index++;
+            consumerIndex = index;
+            count++;
+            appenders.appendLoopOnAppenders(eventObject);
+        }
+        return count;
+    }
+
+    @Override
+    public int getNumberOfElementsInQueue() {
+        final RingBuffer<E> ringBuffer = buffer;
+        if (ringBuffer == null || drained) {
+            return 0;
+        }
+        final long size = producerIndex.get() - consumerIndex;
+        return (int) Math.max(0, Math.min(size, ringBuffer.capacity));
+    }
+
+    @Override
+    public int getRemainingCapacity() {
+        final RingBuffer<E> ringBuffer = buffer;
+        return ringBuffer == null ? 0 : ringBuffer.capacity - getNumberOfElementsInQueue();
+    }
+
+    /**
+     * Returns the number of events which were discarded, either because the buffer was filled beyond the
+     * discarding threshold, because it was full and the appender must never block, or because they were
+     * published after the worker appended the remaining events and exited.
+     *
+     * @return the number of discarded events
+     */
+    public long getDiscardedCount() {
+        return discardedEvents.sum() + getStrandedCount();
+    }
+
+    /**
+     * Returns the number of events which were published after the final drain of the worker, and which are
+     * therefore never appended.
+     */
+    private long getStrandedCount() {
+        return drained ? Math.max(0, producerIndex.get() - consumerIndex) : 0;
+    }
+
+    @Override
+    public void addAppender(Appender<E> newAppender) {
+        if (appenderCount == 0) {
+            appenderCount++;
+            addInfo("Attaching appender named [" + newAppender.getName() + "] to RingBufferAsyncAppender.");
+            appenders.addAppender(newAppender);
+        } else {
+            addWarn("One and only one appender may be attached to RingBufferAsyncAppender.");
+            addWarn("Ignoring additional appender named [" + newAppender.getName() + "]");
+        }
+    }
+
+    @Override
+    public Iterator<Appender<E>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<E> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<E> eAppender) {
+        return appenders.isAttached(eAppender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<E> eAppender) {
+        return appenders.detachAppender(eAppender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+
+    /**
+     * A bounded multi-producer single-consumer ring buffer, where the sequence number of every slot tells whether
+     * it's free for the producer of a given index, or holds the event for the consumer of a given index.
+     */
+    private static class RingBuffer<E> {
+        private final int capacity;
+        private final AtomicReferenceArray<E> slots;
+        private final AtomicLongArray sequences;
+
+        RingBuffer(int capacity) {
+            this.capacity = capacity;
+            this.slots = new AtomicReferenceArray<>(capacity);
+            this.sequences = new AtomicLongArray(capacity);
+            for (int i = 0; i < capacity; i++) {
+                sequences.set(i, i);
+            }
+        }
+
+        boolean offer(AtomicLong producerIndex, E eventObject) {
+            long index = producerIndex.get();
+            while (true) {
+                final int slot = (int) (index % capacity);
+                final long difference = sequences.get(slot) - index;
+                if (difference == 0) {
+                    if (producerIndex.compareAndSet(index, index + 1)) {
+                        slots.lazySet(slot, eventObject);
+                        sequences.set(slot, index + 1);
+                        return true;
+                    }
+                    index = producerIndex.get();
+                } else if (difference < 0) {
+                    // the slot still holds the event of the previous lap
+                    return false;
+                } else {
+                    index = producerIndex.get();
+                }
+            }
+        }
+
+        @Nullable
+        E poll(long index) {
+            final int slot = (int) (index % capacity);
+            if (sequences.get(slot) != index + 1) {
+                return null;
+            }
+            final E eventObject = slots.get(slot);
+            slots.lazySet(slot, null);
+            // a volatile write, so the worker's following read of the blocked producers can't be reordered before it
+            sequences.set(slot, index + capacity);
+            return eventObject;
+        }
+
+        boolean isEmpty(long consumerIndex) {
+            return sequences.get((int) (consumerIndex % capacity)) != consumerIndex + 1;
+        }
+    }
+}
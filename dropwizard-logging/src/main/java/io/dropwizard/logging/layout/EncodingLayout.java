@@ -0,0 +1,22 @@
+package io.dropwizard.logging.layout;
+
+import ch.qos.logback.core.Layout;
+
+/**
+ * A {@link Layout} which can encode events straight to UTF-8 bytes, without formatting them as a {@link String}
+ * first.
+ *
+ * @param <E> The type of log event
+ * @see EncodingLayoutWrappingEncoder
+ * @since 2.1
+ */
+public interface EncodingLayout<E> extends Layout<E> {
+
+    /**
+     * Encodes the given event as UTF-8 bytes, which must be equal to the UTF-8 bytes of {@link #doLayout(Object)}.
+     *
+     * @param event the event to encode
+     * @return the encoded event
+     */
+    byte[] encode(E event);
+}
@@ -0,0 +1,29 @@
+package io.dropwizard.logging.layout;
+
+import ch.qos.logback.core.encoder.LayoutWrappingEncoder;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A {@link LayoutWrappingEncoder} which lets an {@link EncodingLayout} encode events itself, if the encoder uses
+ * UTF-8. Any other layout is encoded as usual.
+ *
+ * @param <E> The type of log event
+ * @since 2.1
+ */
+public class EncodingLayoutWrappingEncoder<E> extends LayoutWrappingEncoder<E> {
+
+    @Override
+    public byte[] encode(E event) {
+        if (layout instanceof EncodingLayout && isUtf8()) {
+            return ((EncodingLayout<E>) layout).encode(event);
+        }
+        return super.encode(event);
+    }
+
+    private boolean isUtf8() {
+        final Charset charset = getCharset();
+        return StandardCharsets.UTF_8.equals(charset == null ? Charset.defaultCharset() : charset);
+    }
+}
@@ -4,11 +4,22 @@ import ch.qos.logback.core.OutputStreamAppender;
 import io.dropwizard.logging.ResilientSocketOutputStream;
 import ch.qos.logback.core.spi.DeferredProcessingAware;
 
+import javax.annotation.Nullable;
 import javax.net.SocketFactory;
+import java.io.IOException;
 import java.io.OutputStream;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Sends log events to a TCP server, a connection to which is represented as {@link ResilientSocketOutputStream}.
+ * <p>
+ * If events aren't flushed immediately, they're buffered in the send buffer of the stream until it's full, or until
+ * the flush interval elapses, whichever happens first. Events which are still buffered when the connection breaks
+ * are dropped, rather than being sent twice or in part once it's reestablished. If a reconnect backlog is kept, the
+ * flush interval also applies to immediately flushed events, so that a broken connection is reestablished and the
+ * backlog is sent even if no more events are logged.
  */
 public class DropwizardSocketAppender<E extends DeferredProcessingAware> extends OutputStreamAppender<E> {
 
@@ -17,27 +28,121 @@ public class DropwizardSocketAppender<E extends DeferredProcessingAware> extends
     private final int connectionTimeoutMs;
     private final int sendBufferSize;
     private final SocketFactory socketFactory;
+    private final int flushIntervalMs;
+    private final int reconnectBacklogSize;
+
+    @Nullable
+    private ScheduledExecutorService flusher;
 
     public DropwizardSocketAppender(String host, int port, int connectionTimeoutMs, int sendBufferSize,
                                     SocketFactory socketFactory) {
+        this(host, port, connectionTimeoutMs, sendBufferSize, socketFactory, 0, 0);
+    }
+
+    /**
+     * @param flushIntervalMs      the interval in which buffered events are flushed if they aren't flushed
+     *                             immediately, or zero to only flush them once the send buffer is full
+     * @param reconnectBacklogSize the maximum number of bytes which are kept while the connection is broken, to be
+     *                             sent once it's reestablished
+     * @since 2.1
+     */
+    public DropwizardSocketAppender(String host, int port, int connectionTimeoutMs, int sendBufferSize,
+                                    SocketFactory socketFactory, int flushIntervalMs, int reconnectBacklogSize) {
         this.host = host;
         this.port = port;
         this.connectionTimeoutMs = connectionTimeoutMs;
         this.sendBufferSize = sendBufferSize;
         this.socketFactory = socketFactory;
+        this.flushIntervalMs = flushIntervalMs;
+        this.reconnectBacklogSize = reconnectBacklogSize;
     }
 
     @Override
     public void start() {
         setOutputStream(socketOutputStream());
         super.start();
+        if (isStarted() && flushIntervalMs > 0 && (!isImmediateFlush() || reconnectBacklogSize > 0)) {
+            final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "socket-appender-flusher-" + getName());
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+            flusher = executor;
+        }
+    }
+
+    @Override
+    public void stop() {
+        final ScheduledExecutorService executor = flusher;
+        if (executor != null) {
+            executor.shutdownNow();
+            flusher = null;
+        }
+        super.stop();
     }
 
     protected OutputStream socketOutputStream() {
         final ResilientSocketOutputStream outputStream = new ResilientSocketOutputStream(host, port,
             connectionTimeoutMs, sendBufferSize, socketFactory);
         outputStream.setContext(context);
+        outputStream.setBacklogCapacity(reconnectBacklogSize);
         return outputStream;
     }
-}
 
+    /**
+     * @return the host of the server
+     * @since 2.1
+     */
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * @return the port of the server
+     * @since 2.1
+     */
+    public int getPort() {
+        return port;
+    }
+
+    /**
+     * Returns the number of events which were dropped, because they were written while the connection was broken
+     * and didn't fit into the reconnect backlog, or because they were still buffered when it broke.
+     *
+     * @return the number of dropped events
+     * @since 2.1
+     */
+    public long getDroppedCount() {
+        final OutputStream outputStream = getOutputStream();
+        return outputStream instanceof ResilientSocketOutputStream
+            ? ((ResilientSocketOutputStream) outputStream).getDroppedEvents() : 0;
+    }
+
+    /**
+     * Returns the number of bytes which are kept until the connection is reestablished.
+     *
+     * @return the size of the reconnect backlog in bytes
+     * @since 2.1
+     */
+    public int getReconnectBacklogLength() {
+        final OutputStream outputStream = getOutputStream();
+        return outputStream instanceof ResilientSocketOutputStream
+            ? ((ResilientSocketOutputStream) outputStream).getBacklogLength() : 0;
+    }
+
+    /**
+     * Flushes the buffered events without taking the lock of the appender, so logging threads aren't held up by
+     * sending them or by reconnecting. The stream synchronizes its writes and flushes itself.
+     */
+    private void flush() {
+        final OutputStream outputStream = getOutputStream();
+        if (isStarted() && outputStream != null) {
+            try {
+                outputStream.flush();
+            } catch (IOException e) {
+                addError("Unable to flush the buffered events", e);
+            }
+        }
+    }
+}
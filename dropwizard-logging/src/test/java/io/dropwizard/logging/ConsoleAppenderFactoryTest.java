@@ -6,7 +6,10 @@ import ch.qos.logback.classic.LoggerContext;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.Appender;
 import io.dropwizard.jackson.DiscoverableSubtypeResolver;
+import io.dropwizard.logging.async.AsyncAppenderFactory;
 import io.dropwizard.logging.async.AsyncLoggingEventAppenderFactory;
+import io.dropwizard.logging.async.AsyncQueueType;
+import io.dropwizard.logging.async.RingBufferAsyncLoggingEventAppender;
 import io.dropwizard.logging.filter.NullLevelFilterFactory;
 import io.dropwizard.logging.layout.DropwizardLayoutFactory;
 import org.junit.jupiter.api.Test;
@@ -36,6 +39,39 @@ class ConsoleAppenderFactoryTest {
         assertThat(asyncAppender.isIncludeCallerData()).isTrue();
     }
 
+    @Test
+    void buildsTheDefaultAppenderOfFactoriesWithoutRingBuffers() {
+        ConsoleAppenderFactory<ILoggingEvent> consoleAppenderFactory = new ConsoleAppenderFactory<>();
+        consoleAppenderFactory.setAsyncQueueType(AsyncQueueType.RING_BUFFER);
+        AsyncAppenderFactory<ILoggingEvent> asyncAppenderFactory = AsyncAppender::new;
+        Appender<ILoggingEvent> appender = consoleAppenderFactory.build(new LoggerContext(), "test", new DropwizardLayoutFactory(), new NullLevelFilterFactory<>(), asyncAppenderFactory);
+        try {
+            assertThat(appender).isExactlyInstanceOf(AsyncAppender.class);
+            assertThat(appender.isStarted()).isTrue();
+        } finally {
+            appender.stop();
+        }
+    }
+
+    @Test
+    void buildsRingBufferAppender() {
+        ConsoleAppenderFactory<ILoggingEvent> consoleAppenderFactory = new ConsoleAppenderFactory<>();
+        consoleAppenderFactory.setAsyncQueueType(AsyncQueueType.RING_BUFFER);
+        consoleAppenderFactory.setIncludeCallerData(true);
+        consoleAppenderFactory.setNeverBlock(true);
+        consoleAppenderFactory.setQueueSize(16);
+        RingBufferAsyncLoggingEventAppender asyncAppender = (RingBufferAsyncLoggingEventAppender) consoleAppenderFactory.build(new LoggerContext(), "test", new DropwizardLayoutFactory(), new NullLevelFilterFactory<>(), new AsyncLoggingEventAppenderFactory());
+        try {
+            assertThat(asyncAppender.isStarted()).isTrue();
+            assertThat(asyncAppender.isIncludeCallerData()).isTrue();
+            assertThat(asyncAppender.isNeverBlock()).isTrue();
+            assertThat(asyncAppender.getRemainingCapacity()).isEqualTo(16);
+            assertThat(asyncAppender.getAppender("console-appender")).isNotNull();
+        } finally {
+            asyncAppender.stop();
+        }
+    }
+
     @Test
     void appenderContextIsSet() throws Exception {
         final Logger root = (Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
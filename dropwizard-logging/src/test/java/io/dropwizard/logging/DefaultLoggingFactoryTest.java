@@ -7,6 +7,7 @@ import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.Appender;
 import ch.qos.logback.core.ConsoleAppender;
 import ch.qos.logback.core.spi.LifeCycle;
+import com.codahale.metrics.Gauge;
 import com.codahale.metrics.MetricRegistry;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -15,6 +16,8 @@ import io.dropwizard.configuration.FileConfigurationSourceProvider;
 import io.dropwizard.configuration.SubstitutingSourceProvider;
 import io.dropwizard.configuration.YamlConfigurationFactory;
 import io.dropwizard.jackson.Jackson;
+import io.dropwizard.logging.async.AsyncQueueType;
+import io.dropwizard.logging.async.RingBufferAsyncAppender;
 import io.dropwizard.logging.filter.FilterFactory;
 import io.dropwizard.util.Lists;
 import io.dropwizard.util.Maps;
@@ -114,6 +117,67 @@ class DefaultLoggingFactoryTest {
         assertThat(legacyAppConfiguration.getAppenders()).isEmpty();
     }
 
+    @Test
+    void registersGaugesOfRingBufferAppenders() throws Exception {
+        DefaultLoggingFactory config = null;
+        try {
+            config = factory.build(new File(Resources.getResource("yaml/logging_ring_buffer.yml").toURI()));
+            assertThat(config.getAppenders()).singleElement()
+                .isInstanceOfSatisfying(ConsoleAppenderFactory.class, appenderFactory ->
+                    assertThat(appenderFactory.getAsyncQueueType()).isEqualTo(AsyncQueueType.RING_BUFFER));
+
+            final MetricRegistry metricRegistry = new MetricRegistry();
+            config.configure(metricRegistry, "test-logger");
+            LoggerFactory.getLogger("com.example.app").info("Application log");
+
+            final String prefix = RingBufferAsyncAppender.class.getName();
+            assertThat(metricRegistry.getGauges()).containsOnlyKeys(
+                prefix + ".async-console-appender.0.queue-depth",
+                prefix + ".async-console-appender.0.discarded",
+                prefix + ".async-console-appender.1.queue-depth",
+                prefix + ".async-console-appender.1.discarded");
+            assertThat(metricRegistry.getGauges())
+                .extractingByKey(prefix + ".async-console-appender.0.discarded")
+                .extracting(Gauge::getValue)
+                .isEqualTo(0L);
+        } finally {
+            if (config != null) {
+                config.reset();
+            }
+        }
+    }
+
+    @Test
+    void replacesOnlyItsOwnGaugesOfRingBufferAppenders() throws Exception {
+        DefaultLoggingFactory config = null;
+        try {
+            config = factory.build(new File(Resources.getResource("yaml/logging_ring_buffer.yml").toURI()));
+            final String prefix = RingBufferAsyncAppender.class.getName();
+            final MetricRegistry metricRegistry = new MetricRegistry();
+            final Gauge<Integer> other = () -> 42;
+            metricRegistry.register(prefix + ".async-console-appender.0.queue-depth", other);
+
+            config.configure(metricRegistry, "test-logger");
+            final Gauge<?> discarded = metricRegistry.getGauges().get(prefix + ".async-console-appender.0.discarded");
+            config.configure(metricRegistry, "test-logger");
+
+            assertThat(metricRegistry.getGauges())
+                .containsEntry(prefix + ".async-console-appender.0.queue-depth", other)
+                .hasSize(4)
+                .extractingByKey(prefix + ".async-console-appender.0.discarded")
+                .isNotNull()
+                .isNotSameAs(discarded);
+
+            config.reset();
+            assertThat(metricRegistry.getGauges())
+                .containsOnlyKeys(prefix + ".async-console-appender.0.queue-depth");
+        } finally {
+            if (config != null) {
+                config.reset();
+            }
+        }
+    }
+
     @Test
     void testConfigure(@TempDir Path tempDir) throws Exception {
         final StringSubstitutor substitutor = new StringSubstitutor(Maps.of(
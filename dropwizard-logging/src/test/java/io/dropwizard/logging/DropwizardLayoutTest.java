@@ -1,6 +1,8 @@
 package io.dropwizard.logging;
 
+import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
 import org.junit.jupiter.api.Test;
 
 import java.util.TimeZone;
@@ -36,4 +38,28 @@ class DropwizardLayoutTest {
         assertThat(layout.getPattern())
                 .isEqualTo("%-5p [%d{ISO8601,UTC}] %c: %m%n%rEx");
     }
+
+    @Test
+    void formatsDatesWithACachingConverter() {
+        assertThat(layout.getInstanceConverterMap())
+                .containsEntry("d", CachingDateConverter.class.getName())
+                .containsEntry("date", CachingDateConverter.class.getName());
+    }
+
+    @Test
+    void formatsDatesInTheTimeZone() {
+        final LoggerContext loggerContext = new LoggerContext();
+        final DropwizardLayout dropwizardLayout = new DropwizardLayout(loggerContext, TimeZone.getTimeZone("America/New_York"));
+        dropwizardLayout.start();
+
+        final LoggingEvent event = new LoggingEvent(DropwizardLayoutTest.class.getName(),
+                loggerContext.getLogger("test"), Level.INFO, "Hello", null, null);
+        event.setTimeStamp(1514906361042L);
+        assertThat(dropwizardLayout.doLayout(event))
+                .startsWith("INFO  [2018-01-02 10:19:21,042] test: Hello");
+
+        event.setTimeStamp(1514906361543L);
+        assertThat(dropwizardLayout.doLayout(event))
+                .startsWith("INFO  [2018-01-02 10:19:21,543] test: Hello");
+    }
 }
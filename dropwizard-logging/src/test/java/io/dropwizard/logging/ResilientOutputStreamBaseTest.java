@@ -0,0 +1,166 @@
+package io.dropwizard.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResilientOutputStreamBaseTest {
+
+    private final FlakyOutputStream outputStream = new FlakyOutputStream();
+
+    @Test
+    void keepsWritesInTheBacklogUntilTheStreamIsRecovered() throws Exception {
+        outputStream.setBacklogCapacity(10);
+        outputStream.broken = true;
+
+        write("abc");
+        write("defgh");
+        write("ijk");
+
+        assertThat(outputStream.getBacklogLength()).isEqualTo(8);
+        assertThat(outputStream.getDroppedEvents()).isEqualTo(1);
+
+        outputStream.broken = false;
+        // wait for the back-off of the recovery coordinator
+        Thread.sleep(100);
+        write("xyz");
+
+        assertThat(outputStream.written.toString(StandardCharsets.UTF_8.name())).isEqualTo("abcdefghxyz");
+        assertThat(outputStream.getBacklogLength()).isZero();
+        assertThat(outputStream.getDroppedEvents()).isEqualTo(1);
+    }
+
+    @Test
+    void sendsTheBacklogWhenFlushedAfterTheStreamIsRecovered() throws Exception {
+        outputStream.setBacklogCapacity(10);
+        outputStream.broken = true;
+
+        write("abc");
+        outputStream.flush();
+
+        assertThat(outputStream.getBacklogLength()).isEqualTo(3);
+
+        outputStream.broken = false;
+        Thread.sleep(100);
+        outputStream.flush();
+
+        assertThat(outputStream.written.toString(StandardCharsets.UTF_8.name())).isEqualTo("abc");
+        assertThat(outputStream.getBacklogLength()).isZero();
+        assertThat(outputStream.getDroppedEvents()).isZero();
+    }
+
+    @Test
+    void dropsAllWritesWhileInErrorWithoutABacklog() throws Exception {
+        outputStream.broken = true;
+
+        write("abc");
+        write("def");
+
+        outputStream.broken = false;
+        Thread.sleep(100);
+        write("xyz");
+
+        assertThat(outputStream.written.toString(StandardCharsets.UTF_8.name())).isEqualTo("xyz");
+        assertThat(outputStream.getBacklogLength()).isZero();
+        assertThat(outputStream.getDroppedEvents()).isEqualTo(2);
+    }
+
+    @Test
+    void discardsTheBufferedEventsOfAFailedStream() throws Exception {
+        outputStream.setBacklogCapacity(10);
+        outputStream.buffered = true;
+        outputStream.os = outputStream.openNewOutputStream();
+
+        write("abc");
+        write("de");
+        outputStream.broken = true;
+        outputStream.flush();
+        write("fgh");
+
+        assertThat(outputStream.getDroppedEvents()).isEqualTo(2);
+        assertThat(outputStream.getBacklogLength()).isEqualTo(3);
+
+        outputStream.broken = false;
+        Thread.sleep(100);
+        write("xyz");
+        outputStream.flush();
+
+        assertThat(outputStream.written.toString(StandardCharsets.UTF_8.name())).isEqualTo("fghxyz");
+        assertThat(outputStream.getDroppedEvents()).isEqualTo(2);
+    }
+
+    @Test
+    void keepsTheFailedEventWhenTheBufferCantBeSent() throws Exception {
+        outputStream.setBacklogCapacity(10);
+        outputStream.buffered = true;
+        outputStream.os = outputStream.openNewOutputStream();
+
+        write("ab");
+        outputStream.broken = true;
+        // doesn't fit into the buffer, so the buffered event is sent first
+        write("cdefghi");
+
+        assertThat(outputStream.getDroppedEvents()).isEqualTo(1);
+        assertThat(outputStream.getBacklogLength()).isEqualTo(7);
+
+        outputStream.broken = false;
+        Thread.sleep(100);
+        write("x");
+        outputStream.flush();
+
+        assertThat(outputStream.written.toString(StandardCharsets.UTF_8.name())).isEqualTo("cdefghix");
+    }
+
+    private void write(String text) {
+        final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        outputStream.write(bytes, 0, bytes.length);
+    }
+
+    private static class FlakyOutputStream extends ResilientOutputStreamBase {
+        private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+        private volatile boolean broken;
+        private boolean buffered;
+
+        FlakyOutputStream() {
+            this.os = stream();
+        }
+
+        @Override
+        String getDescription() {
+            return "flaky";
+        }
+
+        @Override
+        OutputStream openNewOutputStream() throws IOException {
+            if (broken) {
+                throw new IOException("Still broken");
+            }
+            return buffered ? new SendBuffer(stream(), 8) : stream();
+        }
+
+        private OutputStream stream() {
+            return new OutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    if (broken) {
+                        throw new IOException("Broken");
+                    }
+                    written.write(b);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    if (broken) {
+                        throw new IOException("Broken");
+                    }
+                    written.write(b, off, len);
+                }
+            };
+        }
+    }
+}
@@ -68,6 +68,8 @@ class TcpSocketAppenderFactoryTest {
         assertThat(tcpAppenderFactory.getConnectionTimeout()).isEqualTo(Duration.milliseconds(100));
         assertThat(tcpAppenderFactory.getSendBufferSize()).isEqualTo(DataSize.kibibytes(2));
         assertThat(tcpAppenderFactory.isImmediateFlush()).isFalse();
+        assertThat(tcpAppenderFactory.getFlushInterval()).isEqualTo(Duration.milliseconds(500));
+        assertThat(tcpAppenderFactory.getReconnectBacklogSize()).isEqualTo(DataSize.kibibytes(64));
     }
 
     @Test
@@ -106,4 +108,27 @@ class TcpSocketAppenderFactoryTest {
         tcpServer.getLatch().await(5, TimeUnit.SECONDS);
         assertThat(tcpServer.getLatch().getCount()).isZero();
     }
+
+    @Test
+    void testBufferingTcpLoggingWithFlushInterval() throws Exception {
+        DefaultLoggingFactory loggingFactory = yamlConfigurationFactory.build(new SubstitutingSourceProvider(
+            new ResourceConfigurationSourceProvider(),
+                new StringSubstitutor(Collections.singletonMap("tcp.server.port", tcpServer.getPort()))),
+            "yaml/logging-tcp-flush-interval.yml");
+        MetricRegistry metricRegistry = new MetricRegistry();
+        loggingFactory.configure(metricRegistry, "tcp-test");
+
+        Logger logger = LoggerFactory.getLogger("com.example.app");
+        for (int i = 0; i < tcpServer.getMessageCount(); i++) {
+            logger.info("Application log {}", i);
+        }
+
+        // The buffer is flushed in the background, although it's not full
+        tcpServer.getLatch().await(5, TimeUnit.SECONDS);
+        assertThat(tcpServer.getLatch().getCount()).isZero();
+        final String prefix = "io.dropwizard.logging.socket.DropwizardSocketAppender.tcp-socket-appender.localhost:"
+            + tcpServer.getPort();
+        assertThat(metricRegistry.getGauges()).containsKeys(prefix + ".dropped", prefix + ".backlog-size");
+        loggingFactory.reset();
+    }
 }
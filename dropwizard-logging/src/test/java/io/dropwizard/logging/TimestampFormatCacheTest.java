@@ -0,0 +1,104 @@
+package io.dropwizard.logging;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+class TimestampFormatCacheTest {
+    // Daylight saving time ends in Berlin at 2021-10-31T03:00+02:00
+    private static final long DST_END = ZonedDateTime.of(2021, 10, 31, 2, 59, 58, 0, ZoneId.of("Europe/Berlin"))
+        .toInstant().toEpochMilli();
+
+    @ParameterizedTest
+    @ValueSource(strings = {"yyyy-MM-dd'T'HH:mm:ss.SSSZ", "HH:mm:ss", "SSS yyyy-MM-dd HH:mm:ss VV", "ss.SSSS", "ss.S",
+        "EEEE, MMMM d, yyyy h:mm:ss.SSS a"})
+    void formatsTimestampsLikeTheFormatter(String pattern) {
+        final DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern).withZone(ZoneId.of("Europe/Berlin"));
+        final TimestampFormatCache cache = new TimestampFormatCache(formatter);
+
+        for (long timestamp = DST_END; timestamp < DST_END + 3_000; timestamp += 7) {
+            final String expected = formatter.format(Instant.ofEpochMilli(timestamp));
+            final StringBuilder builder = new StringBuilder("> ");
+            cache.formatTo(timestamp, builder);
+
+            assertThat(cache.format(timestamp)).isEqualTo(expected);
+            assertThat(builder).hasToString("> " + expected);
+        }
+    }
+
+    @Test
+    void formatsTimestampsLikePredefinedFormatters() {
+        for (DateTimeFormatter predefined : Arrays.asList(DateTimeFormatter.ISO_INSTANT,
+            DateTimeFormatter.ISO_LOCAL_TIME, DateTimeFormatter.ISO_OFFSET_DATE_TIME, DateTimeFormatter.RFC_1123_DATE_TIME)) {
+            final DateTimeFormatter formatter = predefined.withZone(ZoneId.of("Europe/Berlin"));
+            final TimestampFormatCache cache = new TimestampFormatCache(formatter);
+
+            for (long timestamp = DST_END; timestamp < DST_END + 3_000; timestamp += 5) {
+                final String expected = formatter.format(Instant.ofEpochMilli(timestamp));
+                final StringBuilder builder = new StringBuilder();
+                cache.formatTo(timestamp, builder);
+
+                assertThat(cache.format(timestamp)).isEqualTo(expected);
+                assertThat(builder).hasToString(expected);
+            }
+        }
+    }
+
+    @Test
+    void formatsTimestampsBeforeTheEpoch() {
+        final DateTimeFormatter formatter = DateTimeFormatter.ISO_INSTANT.withZone(ZoneId.of("UTC"));
+        final TimestampFormatCache cache = new TimestampFormatCache(formatter);
+
+        assertThat(cache.format(-1)).isEqualTo("1969-12-31T23:59:59.999Z");
+        assertThat(cache.format(-1_001)).isEqualTo("1969-12-31T23:59:58.999Z");
+    }
+
+    @Test
+    void formatsEachSecondOnce() {
+        final DateTimeFormatter formatter = DateTimeFormatter.ISO_INSTANT.withZone(ZoneId.of("UTC"));
+        final AtomicInteger formatted = new AtomicInteger();
+        final TimestampFormatCache cache = new TimestampFormatCache(timestamp -> {
+            formatted.incrementAndGet();
+            return formatter.format(Instant.ofEpochMilli(timestamp));
+        });
+
+        for (long timestamp = 1_000_000; timestamp < 1_002_000; timestamp++) {
+            cache.format(timestamp);
+        }
+
+        // the start of every second and three probes within it
+        assertThat(formatted).hasValue(8);
+    }
+
+    @Test
+    void doesNotEvictTheCurrentSecondForEarlierTimestamps() {
+        final DateTimeFormatter formatter = DateTimeFormatter.ISO_INSTANT.withZone(ZoneId.of("UTC"));
+        final AtomicInteger formatted = new AtomicInteger();
+        final TimestampFormatCache cache = new TimestampFormatCache(timestamp -> {
+            formatted.incrementAndGet();
+            return formatter.format(Instant.ofEpochMilli(timestamp));
+        });
+
+        cache.format(2_000);
+        assertThat(cache.format(1_999)).isEqualTo("1970-01-01T00:00:01.999Z");
+        assertThat(cache.format(2_001)).isEqualTo("1970-01-01T00:00:02.001Z");
+
+        assertThat(formatted).hasValue(5);
+    }
+
+    @Test
+    void requiresFormattersWithATimeZone() {
+        assertThatNullPointerException()
+            .isThrownBy(() -> new TimestampFormatCache(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+    }
+}
@@ -0,0 +1,223 @@
+package io.dropwizard.logging.async;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RingBufferAsyncAppenderTest {
+    private final LoggerContext context = new LoggerContext();
+    private final Logger logger = context.getLogger("test");
+    private final RingBufferAsyncLoggingEventAppender asyncAppender = new RingBufferAsyncLoggingEventAppender();
+
+    @AfterEach
+    void tearDown() {
+        asyncAppender.stop();
+    }
+
+    @Test
+    void appendsAllEventsOfAllThreadsInOrder() throws Exception {
+        final ListAppender<ILoggingEvent> delegate = start(new ListAppender<>(), 8);
+        final int threads = 4;
+        final int eventsPerThread = 10_000;
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                final String name = "thread-" + thread;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < eventsPerThread; i++) {
+                        asyncAppender.doAppend(event(Level.WARN, name + ":" + i));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        asyncAppender.stop();
+
+        assertThat(delegate.list).hasSize(threads * eventsPerThread);
+        for (int thread = 0; thread < threads; thread++) {
+            final String prefix = "thread-" + thread + ":";
+            assertThat(delegate.list.stream()
+                .map(ILoggingEvent::getMessage)
+                .filter(message -> message.startsWith(prefix))
+                .map(message -> Integer.parseInt(message.substring(prefix.length())))
+                .collect(Collectors.toList()))
+                .isSorted()
+                .hasSize(eventsPerThread);
+        }
+        assertThat(asyncAppender.getDiscardedCount()).isZero();
+        assertThat(delegate.isStarted()).isFalse();
+    }
+
+    @Test
+    void discardsEventsWhenFullIfNeverBlocking() throws Exception {
+        final BlockingAppender delegate = start(new BlockingAppender(), 4);
+        asyncAppender.setNeverBlock(true);
+
+        asyncAppender.doAppend(event(Level.ERROR, "taken by the worker"));
+        assertThat(delegate.appending.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 6; i++) {
+            asyncAppender.doAppend(event(Level.ERROR, "event " + i));
+        }
+
+        assertThat(asyncAppender.getNumberOfElementsInQueue()).isEqualTo(4);
+        assertThat(asyncAppender.getRemainingCapacity()).isZero();
+        assertThat(asyncAppender.getDiscardedCount()).isEqualTo(2);
+
+        delegate.release.countDown();
+        asyncAppender.stop();
+        assertThat(delegate.messages)
+            .containsExactly("taken by the worker", "event 0", "event 1", "event 2", "event 3");
+    }
+
+    @Test
+    void discardsInfoEventsBelowTheDiscardingThreshold() throws Exception {
+        final BlockingAppender delegate = start(new BlockingAppender(), 10);
+
+        asyncAppender.doAppend(event(Level.ERROR, "taken by the worker"));
+        assertThat(delegate.appending.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 10; i++) {
+            asyncAppender.doAppend(event(Level.INFO, "info " + i));
+        }
+        asyncAppender.doAppend(event(Level.WARN, "warn"));
+
+        assertThat(asyncAppender.getDiscardedCount()).isEqualTo(1);
+
+        delegate.release.countDown();
+        asyncAppender.stop();
+        assertThat(delegate.messages).hasSize(11)
+            .doesNotContain("info 9")
+            .endsWith("warn");
+    }
+
+    @Test
+    void blocksWhenFullUntilTheWorkerCatchesUp() throws Exception {
+        final BlockingAppender delegate = start(new BlockingAppender(), 2);
+        asyncAppender.setDiscardingThreshold(0);
+
+        asyncAppender.doAppend(event(Level.INFO, "taken by the worker"));
+        assertThat(delegate.appending.await(5, TimeUnit.SECONDS)).isTrue();
+        asyncAppender.doAppend(event(Level.INFO, "event 0"));
+        asyncAppender.doAppend(event(Level.INFO, "event 1"));
+
+        final Thread producer = new Thread(() -> asyncAppender.doAppend(event(Level.INFO, "event 2")));
+        producer.start();
+        producer.join(100);
+        assertThat(producer.isAlive()).isTrue();
+
+        delegate.release.countDown();
+        producer.join(5_000);
+        assertThat(producer.isAlive()).isFalse();
+
+        asyncAppender.stop();
+        assertThat(delegate.messages).containsExactly("taken by the worker", "event 0", "event 1", "event 2");
+        assertThat(asyncAppender.getDiscardedCount()).isZero();
+    }
+
+    @Test
+    void unblocksBlockedThreadsWhenStopped() throws Exception {
+        final BlockingAppender delegate = start(new BlockingAppender(), 2);
+        asyncAppender.setDiscardingThreshold(0);
+        asyncAppender.setMaxFlushTime(100);
+
+        asyncAppender.doAppend(event(Level.INFO, "taken by the worker"));
+        assertThat(delegate.appending.await(5, TimeUnit.SECONDS)).isTrue();
+        asyncAppender.doAppend(event(Level.INFO, "event 0"));
+        asyncAppender.doAppend(event(Level.INFO, "event 1"));
+
+        final Thread producer = new Thread(() -> asyncAppender.doAppend(event(Level.INFO, "event 2")));
+        producer.start();
+        producer.join(100);
+        assertThat(producer.isAlive()).isTrue();
+
+        asyncAppender.stop();
+        producer.join(5_000);
+        assertThat(producer.isAlive()).isFalse();
+        assertThat(asyncAppender.getDiscardedCount()).isEqualTo(1);
+        delegate.release.countDown();
+    }
+
+    @Test
+    void countsEventsPublishedAfterStoppingAsDiscarded() {
+        final ListAppender<ILoggingEvent> delegate = start(new ListAppender<>(), 4);
+        asyncAppender.doAppend(event(Level.INFO, "appended"));
+        asyncAppender.stop();
+
+        // a logging thread which saw the appender started before it was stopped
+        asyncAppender.append(event(Level.INFO, "published after the final drain"));
+
+        assertThat(delegate.list).extracting(ILoggingEvent::getMessage).containsExactly("appended");
+        assertThat(asyncAppender.getDiscardedCount()).isEqualTo(1);
+        assertThat(asyncAppender.getNumberOfElementsInQueue()).isZero();
+    }
+
+    @Test
+    void doesNotStartWithoutAnAppender() {
+        asyncAppender.setContext(context);
+        asyncAppender.start();
+
+        assertThat(asyncAppender.isStarted()).isFalse();
+        assertThat(asyncAppender.getNumberOfElementsInQueue()).isZero();
+    }
+
+    private <A extends AppenderBase<ILoggingEvent>> A start(A delegate, int queueSize) {
+        delegate.setContext(context);
+        delegate.setName("delegate");
+        delegate.start();
+
+        asyncAppender.setContext(context);
+        asyncAppender.setName("async-delegate");
+        asyncAppender.setQueueSize(queueSize);
+        asyncAppender.setMaxFlushTime(5_000);
+        asyncAppender.addAppender(delegate);
+        asyncAppender.start();
+        assertThat(asyncAppender.isStarted()).isTrue();
+        return delegate;
+    }
+
+    private LoggingEvent event(Level level, String message) {
+        return new LoggingEvent(Logger.class.getName(), logger, level, message, null, null);
+    }
+
+    /**
+     * An appender which blocks on the first event, so the events behind it pile up in the buffer.
+     */
+    private static class BlockingAppender extends AppenderBase<ILoggingEvent> {
+        private final CountDownLatch appending = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final List<String> messages = new ArrayList<>();
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            appending.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            messages.add(event.getMessage());
+        }
+    }
+}
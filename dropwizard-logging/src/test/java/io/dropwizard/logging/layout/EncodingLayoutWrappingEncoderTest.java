@@ -0,0 +1,40 @@
+package io.dropwizard.logging.layout;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EncodingLayoutWrappingEncoderTest {
+
+    @SuppressWarnings("unchecked")
+    private final EncodingLayout<ILoggingEvent> layout = mock(EncodingLayout.class);
+    private final ILoggingEvent event = mock(ILoggingEvent.class);
+    private final EncodingLayoutWrappingEncoder<ILoggingEvent> encoder = new EncodingLayoutWrappingEncoder<>();
+
+    @BeforeEach
+    void setUp() {
+        when(layout.encode(event)).thenReturn("encoded".getBytes(StandardCharsets.UTF_8));
+        when(layout.doLayout(event)).thenReturn("formatted");
+        encoder.setLayout(layout);
+    }
+
+    @Test
+    void encodesEventsWithTheLayoutIfCharsetIsUtf8() {
+        encoder.setCharset(StandardCharsets.UTF_8);
+
+        assertThat(encoder.encode(event)).asString(StandardCharsets.UTF_8).isEqualTo("encoded");
+    }
+
+    @Test
+    void formatsEventsWithTheLayoutIfCharsetIsNotUtf8() {
+        encoder.setCharset(StandardCharsets.UTF_16);
+
+        assertThat(encoder.encode(event)).asString(StandardCharsets.UTF_16).isEqualTo("formatted");
+    }
+}
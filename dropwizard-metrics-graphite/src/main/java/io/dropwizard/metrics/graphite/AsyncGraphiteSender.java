@@ -0,0 +1,277 @@
+package io.dropwizard.metrics.graphite;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.graphite.GraphiteReporter;
+import com.codahale.metrics.graphite.GraphiteSender;
+import io.dropwizard.util.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * A {@link GraphiteSender} which queues the metrics, and sends them to Graphite with another sender from a
+ * background thread, so a {@link GraphiteReporter} never blocks on the network.
+ * <p/>
+ * The queue is bounded: the metrics which are sent while the queue is full are dropped. The connection to Graphite
+ * is kept open between reports, and when it fails, the background thread reconnects after a delay which doubles
+ * with every failure, from the minimum to the maximum reconnect delay.
+ * <p/>
+ * A {@link GraphiteReporter} {@link #close() closes} its sender after every report, and once more when it's
+ * stopped. Closing this sender after a report only flushes the metrics, while closing it when it's already closed
+ * sends the queued metrics and stops the background thread. The thread is started again when the sender is
+ * {@link #connect() connected}.
+ * <p/>
+ * Closing the sender when it's already closed waits at most one second for the background thread, which keeps
+ * sending the queued metrics in the background if it's not done yet. If the queue is full, the thread is interrupted
+ * instead, and the metrics left in the queue are dropped. Connecting the sender again before the thread is done
+ * doesn't start a second thread next to it: the thread starts the next one once it's done.
+ * <p/>
+ * The sender is instrumented with the following metrics, named after the sender:
+ * <ul>
+ *     <li>{@code io.dropwizard.metrics.graphite.AsyncGraphiteSender.<name>.sent}: the metrics sent to Graphite, once
+ *     they're flushed</li>
+ *     <li>{@code io.dropwizard.metrics.graphite.AsyncGraphiteSender.<name>.dropped}: the metrics dropped because the
+ *     queue was full, or because they could not be sent or flushed</li>
+ *     <li>{@code io.dropwizard.metrics.graphite.AsyncGraphiteSender.<name>.failures}: the failures to send to
+ *     Graphite</li>
+ *     <li>{@code io.dropwizard.metrics.graphite.AsyncGraphiteSender.<name>.queued}: the metrics waiting in the
+ *     queue</li>
+ * </ul>
+ *
+ * @since 2.1
+ */
+public class AsyncGraphiteSender implements GraphiteSender {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncGraphiteSender.class);
+    private static final AtomicInteger COUNT = new AtomicInteger();
+    private static final long STOP_TIMEOUT_MILLIS = 1000;
+
+    private static final Entry FLUSH = new Entry("", "", 0);
+    private static final Entry STOP = new Entry("", "", 0);
+
+    private final GraphiteSender sender;
+    private final BlockingQueue<Entry> queue;
+    private final Duration minReconnectDelay;
+    private final Duration maxReconnectDelay;
+    private final Meter sent;
+    private final Meter dropped;
+    private final Meter failures;
+
+    @Nullable
+    private Thread worker;
+    private boolean connected;
+    private boolean stopping;
+    private boolean restarting;
+
+    /**
+     * Creates a sender which queues up to {@code queueSize} metrics for the given {@code sender}.
+     *
+     * @param sender            the sender which sends the metrics to Graphite
+     * @param name              the name of the sender, which names its metrics
+     * @param queueSize         the maximum number of metrics waiting to be sent
+     * @param minReconnectDelay the delay before reconnecting after the first failure
+     * @param maxReconnectDelay the maximum delay before reconnecting after consecutive failures
+     * @param registry          the registry of the metrics of this sender
+     */
+    public AsyncGraphiteSender(GraphiteSender sender, String name, int queueSize, Duration minReconnectDelay,
+                               Duration maxReconnectDelay, MetricRegistry registry) {
+        this.sender = sender;
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.minReconnectDelay = minReconnectDelay;
+        this.maxReconnectDelay = maxReconnectDelay;
+        this.sent = registry.meter(name(AsyncGraphiteSender.class, name, "sent"));
+        this.dropped = registry.meter(name(AsyncGraphiteSender.class, name, "dropped"));
+        this.failures = registry.meter(name(AsyncGraphiteSender.class, name, "failures"));
+        registry.gauge(name(AsyncGraphiteSender.class, name, "queued"), () -> (Gauge<Integer>) queue::size);
+    }
+
+    /**
+     * Starts the background thread, if it's not running.
+     */
+    @Override
+    public synchronized void connect() {
+        connected = true;
+        if (worker == null) {
+            startWorker();
+        } else if (stopping) {
+            // the thread starts another one when it's done, as the wrapped sender isn't thread-safe
+            restarting = true;
+        }
+    }
+
+    private void startWorker() {
+        final Thread thread = new Thread(this::run, "graphite-sender-" + COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        thread.start();
+        worker = thread;
+    }
+
+    /**
+     * Queues a metric, or drops it if the queue is full.
+     */
+    @Override
+    public void send(String name, String value, long timestamp) {
+        if (!queue.offer(new Entry(name, value, timestamp))) {
+            dropped.mark();
+        }
+    }
+
+    /**
+     * Asks the background thread to flush the metrics which were sent before.
+     */
+    @Override
+    public void flush() {
+        // the metrics are flushed anyway once the queue is empty
+        queue.offer(FLUSH);
+    }
+
+    @Override
+    public synchronized boolean isConnected() {
+        return connected;
+    }
+
+    @Override
+    public int getFailures() {
+        return (int) failures.getCount();
+    }
+
+    /**
+     * Flushes the metrics after a report, or stops the background thread if the sender is already closed.
+     */
+    @Override
+    public void close() throws IOException {
+        final Thread thread;
+        synchronized (this) {
+            if (connected) {
+                connected = false;
+                flush();
+                return;
+            }
+            // the thread clears the worker once it's done
+            thread = worker;
+            stopping = thread != null;
+        }
+        if (thread == null) {
+            return;
+        }
+
+        if (!queue.offer(STOP)) {
+            thread.interrupt();
+        }
+        try {
+            // the thread is a daemon, so it doesn't hold up the shutdown if it's blocked on the network
+            thread.join(STOP_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        long reconnectDelay = minReconnectDelay.toMilliseconds();
+        // the metrics which the sender might still buffer, until they're flushed
+        int unflushed = 0;
+        while (true) {
+            final Entry entry;
+            try {
+                final Entry next = queue.poll(1, TimeUnit.SECONDS);
+                entry = next == null ? FLUSH : next;
+            } catch (InterruptedException e) {
+                break;
+            }
+            if (entry == STOP) {
+                break;
+            }
+            if (entry == FLUSH && unflushed == 0) {
+                continue;
+            }
+
+            try {
+                if (!sender.isConnected()) {
+                    sender.connect();
+                }
+                if (entry == FLUSH) {
+                    sender.flush();
+                    sent.mark(unflushed);
+                    unflushed = 0;
+                    reconnectDelay = minReconnectDelay.toMilliseconds();
+                } else {
+                    sender.send(entry.name, entry.value, entry.timestamp);
+                    unflushed++;
+                }
+            } catch (IOException | RuntimeException e) {
+                failures.mark();
+                dropped.mark(entry == FLUSH ? unflushed : unflushed + 1);
+                unflushed = 0;
+                LOGGER.warn("Unable to send metrics to Graphite, reconnecting in {} ms", reconnectDelay, e);
+                closeSender();
+                try {
+                    Thread.sleep(reconnectDelay);
+                } catch (InterruptedException interrupted) {
+                    break;
+                }
+                reconnectDelay = Math.min(reconnectDelay * 2, maxReconnectDelay.toMilliseconds());
+            }
+        }
+
+        try {
+            if (unflushed > 0 && sender.isConnected()) {
+                sender.flush();
+                sent.mark(unflushed);
+                unflushed = 0;
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Unable to flush metrics to Graphite", e);
+        } finally {
+            closeSender();
+            dropped.mark(unflushed);
+        }
+
+        synchronized (this) {
+            worker = null;
+            stopping = false;
+            if (restarting) {
+                // the sender was connected again while this thread was stopping
+                restarting = false;
+                startWorker();
+                return;
+            }
+            // the thread was interrupted because the queue was full, so the remaining metrics are never sent
+            int remaining = 0;
+            for (Entry entry = queue.poll(); entry != null; entry = queue.poll()) {
+                if (entry != FLUSH && entry != STOP) {
+                    remaining++;
+                }
+            }
+            dropped.mark(remaining);
+        }
+    }
+
+    private void closeSender() {
+        try {
+            sender.close();
+        } catch (IOException e) {
+            LOGGER.debug("Error disconnecting from Graphite", e);
+        }
+    }
+
+    private static class Entry {
+        private final String name;
+        private final String value;
+        private final long timestamp;
+
+        private Entry(String name, String value, long timestamp) {
+            this.name = name;
+            this.value = value;
+            this.timestamp = timestamp;
+        }
+    }
+}
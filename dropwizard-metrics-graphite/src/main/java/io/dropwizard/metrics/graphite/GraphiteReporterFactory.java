@@ -4,15 +4,23 @@ import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.ScheduledReporter;
 import com.codahale.metrics.graphite.Graphite;
 import com.codahale.metrics.graphite.GraphiteReporter;
+import com.codahale.metrics.graphite.GraphiteSender;
 import com.codahale.metrics.graphite.GraphiteUDP;
+import com.codahale.metrics.graphite.PickledGraphite;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import io.dropwizard.metrics.BaseReporterFactory;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.MinDuration;
 import io.dropwizard.validation.OneOf;
 import io.dropwizard.validation.PortRange;
+import io.dropwizard.validation.ValidationMethod;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotEmpty;
 
 import javax.validation.constraints.NotNull;
+import java.util.concurrent.TimeUnit;
 
 /**
  * A factory for {@link GraphiteReporter} instances.
@@ -42,10 +50,43 @@ import javax.validation.constraints.NotNull;
  *     <tr>
  *         <td>transport</td>
  *         <td><i>tcp</i></td>
- *         <td>The transport used to report to Graphite. One of {@code tcp} or
- *         {@code udp}.</td>
+ *         <td>The transport used to report to Graphite. One of {@code tcp},
+ *         {@code udp} or {@code pickle}.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>batchSize</td>
+ *         <td>100</td>
+ *         <td>The number of metrics sent to Graphite in one pickled batch, with the {@code pickle} transport.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>async</td>
+ *         <td>false</td>
+ *         <td>Whether to send the metrics from a background thread, so reporting never blocks on the network.
+ *         See {@link AsyncGraphiteSender}.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>queueSize</td>
+ *         <td>10000</td>
+ *         <td>The maximum number of metrics waiting to be sent by the background thread. The metrics reported
+ *         while the queue is full are dropped.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>minReconnectDelay</td>
+ *         <td>1 second</td>
+ *         <td>The delay before the background thread reconnects to Graphite after a failure.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>maxReconnectDelay</td>
+ *         <td>1 minute</td>
+ *         <td>The maximum delay before the background thread reconnects to Graphite, as the delay doubles with
+ *         every consecutive failure.</td>
  *     </tr>
  * </table>
+ * <p/>
+ * A {@link GraphiteReporter} connects its sender before every report and closes it afterwards, then closes it once
+ * more when it's stopped. With {@code async}, the {@link AsyncGraphiteSender} relies on this pattern: the first close
+ * ends the batch of a report and only flushes it, while the second close, of a sender which is already closed, shuts
+ * down its background thread.
  */
 @JsonTypeName("graphite")
 public class GraphiteReporterFactory extends BaseReporterFactory {
@@ -59,9 +100,25 @@ public class GraphiteReporterFactory extends BaseReporterFactory {
     private String prefix = "";
 
     @NotNull
-    @OneOf(value = {"tcp", "udp"}, ignoreCase = true)
+    @OneOf(value = {"tcp", "udp", "pickle"}, ignoreCase = true)
     private String transport = "tcp";
 
+    @Min(1)
+    private int batchSize = 100;
+
+    private boolean async = false;
+
+    @Min(1)
+    private int queueSize = 10000;
+
+    @NotNull
+    @MinDuration(value = 0, unit = TimeUnit.MILLISECONDS, inclusive = false)
+    private Duration minReconnectDelay = Duration.seconds(1);
+
+    @NotNull
+    @MinDuration(value = 0, unit = TimeUnit.MILLISECONDS, inclusive = false)
+    private Duration maxReconnectDelay = Duration.minutes(1);
+
     @JsonProperty
     public String getHost() {
         return host;
@@ -102,14 +159,116 @@ public class GraphiteReporterFactory extends BaseReporterFactory {
         this.transport = transport;
     }
 
+    /**
+     * @since 2.1
+     */
+    @JsonProperty
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @since 2.1
+     */
+    @JsonProperty
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @since 2.1
+     */
+    @JsonProperty
+    public boolean isAsync() {
+        return async;
+    }
+
+    /**
+     * @since 2.1
+     */
+    @JsonProperty
+    public void setAsync(boolean async) {
+        this.async = async;
+    }
+
+    /**
+     * @since 2.1
+     */
+    @JsonProperty
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    /**
+     * @since 2.1
+     */
+    @JsonProperty
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    /**
+     * @since 2.1
+     */
+    @JsonProperty
+    public Duration getMinReconnectDelay() {
+        return minReconnectDelay;
+    }
+
+    /**
+     * @since 2.1
+     */
+    @JsonProperty
+    public void setMinReconnectDelay(Duration minReconnectDelay) {
+        this.minReconnectDelay = minReconnectDelay;
+    }
+
+    /**
+     * @since 2.1
+     */
+    @JsonProperty
+    public Duration getMaxReconnectDelay() {
+        return maxReconnectDelay;
+    }
+
+    /**
+     * @since 2.1
+     */
+    @JsonProperty
+    public void setMaxReconnectDelay(Duration maxReconnectDelay) {
+        this.maxReconnectDelay = maxReconnectDelay;
+    }
+
+    @ValidationMethod(message = "minReconnectDelay must not be greater than maxReconnectDelay")
+    @JsonIgnore
+    public boolean isReconnectDelayValid() {
+        return minReconnectDelay.toNanoseconds() <= maxReconnectDelay.toNanoseconds();
+    }
+
     @Override
     public ScheduledReporter build(MetricRegistry registry) {
-        GraphiteReporter.Builder builder = builder(registry);
+        final GraphiteReporter.Builder builder = builder(registry);
+        final GraphiteSender sender = createSender();
+        if (async) {
+            return builder.build(new AsyncGraphiteSender(sender, host + ':' + port, queueSize, minReconnectDelay,
+                maxReconnectDelay, registry));
+        }
+        return builder.build(sender);
+    }
 
+    /**
+     * Creates the sender for the configured transport.
+     *
+     * @return the sender which sends the metrics to Graphite
+     * @since 2.1
+     */
+    protected GraphiteSender createSender() {
         if ("udp".equalsIgnoreCase(transport)) {
-            return builder.build(new GraphiteUDP(host, port));
+            return new GraphiteUDP(host, port);
+        } else if ("pickle".equalsIgnoreCase(transport)) {
+            return new PickledGraphite(host, port, batchSize);
         } else {
-            return builder.build(new Graphite(host, port));
+            return new Graphite(host, port);
         }
     }
 
@@ -117,7 +276,7 @@ public class GraphiteReporterFactory extends BaseReporterFactory {
         return GraphiteReporter.forRegistry(registry)
                 .convertDurationsTo(getDurationUnit())
                 .convertRatesTo(getRateUnit())
-                .filter(getFilter())
+                .filter(getFilter(registry))
                 .prefixedWith(getPrefix())
                 .disabledMetricAttributes(getDisabledAttributes());
     }
@@ -0,0 +1,274 @@
+package io.dropwizard.metrics.graphite;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.graphite.GraphiteSender;
+import io.dropwizard.util.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.codahale.metrics.MetricRegistry.name;
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncGraphiteSenderTest {
+    private final MetricRegistry registry = new MetricRegistry();
+    private final RecordingSender recording = new RecordingSender();
+    private final AsyncGraphiteSender sender = new AsyncGraphiteSender(recording, "test", 10,
+        Duration.milliseconds(10), Duration.milliseconds(40), registry);
+
+    @AfterEach
+    void tearDown() throws IOException {
+        sender.close();
+        sender.close();
+    }
+
+    @Test
+    void sendsTheMetricsFromABackgroundThread() throws Exception {
+        report("a", "b");
+        report("c");
+        stop();
+
+        assertThat(recording.sent).containsExactly("a", "b", "c");
+        assertThat(recording.threads).allMatch(thread -> thread.startsWith("graphite-sender-"));
+        assertThat(recording.connects).hasValue(1);
+        assertThat(recording.flushes).hasPositiveValue();
+        assertThat(recording.closes).hasValue(1);
+        assertThat(registry.meter(name(AsyncGraphiteSender.class, "test", "sent")).getCount()).isEqualTo(3);
+    }
+
+    @Test
+    void dropsTheMetricsWhenTheQueueIsFull() throws Exception {
+        final CountDownLatch connecting = new CountDownLatch(1);
+        final CountDownLatch connected = new CountDownLatch(1);
+        recording.onConnect = () -> {
+            connecting.countDown();
+            await(connected);
+        };
+
+        sender.connect();
+        sender.send("first", "1", 0);
+        assertThat(connecting.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 15; i++) {
+            sender.send("metric" + i, "1", 0);
+        }
+        assertThat(registry.meter(name(AsyncGraphiteSender.class, "test", "dropped")).getCount()).isEqualTo(5);
+        assertThat(requireNonNull(registry.getGauges().get(name(AsyncGraphiteSender.class, "test", "queued"))).getValue()).isEqualTo(10);
+
+        connected.countDown();
+        while (recording.sent.size() < 11) {
+            Thread.sleep(10);
+        }
+        sender.close();
+        stop();
+        assertThat(recording.sent).hasSize(11).startsWith("first", "metric0").endsWith("metric9");
+    }
+
+    @Test
+    void dropsTheQueuedMetricsWhenStoppedWithAFullQueue() throws Exception {
+        final CountDownLatch connecting = new CountDownLatch(1);
+        recording.onConnect = () -> {
+            connecting.countDown();
+            // blocks until the thread is interrupted
+            await(new CountDownLatch(1));
+        };
+
+        sender.connect();
+        sender.send("first", "1", 0);
+        assertThat(connecting.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 10; i++) {
+            sender.send("metric" + i, "1", 0);
+        }
+        sender.close();
+        stop();
+
+        assertThat(recording.sent).containsExactly("first");
+        assertThat(registry.meter(name(AsyncGraphiteSender.class, "test", "dropped")).getCount()).isEqualTo(10);
+        assertThat(requireNonNull(registry.getGauges().get(name(AsyncGraphiteSender.class, "test", "queued"))).getValue()).isEqualTo(0);
+    }
+
+    @Test
+    void reconnectsAfterFailures() throws Exception {
+        final AtomicInteger attempts = new AtomicInteger();
+        recording.onConnect = () -> {
+            if (attempts.incrementAndGet() <= 2) {
+                throw new IOException("refused");
+            }
+        };
+
+        report("a", "b", "c");
+        stop();
+
+        assertThat(recording.sent).containsExactly("c");
+        assertThat(sender.getFailures()).isEqualTo(2);
+        assertThat(registry.meter(name(AsyncGraphiteSender.class, "test", "dropped")).getCount()).isEqualTo(2);
+    }
+
+    @Test
+    void dropsTheBufferedMetricsWhenTheFlushFails() throws Exception {
+        recording.onFlush = () -> {
+            throw new IOException("broken pipe");
+        };
+        report("a", "b");
+        stop();
+
+        assertThat(sender.getFailures()).isEqualTo(1);
+        assertThat(registry.meter(name(AsyncGraphiteSender.class, "test", "sent")).getCount()).isZero();
+        assertThat(registry.meter(name(AsyncGraphiteSender.class, "test", "dropped")).getCount()).isEqualTo(2);
+    }
+
+    @Test
+    void doesNotWaitLongForABlockedThreadWhenStopped() throws Exception {
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch unblocked = new CountDownLatch(1);
+        recording.onConnect = () -> {
+            blocked.countDown();
+            // a thread blocked on the network doesn't respond to interrupts
+            while (unblocked.getCount() > 0) {
+                try {
+                    unblocked.await();
+                } catch (InterruptedException e) {
+                    // keep blocking
+                }
+            }
+        };
+
+        report("a");
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        final long start = System.nanoTime();
+        try {
+            stop();
+            assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(2));
+        } finally {
+            unblocked.countDown();
+        }
+    }
+
+    @Test
+    void doesNotStartASecondThreadWhileTheFirstIsStopping() throws Exception {
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch unblocked = new CountDownLatch(1);
+        final AtomicInteger connecting = new AtomicInteger();
+        final AtomicInteger maxConnecting = new AtomicInteger();
+        recording.onConnect = () -> {
+            maxConnecting.accumulateAndGet(connecting.incrementAndGet(), Math::max);
+            blocked.countDown();
+            while (unblocked.getCount() > 0) {
+                try {
+                    unblocked.await();
+                } catch (InterruptedException e) {
+                    // keep blocking
+                }
+            }
+            connecting.decrementAndGet();
+        };
+
+        report("a");
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        try {
+            stop();
+            report("b");
+        } finally {
+            unblocked.countDown();
+        }
+        while (recording.sent.size() < 2) {
+            Thread.sleep(10);
+        }
+        stop();
+
+        assertThat(recording.sent).containsExactly("a", "b");
+        assertThat(maxConnecting).hasValue(1);
+    }
+
+    @Test
+    void restartsAfterBeingStopped() throws Exception {
+        report("a");
+        stop();
+        report("b");
+        stop();
+
+        assertThat(recording.sent).containsExactly("a", "b");
+        assertThat(recording.connects).hasValue(2);
+    }
+
+    private void report(String... names) throws IOException {
+        sender.connect();
+        for (String metric : names) {
+            sender.send(metric, "1", 0);
+        }
+        sender.flush();
+        sender.close();
+    }
+
+    private void stop() throws IOException {
+        // a reporter closes its sender once more when it's stopped
+        sender.close();
+        assertThat(sender.isConnected()).isFalse();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private interface SenderAction {
+        void run() throws IOException;
+    }
+
+    private static class RecordingSender implements GraphiteSender {
+        private final List<String> sent = new CopyOnWriteArrayList<>();
+        private final List<String> threads = new CopyOnWriteArrayList<>();
+        private final AtomicInteger connects = new AtomicInteger();
+        private final AtomicInteger flushes = new AtomicInteger();
+        private final AtomicInteger closes = new AtomicInteger();
+        private volatile SenderAction onConnect = () -> { };
+        private volatile SenderAction onFlush = () -> { };
+        private volatile boolean connected;
+
+        @Override
+        public void connect() throws IOException {
+            onConnect.run();
+            connects.incrementAndGet();
+            connected = true;
+        }
+
+        @Override
+        public void send(String name, String value, long timestamp) {
+            threads.add(Thread.currentThread().getName());
+            sent.add(name);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            onFlush.run();
+            flushes.incrementAndGet();
+        }
+
+        @Override
+        public boolean isConnected() {
+            return connected;
+        }
+
+        @Override
+        public int getFailures() {
+            return 0;
+        }
+
+        @Override
+        public void close() {
+            if (connected) {
+                closes.incrementAndGet();
+            }
+            connected = false;
+        }
+    }
+}
@@ -1,16 +1,21 @@
 package io.dropwizard.metrics.graphite;
 
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.ScheduledReporter;
 import com.codahale.metrics.graphite.Graphite;
 import com.codahale.metrics.graphite.GraphiteReporter;
+import com.codahale.metrics.graphite.GraphiteSender;
 import com.codahale.metrics.graphite.GraphiteUDP;
+import com.codahale.metrics.graphite.PickledGraphite;
 import io.dropwizard.configuration.YamlConfigurationFactory;
 import io.dropwizard.jackson.DiscoverableSubtypeResolver;
 import io.dropwizard.jackson.Jackson;
+import io.dropwizard.util.Duration;
 import io.dropwizard.validation.BaseValidator;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import javax.validation.ConstraintViolation;
 import java.lang.reflect.Field;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -46,10 +51,11 @@ class GraphiteReporterFactoryTest {
     void testNoAddressResolutionForGraphite() throws Exception {
         graphiteReporterFactory.build(new MetricRegistry());
 
-        final ArgumentCaptor<Graphite> argument = ArgumentCaptor.forClass(Graphite.class);
+        final ArgumentCaptor<GraphiteSender> argument = ArgumentCaptor.forClass(GraphiteSender.class);
         verify(builderSpy).build(argument.capture());
 
-        final Graphite graphite = argument.getValue();
+        assertThat(argument.getValue()).isInstanceOf(Graphite.class);
+        final Graphite graphite = (Graphite) argument.getValue();
         assertThat(getField(graphite, "hostname")).isEqualTo("localhost");
         assertThat(getField(graphite, "port")).isEqualTo(2003);
         assertThat(getField(graphite, "address")).isNull();
@@ -69,6 +75,65 @@ class GraphiteReporterFactoryTest {
         assertThat(getField(graphite, "address")).isNull();
     }
 
+    @Test
+    void testCorrectTransportForPickledGraphite() throws Exception {
+        graphiteReporterFactory.setTransport("pickle");
+        graphiteReporterFactory.setBatchSize(500);
+        graphiteReporterFactory.build(new MetricRegistry());
+
+        final ArgumentCaptor<GraphiteSender> argument = ArgumentCaptor.forClass(GraphiteSender.class);
+        verify(builderSpy).build(argument.capture());
+
+        assertThat(argument.getValue()).isInstanceOf(PickledGraphite.class);
+        final PickledGraphite graphite = (PickledGraphite) argument.getValue();
+        assertThat(getInaccessibleField(PickledGraphite.class, "hostname").get(graphite)).isEqualTo("localhost");
+        assertThat(getInaccessibleField(PickledGraphite.class, "port").get(graphite)).isEqualTo(2003);
+        assertThat(getInaccessibleField(PickledGraphite.class, "batchSize").get(graphite)).isEqualTo(500);
+    }
+
+    @Test
+    void wrapsTheSenderWhenAsync() throws Exception {
+        final MetricRegistry registry = new MetricRegistry();
+        graphiteReporterFactory.setAsync(true);
+        graphiteReporterFactory.setTransport("udp");
+        graphiteReporterFactory.build(registry);
+
+        final ArgumentCaptor<GraphiteSender> argument = ArgumentCaptor.forClass(GraphiteSender.class);
+        verify(builderSpy).build(argument.capture());
+
+        assertThat(argument.getValue()).isInstanceOf(AsyncGraphiteSender.class);
+        assertThat(getInaccessibleField(AsyncGraphiteSender.class, "sender").get(argument.getValue()))
+            .isInstanceOf(GraphiteUDP.class);
+        assertThat(registry.getMeters()).containsKey(MetricRegistry.name(AsyncGraphiteSender.class, "localhost:2003", "dropped"));
+    }
+
+    @Test
+    void stopsTheBackgroundThreadWhenTheReporterIsStopped() throws Exception {
+        final GraphiteReporterFactory factory = new GraphiteReporterFactory();
+        factory.setAsync(true);
+        factory.setTransport("udp");
+        final ScheduledReporter reporter = factory.build(new MetricRegistry());
+        final Object sender = getInaccessibleField(GraphiteReporter.class, "graphite").get(reporter);
+
+        reporter.report();
+        final Thread worker = (Thread) getInaccessibleField(AsyncGraphiteSender.class, "worker").get(sender);
+        assertThat(worker).isNotNull();
+        assertThat(worker.isAlive()).isTrue();
+
+        reporter.stop();
+        assertThat(worker.isAlive()).isFalse();
+        assertThat(getInaccessibleField(AsyncGraphiteSender.class, "worker").get(sender)).isNull();
+    }
+
+    @Test
+    void rejectsAMinReconnectDelayGreaterThanTheMaximum() {
+        graphiteReporterFactory.setMinReconnectDelay(Duration.minutes(2));
+
+        assertThat(BaseValidator.newValidator().validate(graphiteReporterFactory))
+            .extracting(ConstraintViolation::getMessage)
+            .containsExactly("minReconnectDelay must not be greater than maxReconnectDelay");
+    }
+
     private static Object getField(GraphiteUDP graphite, String name) throws NoSuchFieldException {
         try {
             return getInaccessibleField(GraphiteUDP.class, name).get(graphite);
@@ -2,12 +2,14 @@ package io.dropwizard.metrics;
 
 import com.codahale.metrics.MetricAttribute;
 import com.codahale.metrics.MetricFilter;
+import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.ScheduledReporter;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.dropwizard.util.Duration;
 import io.dropwizard.validation.MinDuration;
 
+import javax.annotation.Nullable;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 import javax.validation.valueextraction.Unwrapping;
@@ -17,6 +19,7 @@ import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 /**
  * A base {@link ReporterFactory} for configuring metric reporters.
@@ -116,6 +119,12 @@ public abstract class BaseReporterFactory implements ReporterFactory {
 
     private EnumSet<MetricAttribute> includesAttributes = EnumSet.allOf(MetricAttribute.class);
 
+    @Nullable
+    private MetricRegistry filteredRegistry;
+
+    @Nullable
+    private MetricFilter registryFilter;
+
     public TimeUnit getDurationUnit() {
         return durationUnit;
     }
@@ -232,10 +241,44 @@ public abstract class BaseReporterFactory implements ReporterFactory {
         final StringMatchingStrategy stringMatchingStrategy = getUseRegexFilters() ?
                 REGEX_STRING_MATCHING_STRATEGY : (getUseSubstringMatching() ? SUBSTRING_MATCHING_STRATEGY : DEFAULT_STRING_MATCHING_STRATEGY);
 
+        if (getExcludes().isEmpty() && getIncludes().isEmpty()) {
+            return MetricFilter.ALL;
+        }
+
         // Include the metric if its name is not excluded and its name is included
         // Where, by default, with no includes setting, all names are included.
-        return (name, metric) -> !stringMatchingStrategy.containsMatch(getExcludes(), name) &&
-                (getIncludes().isEmpty() || stringMatchingStrategy.containsMatch(getIncludes(), name));
+        final Predicate<String> excluded = stringMatchingStrategy.compile(getExcludes());
+        final Predicate<String> included = getIncludes().isEmpty() ?
+                name -> true : stringMatchingStrategy.compile(getIncludes());
+        return (name, metric) -> !excluded.test(name) && included.test(name);
+    }
+
+    /**
+     * Gets a {@link MetricFilter} for the metrics of a registry, which remembers the decision of {@link #getFilter()}
+     * for every metric name until the metric is removed from the registry.
+     * <p/>
+     * The reporters built by this factory should use this filter, so the names of the metrics are matched against
+     * the configured excludes/includes once instead of on every report. The filter is created once per registry,
+     * so every call with the same registry returns the same filter.
+     *
+     * @param registry the registry whose metrics are filtered
+     * @return the filter for selecting metrics of the registry based on the configured excludes/includes.
+     * @see #getFilter()
+     * @since 2.1
+     */
+    public synchronized MetricFilter getFilter(MetricRegistry registry) {
+        if (registry == filteredRegistry && registryFilter != null) {
+            return registryFilter;
+        }
+        final MetricFilter filter = getFilter();
+        if (filter == MetricFilter.ALL) {
+            return filter;
+        }
+        final MemoizingMetricFilter memoizingFilter = new MemoizingMetricFilter(filter);
+        registry.addListener(memoizingFilter);
+        filteredRegistry = registry;
+        registryFilter = memoizingFilter;
+        return memoizingFilter;
     }
 
     protected Set<MetricAttribute> getDisabledAttributes() {
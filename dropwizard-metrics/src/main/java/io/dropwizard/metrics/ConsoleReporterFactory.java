@@ -84,7 +84,7 @@ public class ConsoleReporterFactory extends BaseFormattedReporterFactory {
         return ConsoleReporter.forRegistry(registry)
                               .convertDurationsTo(getDurationUnit())
                               .convertRatesTo(getRateUnit())
-                              .filter(getFilter())
+                              .filter(getFilter(registry))
                               .formattedFor(getLocale())
                               .formattedFor(getTimeZone())
                               .outputTo(getOutput().get())
@@ -66,7 +66,7 @@ public class CsvReporterFactory extends BaseFormattedReporterFactory {
         return CsvReporter.forRegistry(registry)
                           .convertDurationsTo(getDurationUnit())
                           .convertRatesTo(getRateUnit())
-                          .filter(getFilter())
+                          .filter(getFilter(registry))
                           .formatFor(getLocale())
                           .build(getFile());
     }
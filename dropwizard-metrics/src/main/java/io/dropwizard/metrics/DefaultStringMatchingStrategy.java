@@ -1,10 +1,17 @@
 package io.dropwizard.metrics;
 
+import java.util.HashSet;
 import java.util.Set;
+import java.util.function.Predicate;
 
 class DefaultStringMatchingStrategy implements StringMatchingStrategy {
     @Override
     public boolean containsMatch(Set<String> matchExpressions, String metricName) {
         return matchExpressions.contains(metricName);
     }
+
+    @Override
+    public Predicate<String> compile(Set<String> matchExpressions) {
+        return new HashSet<>(matchExpressions)::contains;
+    }
 }
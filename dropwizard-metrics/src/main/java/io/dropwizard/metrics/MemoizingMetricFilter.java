@@ -0,0 +1,64 @@
+package io.dropwizard.metrics;
+
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricFilter;
+import com.codahale.metrics.MetricRegistryListener;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A {@link MetricFilter} which remembers the decision of another filter for every metric name, so the names are
+ * matched only once instead of on every report.
+ * <p>
+ * The decisions are forgotten when their metrics are removed from the registry this filter listens to, which keeps
+ * the memoized names bounded by the names in the registry. The decision of the filter must therefore only depend on
+ * the name of a metric.
+ * </p>
+ */
+class MemoizingMetricFilter extends MetricRegistryListener.Base implements MetricFilter {
+    private final MetricFilter filter;
+    private final ConcurrentMap<String, Boolean> decisions = new ConcurrentHashMap<>();
+
+    MemoizingMetricFilter(MetricFilter filter) {
+        this.filter = filter;
+    }
+
+    @Override
+    public boolean matches(String name, Metric metric) {
+        final Boolean decision = decisions.get(name);
+        if (decision != null) {
+            return decision;
+        }
+        return decisions.computeIfAbsent(name, key -> filter.matches(key, metric));
+    }
+
+    int size() {
+        return decisions.size();
+    }
+
+    @Override
+    public void onGaugeRemoved(String name) {
+        decisions.remove(name);
+    }
+
+    @Override
+    public void onCounterRemoved(String name) {
+        decisions.remove(name);
+    }
+
+    @Override
+    public void onHistogramRemoved(String name) {
+        decisions.remove(name);
+    }
+
+    @Override
+    public void onMeterRemoved(String name) {
+        decisions.remove(name);
+    }
+
+    @Override
+    public void onTimerRemoved(String name) {
+        decisions.remove(name);
+    }
+}
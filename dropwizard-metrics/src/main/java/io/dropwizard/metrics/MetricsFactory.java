@@ -1,7 +1,9 @@
 package io.dropwizard.metrics;
 
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.ScheduledReporter;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeName;
 import io.dropwizard.lifecycle.setup.LifecycleEnvironment;
 import io.dropwizard.util.Duration;
 import org.slf4j.Logger;
@@ -11,7 +13,9 @@ import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * A factory for configuring the metrics sub-system for the environment.
@@ -41,6 +45,12 @@ import java.util.List;
  *         <td>{@code false}</td>
  *         <td>To report metrics one last time when stopping Dropwizard.</td>
  *     </tr>
+ *     <tr>
+ *         <td>sharedSnapshots</td>
+ *         <td>{@code false}</td>
+ *         <td>To report metrics to all reporters with the same frequency from a single snapshot of the registry,
+ *         in a {@link ReportingPipeline}.</td>
+ *     </tr>
  * </table>
  */
 public class MetricsFactory {
@@ -56,6 +66,8 @@ public class MetricsFactory {
 
     private boolean reportOnStop = false;
 
+    private boolean sharedSnapshots = false;
+
     @JsonProperty
     public List<ReporterFactory> getReporters() {
         return reporters;
@@ -92,6 +104,22 @@ public class MetricsFactory {
         this.reportOnStop = reportOnStop;
     }
 
+    /**
+     * @since 2.1
+     */
+    @JsonProperty
+    public boolean isSharedSnapshots() {
+        return sharedSnapshots;
+    }
+
+    /**
+     * @since 2.1
+     */
+    @JsonProperty
+    public void setSharedSnapshots(boolean sharedSnapshots) {
+        this.sharedSnapshots = sharedSnapshots;
+    }
+
     /**
      * @since 2.0
      */
@@ -106,26 +134,52 @@ public class MetricsFactory {
      * frequency} for reporting metrics begins when the lifecycle {@link
      * io.dropwizard.lifecycle.Managed#start() starts}, and stops when the lifecycle
      * {@link io.dropwizard.lifecycle.Managed#stop() stops}.
+     * <p />
+     * With {@link #isSharedSnapshots() shared snapshots}, the reporters built by a {@link BaseReporterFactory} are
+     * grouped by their frequency into {@link ReportingPipeline pipelines}, which report a single snapshot of the
+     * registry to all the reporters of the group. The other reporters report on their own.
      *
      * @param environment the lifecycle to manage the reporters.
      * @param registry the metric registry to report metrics from.
      */
     public void configure(LifecycleEnvironment environment, MetricRegistry registry) {
-        for (ReporterFactory reporter : reporters) {
+        final Map<Long, ReportingPipeline> pipelines = new LinkedHashMap<>();
+        for (int i = 0; i < reporters.size(); i++) {
+            final ReporterFactory reporter = reporters.get(i);
             try {
+                final Duration frequency = reporter.getFrequency().orElseGet(this::getFrequency);
+                if (isSharedSnapshots() && reporter instanceof BaseReporterFactory) {
+                    final BaseReporterFactory factory = (BaseReporterFactory) reporter;
+                    final ScheduledReporter scheduledReporter = factory.build(registry);
+                    // the factory returns the filter it built the reporter with, instead of a second one
+                    pipelines.computeIfAbsent(frequency.toNanoseconds(),
+                        f -> new ReportingPipeline(registry, frequency, isReportOnStop()))
+                        .addReporter(getName(factory, i), scheduledReporter, factory.getFilter(registry));
+                    continue;
+                }
                 final ScheduledReporterManager manager =
                         new ScheduledReporterManager(reporter.build(registry),
-                                                     reporter.getFrequency().orElseGet(this::getFrequency),
+                                                     frequency,
                                                      isReportOnStop());
                 environment.manage(manager);
             } catch (Exception e) {
                 LOGGER.warn("Failed to create reporter, metrics may not be properly reported.", e);
             }
         }
+        pipelines.values().forEach(environment::manage);
+    }
+
+    /**
+     * Names the reporter by its type and its index in the reporters, as several reporters may have the same type.
+     */
+    private static String getName(ReporterFactory reporter, int index) {
+        final JsonTypeName typeName = reporter.getClass().getAnnotation(JsonTypeName.class);
+        return (typeName == null ? reporter.getClass().getSimpleName() : typeName.value()) + '.' + index;
     }
 
     @Override
     public String toString() {
-        return "MetricsFactory{frequency=" + frequency + ", reporters=" + reporters + ", reportOnStop=" + reportOnStop + '}';
+        return "MetricsFactory{frequency=" + frequency + ", reporters=" + reporters + ", reportOnStop=" + reportOnStop
+            + ", sharedSnapshots=" + sharedSnapshots + '}';
     }
 }
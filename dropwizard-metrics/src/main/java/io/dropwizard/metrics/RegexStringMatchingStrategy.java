@@ -4,7 +4,11 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
 class RegexStringMatchingStrategy implements StringMatchingStrategy {
@@ -27,4 +31,42 @@ class RegexStringMatchingStrategy implements StringMatchingStrategy {
         }
         return false;
     }
+
+    /**
+     * Compiles the expressions into a single alternation, so a metric name is matched in one pass. Expressions with
+     * capturing groups or comments are kept as separate patterns, because their back references would refer to other
+     * groups in the alternation, and their comments could swallow the rest of it.
+     */
+    @Override
+    public Predicate<String> compile(Set<String> matchExpressions) {
+        final StringJoiner alternation = new StringJoiner("|");
+        final List<Pattern> patterns = new ArrayList<>();
+        for (String regexExpression : matchExpressions) {
+            final Pattern pattern = Pattern.compile(regexExpression);
+            if (pattern.matcher("").groupCount() == 0 && regexExpression.indexOf('#') < 0) {
+                alternation.add("(?:" + regexExpression + ")");
+            } else {
+                patterns.add(pattern);
+            }
+        }
+        if (alternation.length() > 0) {
+            patterns.add(0, Pattern.compile(alternation.toString()));
+        }
+
+        if (patterns.isEmpty()) {
+            return metricName -> false;
+        }
+        if (patterns.size() == 1) {
+            final Pattern pattern = patterns.get(0);
+            return metricName -> pattern.matcher(metricName).matches();
+        }
+        return metricName -> {
+            for (Pattern pattern : patterns) {
+                if (pattern.matcher(metricName).matches()) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
 }
@@ -0,0 +1,289 @@
+package io.dropwizard.metrics;
+
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Metered;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricFilter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.MovingAverages;
+import com.codahale.metrics.Reservoir;
+import com.codahale.metrics.ScheduledReporter;
+import com.codahale.metrics.Snapshot;
+import com.codahale.metrics.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * The values of the metrics of a {@link MetricRegistry} at one point in time, which can be reported by several
+ * {@link ScheduledReporter}s.
+ * <p>
+ * Gauges are read, and histograms and timers are sampled, only once for all the reporters. The metrics handed to the
+ * reporters return the values they had when the snapshot was taken.
+ * </p>
+ */
+@SuppressWarnings("rawtypes")
+final class RegistrySnapshot {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RegistrySnapshot.class);
+
+    private final SortedMap<String, Gauge> gauges;
+    private final SortedMap<String, Counter> counters;
+    private final SortedMap<String, Histogram> histograms;
+    private final SortedMap<String, Meter> meters;
+    private final SortedMap<String, Timer> timers;
+
+    private RegistrySnapshot(SortedMap<String, Gauge> gauges, SortedMap<String, Counter> counters,
+                             SortedMap<String, Histogram> histograms, SortedMap<String, Meter> meters,
+                             SortedMap<String, Timer> timers) {
+        this.gauges = Collections.unmodifiableSortedMap(gauges);
+        this.counters = Collections.unmodifiableSortedMap(counters);
+        this.histograms = Collections.unmodifiableSortedMap(histograms);
+        this.meters = Collections.unmodifiableSortedMap(meters);
+        this.timers = Collections.unmodifiableSortedMap(timers);
+    }
+
+    /**
+     * Takes a snapshot of the metrics of a registry which match a filter.
+     *
+     * @param registry the registry to take the snapshot of
+     * @param filter   the filter of the metrics which are read or sampled
+     * @param clock    the clock of the frozen timers
+     * @return the snapshot
+     */
+    static RegistrySnapshot of(MetricRegistry registry, MetricFilter filter, Clock clock) {
+        final SortedMap<String, Gauge> gauges = new TreeMap<>();
+        for (Map.Entry<String, Gauge> entry : registry.getGauges(filter).entrySet()) {
+            gauges.put(entry.getKey(), freeze(entry.getKey(), entry.getValue()));
+        }
+
+        final SortedMap<String, Counter> counters = new TreeMap<>();
+        for (Map.Entry<String, Counter> entry : registry.getCounters(filter).entrySet()) {
+            counters.put(entry.getKey(), new FrozenCounter(entry.getValue().getCount()));
+        }
+
+        final SortedMap<String, Histogram> histograms = new TreeMap<>();
+        for (Map.Entry<String, Histogram> entry : registry.getHistograms(filter).entrySet()) {
+            final Histogram histogram = entry.getValue();
+            histograms.put(entry.getKey(), new FrozenHistogram(histogram.getCount(), histogram.getSnapshot()));
+        }
+
+        final SortedMap<String, Meter> meters = new TreeMap<>();
+        for (Map.Entry<String, Meter> entry : registry.getMeters(filter).entrySet()) {
+            meters.put(entry.getKey(), FrozenMeter.of(entry.getValue(), clock));
+        }
+
+        final SortedMap<String, Timer> timers = new TreeMap<>();
+        for (Map.Entry<String, Timer> entry : registry.getTimers(filter).entrySet()) {
+            final Timer timer = entry.getValue();
+            final Snapshot snapshot = timer.getSnapshot();
+            final FrozenMeter meter = FrozenMeter.of(timer, clock);
+            timers.put(entry.getKey(), new Timer(meter, new FrozenHistogram(meter.getCount(), snapshot), clock));
+        }
+
+        return new RegistrySnapshot(gauges, counters, histograms, meters, timers);
+    }
+
+    /**
+     * Reports the metrics of this snapshot which match the filter of a reporter.
+     *
+     * @param reporter the reporter
+     * @param filter   the filter of the reporter
+     */
+    void reportTo(ScheduledReporter reporter, MetricFilter filter) {
+        if (filter == MetricFilter.ALL) {
+            reporter.report(gauges, counters, histograms, meters, timers);
+        } else {
+            reporter.report(filter(gauges, filter), filter(counters, filter), filter(histograms, filter),
+                filter(meters, filter), filter(timers, filter));
+        }
+    }
+
+    SortedMap<String, Gauge> getGauges() {
+        return gauges;
+    }
+
+    SortedMap<String, Counter> getCounters() {
+        return counters;
+    }
+
+    SortedMap<String, Histogram> getHistograms() {
+        return histograms;
+    }
+
+    SortedMap<String, Meter> getMeters() {
+        return meters;
+    }
+
+    SortedMap<String, Timer> getTimers() {
+        return timers;
+    }
+
+    private static <T extends Metric> SortedMap<String, T> filter(SortedMap<String, T> metrics, MetricFilter filter) {
+        final SortedMap<String, T> filtered = new TreeMap<>();
+        for (Map.Entry<String, T> entry : metrics.entrySet()) {
+            if (filter.matches(entry.getKey(), entry.getValue())) {
+                filtered.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return Collections.unmodifiableSortedMap(filtered);
+    }
+
+    private static Gauge freeze(String name, Gauge gauge) {
+        final Object value;
+        try {
+            value = gauge.getValue();
+        } catch (RuntimeException e) {
+            // leave the gauge to the reporters, which handle its failure as they would without a snapshot
+            LOGGER.debug("Unable to read gauge {} for the snapshot", name, e);
+            return gauge;
+        }
+        return new FrozenGauge(value);
+    }
+
+    private static final class FrozenGauge implements Gauge<Object> {
+        @Nullable
+        private final Object value;
+
+        private FrozenGauge(@Nullable Object value) {
+            this.value = value;
+        }
+
+        @Override
+        @Nullable
+        public Object getValue() {
+            return value;
+        }
+    }
+
+    private static final class FrozenCounter extends Counter {
+        private final long count;
+
+        private FrozenCounter(long count) {
+            this.count = count;
+        }
+
+        @Override
+        public long getCount() {
+            return count;
+        }
+    }
+
+    private static final class FrozenHistogram extends Histogram {
+        private final long count;
+
+        private FrozenHistogram(long count, Snapshot snapshot) {
+            super(new FrozenReservoir(snapshot));
+            this.count = count;
+        }
+
+        @Override
+        public long getCount() {
+            return count;
+        }
+    }
+
+    private static final class FrozenReservoir implements Reservoir {
+        private final Snapshot snapshot;
+
+        private FrozenReservoir(Snapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public int size() {
+            return snapshot.size();
+        }
+
+        @Override
+        public void update(long value) {
+            throw new UnsupportedOperationException("The snapshot of a histogram can't be updated");
+        }
+
+        @Override
+        public Snapshot getSnapshot() {
+            return snapshot;
+        }
+    }
+
+    private static final class FrozenMeter extends Meter {
+        private static final MovingAverages NO_MOVING_AVERAGES = new MovingAverages() {
+            @Override
+            public void tickIfNecessary() {
+            }
+
+            @Override
+            public void update(long n) {
+            }
+
+            @Override
+            public double getM1Rate() {
+                return 0;
+            }
+
+            @Override
+            public double getM5Rate() {
+                return 0;
+            }
+
+            @Override
+            public double getM15Rate() {
+                return 0;
+            }
+        };
+
+        private final long count;
+        private final double meanRate;
+        private final double oneMinuteRate;
+        private final double fiveMinuteRate;
+        private final double fifteenMinuteRate;
+
+        private FrozenMeter(long count, double meanRate, double oneMinuteRate, double fiveMinuteRate,
+                            double fifteenMinuteRate, Clock clock) {
+            super(NO_MOVING_AVERAGES, clock);
+            this.count = count;
+            this.meanRate = meanRate;
+            this.oneMinuteRate = oneMinuteRate;
+            this.fiveMinuteRate = fiveMinuteRate;
+            this.fifteenMinuteRate = fifteenMinuteRate;
+        }
+
+        private static FrozenMeter of(Metered metered, Clock clock) {
+            return new FrozenMeter(metered.getCount(), metered.getMeanRate(), metered.getOneMinuteRate(),
+                metered.getFiveMinuteRate(), metered.getFifteenMinuteRate(), clock);
+        }
+
+        @Override
+        public long getCount() {
+            return count;
+        }
+
+        @Override
+        public double getMeanRate() {
+            return meanRate;
+        }
+
+        @Override
+        public double getOneMinuteRate() {
+            return oneMinuteRate;
+        }
+
+        @Override
+        public double getFiveMinuteRate() {
+            return fiveMinuteRate;
+        }
+
+        @Override
+        public double getFifteenMinuteRate() {
+            return fifteenMinuteRate;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package io.dropwizard.metrics;
+
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.MetricFilter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.ScheduledReporter;
+import com.codahale.metrics.Timer;
+import io.dropwizard.lifecycle.Managed;
+import io.dropwizard.util.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * Reports the metrics of a registry to several {@link ScheduledReporter}s with the same frequency, from a single
+ * snapshot of the registry.
+ * <p/>
+ * On every tick, the pipeline takes one consistent snapshot of the metrics reported by at least one reporter, so the
+ * gauges are read and the histograms and timers are sampled once instead of once per reporter. The snapshot is then handed to all the
+ * reporters in parallel, each filtered by the {@link MetricFilter} of its reporter. The reporters are not started
+ * themselves, and are stopped when the pipeline stops.
+ * <p/>
+ * The stages of the pipeline are timed in the registry:
+ * <ul>
+ *     <li>{@code io.dropwizard.metrics.ReportingPipeline.snapshot}: taking the snapshot of the registry</li>
+ *     <li>{@code io.dropwizard.metrics.ReportingPipeline.report.<name>}: reporting the snapshot to a reporter</li>
+ *     <li>{@code io.dropwizard.metrics.ReportingPipeline.tick}: the whole tick, until all the reporters are done</li>
+ * </ul>
+ *
+ * @since 2.1
+ */
+public class ReportingPipeline implements Managed {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReportingPipeline.class);
+    private static final AtomicInteger COUNT = new AtomicInteger();
+
+    private final MetricRegistry registry;
+    private final Duration period;
+    private final boolean reportOnStop;
+    private final Clock clock;
+    private final List<Stage> stages = new ArrayList<>();
+    private final Timer snapshotTimer;
+    private final Timer tickTimer;
+
+    @Nullable
+    private ScheduledExecutorService scheduler;
+
+    @Nullable
+    private ExecutorService reportingExecutor;
+
+    /**
+     * Creates a pipeline for the metrics of the given {@code registry}, which reports with the given {@code period}.
+     *
+     * @param registry the registry to report the metrics of
+     * @param period   the frequency to report metrics at
+     * @see #ReportingPipeline(MetricRegistry, Duration, boolean)
+     */
+    public ReportingPipeline(MetricRegistry registry, Duration period) {
+        this(registry, period, false);
+    }
+
+    /**
+     * Creates a pipeline for the metrics of the given {@code registry}, which reports with the given {@code period}.
+     *
+     * @param registry     the registry to report the metrics of
+     * @param period       the frequency to report metrics at
+     * @param reportOnStop whether the reporters should send one last report upon stopping
+     */
+    public ReportingPipeline(MetricRegistry registry, Duration period, boolean reportOnStop) {
+        this(registry, period, reportOnStop, Clock.defaultClock());
+    }
+
+    ReportingPipeline(MetricRegistry registry, Duration period, boolean reportOnStop, Clock clock) {
+        this.registry = registry;
+        this.period = period;
+        this.reportOnStop = reportOnStop;
+        this.clock = clock;
+        this.snapshotTimer = registry.timer(name(ReportingPipeline.class, "snapshot"));
+        this.tickTimer = registry.timer(name(ReportingPipeline.class, "tick"));
+    }
+
+    /**
+     * Adds a reporter to this pipeline. The reporter must not be started.
+     *
+     * @param name     the unique name of the reporter in the registry, for the timer of its stage
+     * @param reporter the reporter
+     * @param filter   the filter of the metrics reported by the reporter
+     */
+    public void addReporter(String name, ScheduledReporter reporter, MetricFilter filter) {
+        stages.add(new Stage(reporter, filter, registry.timer(name(ReportingPipeline.class, "report", name))));
+    }
+
+    public Duration getPeriod() {
+        return period;
+    }
+
+    @Override
+    public void start() throws Exception {
+        final int id = COUNT.incrementAndGet();
+        reportingExecutor = Executors.newFixedThreadPool(Math.max(1, stages.size()),
+            daemonThreadFactory("metrics-reporting-pipeline-" + id + "-reporter-%d"));
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            daemonThreadFactory("metrics-reporting-pipeline-" + id));
+        scheduler.scheduleAtFixedRate(this::tick, period.getQuantity(), period.getQuantity(), period.getUnit());
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void stop() throws Exception {
+        try {
+            if (scheduler != null) {
+                shutdown(scheduler);
+            }
+            if (reportOnStop) {
+                report();
+            }
+        } finally {
+            if (reportingExecutor != null) {
+                shutdown(reportingExecutor);
+            }
+            scheduler = null;
+            reportingExecutor = null;
+            for (Stage stage : stages) {
+                stage.reporter.stop();
+            }
+        }
+    }
+
+    /**
+     * Takes a snapshot of the registry, and reports it to all the reporters.
+     */
+    public void report() {
+        try (Timer.Context ignored = tickTimer.time()) {
+            final RegistrySnapshot snapshot;
+            try (Timer.Context ignoredSnapshot = snapshotTimer.time()) {
+                snapshot = RegistrySnapshot.of(registry, getSnapshotFilter(), clock);
+            }
+
+            final ExecutorService executor = reportingExecutor;
+            if (executor == null || stages.size() == 1) {
+                stages.forEach(stage -> stage.report(snapshot));
+                return;
+            }
+
+            final List<Future<?>> reports = new ArrayList<>(stages.size());
+            for (Stage stage : stages) {
+                reports.add(executor.submit(() -> stage.report(snapshot)));
+            }
+            for (Future<?> report : reports) {
+                report.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOGGER.error("Exception thrown while reporting metrics", e.getCause());
+        }
+    }
+
+    /**
+     * @return a filter of the metrics which are reported by at least one reporter, so the others aren't sampled
+     */
+    private MetricFilter getSnapshotFilter() {
+        final List<MetricFilter> filters = new ArrayList<>(stages.size());
+        for (Stage stage : stages) {
+            if (stage.filter == MetricFilter.ALL) {
+                return MetricFilter.ALL;
+            }
+            filters.add(stage.filter);
+        }
+        return (name, metric) -> {
+            for (MetricFilter filter : filters) {
+                if (filter.matches(name, metric)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    private void tick() {
+        try {
+            report();
+        } catch (Throwable t) {
+            // a failing tick would cancel all the following ones
+            LOGGER.error("Exception thrown from the metrics reporting pipeline. Exception was suppressed.", t);
+        }
+    }
+
+    private static void shutdown(ExecutorService executor) throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    private static ThreadFactory daemonThreadFactory(String nameFormat) {
+        final AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, String.format(Locale.ROOT, nameFormat, count.incrementAndGet()));
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static class Stage {
+        private final ScheduledReporter reporter;
+        private final MetricFilter filter;
+        private final Timer timer;
+
+        private Stage(ScheduledReporter reporter, MetricFilter filter, Timer timer) {
+            this.reporter = reporter;
+            this.filter = filter;
+            this.timer = timer;
+        }
+
+        private void report(RegistrySnapshot snapshot) {
+            try (Timer.Context ignored = timer.time()) {
+                snapshot.reportTo(reporter, filter);
+            } catch (RuntimeException e) {
+                LOGGER.error("Exception thrown from {}#report. Exception was suppressed.",
+                    reporter.getClass().getName(), e);
+            }
+        }
+    }
+}
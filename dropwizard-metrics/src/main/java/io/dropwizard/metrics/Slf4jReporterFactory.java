@@ -75,7 +75,7 @@ public class Slf4jReporterFactory extends BaseReporterFactory {
         final Slf4jReporter.Builder builder = Slf4jReporter.forRegistry(registry)
                                                            .convertDurationsTo(getDurationUnit())
                                                            .convertRatesTo(getRateUnit())
-                                                           .filter(getFilter())
+                                                           .filter(getFilter(registry))
                                                            .outputTo(getLogger());
         if (markerName != null) {
             builder.markWith(MarkerFactory.getMarker(markerName));
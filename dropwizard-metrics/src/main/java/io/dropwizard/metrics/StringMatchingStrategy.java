@@ -1,7 +1,20 @@
 package io.dropwizard.metrics;
 
+import java.util.HashSet;
 import java.util.Set;
+import java.util.function.Predicate;
 
 interface StringMatchingStrategy {
     boolean containsMatch(Set<String> matchExpressions, String metricName);
+
+    /**
+     * Prepares the expressions once, for matching many metric names against them.
+     *
+     * @param matchExpressions the expressions to match against
+     * @return a predicate which is {@code true} for the metric names matching any of the expressions
+     */
+    default Predicate<String> compile(Set<String> matchExpressions) {
+        final Set<String> expressions = new HashSet<>(matchExpressions);
+        return metricName -> containsMatch(expressions, metricName);
+    }
 }
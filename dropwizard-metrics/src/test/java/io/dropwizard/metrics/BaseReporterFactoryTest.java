@@ -1,9 +1,11 @@
 package io.dropwizard.metrics;
 
 import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricFilter;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.ScheduledReporter;
 import io.dropwizard.util.Sets;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -126,4 +128,51 @@ class BaseReporterFactoryTest {
             .overridingErrorMessage(msg + ": expected 'matches(%s)=%s' for substring matcher", name, expectedSubstringResult)
             .isEqualTo(expectedSubstringResult);
     }
+
+    @ParameterizedTest
+    @MethodSource("data")
+    void testRegistryFilterMatching(Set<String> includes, Set<String> excludes, String name,
+                                    boolean expectedDefaultResult, boolean expectedRegexResult,
+                                    boolean expectedSubstringResult, String msg) {
+        factory.setIncludes(includes);
+        factory.setExcludes(excludes);
+
+        factory.setUseRegexFilters(true);
+        factory.setUseSubstringMatching(false);
+        final MetricFilter filter = factory.getFilter(new MetricRegistry());
+        for (int i = 0; i < 2; i++) {
+            assertThat(filter.matches(name, metric))
+                .overridingErrorMessage(msg + ": expected 'matches(%s)=%s' for memoized regex matcher", name, expectedRegexResult)
+                .isEqualTo(expectedRegexResult);
+        }
+    }
+
+    @Test
+    void regexFiltersKeepTheirGroupsApart() {
+        factory.setIncludes(Sets.of("(a+)b\\1", "c(?:d|e)", "(?x) f g # comment"));
+        factory.setUseRegexFilters(true);
+
+        final MetricFilter filter = factory.getFilter();
+        assertThat(filter.matches("aabaa", metric)).isTrue();
+        assertThat(filter.matches("aaba", metric)).isFalse();
+        assertThat(filter.matches("ce", metric)).isTrue();
+        assertThat(filter.matches("fg", metric)).isTrue();
+        assertThat(filter.matches("cdce", metric)).isFalse();
+    }
+
+    @Test
+    void createsOneFilterPerRegistry() {
+        factory.setIncludes(Sets.of("inc"));
+        final MetricRegistry registry = new MetricRegistry();
+
+        final MetricFilter filter = factory.getFilter(registry);
+        assertThat(factory.getFilter(registry)).isSameAs(filter);
+        assertThat(factory.getFilter(new MetricRegistry())).isNotSameAs(filter);
+    }
+
+    @Test
+    void unfilteredReportersMatchAllMetrics() {
+        assertThat(factory.getFilter()).isSameAs(MetricFilter.ALL);
+        assertThat(factory.getFilter(new MetricRegistry())).isSameAs(MetricFilter.ALL);
+    }
 }
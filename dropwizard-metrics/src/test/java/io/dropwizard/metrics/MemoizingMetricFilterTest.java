@@ -0,0 +1,47 @@
+package io.dropwizard.metrics;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricFilter;
+import com.codahale.metrics.MetricRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemoizingMetricFilterTest {
+    private final AtomicInteger calls = new AtomicInteger();
+    private final MetricFilter filter = (name, metric) -> {
+        calls.incrementAndGet();
+        return name.startsWith("inc");
+    };
+    private final MetricRegistry registry = new MetricRegistry();
+    private final MemoizingMetricFilter memoizingFilter = new MemoizingMetricFilter(filter);
+
+    @Test
+    void remembersTheDecisionForEveryName() {
+        registry.addListener(memoizingFilter);
+        registry.counter("inc.counter");
+        registry.counter("exc.counter");
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(registry.getCounters(memoizingFilter)).containsOnlyKeys("inc.counter");
+        }
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void forgetsTheDecisionWhenTheMetricIsRemoved() {
+        registry.addListener(memoizingFilter);
+        final Counter counter = registry.counter("inc.counter");
+        registry.timer("inc.timer");
+        assertThat(memoizingFilter.matches("inc.counter", counter)).isTrue();
+        assertThat(registry.getTimers(memoizingFilter)).containsOnlyKeys("inc.timer");
+        assertThat(memoizingFilter.size()).isEqualTo(2);
+
+        registry.remove("inc.counter");
+        registry.remove("inc.timer");
+
+        assertThat(memoizingFilter.size()).isZero();
+    }
+}
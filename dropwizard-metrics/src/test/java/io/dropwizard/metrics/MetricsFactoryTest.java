@@ -1,20 +1,27 @@
 package io.dropwizard.metrics;
 
 import com.codahale.metrics.MetricAttribute;
+import com.codahale.metrics.MetricRegistry;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.dropwizard.configuration.YamlConfigurationFactory;
 import io.dropwizard.jackson.Jackson;
+import io.dropwizard.lifecycle.Managed;
+import io.dropwizard.lifecycle.setup.LifecycleEnvironment;
 import io.dropwizard.logging.BootstrapLogging;
 import io.dropwizard.util.Duration;
 import io.dropwizard.util.Resources;
 import io.dropwizard.validation.BaseValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.io.File;
 import java.util.EnumSet;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 class MetricsFactoryTest {
     static {
@@ -78,4 +85,29 @@ class MetricsFactoryTest {
         assertThat(config.isReportOnStop()).isTrue();
     }
 
+    @Test
+    void sharedSnapshotsFalseByDefault() {
+        assertThat(config.isSharedSnapshots()).isFalse();
+    }
+
+    @Test
+    void groupsTheReportersIntoPipelinesByFrequency() throws Exception {
+        config = factory.build(new File(Resources.getResource("yaml/metrics-shared-snapshots.yml").toURI()));
+        assertThat(config.isSharedSnapshots()).isTrue();
+
+        final LifecycleEnvironment environment = mock(LifecycleEnvironment.class);
+        final MetricRegistry registry = new MetricRegistry();
+        config.configure(environment, registry);
+
+        final ArgumentCaptor<Managed> managed = ArgumentCaptor.forClass(Managed.class);
+        verify(environment, times(2)).manage(managed.capture());
+        assertThat(managed.getAllValues())
+            .allMatch(ReportingPipeline.class::isInstance)
+            .extracting(pipeline -> ((ReportingPipeline) pipeline).getPeriod())
+            .containsExactly(Duration.seconds(10), Duration.minutes(1));
+        assertThat(registry.getTimers()).containsKeys(
+            "io.dropwizard.metrics.ReportingPipeline.report.console.0",
+            "io.dropwizard.metrics.ReportingPipeline.report.log.1",
+            "io.dropwizard.metrics.ReportingPipeline.report.log.2");
+    }
 }
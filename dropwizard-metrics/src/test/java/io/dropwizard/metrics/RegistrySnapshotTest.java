@@ -0,0 +1,96 @@
+package io.dropwizard.metrics;
+
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricFilter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.ScheduledReporter;
+import com.codahale.metrics.Timer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.SortedMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@SuppressWarnings("rawtypes")
+class RegistrySnapshotTest {
+    private final MetricRegistry registry = new MetricRegistry();
+
+    @Test
+    void freezesTheValuesOfTheMetrics() {
+        final AtomicInteger reads = new AtomicInteger();
+        registry.gauge("gauge", () -> reads::incrementAndGet);
+        registry.counter("counter").inc(2);
+        registry.histogram("histogram").update(5);
+        registry.meter("meter").mark(3);
+        registry.timer("timer").update(7, TimeUnit.MILLISECONDS);
+
+        final RegistrySnapshot snapshot = RegistrySnapshot.of(registry, MetricFilter.ALL, Clock.defaultClock());
+        registry.counter("counter").inc();
+        registry.histogram("histogram").update(10);
+        registry.meter("meter").mark();
+        registry.timer("timer").update(9, TimeUnit.MILLISECONDS);
+
+        for (int i = 0; i < 2; i++) {
+            assertThat(requireNonNull(snapshot.getGauges().get("gauge")).getValue()).isEqualTo(1);
+            assertThat(requireNonNull(snapshot.getCounters().get("counter")).getCount()).isEqualTo(2);
+            final Histogram histogram = requireNonNull(snapshot.getHistograms().get("histogram"));
+            assertThat(histogram.getCount()).isEqualTo(1);
+            assertThat(histogram.getSnapshot().getValues()).containsExactly(5);
+            assertThat(requireNonNull(snapshot.getMeters().get("meter")).getCount()).isEqualTo(3);
+            final Timer timer = requireNonNull(snapshot.getTimers().get("timer"));
+            assertThat(timer.getCount()).isEqualTo(1);
+            assertThat(timer.getSnapshot().getMax()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(7));
+            assertThat(timer.getMeanRate()).isPositive();
+        }
+        assertThat(reads).hasValue(1);
+    }
+
+    @Test
+    void leavesFailingGaugesToTheReporters() {
+        final Gauge<Integer> failing = () -> {
+            throw new IllegalStateException("failed");
+        };
+        registry.register("failing", failing);
+
+        final RegistrySnapshot snapshot = RegistrySnapshot.of(registry, MetricFilter.ALL, Clock.defaultClock());
+
+        assertThat(snapshot.getGauges().get("failing")).isSameAs(failing);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reportsTheMetricsMatchingTheFilterOfTheReporter() {
+        registry.counter("inc.counter");
+        registry.counter("exc.counter");
+        final RegistrySnapshot snapshot = RegistrySnapshot.of(registry, MetricFilter.ALL, Clock.defaultClock());
+        final ScheduledReporter reporter = mock(ScheduledReporter.class);
+
+        snapshot.reportTo(reporter, (name, metric) -> name.startsWith("inc"));
+
+        verify(reporter).report(any(), argThat((SortedMap<String, Counter> counters) ->
+            counters.keySet().equals(Collections.singleton("inc.counter"))), any(), any(), any());
+    }
+
+    @Test
+    void reportsAllTheMetricsWithoutFilter() {
+        registry.meter("meter");
+        final RegistrySnapshot snapshot = RegistrySnapshot.of(registry, MetricFilter.ALL, Clock.defaultClock());
+        final ScheduledReporter reporter = mock(ScheduledReporter.class);
+
+        snapshot.reportTo(reporter, MetricFilter.ALL);
+
+        verify(reporter).report(snapshot.getGauges(), snapshot.getCounters(), snapshot.getHistograms(),
+            snapshot.getMeters(), snapshot.getTimers());
+    }
+}
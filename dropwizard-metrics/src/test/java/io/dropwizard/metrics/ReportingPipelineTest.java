@@ -0,0 +1,173 @@
+package io.dropwizard.metrics;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricFilter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Reservoir;
+import com.codahale.metrics.ScheduledReporter;
+import com.codahale.metrics.Snapshot;
+import com.codahale.metrics.Timer;
+import com.codahale.metrics.UniformReservoir;
+import io.dropwizard.util.Duration;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.codahale.metrics.MetricRegistry.name;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReportingPipelineTest {
+    private final MetricRegistry registry = new MetricRegistry();
+    private final AtomicInteger snapshots = new AtomicInteger();
+    private final Reservoir reservoir = new UniformReservoir() {
+        @Override
+        public Snapshot getSnapshot() {
+            snapshots.incrementAndGet();
+            return super.getSnapshot();
+        }
+    };
+
+    @Test
+    void reportsOneSnapshotToAllTheReporters() {
+        registry.histogram("histogram", () -> new Histogram(reservoir)).update(1);
+        registry.counter("inc.counter").inc();
+        registry.counter("exc.counter").inc();
+        final RecordingReporter first = new RecordingReporter(registry);
+        final RecordingReporter second = new RecordingReporter(registry);
+        final ReportingPipeline pipeline = new ReportingPipeline(registry, Duration.minutes(1));
+        pipeline.addReporter("first", first, MetricFilter.ALL);
+        pipeline.addReporter("second", second, (name, metric) -> !name.startsWith("exc"));
+
+        pipeline.report();
+
+        assertThat(snapshots).hasValue(1);
+        assertThat(first.counters).containsExactly("exc.counter", "inc.counter");
+        assertThat(second.counters).containsExactly("inc.counter");
+        assertThat(first.histograms).containsExactly("histogram");
+        assertThat(second.histograms).containsExactly("histogram");
+        assertThat(registry.timer(name(ReportingPipeline.class, "snapshot")).getCount()).isEqualTo(1);
+        assertThat(registry.timer(name(ReportingPipeline.class, "report", "first")).getCount()).isEqualTo(1);
+        assertThat(registry.timer(name(ReportingPipeline.class, "report", "second")).getCount()).isEqualTo(1);
+        assertThat(registry.timer(name(ReportingPipeline.class, "tick")).getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void onlySamplesTheMetricsOfTheReporters() {
+        registry.histogram("exc.histogram", () -> new Histogram(reservoir)).update(1);
+        registry.counter("inc.counter").inc();
+        final RecordingReporter first = new RecordingReporter(registry);
+        final RecordingReporter second = new RecordingReporter(registry);
+        final ReportingPipeline pipeline = new ReportingPipeline(registry, Duration.minutes(1));
+        pipeline.addReporter("first", first, (name, metric) -> name.equals("inc.counter"));
+        pipeline.addReporter("second", second, (name, metric) -> !name.startsWith("exc"));
+
+        pipeline.report();
+
+        assertThat(snapshots).hasValue(0);
+        assertThat(first.counters).containsExactly("inc.counter");
+        assertThat(second.histograms).isEmpty();
+    }
+
+    @Test
+    void runsTheReportersInParallel() throws Exception {
+        // each reporter waits for the other one, which only completes if they run at the same time
+        final CountDownLatch reporting = new CountDownLatch(2);
+        final Set<String> threads = ConcurrentHashMap.newKeySet();
+        final ReportingPipeline pipeline = new ReportingPipeline(registry, Duration.milliseconds(10));
+        for (int i = 0; i < 2; i++) {
+            pipeline.addReporter("reporter" + i, new RecordingReporter(registry) {
+                @Override
+                @SuppressWarnings("rawtypes")
+                public void report(SortedMap<String, Gauge> gauges, SortedMap<String, Counter> counters,
+                                   SortedMap<String, Histogram> histograms, SortedMap<String, Meter> meters,
+                                   SortedMap<String, Timer> timers) {
+                    threads.add(Thread.currentThread().getName());
+                    reporting.countDown();
+                    try {
+                        reporting.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }, MetricFilter.ALL);
+        }
+
+        pipeline.start();
+        try {
+            assertThat(reporting.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            pipeline.stop();
+        }
+        assertThat(threads).hasSize(2).allMatch(thread -> thread.startsWith("metrics-reporting-pipeline-"));
+    }
+
+    @Test
+    void reportsOnStop() throws Exception {
+        registry.counter("counter");
+        final RecordingReporter reporter = new RecordingReporter(registry);
+        final ReportingPipeline pipeline = new ReportingPipeline(registry, Duration.minutes(1), true);
+        pipeline.addReporter("reporter", reporter, MetricFilter.ALL);
+
+        pipeline.start();
+        pipeline.stop();
+
+        assertThat(reporter.counters).containsExactly("counter");
+        assertThat(reporter.stopped).isTrue();
+    }
+
+    @Test
+    void keepsReportingWhenAReporterFails() {
+        registry.counter("counter");
+        final RecordingReporter reporter = new RecordingReporter(registry);
+        final ReportingPipeline pipeline = new ReportingPipeline(registry, Duration.minutes(1));
+        pipeline.addReporter("failing", new RecordingReporter(registry) {
+            @Override
+            @SuppressWarnings("rawtypes")
+            public void report(SortedMap<String, Gauge> gauges, SortedMap<String, Counter> counters,
+                               SortedMap<String, Histogram> histograms, SortedMap<String, Meter> meters,
+                               SortedMap<String, Timer> timers) {
+                throw new IllegalStateException("failed");
+            }
+        }, MetricFilter.ALL);
+        pipeline.addReporter("reporter", reporter, MetricFilter.ALL);
+
+        pipeline.report();
+
+        assertThat(reporter.counters).containsExactly("counter");
+    }
+
+    private static class RecordingReporter extends ScheduledReporter {
+        private final List<String> counters = new CopyOnWriteArrayList<>();
+        private final List<String> histograms = new CopyOnWriteArrayList<>();
+        private volatile boolean stopped;
+
+        private RecordingReporter(MetricRegistry registry) {
+            super(registry, "recording", MetricFilter.ALL, TimeUnit.SECONDS, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        @SuppressWarnings("rawtypes")
+        public void report(SortedMap<String, Gauge> gauges, SortedMap<String, Counter> counters,
+                           SortedMap<String, Histogram> histograms, SortedMap<String, Meter> meters,
+                           SortedMap<String, Timer> timers) {
+            this.counters.addAll(counters.keySet());
+            this.histograms.addAll(histograms.keySet());
+        }
+
+        @Override
+        public void stop() {
+            // a scheduled reporter reports the registry on its own when it's stopped
+            stopped = true;
+        }
+    }
+}
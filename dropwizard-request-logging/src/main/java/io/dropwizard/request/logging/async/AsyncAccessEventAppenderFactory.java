@@ -3,6 +3,8 @@ package io.dropwizard.request.logging.async;
 import ch.qos.logback.access.spi.IAccessEvent;
 import ch.qos.logback.core.AsyncAppenderBase;
 import io.dropwizard.logging.async.AsyncAppenderFactory;
+import io.dropwizard.logging.async.AsyncQueueType;
+import io.dropwizard.logging.async.RingBufferAsyncAppender;
 
 /**
  * An implementation of {@link AsyncAppenderFactory} for {@link IAccessEvent}.
@@ -23,4 +25,24 @@ public class AsyncAccessEventAppenderFactory implements AsyncAppenderFactory<IAc
             }
         };
     }
+
+    /**
+     * Creates an {@link AsyncAppenderFactory} of type {@link IAccessEvent} that prepares events
+     * for deferred processing, and buffers them in the given type of queue
+     * @param queueType the type of queue
+     * @return the {@link AsyncAppenderFactory}
+     * @since 2.1
+     */
+    @Override
+    public AsyncAppenderBase<IAccessEvent> build(AsyncQueueType queueType) {
+        if (queueType == AsyncQueueType.RING_BUFFER) {
+            return new RingBufferAsyncAppender<IAccessEvent>() {
+                @Override
+                protected void preprocess(IAccessEvent event) {
+                    event.prepareForDeferredProcessing();
+                }
+            };
+        }
+        return build();
+    }
 }
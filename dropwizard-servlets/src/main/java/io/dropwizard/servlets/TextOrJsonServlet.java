@@ -0,0 +1,56 @@
+package io.dropwizard.servlets;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A servlet which shows a resource as plain text or, if the request has the {@code format=json} parameter or accepts
+ * {@code application/json}, as JSON. The responses are never cached.
+ *
+ * @since 2.1
+ */
+public abstract class TextOrJsonServlet extends HttpServlet {
+    private static final long serialVersionUID = 1L;
+    private static final String CACHE_CONTROL = "must-revalidate,no-cache,no-store";
+    private static final String TEXT_PLAIN = "text/plain";
+    private static final String APPLICATION_JSON = "application/json";
+
+    /**
+     * @return the resource as plain text
+     */
+    protected abstract String getText();
+
+    /**
+     * @return the resource as JSON, encoded in UTF-8
+     * @throws IOException if the resource can't be serialized
+     */
+    protected abstract byte[] getJson() throws IOException;
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        final byte[] body;
+        if (isJson(req)) {
+            resp.setContentType(APPLICATION_JSON);
+            body = getJson();
+        } else {
+            resp.setContentType(TEXT_PLAIN);
+            body = getText().getBytes(StandardCharsets.UTF_8);
+        }
+        resp.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        resp.setHeader("Cache-Control", CACHE_CONTROL);
+        resp.setStatus(HttpServletResponse.SC_OK);
+        resp.setContentLength(body.length);
+        resp.getOutputStream().write(body);
+    }
+
+    private static boolean isJson(HttpServletRequest req) {
+        if ("json".equalsIgnoreCase(req.getParameter("format"))) {
+            return true;
+        }
+        final String accept = req.getHeader("Accept");
+        return accept != null && accept.contains(APPLICATION_JSON);
+    }
+}
@@ -0,0 +1,38 @@
+package io.dropwizard.servlets.assets;
+
+import javax.annotation.Nullable;
+import javax.servlet.ServletOutputStream;
+import java.io.IOException;
+
+/**
+ * An asset served by an {@link AssetServlet}, along with its validators.
+ */
+interface Asset {
+    String getETag();
+
+    long getLastModifiedTime();
+
+    int getLength();
+
+    /**
+     * Writes {@code length} bytes of the asset, starting at {@code offset}, to the given output.
+     */
+    void writeTo(ServletOutputStream output, int offset, int length) throws IOException;
+
+    /**
+     * Returns the precomputed gzip variant of the asset, or {@code null} if there is none.
+     */
+    @Nullable
+    default byte[] getGzipResource() {
+        return null;
+    }
+
+    /**
+     * Returns the entity tag of the gzip variant. Jetty's {@code GzipHandler} uses the same suffix for
+     * the responses it compresses, so both forms are recognized in conditional requests.
+     */
+    default String getGzipETag() {
+        final String eTag = getETag();
+        return eTag.substring(0, eTag.length() - 1) + "--gzip\"";
+    }
+}
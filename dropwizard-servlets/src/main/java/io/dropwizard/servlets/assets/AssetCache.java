@@ -0,0 +1,123 @@
+package io.dropwizard.servlets.assets;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.caffeine.MetricsStatsCounter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Function;
+
+/**
+ * A bounded, in-memory cache of assets served by an {@link AssetServlet}, keyed by the resolved resource
+ * path. Entries are weighed by their size in bytes, including any precomputed compressed variants, and are
+ * replaced whenever the last modified time of the underlying resource changes.
+ * <p>
+ * The cache is configured with a {@link CaffeineSpec}, which must define a {@code maximumWeight} (in bytes)
+ * and may additionally define an expiration policy, e.g. {@code maximumWeight=33554432,expireAfterAccess=1h}.
+ * Hits, misses, loads and evictions are published to the given {@link MetricRegistry}.
+ *
+ * @since 2.1
+ */
+public class AssetCache {
+    /**
+     * Loads the contents of a resource.
+     */
+    @FunctionalInterface
+    interface ResourceLoader {
+        byte[] load() throws IOException;
+    }
+
+    private final Cache<String, CachedAsset> cache;
+    private final boolean precompress;
+
+    /**
+     * Creates a new asset cache which precomputes gzip variants of the cached assets.
+     *
+     * @param metricRegistry the application's registry of metrics
+     * @param name           the name under which the cache metrics are published
+     * @param cacheSpec      a {@link CaffeineSpec} defining a {@code maximumWeight} in bytes
+     */
+    public AssetCache(MetricRegistry metricRegistry, String name, CaffeineSpec cacheSpec) {
+        this(metricRegistry, name, Caffeine.from(cacheSpec), true);
+    }
+
+    /**
+     * Creates a new asset cache.
+     *
+     * @param metricRegistry the application's registry of metrics
+     * @param name           the name under which the cache metrics are published
+     * @param builder        a {@link Caffeine} builder with a {@code maximumWeight} in bytes
+     * @param precompress    whether to precompute gzip variants of the cached assets
+     */
+    public AssetCache(MetricRegistry metricRegistry, String name, Caffeine<Object, Object> builder, boolean precompress) {
+        this.cache = builder
+                .weigher((String key, CachedAsset asset) -> asset.getWeight())
+                .recordStats(() -> new MetricsStatsCounter(metricRegistry, name))
+                .build();
+        this.precompress = precompress;
+    }
+
+    /**
+     * Returns the cached asset for the given key, (re)loading it if it isn't cached yet or if its last
+     * modified time doesn't match the given one.
+     */
+    CachedAsset get(String key, long lastModifiedTime, ResourceLoader loader) throws IOException {
+        final CachedAsset cached = cache.asMap().get(key);
+        if (cached != null && cached.getLastModifiedTime() != lastModifiedTime) {
+            cache.asMap().remove(key, cached);
+        }
+
+        final Function<String, CachedAsset> mappingFunction = k -> {
+            try {
+                return new CachedAsset(loader.load(), lastModifiedTime, precompress);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+        try {
+            return cache.get(key, mappingFunction);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Discards all cached assets.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Returns the number of cached assets.
+     *
+     * @return the number of cached assets
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Returns the total number of bytes held by the cached assets.
+     *
+     * @return the weighted size of the cache in bytes
+     */
+    public long weightedSize() {
+        return cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
+    /**
+     * Returns a set of statistics about the cache contents and usage.
+     *
+     * @return a set of statistics about the cache contents and usage
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
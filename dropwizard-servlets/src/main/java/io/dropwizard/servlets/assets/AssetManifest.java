@@ -0,0 +1,271 @@
+package io.dropwizard.servlets.assets;
+
+import io.dropwizard.util.Resources;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A manifest mapping the logical names of static assets (e.g. {@code js/app.js}) to URLs which contain a
+ * fingerprint of their contents (e.g. {@code /assets/js/app.5d41402abc4b2a76.js}). As the contents of a
+ * fingerprinted URL never change, an {@link AssetServlet} serves them with a {@code Cache-Control} header
+ * which allows clients to cache them for a year without ever revalidating them.
+ * <p>
+ * The manifest itself is served as JSON at {@value #MANIFEST_NAME} below the URI path of the assets, unless the
+ * assets contain a file with that name. An asset which was modified since it was fingerprinted is still served at
+ * its fingerprinted URL, but no longer as immutable.
+ *
+ * @since 2.1
+ */
+public class AssetManifest {
+    /**
+     * The name under which the manifest is served, relative to the URI path of the assets.
+     */
+    public static final String MANIFEST_NAME = "asset-manifest.json";
+
+    private static final int FINGERPRINT_LENGTH = 16;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final Map<String, String> urls;
+    private final Map<String, Fingerprint> fingerprints;
+
+    @Nullable
+    private final CachedAsset manifestAsset;
+
+    private AssetManifest(String uriPath, Map<String, Fingerprint> fingerprintsByName) {
+        final Map<String, String> urlsByName = new TreeMap<>();
+        final Map<String, Fingerprint> fingerprintsByFingerprintedName = new LinkedHashMap<>();
+        fingerprintsByName.forEach((logicalName, fingerprint) -> {
+            urlsByName.put(logicalName, uriPath + fingerprint.fingerprintedName);
+            fingerprintsByFingerprintedName.put(fingerprint.fingerprintedName, fingerprint);
+        });
+        this.urls = Collections.unmodifiableMap(urlsByName);
+        this.fingerprints = Collections.unmodifiableMap(fingerprintsByFingerprintedName);
+        // an asset with the name of the manifest is served instead of the generated manifest
+        this.manifestAsset = urls.containsKey(MANIFEST_NAME) ? null
+                : new CachedAsset(toJson(urls).getBytes(StandardCharsets.UTF_8), (System.currentTimeMillis() / 1000) * 1000);
+    }
+
+    /**
+     * Fingerprints all assets located at the given resource path, hashing their contents in parallel. If the
+     * resource path exists in multiple class path roots, the asset of the first root takes precedence, just as
+     * it does when the asset is served.
+     *
+     * @param resourcePath the resource path (in the classpath) of the static asset files
+     * @param uriPath      the URI path fragment in which all requests are rooted
+     * @return the manifest of the fingerprinted assets
+     * @throws IOException if the assets can't be listed or read
+     */
+    public static AssetManifest build(String resourcePath, String uriPath) throws IOException {
+        final String trimmedPath = trimSlashes(resourcePath);
+        if (trimmedPath.isEmpty()) {
+            throw new IllegalArgumentException("Assets in the classpath root can't be fingerprinted");
+        }
+        final String trimmedUri = trimSlashes(uriPath);
+        final String uriPrefix = trimmedUri.isEmpty() ? "/" : '/' + trimmedUri + '/';
+
+        final Map<String, URL> assets = new LinkedHashMap<>();
+        final Enumeration<URL> roots = classLoader().getResources(trimmedPath + '/');
+        while (roots.hasMoreElements()) {
+            listAssets(roots.nextElement(), assets);
+        }
+
+        final Map<String, Fingerprint> fingerprints;
+        try {
+            fingerprints = assets.entrySet().parallelStream()
+                    .collect(Collectors.toMap(Map.Entry::getKey, entry -> fingerprint(entry.getKey(), entry.getValue())));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return new AssetManifest(uriPrefix, fingerprints);
+    }
+
+    private static ClassLoader classLoader() {
+        final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        return contextClassLoader == null ? Resources.class.getClassLoader() : contextClassLoader;
+    }
+
+    private static void listAssets(URL root, Map<String, URL> assets) throws IOException {
+        switch (root.getProtocol()) {
+            case "file":
+                final Path directory;
+                try {
+                    directory = Paths.get(root.toURI());
+                } catch (URISyntaxException e) {
+                    throw new IOException("Invalid resource URL: " + root, e);
+                }
+                try (Stream<Path> files = Files.walk(directory)) {
+                    for (Path file : files.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                        final String logicalName = directory.relativize(file).toString().replace('\\', '/');
+                        assets.putIfAbsent(logicalName, file.toUri().toURL());
+                    }
+                }
+                break;
+            case "jar":
+                final URLConnection connection = root.openConnection();
+                connection.setUseCaches(false);
+                final JarURLConnection jarConnection = (JarURLConnection) connection;
+                final String prefix = jarConnection.getEntryName();
+                try (JarFile jarFile = jarConnection.getJarFile()) {
+                    final List<JarEntry> entries = Collections.list(jarFile.entries());
+                    for (JarEntry entry : entries) {
+                        if (!entry.isDirectory() && entry.getName().startsWith(prefix)) {
+                            final String logicalName = entry.getName().substring(prefix.length());
+                            assets.putIfAbsent(logicalName, new URL(root, logicalName));
+                        }
+                    }
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported protocol " + root.getProtocol() + " for resource " + root);
+        }
+    }
+
+    private static Fingerprint fingerprint(String logicalName, URL asset) {
+        // read before the contents, so a change while they're hashed is detected when the asset is served
+        final long lastModified = (ResourceURL.getLastModified(asset) / 1000) * 1000;
+        final byte[] digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256").digest(Resources.toByteArray(asset));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        final StringBuilder hash = new StringBuilder(FINGERPRINT_LENGTH);
+        for (int i = 0; i < FINGERPRINT_LENGTH / 2; i++) {
+            hash.append(HEX_DIGITS[(digest[i] >> 4) & 0xf]).append(HEX_DIGITS[digest[i] & 0xf]);
+        }
+
+        final int lastSlash = logicalName.lastIndexOf('/');
+        final int extension = logicalName.lastIndexOf('.');
+        final String fingerprintedName;
+        if (extension > lastSlash + 1) {
+            fingerprintedName = logicalName.substring(0, extension) + '.' + hash + logicalName.substring(extension);
+        } else {
+            fingerprintedName = logicalName + '.' + hash;
+        }
+        return new Fingerprint(logicalName, fingerprintedName, lastModified);
+    }
+
+    private static String trimSlashes(String s) {
+        int start = 0;
+        int end = s.length();
+        while (start < end && s.charAt(start) == '/') {
+            start++;
+        }
+        while (end > start && s.charAt(end - 1) == '/') {
+            end--;
+        }
+        return s.substring(start, end);
+    }
+
+    private static String toJson(Map<String, String> urls) {
+        return urls.entrySet().stream()
+                .map(entry -> quote(entry.getKey()) + ':' + quote(entry.getValue()))
+                .collect(Collectors.joining(",", "{", "}"));
+    }
+
+    private static String quote(String s) {
+        final StringBuilder builder = new StringBuilder(s.length() + 2).append('"');
+        for (int i = 0; i < s.length(); i++) {
+            final char c = s.charAt(i);
+            if (c == '"' || c == '\\') {
+                builder.append('\\').append(c);
+            } else if (c < 0x20) {
+                builder.append(String.format("\\u%04x", (int) c));
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.append('"').toString();
+    }
+
+    /**
+     * Returns the fingerprinted URL of the given asset.
+     *
+     * @param logicalName the name of the asset relative to the resource path, e.g. {@code js/app.js}
+     * @return the fingerprinted URL of the asset
+     * @throws IllegalArgumentException if the asset isn't part of the manifest
+     */
+    public String getUrl(String logicalName) {
+        final String url = urls.get(trimSlashes(logicalName));
+        if (url == null) {
+            throw new IllegalArgumentException("No asset named " + logicalName);
+        }
+        return url;
+    }
+
+    /**
+     * Returns the fingerprinted URLs of all assets, keyed by their logical names.
+     *
+     * @return an immutable map of logical names to fingerprinted URLs
+     */
+    public Map<String, String> getUrls() {
+        return urls;
+    }
+
+    /**
+     * Returns the logical name of the asset with the given fingerprinted name (relative to the URI path of
+     * the assets), or {@code null} if the name isn't fingerprinted.
+     */
+    @Nullable
+    String getLogicalName(String fingerprintedName) {
+        final Fingerprint fingerprint = fingerprints.get(fingerprintedName);
+        return fingerprint == null ? null : fingerprint.logicalName;
+    }
+
+    /**
+     * Returns whether the asset with the given fingerprinted name still has the contents it was fingerprinted
+     * with, i.e. whether it wasn't modified since, and can be served as immutable.
+     *
+     * @param fingerprintedName the fingerprinted name of the asset, relative to the URI path of the assets
+     * @param lastModifiedTime  the last modified time of the served asset, in milliseconds truncated to seconds
+     */
+    boolean isUnchanged(String fingerprintedName, long lastModifiedTime) {
+        final Fingerprint fingerprint = fingerprints.get(fingerprintedName);
+        return fingerprint != null && fingerprint.lastModifiedTime > 0 && fingerprint.lastModifiedTime == lastModifiedTime;
+    }
+
+    /**
+     * Returns the generated manifest, or {@code null} if the assets contain their own {@value #MANIFEST_NAME}.
+     */
+    @Nullable
+    CachedAsset getManifestAsset() {
+        return manifestAsset;
+    }
+
+    private static class Fingerprint {
+        private final String logicalName;
+        private final String fingerprintedName;
+        private final long lastModifiedTime;
+
+        private Fingerprint(String logicalName, String fingerprintedName, long lastModifiedTime) {
+            this.logicalName = logicalName;
+            this.fingerprintedName = fingerprintedName;
+            this.lastModifiedTime = lastModifiedTime;
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package io.dropwizard.servlets.assets;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.dropwizard.util.DataSize;
 import io.dropwizard.util.Resources;
 
 import javax.annotation.Nullable;
@@ -12,14 +15,17 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Enumeration;
 import java.util.List;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-import java.util.zip.CRC32;
 
 public class AssetServlet extends HttpServlet {
     private static final long serialVersionUID = 6393345594784987908L;
@@ -33,39 +39,19 @@ public class AssetServlet extends HttpServlet {
     private static final String CONTENT_RANGE = "Content-Range";
     private static final String ETAG = "ETag";
     private static final String LAST_MODIFIED = "Last-Modified";
-
-    private static class CachedAsset {
-        private final byte[] resource;
-        private final String eTag;
-        private final long lastModifiedTime;
-
-        private CachedAsset(byte[] resource, long lastModifiedTime) {
-            this.resource = resource;
-            this.eTag = '"' + hash(resource) + '"';
-            this.lastModifiedTime = lastModifiedTime;
-        }
-
-        private static String hash(byte[] resource) {
-            final CRC32 crc32 = new CRC32();
-            crc32.update(resource);
-            return Long.toHexString(crc32.getValue());
-        }
-
-        public byte[] getResource() {
-            return resource;
-        }
-
-        public String getETag() {
-            return eTag;
-        }
-
-        public long getLastModifiedTime() {
-            return lastModifiedTime;
-        }
-    }
+    private static final String ACCEPT_ENCODING = "Accept-Encoding";
+    private static final String CONTENT_ENCODING = "Content-Encoding";
+    private static final String VARY = "Vary";
+    private static final String GZIP = "gzip";
+    private static final String CACHE_CONTROL = "Cache-Control";
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+    private static final Pattern ZERO_QUALITY = Pattern.compile("q\\s*=\\s*0(\\.0*)?");
 
     private static final String DEFAULT_MEDIA_TYPE = "text/html";
 
+    // the mapped regions of the most recently served files; the others are unmapped once they're collected
+    private static final int MAX_MAPPED_FILES = 256;
+
     private final String resourcePath;
     private final String uriPath;
 
@@ -77,6 +63,19 @@ public class AssetServlet extends HttpServlet {
     @Nullable
     private final Charset defaultCharset;
 
+    @Nullable
+    private final transient AssetCache cache;
+
+    @Nullable
+    private final DataSize mappedFileThreshold;
+
+    private final transient Cache<Path, MappedAsset> mappedAssets = Caffeine.newBuilder()
+            .maximumSize(MAX_MAPPED_FILES)
+            .build();
+
+    @Nullable
+    private final transient AssetManifest manifest;
+
     /**
      * Creates a new {@code AssetServlet} that serves static assets loaded from {@code resourceURL}
      * (typically a file: or jar: URL). The assets are served at URIs rooted at {@code uriPath}. For
@@ -123,6 +122,107 @@ public class AssetServlet extends HttpServlet {
                         @Nullable String indexFile,
                         @Nullable String defaultMediaType,
                         @Nullable Charset defaultCharset) {
+        this(resourcePath, uriPath, indexFile, defaultMediaType, defaultCharset, null);
+    }
+
+    /**
+     * Creates a new {@code AssetServlet} that serves static assets loaded from {@code resourceURL}
+     * (typically a file: or jar: URL). The assets are served at URIs rooted at {@code uriPath}. For
+     * example, given a {@code resourceURL} of {@code "file:/data/assets"} and a {@code uriPath} of
+     * {@code "/js"}, an {@code AssetServlet} would serve the contents of {@code
+     * /data/assets/example.js} in response to a request for {@code /js/example.js}. If a directory
+     * is requested and {@code indexFile} is defined, then {@code AssetServlet} will attempt to
+     * serve a file with that name in that directory. If a directory is requested and {@code
+     * indexFile} is null, it will serve a 404. If {@code cache} is defined, the assets are kept in
+     * memory between requests instead of being read from {@code resourceURL} every time.
+     *
+     * @param resourcePath     the base URL from which assets are loaded
+     * @param uriPath          the URI path fragment in which all requests are rooted
+     * @param indexFile        the filename to use when directories are requested, or null to serve no
+     *                         indexes
+     * @param defaultMediaType the default media type
+     * @param defaultCharset   the default character set
+     * @param cache            the cache for loaded assets, or null to load assets on every request
+     * @since 2.1
+     */
+    public AssetServlet(String resourcePath,
+                        String uriPath,
+                        @Nullable String indexFile,
+                        @Nullable String defaultMediaType,
+                        @Nullable Charset defaultCharset,
+                        @Nullable AssetCache cache) {
+        this(resourcePath, uriPath, indexFile, defaultMediaType, defaultCharset, cache, null);
+    }
+
+    /**
+     * Creates a new {@code AssetServlet} that serves static assets loaded from {@code resourceURL}
+     * (typically a file: or jar: URL). The assets are served at URIs rooted at {@code uriPath}. For
+     * example, given a {@code resourceURL} of {@code "file:/data/assets"} and a {@code uriPath} of
+     * {@code "/js"}, an {@code AssetServlet} would serve the contents of {@code
+     * /data/assets/example.js} in response to a request for {@code /js/example.js}. If a directory
+     * is requested and {@code indexFile} is defined, then {@code AssetServlet} will attempt to
+     * serve a file with that name in that directory. If a directory is requested and {@code
+     * indexFile} is null, it will serve a 404. If {@code cache} is defined, the assets are kept in
+     * memory between requests instead of being read from {@code resourceURL} every time. If {@code
+     * mappedFileThreshold} is defined, assets on the file system at least that large are memory-mapped
+     * and written straight from the mapped region instead, without ever being copied onto the heap.
+     *
+     * @param resourcePath        the base URL from which assets are loaded
+     * @param uriPath             the URI path fragment in which all requests are rooted
+     * @param indexFile           the filename to use when directories are requested, or null to serve no
+     *                            indexes
+     * @param defaultMediaType    the default media type
+     * @param defaultCharset      the default character set
+     * @param cache               the cache for loaded assets, or null to load assets on every request
+     * @param mappedFileThreshold the minimum size of files served from memory-mapped regions, or null to
+     *                            serve all assets from the heap
+     * @since 2.1
+     */
+    public AssetServlet(String resourcePath,
+                        String uriPath,
+                        @Nullable String indexFile,
+                        @Nullable String defaultMediaType,
+                        @Nullable Charset defaultCharset,
+                        @Nullable AssetCache cache,
+                        @Nullable DataSize mappedFileThreshold) {
+        this(resourcePath, uriPath, indexFile, defaultMediaType, defaultCharset, cache, mappedFileThreshold, null);
+    }
+
+    /**
+     * Creates a new {@code AssetServlet} that serves static assets loaded from {@code resourceURL}
+     * (typically a file: or jar: URL). The assets are served at URIs rooted at {@code uriPath}. For
+     * example, given a {@code resourceURL} of {@code "file:/data/assets"} and a {@code uriPath} of
+     * {@code "/js"}, an {@code AssetServlet} would serve the contents of {@code
+     * /data/assets/example.js} in response to a request for {@code /js/example.js}. If a directory
+     * is requested and {@code indexFile} is defined, then {@code AssetServlet} will attempt to
+     * serve a file with that name in that directory. If a directory is requested and {@code
+     * indexFile} is null, it will serve a 404. If {@code cache} is defined, the assets are kept in
+     * memory between requests instead of being read from {@code resourceURL} every time. If {@code
+     * mappedFileThreshold} is defined, assets on the file system at least that large are memory-mapped
+     * and written straight from the mapped region instead, without ever being copied onto the heap.
+     * If {@code manifest} is defined, the assets are additionally served at their fingerprinted URLs,
+     * which clients may cache without ever revalidating them.
+     *
+     * @param resourcePath        the base URL from which assets are loaded
+     * @param uriPath             the URI path fragment in which all requests are rooted
+     * @param indexFile           the filename to use when directories are requested, or null to serve no
+     *                            indexes
+     * @param defaultMediaType    the default media type
+     * @param defaultCharset      the default character set
+     * @param cache               the cache for loaded assets, or null to load assets on every request
+     * @param mappedFileThreshold the minimum size of files served from memory-mapped regions, or null to
+     *                            serve all assets from the heap
+     * @param manifest            the manifest of fingerprinted assets, or null to serve no fingerprinted URLs
+     * @since 2.1
+     */
+    public AssetServlet(String resourcePath,
+                        String uriPath,
+                        @Nullable String indexFile,
+                        @Nullable String defaultMediaType,
+                        @Nullable Charset defaultCharset,
+                        @Nullable AssetCache cache,
+                        @Nullable DataSize mappedFileThreshold,
+                        @Nullable AssetManifest manifest) {
         final String trimmedPath = trimSlashes(resourcePath);
         this.resourcePath = trimmedPath.isEmpty() ? trimmedPath : trimmedPath + '/';
         final String trimmedUri = trimTrailingSlashes(uriPath);
@@ -130,6 +230,9 @@ public class AssetServlet extends HttpServlet {
         this.indexFile = indexFile;
         this.defaultMediaType = defaultMediaType == null ? DEFAULT_MEDIA_TYPE : defaultMediaType;
         this.defaultCharset = defaultCharset;
+        this.cache = cache;
+        this.mappedFileThreshold = mappedFileThreshold;
+        this.manifest = manifest;
     }
 
     private static String trimSlashes(String s) {
@@ -179,20 +282,53 @@ public class AssetServlet extends HttpServlet {
         return defaultCharset;
     }
 
+    /**
+     * @since 2.1
+     */
+    @Nullable
+    public AssetCache getCache() {
+        return cache;
+    }
+
+    /**
+     * @since 2.1
+     */
+    @Nullable
+    public DataSize getMappedFileThreshold() {
+        return mappedFileThreshold;
+    }
+
+    /**
+     * @since 2.1
+     */
+    @Nullable
+    public AssetManifest getManifest() {
+        return manifest;
+    }
+
     @Override
     protected void doGet(HttpServletRequest req,
                          HttpServletResponse resp) throws ServletException, IOException {
+        serve(req, resp, true);
+    }
+
+    private void serve(HttpServletRequest req, HttpServletResponse resp, boolean mapFiles) throws IOException {
         try {
             final StringBuilder builder = new StringBuilder(req.getServletPath());
             if (req.getPathInfo() != null) {
                 builder.append(req.getPathInfo());
             }
-            final CachedAsset cachedAsset = loadAsset(builder.toString());
+            final String key = builder.toString();
+            final Asset cachedAsset = loadAsset(key, mapFiles);
             if (cachedAsset == null) {
                 resp.sendError(HttpServletResponse.SC_NOT_FOUND);
                 return;
             }
 
+            if (manifest != null && manifest.isUnchanged(relativePath(key), cachedAsset.getLastModifiedTime())) {
+                resp.setHeader(CACHE_CONTROL, IMMUTABLE);
+            }
+
             if (isCachedClientSide(req, cachedAsset)) {
                 resp.sendError(HttpServletResponse.SC_NOT_MODIFIED);
                 return;
@@ -200,7 +336,7 @@ public class AssetServlet extends HttpServlet {
 
             final String rangeHeader = req.getHeader(RANGE);
 
-            final int resourceLength = cachedAsset.getResource().length;
+            final int resourceLength = cachedAsset.getLength();
             List<ByteRange> ranges = Collections.emptyList();
 
             boolean usingRanges = false;
@@ -244,28 +380,68 @@ public class AssetServlet extends HttpServlet {
                 resp.setCharacterEncoding(defaultCharset.toString());
             }
 
+            final byte[] gzipResource = cachedAsset.getGzipResource();
+            if (gzipResource != null && !usingRanges) {
+                resp.addHeader(VARY, ACCEPT_ENCODING);
+                if (acceptsGzip(req)) {
+                    resp.setHeader(CONTENT_ENCODING, GZIP);
+                    resp.setHeader(ETAG, cachedAsset.getGzipETag());
+                    resp.setContentLength(gzipResource.length);
+                    try (ServletOutputStream output = resp.getOutputStream()) {
+                        output.write(gzipResource);
+                    }
+                    return;
+                }
+            }
+
+            if (!usingRanges) {
+                resp.setContentLength(resourceLength);
+            }
             try (ServletOutputStream output = resp.getOutputStream()) {
                 if (usingRanges) {
                     for (ByteRange range : ranges) {
-                        output.write(cachedAsset.getResource(), range.getStart(),
-                                range.getEnd() - range.getStart() + 1);
+                        cachedAsset.writeTo(output, range.getStart(), range.getEnd() - range.getStart() + 1);
                     }
                 } else {
-                    output.write(cachedAsset.getResource());
+                    cachedAsset.writeTo(output, 0, resourceLength);
+                }
+            } catch (InternalError e) {
+                if (!(cachedAsset instanceof MappedAsset)) {
+                    throw e;
                 }
+                // the file was truncated while it was mapped, so accessing the mapped region faulted
+                mappedAssets.invalidate(((MappedAsset) cachedAsset).getFile());
+                if (resp.isCommitted()) {
+                    throw new IOException("The asset changed while it was being served", e);
+                }
+                resp.reset();
+                serve(req, resp, false);
             }
         } catch (RuntimeException | URISyntaxException ignored) {
             resp.sendError(HttpServletResponse.SC_NOT_FOUND);
         }
     }
 
-    @Nullable
-    private CachedAsset loadAsset(String key) throws URISyntaxException, IOException {
+    private String relativePath(String key) {
         if (!key.startsWith(uriPath)) {
             throw new IllegalArgumentException("Cache key must start with " + uriPath);
         }
+        return trimSlashes(key.substring(uriPath.length()));
+    }
 
-        final String requestedResourcePath = trimSlashes(key.substring(uriPath.length()));
+    @Nullable
+    private Asset loadAsset(String key, boolean mapFiles) throws URISyntaxException, IOException {
+        String requestedResourcePath = relativePath(key);
+        if (manifest != null) {
+            final CachedAsset manifestAsset = manifest.getManifestAsset();
+            if (manifestAsset != null && AssetManifest.MANIFEST_NAME.equals(requestedResourcePath)) {
+                return manifestAsset;
+            }
+            final String logicalName = manifest.getLogicalName(requestedResourcePath);
+            if (logicalName != null) {
+                requestedResourcePath = logicalName;
+            }
+        }
         final String absoluteRequestedResourcePath = trimSlashes(this.resourcePath + requestedResourcePath);
 
         URL requestedResourceURL = getResourceUrl(absoluteRequestedResourcePath);
@@ -286,7 +462,42 @@ public class AssetServlet extends HttpServlet {
 
         // zero out the millis since the date we get back from If-Modified-Since will not have them
         lastModified = (lastModified / 1000) * 1000;
-        return new CachedAsset(readResource(requestedResourceURL), lastModified);
+        if (mapFiles && mappedFileThreshold != null && "file".equals(requestedResourceURL.getProtocol())) {
+            final Path file = Paths.get(requestedResourceURL.toURI());
+            final long size = Files.size(file);
+            if (size >= mappedFileThreshold.toBytes() && size <= Integer.MAX_VALUE) {
+                final MappedAsset mapped = loadMappedAsset(file, (int) size, lastModified);
+                if (mapped != null) {
+                    return mapped;
+                }
+            }
+        }
+        if (cache == null) {
+            return new CachedAsset(readResource(requestedResourceURL), lastModified);
+        }
+        final URL resourceURL = requestedResourceURL;
+        return cache.get(resourceURL.toString(), lastModified, () -> readResource(resourceURL));
+    }
+
+    /**
+     * Returns the mapped region of the given file, or {@code null} if the file was truncated while it was mapped.
+     * The size of the mapped region is always the size read by the caller, so the mapping is reused until it changes.
+     */
+    @Nullable
+    private MappedAsset loadMappedAsset(Path file, int size, long lastModified) throws IOException {
+        final MappedAsset mapped = mappedAssets.getIfPresent(file);
+        if (mapped != null && mapped.getLastModifiedTime() == lastModified && mapped.getLength() == size) {
+            return mapped;
+        }
+        try {
+            final MappedAsset remapped = MappedAsset.map(file, size, lastModified);
+            mappedAssets.put(file, remapped);
+            return remapped;
+        } catch (IOException | InternalError e) {
+            // the file changed since its size was read: serve it from a stream instead
+            mappedAssets.invalidate(file);
+            return null;
+        }
     }
 
     protected URL getResourceUrl(String absoluteRequestedResourcePath) {
@@ -297,17 +508,31 @@ public class AssetServlet extends HttpServlet {
         return Resources.toByteArray(requestedResourceURL);
     }
 
-    private boolean isCachedClientSide(HttpServletRequest req, CachedAsset cachedAsset) {
+    private boolean isCachedClientSide(HttpServletRequest req, Asset cachedAsset) {
         // https://developer.mozilla.org/en-US/docs/Web/HTTP/Headers/If-Modified-Since 
         // Indicates that with the presense of If-None-Match If-Modified-Since should be ignored.
         String ifNoneMatchHeader = req.getHeader(IF_NONE_MATCH);
         if (ifNoneMatchHeader != null) {
-            return cachedAsset.getETag().equals(ifNoneMatchHeader);
+            return cachedAsset.getETag().equals(ifNoneMatchHeader)
+                    || (cachedAsset.getGzipResource() != null && cachedAsset.getGzipETag().equals(ifNoneMatchHeader));
         } else {
             return req.getDateHeader(IF_MODIFIED_SINCE) >= cachedAsset.getLastModifiedTime();
         }
     }
 
+    private static boolean acceptsGzip(HttpServletRequest req) {
+        final Enumeration<String> acceptEncodings = req.getHeaders(ACCEPT_ENCODING);
+        while (acceptEncodings != null && acceptEncodings.hasMoreElements()) {
+            for (String coding : acceptEncodings.nextElement().split(",", -1)) {
+                final String[] parts = coding.trim().split(";", -1);
+                if (GZIP.equalsIgnoreCase(parts[0].trim())) {
+                    return parts.length == 1 || !ZERO_QUALITY.matcher(parts[1].trim()).matches();
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * Parses a given Range header for one or more byte ranges.
      *
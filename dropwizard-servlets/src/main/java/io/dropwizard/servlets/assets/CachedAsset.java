@@ -0,0 +1,89 @@
+package io.dropwizard.servlets.assets;
+
+import javax.annotation.Nullable;
+import javax.servlet.ServletOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * An asset held on the heap, optionally along with a precomputed gzip variant of its contents.
+ */
+class CachedAsset implements Asset {
+    private final byte[] resource;
+    private final String eTag;
+    private final long lastModifiedTime;
+
+    @Nullable
+    private final byte[] gzipResource;
+
+    CachedAsset(byte[] resource, long lastModifiedTime) {
+        this(resource, lastModifiedTime, false);
+    }
+
+    CachedAsset(byte[] resource, long lastModifiedTime, boolean precompress) {
+        this.resource = resource;
+        this.eTag = '"' + hash(resource) + '"';
+        this.lastModifiedTime = lastModifiedTime;
+        this.gzipResource = precompress ? gzip(resource) : null;
+    }
+
+    private static String hash(byte[] resource) {
+        final CRC32 crc32 = new CRC32();
+        crc32.update(resource);
+        return Long.toHexString(crc32.getValue());
+    }
+
+    /**
+     * Compresses the given resource, returning {@code null} if the compressed form isn't any smaller.
+     */
+    @Nullable
+    private static byte[] gzip(byte[] resource) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(resource.length / 2 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(resource);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.size() < resource.length ? bytes.toByteArray() : null;
+    }
+
+    public byte[] getResource() {
+        return resource;
+    }
+
+    @Override
+    public String getETag() {
+        return eTag;
+    }
+
+    @Override
+    public long getLastModifiedTime() {
+        return lastModifiedTime;
+    }
+
+    @Override
+    public int getLength() {
+        return resource.length;
+    }
+
+    @Override
+    public void writeTo(ServletOutputStream output, int offset, int length) throws IOException {
+        output.write(resource, offset, length);
+    }
+
+    @Override
+    @Nullable
+    public byte[] getGzipResource() {
+        return gzipResource;
+    }
+
+    /**
+     * Returns the number of bytes held by this asset, for weighing cache entries.
+     */
+    public int getWeight() {
+        return resource.length + (gzipResource == null ? 0 : gzipResource.length);
+    }
+}
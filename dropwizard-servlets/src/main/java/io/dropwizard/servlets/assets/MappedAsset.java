@@ -0,0 +1,90 @@
+package io.dropwizard.servlets.assets;
+
+import org.eclipse.jetty.server.HttpOutput;
+
+import javax.servlet.ServletOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * An asset backed by a memory-mapped region of a file. Its contents are written straight from the mapped
+ * region to the connection, so they never have to be copied onto the heap.
+ */
+class MappedAsset implements Asset {
+    private final Path file;
+    private final ByteBuffer content;
+    private final String eTag;
+    private final long lastModifiedTime;
+
+    private MappedAsset(Path file, ByteBuffer content, long lastModifiedTime) {
+        this.file = file;
+        this.content = content;
+        this.eTag = '"' + hash(content) + '"';
+        this.lastModifiedTime = lastModifiedTime;
+    }
+
+    /**
+     * Maps the first {@code size} bytes of the given file into memory.
+     *
+     * @throws IOException    if the file is shorter than {@code size}
+     * @throws InternalError  if the file is truncated while it's being mapped
+     */
+    static MappedAsset map(Path file, int size, long lastModifiedTime) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < size) {
+                throw new IOException(file + " is shorter than " + size + " bytes");
+            }
+            return new MappedAsset(file, channel.map(FileChannel.MapMode.READ_ONLY, 0, size), lastModifiedTime);
+        }
+    }
+
+    Path getFile() {
+        return file;
+    }
+
+    private static String hash(ByteBuffer content) {
+        final CRC32 crc32 = new CRC32();
+        crc32.update(content.duplicate());
+        return Long.toHexString(crc32.getValue());
+    }
+
+    @Override
+    public String getETag() {
+        return eTag;
+    }
+
+    @Override
+    public long getLastModifiedTime() {
+        return lastModifiedTime;
+    }
+
+    @Override
+    public int getLength() {
+        return content.capacity();
+    }
+
+    /**
+     * @throws InternalError if the file was truncated since it was mapped
+     */
+    @Override
+    public void writeTo(ServletOutputStream output, int offset, int length) throws IOException {
+        final ByteBuffer slice = content.duplicate();
+        slice.limit(offset + length);
+        slice.position(offset);
+        if (output instanceof HttpOutput) {
+            // Jetty writes direct buffers to the connection without aggregating them into its own buffers
+            ((HttpOutput) output).write(slice);
+        } else {
+            final WritableByteChannel channel = Channels.newChannel(output);
+            while (slice.hasRemaining()) {
+                channel.write(slice);
+            }
+        }
+    }
+}
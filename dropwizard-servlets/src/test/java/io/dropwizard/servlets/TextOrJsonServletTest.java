@@ -0,0 +1,85 @@
+package io.dropwizard.servlets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TextOrJsonServletTest {
+    private final TextOrJsonServlet servlet = new TextOrJsonServlet() {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected String getText() {
+            return "text";
+        }
+
+        @Override
+        protected byte[] getJson() {
+            return "{\"json\":true}".getBytes(StandardCharsets.UTF_8);
+        }
+    };
+    private final HttpServletRequest request = mock(HttpServletRequest.class);
+    private final HttpServletResponse response = mock(HttpServletResponse.class);
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(request.getMethod()).thenReturn("GET");
+        when(response.getOutputStream()).thenReturn(new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+
+            @Override
+            public void write(int b) {
+                output.write(b);
+            }
+        });
+    }
+
+    @Test
+    void showsTheTextByDefault() throws Exception {
+        servlet.service(request, response);
+
+        verify(response).setContentType("text/plain");
+        verify(response).setHeader("Cache-Control", "must-revalidate,no-cache,no-store");
+        verify(response).setContentLength(4);
+        assertThat(new String(output.toByteArray(), StandardCharsets.UTF_8)).isEqualTo("text");
+    }
+
+    @Test
+    void showsTheJsonIfTheFormatIsJson() throws Exception {
+        when(request.getParameter("format")).thenReturn("JSON");
+
+        servlet.service(request, response);
+
+        verify(response).setContentType("application/json");
+        assertThat(new String(output.toByteArray(), StandardCharsets.UTF_8)).isEqualTo("{\"json\":true}");
+    }
+
+    @Test
+    void showsTheJsonIfTheRequestAcceptsJson() throws Exception {
+        when(request.getHeader("Accept")).thenReturn("application/json, text/plain");
+
+        servlet.service(request, response);
+
+        verify(response).setContentType("application/json");
+        assertThat(new String(output.toByteArray(), StandardCharsets.UTF_8)).isEqualTo("{\"json\":true}");
+    }
+}
@@ -0,0 +1,101 @@
+package io.dropwizard.servlets.assets;
+
+import com.codahale.metrics.MetricRegistry;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+
+class AssetCacheTest {
+    private static final byte[] CONTENT = "HELLO THERE".getBytes(StandardCharsets.UTF_8);
+
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+    private final AssetCache cache = new AssetCache(metricRegistry, "assets",
+        Caffeine.from(CaffeineSpec.parse("maximumWeight=1024")).executor(Runnable::run), true);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private byte[] load(byte[] content) {
+        loads.incrementAndGet();
+        return content;
+    }
+
+    @Test
+    void loadsAssetsOnlyOnce() throws Exception {
+        final CachedAsset first = cache.get("example.txt", 1000L, () -> load(CONTENT));
+        final CachedAsset second = cache.get("example.txt", 1000L, () -> load(CONTENT));
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+        assertThat(metricRegistry.counter("assets.hits").getCount()).isEqualTo(1);
+        assertThat(metricRegistry.counter("assets.misses").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void reloadsAssetsWhoseLastModifiedTimeChanged() throws Exception {
+        final CachedAsset first = cache.get("example.txt", 1000L, () -> load(CONTENT));
+        final CachedAsset second = cache.get("example.txt", 2000L, () -> load(CONTENT));
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getLastModifiedTime()).isEqualTo(2000L);
+        assertThat(loads).hasValue(2);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void boundsTheCacheByWeight() throws Exception {
+        final byte[] content = new byte[400];
+        Arrays.fill(content, (byte) 'a');
+        final AssetCache uncompressed = new AssetCache(metricRegistry, "uncompressed",
+            Caffeine.from("maximumWeight=1000").executor(Runnable::run), false);
+
+        for (int i = 0; i < 10; i++) {
+            uncompressed.get("asset-" + i, 1000L, () -> content);
+        }
+        uncompressed.get("asset-0", 1000L, () -> content);
+
+        assertThat(uncompressed.weightedSize()).isLessThanOrEqualTo(1000L);
+        assertThat(metricRegistry.histogram("uncompressed.evictions.SIZE").getCount()).isGreaterThan(0);
+    }
+
+    @Test
+    void precomputesCompressedVariants() throws Exception {
+        final byte[] content = new byte[512];
+        Arrays.fill(content, (byte) 'a');
+
+        final CachedAsset asset = cache.get("lorem.txt", 1000L, () -> content);
+
+        final byte[] gzipResource = requireNonNull(asset.getGzipResource());
+        assertThat(gzipResource).hasSizeLessThan(content.length);
+        assertThat(asset.getWeight()).isEqualTo(content.length + gzipResource.length);
+        assertThat(cache.weightedSize()).isEqualTo(asset.getWeight());
+    }
+
+    @Test
+    void skipsCompressedVariantsWhichAreNotSmaller() throws Exception {
+        final CachedAsset asset = cache.get("example.txt", 1000L, () -> CONTENT);
+
+        assertThat(asset.getGzipResource()).isNull();
+        assertThat(asset.getWeight()).isEqualTo(CONTENT.length);
+    }
+
+    @Test
+    void propagatesLoadFailures() {
+        assertThatIOException()
+            .isThrownBy(() -> cache.get("missing.txt", 1000L, () -> {
+                throw new IOException("missing");
+            }))
+            .withMessage("missing");
+        assertThat(cache.size()).isZero();
+    }
+}
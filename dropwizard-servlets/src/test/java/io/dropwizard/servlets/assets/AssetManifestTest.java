@@ -0,0 +1,114 @@
+package io.dropwizard.servlets.assets;
+
+import io.dropwizard.util.Resources;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class AssetManifestTest {
+    @Test
+    void fingerprintsAllAssetsOfTheResourcePath() throws Exception {
+        final AssetManifest manifest = AssetManifest.build("/assets/", "/static");
+
+        assertThat(manifest.getUrls())
+                .containsEntry("example.txt", "/static/example.58c688a0f443e3a2.txt")
+                .containsEntry("some_directory/index.htm", "/static/some_directory/index.58328deeaa822dc5.htm")
+                .containsKeys("foo.bar", "foo.m4a", "example2.txt", "encoded example.txt");
+        assertThat(manifest.getUrl("/example.txt"))
+                .isEqualTo("/static/example.58c688a0f443e3a2.txt");
+        assertThat(manifest.getLogicalName("example.58c688a0f443e3a2.txt"))
+                .isEqualTo("example.txt");
+        assertThat(manifest.getLogicalName("example.txt"))
+                .isNull();
+    }
+
+    @Test
+    void servesTheManifestAsJson() throws Exception {
+        final AssetManifest manifest = AssetManifest.build("/assets/", "/");
+
+        assertThat(new String(Objects.requireNonNull(manifest.getManifestAsset()).getResource(), StandardCharsets.UTF_8))
+                .startsWith("{\"encoded example.txt\":\"/encoded example.")
+                .contains("\"example.txt\":\"/example.58c688a0f443e3a2.txt\"")
+                .endsWith("}");
+    }
+
+    @Test
+    void fingerprintsAssetsInJars() throws Exception {
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        final URL jar = Resources.getResource("resources.jar");
+        try (URLClassLoader jarClassLoader = new URLClassLoader(new URL[]{jar}, null)) {
+            Thread.currentThread().setContextClassLoader(jarClassLoader);
+            final AssetManifest manifest = AssetManifest.build("/META-INF", "/meta");
+
+            assertThat(manifest.getUrls())
+                    .hasSize(1)
+                    .hasEntrySatisfying("MANIFEST.MF", url -> assertThat(url).matches("/meta/MANIFEST\\.[0-9a-f]{16}\\.MF"));
+        } finally {
+            Thread.currentThread().setContextClassLoader(classLoader);
+        }
+    }
+
+    @Test
+    void detectsAssetsModifiedSinceTheyWereFingerprinted(@TempDir Path directory) throws Exception {
+        final Path asset = Files.createDirectory(directory.resolve("assets")).resolve("app.js");
+        Files.write(asset, "var a;".getBytes(StandardCharsets.UTF_8));
+        final long lastModified = 1_600_000_000_000L;
+        Files.setLastModifiedTime(asset, FileTime.fromMillis(lastModified));
+
+        final AssetManifest manifest = buildWithClassPath(directory, "/assets", "/");
+        final String fingerprintedName = manifest.getUrl("app.js").substring(1);
+
+        assertThat(manifest.isUnchanged(fingerprintedName, lastModified))
+                .isTrue();
+        assertThat(manifest.isUnchanged(fingerprintedName, lastModified + 1000))
+                .isFalse();
+        assertThat(manifest.isUnchanged("app.js", lastModified))
+                .isFalse();
+    }
+
+    @Test
+    void doesNotHideAnAssetNamedLikeTheManifest(@TempDir Path directory) throws Exception {
+        final Path assets = Files.createDirectory(directory.resolve("assets"));
+        Files.write(assets.resolve("asset-manifest.json"), "{}".getBytes(StandardCharsets.UTF_8));
+
+        final AssetManifest manifest = buildWithClassPath(directory, "/assets", "/");
+
+        assertThat(manifest.getManifestAsset())
+                .isNull();
+    }
+
+    @Test
+    void rejectsUnknownAssets() throws Exception {
+        final AssetManifest manifest = AssetManifest.build("/assets/", "/static");
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> manifest.getUrl("missing.js"))
+                .withMessage("No asset named missing.js");
+    }
+
+    @Test
+    void rejectsTheClasspathRoot() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> AssetManifest.build("/", "/"));
+    }
+
+    private static AssetManifest buildWithClassPath(Path classPath, String resourcePath, String uriPath) throws Exception {
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader directoryClassLoader = new URLClassLoader(new URL[]{classPath.toUri().toURL()}, null)) {
+            Thread.currentThread().setContextClassLoader(directoryClassLoader);
+            return AssetManifest.build(resourcePath, uriPath);
+        } finally {
+            Thread.currentThread().setContextClassLoader(classLoader);
+        }
+    }
+}
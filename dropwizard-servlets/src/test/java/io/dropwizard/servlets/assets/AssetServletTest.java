@@ -1,5 +1,9 @@
 package io.dropwizard.servlets.assets;
 
+import com.codahale.metrics.MetricRegistry;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import io.dropwizard.util.DataSize;
+import io.dropwizard.util.Resources;
 import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpTester;
 import org.eclipse.jetty.http.HttpVersion;
@@ -11,6 +15,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import javax.annotation.Nullable;
+import javax.servlet.ServletContext;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URL;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -20,8 +33,14 @@ import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class AssetServletTest {
     private static final String DUMMY_SERVLET = "/dummy_servlet/";
@@ -29,6 +48,9 @@ public class AssetServletTest {
     private static final String NOCHARSET_SERVLET = "/nocharset_servlet/";
     private static final String NOMEDIATYPE_SERVLET = "/nomediatype_servlet/";
     private static final String MEDIATYPE_SERVLET = "/mediatype_servlet/";
+    private static final String CACHING_SERVLET = "/caching_servlet/";
+    private static final String MAPPED_SERVLET = "/mapped_servlet/";
+    private static final String FINGERPRINT_SERVLET = "/fingerprint_servlet/";
     private static final String ROOT_SERVLET = "/";
     private static final String RESOURCE_PATH = "/assets";
 
@@ -82,6 +104,46 @@ public class AssetServletTest {
         }
     }
 
+    public static class CachingAssetServlet extends AssetServlet {
+        private static final long serialVersionUID = 1L;
+        private static final AtomicInteger READS = new AtomicInteger();
+
+        public CachingAssetServlet() {
+            super(RESOURCE_PATH, CACHING_SERVLET, "index.htm", null, StandardCharsets.UTF_8,
+                new AssetCache(new MetricRegistry(), "assets", CaffeineSpec.parse("maximumWeight=1048576")));
+        }
+
+        @Override
+        protected byte[] readResource(URL requestedResourceURL) throws IOException {
+            READS.incrementAndGet();
+            return super.readResource(requestedResourceURL);
+        }
+    }
+
+    public static class MappedAssetServlet extends AssetServlet {
+        private static final long serialVersionUID = 1L;
+        private static final AtomicInteger READS = new AtomicInteger();
+
+        public MappedAssetServlet() {
+            super(RESOURCE_PATH, MAPPED_SERVLET, "index.htm", null, StandardCharsets.UTF_8, null, DataSize.bytes(0));
+        }
+
+        @Override
+        protected byte[] readResource(URL requestedResourceURL) throws IOException {
+            READS.incrementAndGet();
+            return super.readResource(requestedResourceURL);
+        }
+    }
+
+    public static class FingerprintAssetServlet extends AssetServlet {
+        private static final long serialVersionUID = 1L;
+
+        public FingerprintAssetServlet() throws IOException {
+            super(RESOURCE_PATH, FINGERPRINT_SERVLET, "index.htm", null, StandardCharsets.UTF_8, null, null,
+                AssetManifest.build(RESOURCE_PATH, FINGERPRINT_SERVLET));
+        }
+    }
+
     private static final ServletTester SERVLET_TESTER = new ServletTester();
     private final HttpTester.Request request = HttpTester.newRequest();
     @Nullable
@@ -94,6 +156,9 @@ public class AssetServletTest {
         SERVLET_TESTER.addServlet(NoCharsetAssetServlet.class, NOCHARSET_SERVLET + '*');
         SERVLET_TESTER.addServlet(NoDefaultMediaTypeAssetServlet.class, NOMEDIATYPE_SERVLET + '*');
         SERVLET_TESTER.addServlet(DefaultMediaTypeAssetServlet.class, MEDIATYPE_SERVLET + '*');
+        SERVLET_TESTER.addServlet(CachingAssetServlet.class, CACHING_SERVLET + '*');
+        SERVLET_TESTER.addServlet(MappedAssetServlet.class, MAPPED_SERVLET + '*');
+        SERVLET_TESTER.addServlet(FingerprintAssetServlet.class, FINGERPRINT_SERVLET + '*');
         SERVLET_TESTER.addServlet(RootAssetServlet.class, ROOT_SERVLET + '*');
         SERVLET_TESTER.start();
 
@@ -535,4 +600,181 @@ public class AssetServletTest {
         assertThat(response.getStatus())
                 .isEqualTo(200);
     }
+
+    @Test
+    void servesCachedAssetsWithoutRereadingThem() throws Exception {
+        request.setURI(CACHING_SERVLET + "foo.bar");
+        final int reads = CachingAssetServlet.READS.get();
+
+        for (int i = 0; i < 3; i++) {
+            response = HttpTester.parseResponse(SERVLET_TESTER.getResponses(request.generate()));
+            assertThat(response.getStatus())
+                    .isEqualTo(200);
+            assertThat(response.get(HttpHeader.ETAG))
+                    .isEqualTo("\"2684fb5a\"");
+        }
+
+        assertThat(CachingAssetServlet.READS.get())
+                .isEqualTo(reads + 1);
+    }
+
+    @Test
+    void servesPrecompressedVariantsOfCachedAssets() throws Exception {
+        final byte[] expected = Resources.toByteArray(Resources.getResource("assets/lorem.txt"));
+        request.setURI(CACHING_SERVLET + "lorem.txt");
+        request.setHeader(HttpHeader.ACCEPT_ENCODING.asString(), "deflate, gzip;q=0.8");
+
+        response = HttpTester.parseResponse(SERVLET_TESTER.getResponses(request.generate()));
+        assertThat(response.getStatus())
+                .isEqualTo(200);
+        assertThat(response.get(HttpHeader.CONTENT_ENCODING))
+                .isEqualTo("gzip");
+        assertThat(response.get(HttpHeader.VARY))
+                .isEqualTo("Accept-Encoding");
+        assertThat(response.getContentBytes())
+                .hasSizeLessThan(expected.length);
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(response.getContentBytes()))) {
+            assertThat(gzip).hasBinaryContent(expected);
+        }
+
+        final String gzipETag = response.get(HttpHeader.ETAG);
+        assertThat(gzipETag)
+                .endsWith("--gzip\"");
+        request.setHeader(HttpHeader.IF_NONE_MATCH.asString(), gzipETag);
+        response = HttpTester.parseResponse(SERVLET_TESTER.getResponses(request.generate()));
+        assertThat(response.getStatus())
+                .isEqualTo(304);
+    }
+
+    @Test
+    void servesIdentityVariantsOfCachedAssetsIfGzipIsNotAccepted() throws Exception {
+        request.setURI(CACHING_SERVLET + "lorem.txt");
+        request.setHeader(HttpHeader.ACCEPT_ENCODING.asString(), "gzip;q=0");
+
+        response = HttpTester.parseResponse(SERVLET_TESTER.getResponses(request.generate()));
+        assertThat(response.getStatus())
+                .isEqualTo(200);
+        assertThat(response.get(HttpHeader.CONTENT_ENCODING))
+                .isNull();
+        assertThat(response.getContentBytes())
+                .isEqualTo(Resources.toByteArray(Resources.getResource("assets/lorem.txt")));
+    }
+
+    @Test
+    void servesMappedFilesWithoutReadingThemOntoTheHeap() throws Exception {
+        request.setURI(MAPPED_SERVLET + "example.txt");
+        response = HttpTester.parseResponse(SERVLET_TESTER.getResponses(request.generate()));
+
+        assertThat(response.getStatus())
+                .isEqualTo(200);
+        assertThat(response.getContent())
+                .isEqualTo("HELLO THERE");
+        assertThat(response.get(HttpHeader.ETAG))
+                .isEqualTo("\"e7bd7e8e\"");
+        assertThat(response.get(HttpHeader.CONTENT_LENGTH))
+                .isEqualTo("11");
+        assertThat(MappedAssetServlet.READS)
+                .hasValue(0);
+    }
+
+    @Test
+    void fallsBackToAStreamIfAMappedFileIsTruncatedWhileItsServed() throws Exception {
+        final HttpServletRequest req = mock(HttpServletRequest.class);
+        final HttpServletResponse resp = mock(HttpServletResponse.class);
+        when(req.getServletPath()).thenReturn("/mapped_servlet");
+        when(req.getPathInfo()).thenReturn("/example.txt");
+        when(req.getRequestURI()).thenReturn("/mapped_servlet/example.txt");
+        when(req.getServletContext()).thenReturn(mock(ServletContext.class));
+        when(req.getDateHeader(anyString())).thenReturn(-1L);
+        final ByteArrayOutputStream written = new ByteArrayOutputStream();
+        final AtomicInteger faults = new AtomicInteger();
+        when(resp.getOutputStream()).thenReturn(new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+
+            @Override
+            public void write(int b) {
+                write(new byte[]{(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                if (faults.getAndIncrement() == 0) {
+                    // what accessing the region of a truncated mapped file throws
+                    throw new InternalError("a fault occurred in an unsafe memory access");
+                }
+                written.write(b, off, len);
+            }
+        });
+
+        new AssetServlet(RESOURCE_PATH, MAPPED_SERVLET, "index.htm", null, StandardCharsets.UTF_8, null,
+                DataSize.bytes(0)).doGet(req, resp);
+
+        verify(resp).reset();
+        assertThat(new String(written.toByteArray(), StandardCharsets.UTF_8))
+                .isEqualTo("HELLO THERE");
+    }
+
+    @Test
+    void supportsByteRangesOfMappedFiles() throws Exception {
+        request.setURI(MAPPED_SERVLET + "example.txt");
+        request.setHeader(HttpHeader.RANGE.asString(), "bytes=1-2,6-");
+        response = HttpTester.parseResponse(SERVLET_TESTER.getResponses(request.generate()));
+
+        assertThat(response.getStatus())
+                .isEqualTo(206);
+        assertThat(response.getContent())
+                .isEqualTo("ELTHERE");
+        assertThat(response.get(HttpHeader.CONTENT_RANGE))
+                .isEqualTo("bytes 1-2,6-10/11");
+        assertThat(MappedAssetServlet.READS)
+                .hasValue(0);
+    }
+
+    @Test
+    void servesFingerprintedAssetsAsImmutable() throws Exception {
+        request.setURI(FINGERPRINT_SERVLET + "example.58c688a0f443e3a2.txt");
+        response = HttpTester.parseResponse(SERVLET_TESTER.getResponses(request.generate()));
+
+        assertThat(response.getStatus())
+                .isEqualTo(200);
+        assertThat(response.getContent())
+                .isEqualTo("HELLO THERE");
+        assertThat(response.get(HttpHeader.CACHE_CONTROL))
+                .isEqualTo("public, max-age=31536000, immutable");
+        assertThat(MimeTypes.CACHE.get(response.get(HttpHeader.CONTENT_TYPE)))
+                .isEqualTo(MimeTypes.Type.TEXT_PLAIN_UTF_8);
+    }
+
+    @Test
+    void servesLogicalNamesOfFingerprintedAssetsAsBefore() throws Exception {
+        request.setURI(FINGERPRINT_SERVLET + "example.txt");
+        response = HttpTester.parseResponse(SERVLET_TESTER.getResponses(request.generate()));
+
+        assertThat(response.getStatus())
+                .isEqualTo(200);
+        assertThat(response.getContent())
+                .isEqualTo("HELLO THERE");
+        assertThat(response.get(HttpHeader.CACHE_CONTROL))
+                .isNull();
+    }
+
+    @Test
+    void servesTheAssetManifest() throws Exception {
+        request.setURI(FINGERPRINT_SERVLET + "asset-manifest.json");
+        response = HttpTester.parseResponse(SERVLET_TESTER.getResponses(request.generate()));
+
+        assertThat(response.getStatus())
+                .isEqualTo(200);
+        assertThat(response.get(HttpHeader.CONTENT_TYPE))
+                .startsWith("application/json");
+        assertThat(response.getContent())
+                .contains("\"example.txt\":\"/fingerprint_servlet/example.58c688a0f443e3a2.txt\"");
+    }
 }
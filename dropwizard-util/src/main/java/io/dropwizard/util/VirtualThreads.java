@@ -0,0 +1,168 @@
+package io.dropwizard.util;
+
+import javax.annotation.Nullable;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Creates virtual threads if the runtime supports them.
+ * <p>
+ * Virtual threads are only available on Java 21 and later, so they are looked up reflectively, and the callers fall
+ * back to platform threads on older runtimes. Java 19 and 20 declare the methods, but only support them as a preview
+ * feature, so the support is probed by starting a virtual thread.
+ *
+ * @since 2.1
+ */
+public final class VirtualThreads {
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    @Nullable
+    private static final Method OF_VIRTUAL = findMethod(Thread.class, "ofVirtual");
+    private static final boolean SUPPORTED = probe();
+    private static final LongAdder PINNED = new LongAdder();
+
+    @Nullable
+    private static Object pinningStream;
+    private static int pinningMonitors;
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * @return whether the runtime supports virtual threads
+     */
+    public static boolean isSupported() {
+        return SUPPORTED;
+    }
+
+    /**
+     * Creates a factory of virtual threads, which are named by the given prefix and a sequence number.
+     *
+     * @param namePrefix the prefix of the names of the threads
+     * @return the factory of virtual threads
+     * @throws UnsupportedOperationException if the runtime doesn't support virtual threads
+     */
+    public static ThreadFactory newThreadFactory(String namePrefix) {
+        final Method ofVirtual = OF_VIRTUAL;
+        if (!SUPPORTED || ofVirtual == null) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or later");
+        }
+        try {
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            final Object builder = builderClass.getMethod("name", String.class, long.class)
+                .invoke(ofVirtual.invoke(null), namePrefix, 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new UnsupportedOperationException("Unable to create virtual threads", e);
+        }
+    }
+
+    /**
+     * Creates an executor, which starts a new thread for each task.
+     *
+     * @param threadFactory the factory of the threads
+     * @return the executor
+     * @throws UnsupportedOperationException if the runtime doesn't support virtual threads
+     */
+    public static ExecutorService newThreadPerTaskExecutor(ThreadFactory threadFactory) {
+        final Method method = findMethod(Executors.class, "newThreadPerTaskExecutor", ThreadFactory.class);
+        if (!SUPPORTED || method == null) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or later");
+        }
+        try {
+            return (ExecutorService) method.invoke(null, threadFactory);
+        } catch (InvocationTargetException e) {
+            throw new UnsupportedOperationException("Unable to create a thread-per-task executor", e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new UnsupportedOperationException("Unable to create a thread-per-task executor", e);
+        }
+    }
+
+    /**
+     * Returns the number of times a virtual thread was pinned to its carrier thread for longer than the threshold of
+     * the {@code jdk.VirtualThreadPinned} JFR event, 20 milliseconds by default, since {@link #monitorPinning()} was
+     * called.
+     *
+     * @return the number of times a virtual thread was pinned
+     */
+    public static long getPinnedCount() {
+        return PINNED.sum();
+    }
+
+    /**
+     * Starts recording the pinning of virtual threads in a JFR event stream, if the runtime supports virtual threads.
+     * The stream is shared, and closed once {@link #stopMonitoringPinning()} was called as many times as this method
+     * returned {@code true}.
+     *
+     * @return whether the pinning of virtual threads is recorded
+     */
+    public static synchronized boolean monitorPinning() {
+        if (pinningStream == null) {
+            if (!isSupported()) {
+                return false;
+            }
+            try {
+                final Class<?> streamClass = Class.forName("jdk.jfr.consumer.RecordingStream");
+                final Object stream = streamClass.getConstructor().newInstance();
+                streamClass.getMethod("enable", String.class).invoke(stream, PINNED_EVENT);
+                final Consumer<Object> onPinned = event -> PINNED.increment();
+                streamClass.getMethod("onEvent", String.class, Consumer.class).invoke(stream, PINNED_EVENT, onPinned);
+                streamClass.getMethod("startAsync").invoke(stream);
+                pinningStream = stream;
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                // JFR isn't available in this runtime
+                return false;
+            }
+        }
+        pinningMonitors++;
+        return true;
+    }
+
+    /**
+     * Stops recording the pinning of virtual threads for a caller of {@link #monitorPinning()}, and closes the JFR
+     * event stream once no caller records it anymore.
+     */
+    public static synchronized void stopMonitoringPinning() {
+        final Object stream = pinningStream;
+        if (stream == null || --pinningMonitors > 0) {
+            return;
+        }
+        pinningStream = null;
+        pinningMonitors = 0;
+        try {
+            stream.getClass().getMethod("close").invoke(stream);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // The stream is closed when the JVM exits
+        }
+    }
+
+    private static boolean probe() {
+        final Method ofVirtual = OF_VIRTUAL;
+        if (ofVirtual == null) {
+            return false;
+        }
+        try {
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            final Runnable task = () -> { };
+            builderClass.getMethod("start", Runnable.class).invoke(ofVirtual.invoke(null), task);
+            return true;
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            // Java 19 and 20 only support virtual threads with --enable-preview
+            return false;
+        }
+    }
+
+    @Nullable
+    private static Method findMethod(Class<?> type, String name, Class<?>... parameterTypes) {
+        try {
+            return type.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
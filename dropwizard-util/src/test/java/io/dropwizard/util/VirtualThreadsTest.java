@@ -0,0 +1,55 @@
+package io.dropwizard.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VirtualThreadsTest {
+    @Test
+    void isOnlySupportedByJava21AndLater() {
+        // Java 21 reads class files of version 65 and later
+        final double classVersion = Double.parseDouble(System.getProperty("java.class.version", "52.0"));
+        assertThat(VirtualThreads.isSupported()).isEqualTo(classVersion >= 65);
+    }
+
+    @Test
+    void createsNamedVirtualThreads() throws Exception {
+        assumeTrue(VirtualThreads.isSupported());
+
+        final ThreadFactory threadFactory = VirtualThreads.newThreadFactory("test-");
+        final ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor(threadFactory);
+        try {
+            assertThat(executor.submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS))
+                .isEqualTo("test-0");
+            assertThat(executor.submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS))
+                .isEqualTo("test-1");
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(VirtualThreads.monitorPinning()).isTrue();
+        assertThat(VirtualThreads.monitorPinning()).isTrue();
+        VirtualThreads.stopMonitoringPinning();
+        VirtualThreads.stopMonitoringPinning();
+        VirtualThreads.stopMonitoringPinning();
+    }
+
+    @Test
+    void rejectsVirtualThreadsWithoutSupport() {
+        assumeFalse(VirtualThreads.isSupported());
+
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+            .isThrownBy(() -> VirtualThreads.newThreadFactory("test-"));
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+            .isThrownBy(() -> VirtualThreads.newThreadPerTaskExecutor(Thread::new));
+        assertThat(VirtualThreads.monitorPinning()).isFalse();
+        assertThat(VirtualThreads.getPinnedCount()).isZero();
+        VirtualThreads.stopMonitoringPinning();
+    }
+}